@@ -39,6 +39,10 @@ class DB2ParamDesc extends ParamDesc {
     if (values.size() != paramDefinitions.columns_) {
       return ErrorMessageFactory.buildWhenArgumentsLengthNotMatched(paramDefinitions.columns_, values.size());
     }
+    String msg = ErrorMessageFactory.checkNoPrimitiveArray(values);
+    if (msg != null) {
+      return msg;
+    }
     for (int i = 0; i < paramDefinitions.columns_; i++) {
       Object val = values.getValue(i);
       int type = paramDefinitions.types_[i];
@@ -45,6 +45,9 @@ public class DB2Driver implements Driver {
 
   @Override
   public DB2Pool newPool(Vertx vertx, List<? extends SqlConnectOptions> databases, PoolOptions options, CloseFuture closeFuture) {
+    if (options.isRouteReadsToReplicas()) {
+      throw new IllegalArgumentException("Routing the reads to the replicas is not supported by the DB2 client");
+    }
     VertxInternal vx = (VertxInternal) vertx;
     PoolImpl pool;
     if (options.isShared()) {
@@ -64,7 +67,7 @@ public class DB2Driver implements Driver {
     int pipeliningLimit = pipelinedPool ? baseConnectOptions.getPipeliningLimit() : 1;
     PoolImpl pool = new PoolImpl(vertx, this, tracer, metrics, pipeliningLimit, options, null, null, closeFuture);
     List<ConnectionFactory> lst = databases.stream().map(o -> createConnectionFactory(vertx, o)).collect(Collectors.toList());
-    ConnectionFactory factory = ConnectionFactory.roundRobinSelector(lst);
+    ConnectionFactory factory = ConnectionFactory.selector(lst, options);
     pool.connectionProvider(factory::connect);
     pool.init();
     closeFuture.add(factory);
@@ -185,6 +185,31 @@ public class MSSQLClientExamples {
       .setReconnectInterval(1000);
   }
 
+  public void preparedStatementCaching(Vertx vertx) {
+    MSSQLConnectOptions connectOptions = new MSSQLConnectOptions()
+      .setPort(1433)
+      .setHost("the-host")
+      .setDatabase("the-db")
+      .setUser("user")
+      .setPassword("secret")
+      .setCachePreparedStatements(true)
+      .setPreparedStatementCacheMaxSize(256);
+
+    MSSQLPool pool = MSSQLPool.pool(vertx, connectOptions, new PoolOptions().setMaxSize(5));
+
+    // The statement is prepared once per connection, then executed with its handle
+    pool
+      .preparedQuery("SELECT * FROM users WHERE id = @p1")
+      .execute(Tuple.of("julien"), ar -> {
+        if (ar.succeeded()) {
+          RowSet<Row> rows = ar.result();
+          System.out.println("Got " + rows.size() + " rows ");
+        } else {
+          System.out.println("Failure: " + ar.cause().getMessage());
+        }
+      });
+  }
+
   public void collector01Example(SqlClient client) {
 
     // Create a collector projecting a row set to a map
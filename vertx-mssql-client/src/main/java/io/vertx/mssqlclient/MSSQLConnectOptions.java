@@ -12,6 +12,7 @@
 package io.vertx.mssqlclient;
 
 import io.vertx.codegen.annotations.DataObject;
+import io.vertx.codegen.annotations.GenIgnore;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.json.JsonObject;
 import io.vertx.core.net.*;
@@ -24,6 +25,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
 
 /**
  * Connect options for configuring {@link MSSQLConnection}.
@@ -156,6 +158,27 @@ public class MSSQLConnectOptions extends SqlConnectOptions {
     return this;
   }
 
+  @Override
+  public MSSQLConnectOptions setCachePreparedStatements(boolean cachePreparedStatements) {
+    return (MSSQLConnectOptions) super.setCachePreparedStatements(cachePreparedStatements);
+  }
+
+  @Override
+  public MSSQLConnectOptions setPreparedStatementCacheMaxSize(int preparedStatementCacheMaxSize) {
+    return (MSSQLConnectOptions) super.setPreparedStatementCacheMaxSize(preparedStatementCacheMaxSize);
+  }
+
+  @GenIgnore
+  @Override
+  public MSSQLConnectOptions setPreparedStatementCacheSqlFilter(Predicate<String> predicate) {
+    return (MSSQLConnectOptions) super.setPreparedStatementCacheSqlFilter(predicate);
+  }
+
+  @Override
+  public MSSQLConnectOptions setPreparedStatementCacheSqlLimit(int preparedStatementCacheSqlLimit) {
+    return (MSSQLConnectOptions) super.setPreparedStatementCacheSqlLimit(preparedStatementCacheSqlLimit);
+  }
+
   @Override
   public MSSQLConnectOptions setSendBufferSize(int sendBufferSize) {
     return (MSSQLConnectOptions) super.setSendBufferSize(sendBufferSize);
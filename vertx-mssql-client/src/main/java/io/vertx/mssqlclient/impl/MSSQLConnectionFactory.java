@@ -79,7 +79,8 @@ public class MSSQLConnectionFactory extends ConnectionFactoryBase {
   }
 
   private MSSQLSocketConnection createSocketConnection(NetSocket so, EventLoopContext context) {
-    MSSQLSocketConnection conn = new MSSQLSocketConnection((NetSocketInternal) so, desiredPacketSize, false, 0, sql -> true, 1, context);
+    // A TDS client must not send a request until the response to the previous one has been fully received
+    MSSQLSocketConnection conn = new MSSQLSocketConnection((NetSocketInternal) so, desiredPacketSize, cachePreparedStatements, preparedStatementCacheSize, preparedStatementCacheSqlFilter, 1, context);
     conn.init();
     return conn;
   }
@@ -44,7 +44,7 @@ public class MSSQLRowImpl extends ArrayTuple implements Row {
     if (column == null) {
       throw new IllegalArgumentException("Column name can not be null");
     }
-    return rowDesc.columnNames().indexOf(column);
+    return rowDesc.columnIndex(column);
   }
 
   @Override
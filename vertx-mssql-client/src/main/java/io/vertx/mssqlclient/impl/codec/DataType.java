@@ -980,6 +980,124 @@ public enum DataType {
     throw new UnsupportedOperationException("Unable to decode value for " + name());
   }
 
+  /**
+   * @return the number of bytes read by {@link #decodeMetadata(ByteBuf)}
+   */
+  public int metadataLength() {
+    switch (this) {
+      case GUID:
+      case INTN:
+      case BITN:
+      case FLTN:
+      case MONEYN:
+      case DATETIMN:
+      case TIMEN:
+      case DATETIME2N:
+      case DATETIMEOFFSETN:
+        return 1;
+      case BINARY:
+      case VARBINARY:
+      case BIGVARBINARY:
+      case BIGBINARY:
+        return 2;
+      case DECIMALN:
+      case NUMERICN:
+        return 3;
+      case BIGVARCHAR:
+      case BIGCHAR:
+      case NVARCHAR:
+      case NCHAR:
+        // max length and collation
+        return 7;
+      default:
+        return 0;
+    }
+  }
+
+  /**
+   * Compute the number of bytes {@link #decodeValue(ByteBuf, Metadata)} reads from {@code index}, without reading them.
+   *
+   * @return the value length, or {@code -1} when {@code byteBuf} does not contain enough bytes to compute it
+   */
+  public int valueLength(ByteBuf byteBuf, int index, Metadata metadata) {
+    switch (this) {
+      case INT1:
+      case BIT:
+        return 1;
+      case INT2:
+        return 2;
+      case INT4:
+      case DATETIM4:
+      case FLT4:
+      case MONEY4:
+        return 4;
+      case MONEY:
+      case DATETIME:
+      case FLT8:
+      case INT8:
+        return 8;
+      case GUID:
+      case INTN:
+      case BITN:
+      case DECIMALN:
+      case NUMERICN:
+      case FLTN:
+      case MONEYN:
+      case DATETIMN:
+      case DATEN:
+      case TIMEN:
+      case DATETIME2N:
+      case DATETIMEOFFSETN:
+        return index < byteBuf.writerIndex() ? 1 + byteBuf.getUnsignedByte(index) : -1;
+      case BINARY:
+      case VARBINARY:
+      case BIGVARBINARY:
+      case BIGBINARY:
+        return index + 2 <= byteBuf.writerIndex() ? 2 + byteBuf.getUnsignedShortLE(index) : -1;
+      case BIGVARCHAR:
+      case BIGCHAR:
+      case NVARCHAR:
+      case NCHAR:
+        return characterValueLength(byteBuf, index, metadata);
+      default:
+        // decodeValue fails
+        return 0;
+    }
+  }
+
+  private static int characterValueLength(ByteBuf byteBuf, int index, Metadata metadata) {
+    int end = byteBuf.writerIndex();
+    if (metadata.length == 0xFFFF) { // PLP (partially length-prefixed)
+      if (index + 8 > end) {
+        return -1;
+      }
+      if (byteBuf.getLongLE(index) == 0xFFFFFFFFFFFFFFFFL) { // PLP null
+        return 8;
+      }
+      int pos = index + 8;
+      while (true) {
+        if (pos + 4 > end) {
+          return -1;
+        }
+        long chunkSize = byteBuf.getUnsignedIntLE(pos);
+        pos += 4;
+        if (chunkSize == 0) {
+          return pos - index;
+        }
+        if (chunkSize > end - pos) {
+          return -1;
+        }
+        pos += (int) chunkSize;
+      }
+    } else { // Length-prefixed
+      if (index + 2 > end) {
+        return -1;
+      }
+      int length = byteBuf.getUnsignedShortLE(index);
+      return length == 0xFFFF ? 2 : 2 + length;
+    }
+  }
+
   public String paramDefinition(Object value) {
     throw new UnsupportedOperationException("Unable to generate param definition for " + name());
   }
@@ -24,7 +24,6 @@ class ExtendedBatchQueryCommandCodec<T> extends ExtendedQueryCommandBaseCodec<T>
   private final List<Tuple> paramsList;
 
   private int paramsIdx;
-  private int messageDecoded;
 
   ExtendedBatchQueryCommandCodec(TdsMessageCodec tdsMessageCodec, ExtendedQueryCommand<T> cmd) {
     super(tdsMessageCodec, cmd);
@@ -42,10 +41,11 @@ class ExtendedBatchQueryCommandCodec<T> extends ExtendedQueryCommandBaseCodec<T>
 
   @Override
   protected void handleDecodingComplete() {
-    if (paramsList.size() == 1 || ++messageDecoded == 2) {
-      complete();
-    } else {
+    if (paramsIdx < paramsList.size()) {
+      // The statement has just been prepared with the first set of parameters
       sendExecRequest();
+    } else {
+      complete();
     }
   }
 
@@ -56,12 +56,12 @@ class ExtendedBatchQueryCommandCodec<T> extends ExtendedQueryCommandBaseCodec<T>
   }
 
   @Override
-  protected void writeRpcRequestBatch(ByteBuf packet) {
+  protected void writeRpcRequestBatch(ByteBuf packet, boolean executeSql) {
     for (int initial = paramsIdx; paramsIdx < paramsList.size(); paramsIdx++) {
       if (initial != paramsIdx) {
         packet.writeByte(0xFF); // batch separator
       }
-      super.writeRpcRequestBatch(packet);
+      super.writeRpcRequestBatch(packet, executeSql);
     }
   }
 
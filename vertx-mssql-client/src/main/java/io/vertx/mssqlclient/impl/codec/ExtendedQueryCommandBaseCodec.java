@@ -25,13 +25,18 @@ abstract class ExtendedQueryCommandBaseCodec<T> extends QueryCommandBaseCodec<T,
     super(tdsMessageCodec, cmd);
   }
 
+  private String prepexecParamDefinitions;
+
   @Override
   void encode() {
     MSSQLPreparedStatement ps = (MSSQLPreparedStatement) cmd.preparedStatement();
-    if (ps.handle > 0) {
+    if (ps.handle == 0) {
+      sendPrepexecRequest();
+    } else if (parseParamDefinitions(execRequestParams()).equals(ps.paramDefinitions)) {
       sendExecRequest();
     } else {
-      sendPrepexecRequest();
+      // The statement handle cannot be reused with parameters of different types
+      sendRpcRequest(true);
     }
   }
 
@@ -56,6 +61,7 @@ abstract class ExtendedQueryCommandBaseCodec<T> extends QueryCommandBaseCodec<T,
     Number value = (Number) INTN.decodeValue(payload, null);
     if (ps.handle == 0 && value != null) {
       ps.handle = value.intValue();
+      ps.paramDefinitions = prepexecParamDefinitions;
     }
   }
 
@@ -80,8 +86,8 @@ abstract class ExtendedQueryCommandBaseCodec<T> extends QueryCommandBaseCodec<T,
     TupleInternal params = prepexecRequestParams();
 
     // Param definitions
-    String paramDefinitions = parseParamDefinitions(params);
-    NVARCHAR.encodeParam(content, null, false, paramDefinitions);
+    prepexecParamDefinitions = parseParamDefinitions(params);
+    NVARCHAR.encodeParam(content, null, false, prepexecParamDefinitions);
 
     // SQL text
     NVARCHAR.encodeParam(content, null, false, cmd.sql());
@@ -95,31 +101,49 @@ abstract class ExtendedQueryCommandBaseCodec<T> extends QueryCommandBaseCodec<T,
   protected abstract TupleInternal prepexecRequestParams();
 
   void sendExecRequest() {
+    sendRpcRequest(false);
+  }
+
+  private void sendRpcRequest(boolean executeSql) {
     ByteBuf content = tdsMessageCodec.alloc().ioBuffer();
 
     tdsMessageCodec.encoder().encodeHeaders(content);
 
-    writeRpcRequestBatch(content);
+    writeRpcRequestBatch(content, executeSql);
 
     tdsMessageCodec.encoder().writeTdsMessage(RPC, content);
   }
 
-  protected void writeRpcRequestBatch(ByteBuf packet) {
+  /**
+   * Write an {@code sp_execute} request with the statement handle or, when {@code executeSql} is {@code true},
+   * an {@code sp_executesql} request with the SQL text.
+   */
+  protected void writeRpcRequestBatch(ByteBuf packet, boolean executeSql) {
+    TupleInternal params = execRequestParams();
+
     // RPCReqBatch
     packet.writeShortLE(0xFFFF);
-    packet.writeShortLE(ProcId.Sp_Execute);
+    packet.writeShortLE(executeSql ? ProcId.Sp_ExecuteSql : ProcId.Sp_Execute);
 
     // Option flags
     packet.writeShortLE(0x0000);
 
     // Parameter
 
-    // OUT Parameter
-    MSSQLPreparedStatement ps = (MSSQLPreparedStatement) cmd.ps;
-    INTN.encodeParam(packet, null, true, ps.handle);
+    if (executeSql) {
+      // SQL text
+      NVARCHAR.encodeParam(packet, null, false, cmd.sql());
+
+      // Param definitions
+      NVARCHAR.encodeParam(packet, null, false, parseParamDefinitions(params));
+    } else {
+      // OUT Parameter
+      MSSQLPreparedStatement ps = (MSSQLPreparedStatement) cmd.ps;
+      INTN.encodeParam(packet, null, true, ps.handle);
+    }
 
     // Param values
-    encodeParams(packet, execRequestParams());
+    encodeParams(packet, params);
   }
 
   protected abstract TupleInternal execRequestParams();
@@ -30,6 +30,7 @@ abstract class MSSQLCommandCodec<R, C extends CommandBase<R>> {
   public MSSQLException failure;
   public R result;
   Handler<? super CommandResponse<R>> completionHandler;
+  private MSSQLRowDesc rowDesc;
 
   MSSQLCommandCodec(TdsMessageCodec tdsMessageCodec, C cmd) {
     this.tdsMessageCodec = tdsMessageCodec;
@@ -38,49 +39,187 @@ abstract class MSSQLCommandCodec<R, C extends CommandBase<R>> {
 
   abstract void encode();
 
-  void decode(ByteBuf payload) {
+  /**
+   * Decode the tokens of a message, this is called as the packets of the message are received.
+   * <p>
+   * A token that is not entirely contained in {@code payload} is left unread, it is decoded again when
+   * more data has been received.
+   *
+   * @param payload the message bytes received so far and not read yet
+   * @param endOfMessage whether {@code payload} contains the end of the message
+   */
+  void decode(ByteBuf payload, boolean endOfMessage) {
     while (payload.isReadable()) {
-      short tokenType = payload.readUnsignedByte();
-      switch (tokenType) {
-        case LOGINACK:
-          payload.skipBytes(payload.readUnsignedShortLE());
-          handleLoginAck();
-          break;
-        case COLMETADATA:
-          handleColumnMetadata(payload);
-          break;
-        case ROW:
-          handleRow(payload);
-          break;
-        case NBCROW:
-          handleNbcRow(payload);
-          break;
-        case DONEINPROC:
-        case DONEPROC:
-        case DONE:
-          handleDone(tokenType, payload);
-          break;
-        case INFO:
-        case ORDER:
-          payload.skipBytes(payload.readUnsignedShortLE());
-          break;
-        case RETURNSTATUS:
-          payload.skipBytes(4);
-          break;
-        case RETURNVALUE:
-          handleReturnValue(payload);
-          break;
-        case ERROR:
-          handleError(payload);
-          break;
-        case ENVCHANGE:
-          handleEnvChange(payload);
-          break;
-        default:
-          throw new UnsupportedOperationException("Unsupported token: " + tokenType);
+      if (!endOfMessage && tokenEnd(payload) > payload.writerIndex()) {
+        // Partial token
+        return;
       }
+      decodeToken(payload);
+    }
+    if (endOfMessage) {
+      handleDecodingComplete();
+    }
+  }
+
+  /**
+   * Compute the end of the token at the reader index of {@code payload}, without reading it.
+   *
+   * @return the index following the token, or {@code Integer.MAX_VALUE} when {@code payload} does not contain
+   *         enough bytes to compute it
+   */
+  private int tokenEnd(ByteBuf payload) {
+    int index = payload.readerIndex();
+    short tokenType = payload.getUnsignedByte(index++);
+    switch (tokenType) {
+      case LOGINACK:
+      case INFO:
+      case ORDER:
+      case ERROR:
+      case ENVCHANGE:
+        return index + 2 <= payload.writerIndex() ? index + 2 + payload.getUnsignedShortLE(index) : Integer.MAX_VALUE;
+      case COLMETADATA:
+        return columnMetadataEnd(payload, index);
+      case ROW:
+        return rowEnd(payload, index);
+      case NBCROW:
+        return nbcRowEnd(payload, index);
+      case DONEINPROC:
+      case DONEPROC:
+      case DONE:
+        return index + 12;
+      case RETURNSTATUS:
+        return index + 4;
+      case RETURNVALUE:
+        return returnValueEnd(payload, index);
+      default:
+        // decodeToken fails
+        return index;
+    }
+  }
+
+  private static int columnMetadataEnd(ByteBuf payload, int index) {
+    int end = payload.writerIndex();
+    if (index + 2 > end) {
+      return Integer.MAX_VALUE;
+    }
+    int columnCount = payload.getUnsignedShortLE(index);
+    index += 2;
+    for (int i = 0; i < columnCount; i++) {
+      // user type and flags
+      index += 6;
+      if (index >= end) {
+        return Integer.MAX_VALUE;
+      }
+      DataType dataType = DataType.forId(payload.getUnsignedByte(index++));
+      index += dataType.metadataLength();
+      if (index >= end) {
+        return Integer.MAX_VALUE;
+      }
+      // column name
+      index += 1 + 2 * payload.getUnsignedByte(index);
+    }
+    return index;
+  }
+
+  private int rowEnd(ByteBuf payload, int index) {
+    if (rowDesc == null) {
+      return index;
+    }
+    for (ColumnData columnData : rowDesc.columnDatas) {
+      index = valueEnd(payload, index, columnData.dataType(), columnData.metadata());
+    }
+    return index;
+  }
+
+  private int nbcRowEnd(ByteBuf payload, int index) {
+    if (rowDesc == null) {
+      return index;
+    }
+    ColumnData[] columnDatas = rowDesc.columnDatas;
+    int nullBitMapStartIdx = index;
+    index += ((columnDatas.length - 1) >> 3) + 1;
+    if (index > payload.writerIndex()) {
+      return Integer.MAX_VALUE;
+    }
+    for (int c = 0; c < columnDatas.length; c++) {
+      byte nullByte = payload.getByte(nullBitMapStartIdx + (c >> 3));
+      if ((nullByte & (1 << (c & 7))) == 0) {
+        ColumnData columnData = columnDatas[c];
+        index = valueEnd(payload, index, columnData.dataType(), columnData.metadata());
+      }
+    }
+    return index;
+  }
+
+  private static int returnValueEnd(ByteBuf payload, int index) {
+    int end = payload.writerIndex();
+    // param ordinal
+    index += 2;
+    if (index >= end) {
+      return Integer.MAX_VALUE;
+    }
+    // param name, status, user type and flags
+    index += 1 + 2 * payload.getUnsignedByte(index) + 7;
+    if (index >= end) {
+      return Integer.MAX_VALUE;
+    }
+    DataType dataType = DataType.forId(payload.getUnsignedByte(index++));
+    int metadataLength = dataType.metadataLength();
+    if (index + metadataLength > end) {
+      return Integer.MAX_VALUE;
+    }
+    DataType.Metadata metadata = dataType.decodeMetadata(payload.slice(index, metadataLength));
+    return valueEnd(payload, index + metadataLength, dataType, metadata);
+  }
+
+  private static int valueEnd(ByteBuf payload, int index, DataType dataType, DataType.Metadata metadata) {
+    if (index > payload.writerIndex()) {
+      return Integer.MAX_VALUE;
+    }
+    int length = dataType.valueLength(payload, index, metadata);
+    return length < 0 ? Integer.MAX_VALUE : index + length;
+  }
+
+  private void decodeToken(ByteBuf payload) {
+    short tokenType = payload.readUnsignedByte();
+    switch (tokenType) {
+      case LOGINACK:
+        payload.skipBytes(payload.readUnsignedShortLE());
+        handleLoginAck();
+        break;
+      case COLMETADATA:
+        handleColumnMetadata(payload);
+        break;
+      case ROW:
+        handleRow(payload);
+        break;
+      case NBCROW:
+        handleNbcRow(payload);
+        break;
+      case DONEINPROC:
+      case DONEPROC:
+      case DONE:
+        handleDone(tokenType, payload);
+        break;
+      case INFO:
+      case ORDER:
+        payload.skipBytes(payload.readUnsignedShortLE());
+        break;
+      case RETURNSTATUS:
+        payload.skipBytes(4);
+        break;
+      case RETURNVALUE:
+        handleReturnValue(payload);
+        break;
+      case ERROR:
+        handleError(payload);
+        break;
+      case ENVCHANGE:
+        handleEnvChange(payload);
+        break;
+      default:
+        throw new UnsupportedOperationException("Unsupported token: " + tokenType);
     }
-    handleDecodingComplete();
   }
 
   protected void handleLoginAck() {
@@ -100,7 +239,8 @@ abstract class MSSQLCommandCodec<R, C extends CommandBase<R>> {
       columnDatas[i] = new ColumnData(columnName, dataType, metadata);
     }
 
-    handleRowDesc(new MSSQLRowDesc(columnDatas));
+    rowDesc = new MSSQLRowDesc(columnDatas);
+    handleRowDesc(rowDesc);
   }
 
   protected void handleRowDesc(MSSQLRowDesc mssqlRowDesc) {
@@ -11,6 +11,7 @@
 
 package io.vertx.mssqlclient.impl.codec;
 
+import io.vertx.sqlclient.impl.ErrorMessageFactory;
 import io.vertx.sqlclient.impl.ParamDesc;
 import io.vertx.sqlclient.impl.PreparedStatement;
 import io.vertx.sqlclient.impl.RowDesc;
@@ -20,6 +21,8 @@ public class MSSQLPreparedStatement implements PreparedStatement {
 
   final String sql;
   int handle;
+  // The parameter definitions the statement has been prepared with
+  String paramDefinitions;
 
   public MSSQLPreparedStatement(String sql) {
     this.sql = sql;
@@ -42,6 +45,6 @@ public class MSSQLPreparedStatement implements PreparedStatement {
 
   @Override
   public String prepare(TupleInternal values) {
-    return null;
+    return ErrorMessageFactory.checkNoPrimitiveArray(values);
   }
 }
@@ -66,7 +66,11 @@ class PreLoginCommandCodec extends MSSQLCommandCodec<PreLoginResponse, PreLoginC
   }
 
   @Override
-  void decode(ByteBuf payload) {
+  void decode(ByteBuf payload, boolean endOfMessage) {
+    if (!endOfMessage) {
+      // The options are located by their offset in the message
+      return;
+    }
     MSSQLDatabaseMetadata metadata = null;
     Byte encryptionLevel = null;
     while (true) {
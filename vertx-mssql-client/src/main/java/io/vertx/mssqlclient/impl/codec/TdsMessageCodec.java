@@ -50,7 +50,12 @@ public class TdsMessageCodec extends CombinedChannelDuplexHandler<TdsMessageDeco
   }
 
   private void fail(ChannelHandlerContext ctx, Throwable cause) {
-    for (Iterator<MSSQLCommandCodec<?, ?>> it = inflight.iterator(); it.hasNext(); ) {
+    fail(ctx, inflight, cause);
+    fail(ctx, encoder.deferred, cause);
+  }
+
+  private void fail(ChannelHandlerContext ctx, ArrayDeque<MSSQLCommandCodec<?, ?>> codecs, Throwable cause) {
+    for (Iterator<MSSQLCommandCodec<?, ?>> it = codecs.iterator(); it.hasNext(); ) {
       MSSQLCommandCodec<?, ?> codec = it.next();
       it.remove();
       CommandResponse<Object> failure = CommandResponse.failure(cause);
@@ -11,16 +11,31 @@
 
 package io.vertx.mssqlclient.impl.codec;
 
+import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.CompositeByteBuf;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelInboundHandlerAdapter;
 
+/**
+ * Decode the tokens of a TDS message as its packets arrive, instead of aggregating the whole message.
+ * <p>
+ * The bytes of a token split across packets are kept until the packet containing its end is received, so the memory
+ * used by a message is bounded by its largest token rather than its size.
+ */
 public class TdsMessageDecoder extends ChannelInboundHandlerAdapter {
 
+  /**
+   * Minimum amount of bytes decoded at once, a partial token is decoded again when more data is received.
+   */
+  static final int MIN_DECODE_SIZE = 32 * 1024;
+
   private final TdsMessageCodec tdsMessageCodec;
 
   private ByteBufAllocator alloc;
-  private TdsMessage message;
+  private short messageType = -1;
+  private ByteBuf pending;
+  private int decodeSize = MIN_DECODE_SIZE;
 
   public TdsMessageDecoder(TdsMessageCodec tdsMessageCodec) {
     this.tdsMessageCodec = tdsMessageCodec;
@@ -34,37 +49,70 @@ public class TdsMessageDecoder extends ChannelInboundHandlerAdapter {
   @Override
   public void channelRead(ChannelHandlerContext ctx, Object msg) throws Exception {
     TdsPacket tdsPacket = (TdsPacket) msg;
-    if (message == null) {
-      message = TdsMessage.createForDecoding(alloc, tdsPacket);
+    if (messageType == -1) {
+      messageType = tdsPacket.type();
+    } else if (messageType != tdsPacket.type()) {
+      tdsPacket.release();
+      throw new IllegalArgumentException("Message type [" + messageType + "] does not match packet type [" + tdsPacket.type() + "]");
+    }
+    ByteBuf content = tdsPacket.content();
+    if (pending == null) {
+      pending = content;
     } else {
-      message.aggregate(tdsPacket);
+      CompositeByteBuf composite;
+      if (pending instanceof CompositeByteBuf) {
+        composite = (CompositeByteBuf) pending;
+      } else {
+        composite = alloc.compositeDirectBuffer().addComponent(true, pending);
+        pending = composite;
+      }
+      composite.addComponent(true, content);
     }
-    if (tdsPacket.status() == MessageStatus.END_OF_MESSAGE) {
-      decodeMessage();
+    boolean endOfMessage = tdsPacket.status() == MessageStatus.END_OF_MESSAGE;
+    if (endOfMessage) {
+      try {
+        decode(true);
+      } finally {
+        releasePending();
+        messageType = -1;
+      }
+    } else if (pending.readableBytes() >= decodeSize) {
+      try {
+        decode(false);
+      } catch (Exception e) {
+        releasePending();
+        messageType = -1;
+        throw e;
+      }
+      int remaining = pending.readableBytes();
+      if (remaining == 0) {
+        releasePending();
+      } else if (pending instanceof CompositeByteBuf) {
+        ((CompositeByteBuf) pending).discardReadComponents();
+      }
+      // Wait for the partial token to grow before decoding it again
+      decodeSize = Math.max(MIN_DECODE_SIZE, 2 * remaining);
     }
   }
 
   @Override
   public void handlerRemoved(ChannelHandlerContext ctx) throws Exception {
-    releaseMessage();
+    releasePending();
   }
 
-  private void releaseMessage() {
-    if (message != null) {
-      message.release();
-      message = null;
+  private void releasePending() {
+    if (pending != null) {
+      pending.release();
+      pending = null;
     }
+    decodeSize = MIN_DECODE_SIZE;
   }
 
-  private void decodeMessage() {
-    try {
-      MSSQLCommandCodec<?, ?> commandCodec = tdsMessageCodec.peek();
-      if (commandCodec == null) {
-        throw new IllegalStateException("No command codec for message of type [" + message.type() + "]");
-      }
-      commandCodec.decode(message.content());
-    } finally {
-      releaseMessage();
+  private void decode(boolean endOfMessage) {
+    MSSQLCommandCodec<?, ?> commandCodec = tdsMessageCodec.peek();
+    if (commandCodec == null) {
+      throw new IllegalStateException("No command codec for message of type [" + messageType + "]");
     }
+    commandCodec.decode(pending, endOfMessage);
   }
 }
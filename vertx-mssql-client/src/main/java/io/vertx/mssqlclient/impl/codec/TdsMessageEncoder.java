@@ -20,6 +20,8 @@ import io.netty.util.ReferenceCountUtil;
 import io.vertx.mssqlclient.impl.command.PreLoginCommand;
 import io.vertx.sqlclient.impl.command.*;
 
+import java.util.ArrayDeque;
+
 import static io.vertx.mssqlclient.MSSQLConnectOptions.MIN_PACKET_SIZE;
 import static io.vertx.mssqlclient.impl.codec.MessageStatus.END_OF_MESSAGE;
 import static io.vertx.mssqlclient.impl.codec.MessageStatus.NORMAL;
@@ -29,6 +31,8 @@ import static java.lang.Math.min;
 
 public class TdsMessageEncoder extends ChannelOutboundHandlerAdapter {
   private final TdsMessageCodec tdsMessageCodec;
+  final ArrayDeque<MSSQLCommandCodec<?, ?>> deferred = new ArrayDeque<>();
+  private boolean encodingDeferred;
 
   private ChannelHandlerContext chctx;
   private ByteBufAllocator alloc;
@@ -61,11 +65,36 @@ public class TdsMessageEncoder extends ChannelOutboundHandlerAdapter {
       MSSQLCommandCodec<?, ?> c = this.tdsMessageCodec.poll();
       resp.cmd = (CommandBase) c.cmd;
       chctx.fireChannelRead(resp);
+      encodeDeferred();
     };
+    // A request can only be sent once the response to the previous one has been received
+    if (deferred.isEmpty() && tdsMessageCodec.peek() == null) {
+      encode(codec);
+    } else {
+      deferred.add(codec);
+    }
+  }
+
+  private void encode(MSSQLCommandCodec<?, ?> codec) {
     this.tdsMessageCodec.add(codec);
     codec.encode();
   }
 
+  private void encodeDeferred() {
+    if (encodingDeferred) {
+      return;
+    }
+    encodingDeferred = true;
+    try {
+      MSSQLCommandCodec<?, ?> codec;
+      while (tdsMessageCodec.peek() == null && (codec = deferred.poll()) != null) {
+        encode(codec);
+      }
+    } finally {
+      encodingDeferred = false;
+    }
+  }
+
   private MSSQLCommandCodec<?, ?> wrap(CommandBase<?> cmd) {
     if (cmd instanceof PreLoginCommand) {
       return new PreLoginCommandCodec(tdsMessageCodec, (PreLoginCommand) cmd);
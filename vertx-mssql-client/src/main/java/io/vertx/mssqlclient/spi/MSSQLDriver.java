@@ -48,6 +48,9 @@ public class MSSQLDriver implements Driver {
 
   @Override
   public MSSQLPool newPool(Vertx vertx, List<? extends SqlConnectOptions> databases, PoolOptions options, CloseFuture closeFuture) {
+    if (options.isRouteReadsToReplicas()) {
+      throw new IllegalArgumentException("Routing the reads to the replicas is not supported by the MSSQL client");
+    }
     VertxInternal vx = (VertxInternal) vertx;
     PoolImpl pool;
     if (options.isShared()) {
@@ -65,7 +68,7 @@ public class MSSQLDriver implements Driver {
     ClientMetrics metrics = vertxMetrics != null ? vertxMetrics.createClientMetrics(baseConnectOptions.getSocketAddress(), "sql", baseConnectOptions.getMetricsName()) : null;
     PoolImpl pool = new PoolImpl(vertx, this, tracer, metrics, 1, options, null, null, closeFuture);
     List<ConnectionFactory> lst = databases.stream().map(o -> createConnectionFactory(vertx, o)).collect(Collectors.toList());
-    ConnectionFactory factory = ConnectionFactory.roundRobinSelector(lst);
+    ConnectionFactory factory = ConnectionFactory.selector(lst, options);
     pool.connectionProvider(factory::connect);
     pool.init();
     closeFuture.add(factory);
@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2011-2022 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.mssqlclient;
+
+import io.vertx.core.Vertx;
+import io.vertx.ext.unit.Async;
+import io.vertx.ext.unit.TestContext;
+import io.vertx.ext.unit.junit.VertxUnitRunner;
+import io.vertx.sqlclient.Row;
+import io.vertx.sqlclient.Tuple;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.util.Arrays;
+
+@RunWith(VertxUnitRunner.class)
+public class MSSQLPreparedQueryCachedTest extends MSSQLTestBase {
+
+  Vertx vertx;
+  MSSQLConnectOptions options;
+
+  @Before
+  public void setup() {
+    vertx = Vertx.vertx();
+    options = new MSSQLConnectOptions(MSSQLTestBase.options).setCachePreparedStatements(true);
+  }
+
+  @After
+  public void tearDown(TestContext ctx) {
+    vertx.close(ctx.asyncAssertSuccess());
+  }
+
+  @Test
+  public void testReuseCachedStatement(TestContext ctx) {
+    int num = 10;
+    Async async = ctx.async(num);
+    MSSQLConnection.connect(vertx, options, ctx.asyncAssertSuccess(conn -> {
+      for (int i = 1;i <= num;i++) {
+        int id = i;
+        conn.preparedQuery("SELECT id FROM immutable WHERE id = @p1").execute(Tuple.of(id), ctx.asyncAssertSuccess(rows -> {
+          ctx.assertEquals(id, rows.iterator().next().getInteger(0));
+          async.countDown();
+        }));
+      }
+    }));
+  }
+
+  @Test
+  public void testCachedStatementWithDifferentParameterTypes(TestContext ctx) {
+    StringBuilder sb = new StringBuilder();
+    for (int i = 0;i < 5000;i++) {
+      sb.append('a');
+    }
+    String large = sb.toString();
+    MSSQLConnection.connect(vertx, options, ctx.asyncAssertSuccess(conn -> {
+      conn.preparedQuery("SELECT LEN(@p1)").execute(Tuple.of("abc"), ctx.asyncAssertSuccess(rows1 -> {
+        ctx.assertEquals(3, rows1.iterator().next().getInteger(0));
+        conn.preparedQuery("SELECT LEN(@p1)").execute(Tuple.of(large), ctx.asyncAssertSuccess(rows2 -> {
+          ctx.assertEquals(large.length(), rows2.iterator().next().getInteger(0));
+          conn.preparedQuery("SELECT LEN(@p1)").execute(Tuple.of("abcd"), ctx.asyncAssertSuccess(rows3 -> {
+            ctx.assertEquals(4, rows3.iterator().next().getInteger(0));
+            conn.close();
+          }));
+        }));
+      }));
+    }));
+  }
+
+  @Test
+  public void testEvictedStatement(TestContext ctx) {
+    options.setPreparedStatementCacheMaxSize(1);
+    MSSQLConnection.connect(vertx, options, ctx.asyncAssertSuccess(conn -> {
+      conn.preparedQuery("SELECT id FROM immutable WHERE id = @p1").execute(Tuple.of(1), ctx.asyncAssertSuccess(rows1 -> {
+        // Evicts the first statement
+        conn.preparedQuery("SELECT message FROM immutable WHERE id = @p1").execute(Tuple.of(2), ctx.asyncAssertSuccess(rows2 -> {
+          ctx.assertEquals("A computer scientist is someone who fixes things that aren't broken.", rows2.iterator().next().getString(0));
+          conn.preparedQuery("SELECT id FROM immutable WHERE id = @p1").execute(Tuple.of(3), ctx.asyncAssertSuccess(rows3 -> {
+            ctx.assertEquals(3, rows3.iterator().next().getInteger(0));
+            conn.close();
+          }));
+        }));
+      }));
+    }));
+  }
+
+  @Test
+  public void testBatchWithCachedStatement(TestContext ctx) {
+    MSSQLConnection.connect(vertx, options, ctx.asyncAssertSuccess(conn -> {
+      conn.preparedQuery("SELECT id FROM immutable WHERE id = @p1").execute(Tuple.of(1), ctx.asyncAssertSuccess(rows -> {
+        conn.preparedQuery("SELECT id FROM immutable WHERE id = @p1")
+          .executeBatch(Arrays.asList(Tuple.of(2), Tuple.of(3), Tuple.of(4)), ctx.asyncAssertSuccess(res -> {
+            for (int i = 2;i <= 4;i++) {
+              Row row = res.iterator().next();
+              ctx.assertEquals(i, row.getInteger(0));
+              res = res.next();
+            }
+            ctx.assertNull(res);
+            conn.close();
+          }));
+      }));
+    }));
+  }
+}
@@ -0,0 +1,253 @@
+/*
+ * Copyright (c) 2011-2022 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.mssqlclient.impl.codec;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.vertx.sqlclient.PropertyKind;
+import io.vertx.sqlclient.Row;
+import io.vertx.sqlclient.impl.QueryResultHandler;
+import io.vertx.sqlclient.impl.RowDesc;
+import io.vertx.sqlclient.impl.command.CommandResponse;
+import io.vertx.sqlclient.impl.command.SimpleQueryCommand;
+import org.junit.After;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collector;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class TdsMessageDecoderTest {
+
+  private static final int PACKET_SIZE = 512;
+
+  private final List<Row> decoded = new ArrayList<>();
+  private final List<List<Row>> results = new ArrayList<>();
+  private CommandResponse<?> response;
+  private EmbeddedChannel channel;
+
+  @After
+  public void tearDown() {
+    if (channel != null) {
+      channel.finishAndReleaseAll();
+    }
+  }
+
+  private void init() {
+    TdsMessageCodec tdsMessageCodec = new TdsMessageCodec(PACKET_SIZE);
+    Collector<Row, ?, List<Row>> collector = Collector.of(ArrayList::new, (list, row) -> {
+      decoded.add(row);
+      list.add(row);
+    }, (l1, l2) -> l1);
+    SQLBatchCommandCodec<List<Row>> codec = new SQLBatchCommandCodec<>(tdsMessageCodec, new SimpleQueryCommand<>(
+      "SELECT * FROM test", false, true, collector, new QueryResultHandler<List<Row>>() {
+      @Override
+      public <V> void addProperty(PropertyKind<V> property, V value) {
+      }
+      @Override
+      public void handleResult(int updatedCount, int size, RowDesc desc, List<Row> result, Throwable failure) {
+        results.add(result);
+      }
+    }));
+    codec.completionHandler = resp -> response = resp;
+    tdsMessageCodec.add(codec);
+    channel = new EmbeddedChannel(new TdsMessageDecoder(tdsMessageCodec));
+  }
+
+  @Test
+  public void testDecodeRowsAsPacketsArrive() {
+    init();
+    int rows = 1000;
+    ByteBuf message = Unpooled.buffer();
+    writeColumnMetadata(message);
+    for (int i = 0;i < rows;i++) {
+      writeRow(i, "value-" + i, message);
+    }
+    writeDone(rows, message);
+    List<ByteBuf> packets = split(message);
+
+    int beforeEnd = -1;
+    for (int i = 0;i < packets.size();i++) {
+      boolean last = i == packets.size() - 1;
+      if (last) {
+        beforeEnd = decoded.size();
+      }
+      writePacket(packets.get(i), last);
+    }
+    // The rows are decoded before the end of the message
+    assertTrue(beforeEnd > 0);
+    assertTrue(beforeEnd < rows);
+    assertNotNull(response);
+    assertTrue(response.toAsyncResult().succeeded());
+    assertEquals(1, results.size());
+    List<Row> result = results.get(0);
+    assertEquals(rows, result.size());
+    for (int i = 0;i < rows;i++) {
+      Row row = result.get(i);
+      assertEquals(i, (int) row.getInteger(0));
+      assertEquals("value-" + i, row.getString(1));
+    }
+  }
+
+  @Test
+  public void testTokenLargerThanPackets() {
+    init();
+    StringBuilder sb = new StringBuilder();
+    for (int i = 0;i < 50_000;i++) {
+      sb.append((char) ('a' + i % 26));
+    }
+    String large = sb.toString();
+    ByteBuf message = Unpooled.buffer();
+    writeColumnMetadata(message);
+    writeRow(0, "small", message);
+    writeRow(1, large, message);
+    writeRow(2, large, message);
+    writeDone(3, message);
+    List<ByteBuf> packets = split(message);
+    for (int i = 0;i < packets.size();i++) {
+      writePacket(packets.get(i), i == packets.size() - 1);
+    }
+    assertNotNull(response);
+    assertTrue(response.toAsyncResult().succeeded());
+    List<Row> result = results.get(0);
+    assertEquals(3, result.size());
+    assertEquals("small", result.get(0).getString(1));
+    assertEquals(large, result.get(1).getString(1));
+    assertEquals(large, result.get(2).getString(1));
+  }
+
+  @Test
+  public void testDecodeNbcRowsAsPacketsArrive() {
+    init();
+    int rows = 1000;
+    ByteBuf message = Unpooled.buffer();
+    writeColumnMetadata(message);
+    for (int i = 0;i < rows;i++) {
+      writeNbcRow(i % 3 == 0 ? null : i, i % 2 == 0 ? null : "value-" + i, message);
+    }
+    writeDone(rows, message);
+    List<ByteBuf> packets = split(message);
+    for (int i = 0;i < packets.size();i++) {
+      writePacket(packets.get(i), i == packets.size() - 1);
+    }
+    assertNotNull(response);
+    assertTrue(response.toAsyncResult().succeeded());
+    List<Row> result = results.get(0);
+    assertEquals(rows, result.size());
+    for (int i = 0;i < rows;i++) {
+      Row row = result.get(i);
+      assertEquals(i % 3 == 0 ? null : i, row.getInteger(0));
+      assertEquals(i % 2 == 0 ? null : "value-" + i, row.getString(1));
+    }
+  }
+
+  @Test
+  public void testSinglePacketMessage() {
+    init();
+    ByteBuf message = Unpooled.buffer();
+    writeColumnMetadata(message);
+    writeRow(7, null, message);
+    writeDone(1, message);
+    writePacket(message, true);
+    assertNotNull(response);
+    assertTrue(response.toAsyncResult().succeeded());
+    Row row = results.get(0).get(0);
+    assertEquals(7, (int) row.getInteger(0));
+    assertNull(row.getString(1));
+  }
+
+  private void writePacket(ByteBuf data, boolean last) {
+    short status = last ? MessageStatus.END_OF_MESSAGE : MessageStatus.NORMAL;
+    channel.writeInbound(new TdsPacket(MessageType.TABULAR_RESULT, status, TdsPacket.PACKET_HEADER_SIZE + data.readableBytes(), data));
+  }
+
+  private static List<ByteBuf> split(ByteBuf message) {
+    List<ByteBuf> packets = new ArrayList<>();
+    int chunk = PACKET_SIZE - TdsPacket.PACKET_HEADER_SIZE;
+    while (message.isReadable()) {
+      ByteBuf packet = Unpooled.directBuffer();
+      packet.writeBytes(message, Math.min(chunk, message.readableBytes()));
+      packets.add(packet);
+    }
+    message.release();
+    return packets;
+  }
+
+  private static void writeColumnMetadata(ByteBuf out) {
+    out.writeByte(TokenType.COLMETADATA);
+    out.writeShortLE(2);
+    // id INT
+    out.writeIntLE(0); // user type
+    out.writeShortLE(0); // flags
+    out.writeByte(DataType.INTN.id);
+    out.writeByte(4);
+    writeName("id", out);
+    // val NVARCHAR(MAX)
+    out.writeIntLE(0); // user type
+    out.writeShortLE(0); // flags
+    out.writeByte(DataType.NVARCHAR.id);
+    out.writeShortLE(0xFFFF);
+    out.writeZero(5); // collation
+    writeName("val", out);
+  }
+
+  private static void writeName(String name, ByteBuf out) {
+    out.writeByte(name.length());
+    out.writeCharSequence(name, StandardCharsets.UTF_16LE);
+  }
+
+  private static void writeRow(int id, String val, ByteBuf out) {
+    out.writeByte(TokenType.ROW);
+    out.writeByte(4);
+    out.writeIntLE(id);
+    if (val == null) {
+      // PLP null
+      out.writeLongLE(0xFFFFFFFFFFFFFFFFL);
+    } else {
+      byte[] bytes = val.getBytes(StandardCharsets.UTF_16LE);
+      out.writeLongLE(bytes.length);
+      out.writeIntLE(bytes.length);
+      out.writeBytes(bytes);
+      out.writeIntLE(0); // PLP terminator
+    }
+  }
+
+  private static void writeNbcRow(Integer id, String val, ByteBuf out) {
+    out.writeByte(TokenType.NBCROW);
+    out.writeByte((id == null ? 1 : 0) | (val == null ? 2 : 0));
+    if (id != null) {
+      out.writeByte(4);
+      out.writeIntLE(id);
+    }
+    if (val != null) {
+      byte[] bytes = val.getBytes(StandardCharsets.UTF_16LE);
+      out.writeLongLE(bytes.length);
+      out.writeIntLE(bytes.length);
+      out.writeBytes(bytes);
+      out.writeIntLE(0); // PLP terminator
+    }
+  }
+
+  private static void writeDone(int rows, ByteBuf out) {
+    out.writeByte(TokenType.DONE);
+    out.writeShortLE(Done.STATUS_DONE_COUNT);
+    out.writeShortLE(0);
+    out.writeLongLE(rows);
+  }
+}
@@ -24,6 +24,7 @@ import io.vertx.sqlclient.data.Numeric;
 import java.math.BigDecimal;
 import java.time.LocalTime;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.stream.Collector;
 import java.util.stream.Collectors;
@@ -239,6 +240,23 @@ public class MySQLClientExamples {
       .setReconnectInterval(1000);
   }
 
+  public void poolReadReplicas(Vertx vertx, List<MySQLConnectOptions> servers) {
+
+    // Route the reads to the replicas, unless they lag more than 5 seconds
+    PoolOptions poolOptions = new PoolOptions()
+      .setMaxSize(4)
+      .setRouteReadsToReplicas(true)
+      .setReplicaStickiness(1000)
+      .setMaxReplicaLag(5000);
+
+    MySQLPool pool = MySQLPool.pool(vertx, servers, poolOptions);
+
+    // A SELECT calling a function that writes must be executed by the primary
+    pool
+      .preparedQuery("SELECT archive_orders(?)", new PrepareOptions().setReadOnly(false))
+      .execute(Tuple.of(30));
+  }
+
   public void lastInsertId(SqlClient client) {
     client
       .query("INSERT INTO test(val) VALUES ('v1')")
@@ -491,6 +509,26 @@ public class MySQLClientExamples {
     });
   }
 
+  public void pipeliningExample(Vertx vertx) {
+    MySQLConnectOptions connectOptions = new MySQLConnectOptions()
+      .setPort(3306)
+      .setHost("the-host")
+      .setDatabase("the-db")
+      .setUser("user")
+      .setPassword("secret")
+      .setPipeliningLimit(16);
+
+    // Up to 16 queries are sent without waiting for the previous responses
+    MySQLConnection.connect(vertx, connectOptions)
+      .onSuccess(conn -> {
+        for (int id = 0;id < 16;id++) {
+          conn
+            .preparedQuery("SELECT * FROM users WHERE id = ?")
+            .execute(Tuple.of(id));
+        }
+      });
+  }
+
   public void defaultAuthPluginExample() {
     MySQLConnectOptions options = new MySQLConnectOptions()
       .setPort(3306)
@@ -65,6 +65,8 @@ public class MySQLConnectOptions extends SqlConnectOptions {
   public static final Map<String, String> DEFAULT_CONNECTION_ATTRIBUTES;
   public static final SslMode DEFAULT_SSL_MODE = SslMode.DISABLED;
   public static final String DEFAULT_CHARACTER_ENCODING = "UTF-8";
+  public static final int DEFAULT_PIPELINING_LIMIT = 1;
+  public static final boolean DEFAULT_PIPELINED_BATCH = false;
 
   static {
     Map<String, String> defaultAttributes = new HashMap<>();
@@ -80,6 +82,8 @@ public class MySQLConnectOptions extends SqlConnectOptions {
   private Buffer serverRsaPublicKeyValue;
   private String characterEncoding = DEFAULT_CHARACTER_ENCODING;
   private MySQLAuthenticationPlugin authenticationPlugin = MySQLAuthenticationPlugin.DEFAULT;
+  private int pipeliningLimit = DEFAULT_PIPELINING_LIMIT;
+  private boolean pipelinedBatch = DEFAULT_PIPELINED_BATCH;
 
   public MySQLConnectOptions() {
     super();
@@ -102,6 +106,8 @@ public class MySQLConnectOptions extends SqlConnectOptions {
       this.serverRsaPublicKeyValue = opts.serverRsaPublicKeyValue != null ? opts.serverRsaPublicKeyValue.copy() : null;
       this.characterEncoding = opts.characterEncoding;
       this.authenticationPlugin = opts.authenticationPlugin;
+      this.pipeliningLimit = opts.pipeliningLimit;
+      this.pipelinedBatch = opts.pipelinedBatch;
     }
   }
 
@@ -115,6 +121,8 @@ public class MySQLConnectOptions extends SqlConnectOptions {
     this.serverRsaPublicKeyValue = other.serverRsaPublicKeyValue != null ? other.serverRsaPublicKeyValue.copy() : null;
     this.characterEncoding = other.characterEncoding;
     this.authenticationPlugin = other.authenticationPlugin;
+    this.pipeliningLimit = other.pipeliningLimit;
+    this.pipelinedBatch = other.pipelinedBatch;
   }
 
   /**
@@ -251,6 +259,58 @@ public class MySQLConnectOptions extends SqlConnectOptions {
     return this;
   }
 
+  /**
+   * Get the pipelining limit count.
+   *
+   * @return the pipelining count
+   */
+  public int getPipeliningLimit() {
+    return pipeliningLimit;
+  }
+
+  /**
+   * Set the pipelining limit count, i.e the maximum number of commands sent to the server before their response
+   * is received.
+   * <p>
+   * By default a command is sent once the response of the previous command has been received. Commands that
+   * exchange several messages with the server, e.g a query with a cursor or a {@code LOAD DATA LOCAL INFILE} query,
+   * are never pipelined.
+   *
+   * @param pipeliningLimit the count to configure
+   * @return a reference to this, so the API can be used fluently
+   */
+  public MySQLConnectOptions setPipeliningLimit(int pipeliningLimit) {
+    if (pipeliningLimit < 1) {
+      throw new IllegalArgumentException("pipelining limit can not be less than 1");
+    }
+    this.pipeliningLimit = pipeliningLimit;
+    return this;
+  }
+
+  /**
+   * Get whether the executions of a prepared batch are pipelined.
+   *
+   * @return whether the executions of a prepared batch are pipelined
+   */
+  public boolean isPipelinedBatch() {
+    return pipelinedBatch;
+  }
+
+  /**
+   * Set whether the executions of a prepared batch are pipelined, i.e. sent at once instead of waiting for the
+   * response of the previous execution.
+   * <p>
+   * A batch then costs a single round trip. Unlike the default behavior, the server executes all the tuples of the batch
+   * when the execution of a tuple fails, the batch fails with the first failure.
+   *
+   * @param pipelinedBatch whether the executions of a prepared batch are pipelined
+   * @return a reference to this, so the API can be used fluently
+   */
+  public MySQLConnectOptions setPipelinedBatch(boolean pipelinedBatch) {
+    this.pipelinedBatch = pipelinedBatch;
+    return this;
+  }
+
   @Override
   public MySQLConnectOptions setSsl(boolean ssl) {
     if (ssl) {
@@ -23,6 +23,8 @@ import io.vertx.core.net.impl.NetSocketInternal;
 import io.vertx.mysqlclient.MySQLAuthenticationPlugin;
 import io.vertx.mysqlclient.MySQLConnectOptions;
 import io.vertx.mysqlclient.SslMode;
+import io.vertx.sqlclient.Row;
+import io.vertx.sqlclient.RowIterator;
 import io.vertx.sqlclient.SqlConnectOptions;
 import io.vertx.sqlclient.SqlConnection;
 import io.vertx.sqlclient.impl.Connection;
@@ -41,6 +43,8 @@ public class MySQLConnectionFactory extends ConnectionFactoryBase {
   private SslMode sslMode;
   private Buffer serverRsaPublicKey;
   private MySQLAuthenticationPlugin authenticationPlugin;
+  private int pipeliningLimit;
+  private boolean pipelinedBatch;
 
   public MySQLConnectionFactory(VertxInternal vertx, MySQLConnectOptions options) {
     super(vertx, options);
@@ -75,6 +79,8 @@ public class MySQLConnectionFactory extends ConnectionFactoryBase {
     this.useAffectedRows = options.isUseAffectedRows();
     this.sslMode = options.isUsingDomainSocket() ? SslMode.DISABLED : options.getSslMode();
     this.authenticationPlugin = options.getAuthenticationPlugin();
+    this.pipeliningLimit = options.getPipeliningLimit();
+    this.pipelinedBatch = options.isPipelinedBatch();
 
     // server RSA public key
     Buffer serverRsaPublicKey = null;
@@ -113,7 +119,7 @@ public class MySQLConnectionFactory extends ConnectionFactoryBase {
     int initialCapabilitiesFlags = initCapabilitiesFlags(database);
     Future<NetSocket> fut = netClient.connect(server);
     return fut.flatMap(so -> {
-      MySQLSocketConnection conn = new MySQLSocketConnection((NetSocketInternal) so, cachePreparedStatements, preparedStatementCacheSize, preparedStatementCacheSqlFilter, context);
+      MySQLSocketConnection conn = new MySQLSocketConnection((NetSocketInternal) so, cachePreparedStatements, preparedStatementCacheSize, preparedStatementCacheSqlFilter, pipeliningLimit, pipelinedBatch, context);
       conn.init();
       return Future.future(promise -> conn.sendStartupMessage(username, password, database, collation, serverRsaPublicKey, properties, sslMode, initialCapabilitiesFlags, charsetEncoding, authenticationPlugin, promise));
     });
@@ -148,4 +154,34 @@ public class MySQLConnectionFactory extends ConnectionFactoryBase {
       .onComplete(promise);
     return promise.future();
   }
+
+  @Override
+  public boolean supportsReadOnly() {
+    return true;
+  }
+
+  @Override
+  public Future<Boolean> isReadOnly(SqlConnection connection) {
+    return connection
+      .query("SELECT @@global.read_only")
+      .execute()
+      .map(rows -> rows.iterator().next().getInteger(0) != 0);
+  }
+
+  @Override
+  public Future<Long> replicationLag(SqlConnection connection) {
+    return connection
+      .query("SHOW SLAVE STATUS")
+      .execute()
+      .map(rows -> {
+        RowIterator<Row> it = rows.iterator();
+        if (!it.hasNext()) {
+          // Not a replica
+          return 0L;
+        }
+        // NULL when the replication is stopped
+        Long lag = it.next().getLong("Seconds_Behind_Master");
+        return lag != null ? lag * 1000 : Long.MAX_VALUE;
+      });
+  }
 }
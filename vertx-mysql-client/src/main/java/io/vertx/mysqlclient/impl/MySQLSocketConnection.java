@@ -47,13 +47,17 @@ public class MySQLSocketConnection extends SocketConnectionBase {
 
   public MySQLDatabaseMetadata metaData;
   private MySQLCodec codec;
+  private final boolean pipelinedBatch;
 
   public MySQLSocketConnection(NetSocketInternal socket,
                                boolean cachePreparedStatements,
                                int preparedStatementCacheSize,
                                Predicate<String> preparedStatementCacheSqlFilter,
+                               int pipeliningLimit,
+                               boolean pipelinedBatch,
                                EventLoopContext context) {
-    super(socket, cachePreparedStatements, preparedStatementCacheSize, preparedStatementCacheSqlFilter, 1, context);
+    super(socket, cachePreparedStatements, preparedStatementCacheSize, preparedStatementCacheSqlFilter, pipeliningLimit, context);
+    this.pipelinedBatch = pipelinedBatch;
   }
 
   void sendStartupMessage(String username,
@@ -95,6 +99,10 @@ public class MySQLSocketConnection extends SocketConnectionBase {
     }
   }
 
+  public boolean isPipelinedBatch() {
+    return pipelinedBatch;
+  }
+
   public void upgradeToSsl(Handler<AsyncResult<Void>> completionHandler) {
     socket.upgradeToSsl(completionHandler);
   }
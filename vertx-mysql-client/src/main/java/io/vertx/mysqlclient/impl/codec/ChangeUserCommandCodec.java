@@ -37,6 +37,11 @@ class ChangeUserCommandCodec extends AuthenticationCommandBaseCodec<Void, Change
     sendChangeUserCommand();
   }
 
+  @Override
+  boolean isExclusive() {
+    return true;
+  }
+
   @Override
   void decodePayload(ByteBuf payload, int payloadLength) {
     int header = payload.getUnsignedByte(payload.readerIndex());
@@ -46,6 +46,14 @@ abstract class CommandCodec<R, C extends CommandBase<R>> {
 
   abstract void decodePayload(ByteBuf payload, int payloadLength);
 
+  /**
+   * Whether the command sends more packets after it received a response from the server, the server would
+   * otherwise read the packets of the next commands first. Such a command is never pipelined with other commands.
+   */
+  boolean isExclusive() {
+    return false;
+  }
+
   void encode(MySQLEncoder encoder) {
     this.encoder = encoder;
     this.sequenceId = 0;
@@ -122,13 +130,17 @@ abstract class CommandCodec<R, C extends CommandBase<R>> {
   }
 
   void handleErrorPacketPayload(ByteBuf payload) {
+    completionHandler.handle(CommandResponse.failure(decodeErrorPacketPayload(payload)));
+  }
+
+  MySQLException decodeErrorPacketPayload(ByteBuf payload) {
     payload.skipBytes(1); // skip ERR packet header
     int errorCode = payload.readUnsignedShortLE();
     // CLIENT_PROTOCOL_41 capability flag will always be set
     payload.skipBytes(1); // SQL state marker will always be #
     String sqlState = BufferUtils.readFixedLengthString(payload, 5, StandardCharsets.UTF_8);
     String errorMessage = readRestOfPacketString(payload, StandardCharsets.UTF_8);
-    completionHandler.handle(CommandResponse.failure(new MySQLException(errorMessage, errorCode, sqlState)));
+    return new MySQLException(errorMessage, errorCode, sqlState);
   }
 
   // simplify the ok packet as those properties are actually not used for now
@@ -22,15 +22,20 @@ import io.vertx.sqlclient.impl.command.ExtendedQueryCommand;
 import java.util.List;
 
 import static io.vertx.mysqlclient.impl.protocol.Packets.EnumCursorType.CURSOR_TYPE_NO_CURSOR;
+import static io.vertx.mysqlclient.impl.protocol.Packets.PACKET_PAYLOAD_LENGTH_LIMIT;
 
 class ExtendedBatchQueryCommandCodec<R> extends ExtendedQueryCommandBaseCodec<R, ExtendedQueryCommand<R>> {
 
   private List<Tuple> params;
   private int batchIdx = 0;
+  // the executions are sent at once and their responses are decoded afterwards
+  private final boolean pipelined;
+  private int completed;
 
-  ExtendedBatchQueryCommandCodec(ExtendedQueryCommand<R> cmd) {
+  ExtendedBatchQueryCommandCodec(ExtendedQueryCommand<R> cmd, boolean pipelined) {
     super(cmd);
     params = cmd.paramsList();
+    this.pipelined = pipelined;
   }
 
   @Override
@@ -40,20 +45,77 @@ class ExtendedBatchQueryCommandCodec<R> extends ExtendedQueryCommandBaseCodec<R,
       completionHandler.handle(CommandResponse.failure("Statement parameter is not set because of the empty batch param list"));
       return;
     }
-    doExecuteBatch();
+    if (pipelined) {
+      doExecutePipelinedBatch();
+    } else {
+      doExecuteBatch();
+    }
+  }
+
+  @Override
+  boolean isExclusive() {
+    // Each execution is sent once the previous one completed
+    return !pipelined;
   }
 
   @Override
   protected void handleSingleResultsetDecodingCompleted(int serverStatusFlags, long affectedRows, long lastInsertId) {
-    super.handleSingleResultsetDecodingCompleted(serverStatusFlags, affectedRows, lastInsertId);
-    doExecuteBatch();
+    if (pipelined) {
+      if (super.isDecodingCompleted(serverStatusFlags)) {
+        completed++;
+      }
+      super.handleSingleResultsetDecodingCompleted(serverStatusFlags, affectedRows, lastInsertId);
+    } else {
+      super.handleSingleResultsetDecodingCompleted(serverStatusFlags, affectedRows, lastInsertId);
+      doExecuteBatch();
+    }
   }
 
   @Override
   protected boolean isDecodingCompleted(int serverStatusFlags) {
+    if (pipelined) {
+      return completed == params.size();
+    }
     return super.isDecodingCompleted(serverStatusFlags) && batchIdx == params.size();
   }
 
+  @Override
+  void handleErrorPacketPayload(ByteBuf payload) {
+    if (!pipelined) {
+      super.handleErrorPacketPayload(payload);
+      return;
+    }
+    // The server executes the next statements anyway, their responses must be decoded before completing
+    Throwable err = decodeErrorPacketPayload(payload);
+    if (failure == null) {
+      failure = err;
+    }
+    if (++completed < params.size()) {
+      if (decoder != null) {
+        decoder.reset();
+      }
+      resetIntermediaryResult();
+    } else {
+      completionHandler.handle(CommandResponse.failure(failure));
+    }
+  }
+
+  private void doExecutePipelinedBatch() {
+    for (Tuple param : params) {
+      String bindMsg = statement.bindParameters(param);
+      if (bindMsg != null) {
+        completionHandler.handle(CommandResponse.failure(bindMsg));
+        return;
+      }
+    }
+    for (Tuple param : params) {
+      sequenceId = 0;
+      sendBatchStatementExecuteCommand(statement, param);
+      batchIdx++;
+    }
+    encoder.chctx.flush();
+  }
+
   private void doExecuteBatch() {
     if (batchIdx < params.size()) {
       sequenceId = 0;
@@ -120,6 +182,12 @@ class ExtendedBatchQueryCommandCodec<R> extends ExtendedQueryCommandBaseCodec<R,
     int payloadLength = packet.writerIndex() - packetStartIdx - 4;
     packet.setMediumLE(packetStartIdx, payloadLength);
 
-    sendPacket(packet, payloadLength);
+    if (pipelined && payloadLength < PACKET_PAYLOAD_LENGTH_LIMIT) {
+      // flushed once all the executions are written
+      sequenceId++;
+      encoder.chctx.write(packet, encoder.chctx.voidPromise());
+    } else {
+      sendPacket(packet, payloadLength);
+    }
   }
 }
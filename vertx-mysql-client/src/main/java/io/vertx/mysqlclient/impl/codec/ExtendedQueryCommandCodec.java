@@ -65,6 +65,12 @@ class ExtendedQueryCommandCodec<R> extends ExtendedQueryCommandBaseCodec<R, Exte
     }
   }
 
+  @Override
+  boolean isExclusive() {
+    // The cursor is fetched once the statement is executed
+    return cmd.fetch() > 0;
+  }
+
   @Override
   void decodePayload(ByteBuf payload, int payloadLength) {
     if (statement.isCursorOpen) {
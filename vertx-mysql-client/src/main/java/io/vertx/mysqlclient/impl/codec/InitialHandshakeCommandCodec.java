@@ -52,6 +52,11 @@ class InitialHandshakeCommandCodec extends AuthenticationCommandBaseCodec<Connec
     super(cmd);
   }
 
+  @Override
+  boolean isExclusive() {
+    return true;
+  }
+
   @Override
   void decodePayload(ByteBuf payload, int payloadLength) {
     switch (status) {
@@ -28,10 +28,11 @@ import java.util.Iterator;
 public class MySQLCodec extends CombinedChannelDuplexHandler<MySQLDecoder, MySQLEncoder> {
 
   ArrayDeque<CommandCodec<?, ?>> inflight;
+  private final MySQLEncoder encoder;
 
   public MySQLCodec(MySQLSocketConnection mySQLSocketConnection) {
     inflight = new ArrayDeque<>();
-    MySQLEncoder encoder = new MySQLEncoder(inflight, mySQLSocketConnection);
+    encoder = new MySQLEncoder(inflight, mySQLSocketConnection);
     MySQLDecoder decoder = new MySQLDecoder(inflight, mySQLSocketConnection);
     init(decoder, encoder);
   }
@@ -43,7 +44,12 @@ public class MySQLCodec extends CombinedChannelDuplexHandler<MySQLDecoder, MySQL
   }
 
   private void clearInflightCommands(ChannelHandlerContext ctx, String failureMsg) {
-    for (Iterator<CommandCodec<?, ?>> it = inflight.iterator(); it.hasNext();) {
+    clearCommands(ctx, inflight, failureMsg);
+    clearCommands(ctx, encoder.deferred, failureMsg);
+  }
+
+  private static void clearCommands(ChannelHandlerContext ctx, ArrayDeque<CommandCodec<?, ?>> commands, String failureMsg) {
+    for (Iterator<CommandCodec<?, ?>> it = commands.iterator(); it.hasNext();) {
       CommandCodec<?, ?> codec = it.next();
       it.remove();
       CommandResponse<Object> failure = CommandResponse.failure(failureMsg);
@@ -24,15 +24,20 @@ import java.util.ArrayDeque;
 class MySQLEncoder extends ChannelOutboundHandlerAdapter {
 
   private final ArrayDeque<CommandCodec<?, ?>> inflight;
+  // Commands waiting for an exclusive command to complete, see CommandCodec#isExclusive()
+  final ArrayDeque<CommandCodec<?, ?>> deferred = new ArrayDeque<>();
+  private boolean encodingDeferred;
   ChannelHandlerContext chctx;
 
   int clientCapabilitiesFlag;
+  boolean pipelinedBatch;
   Charset encodingCharset;
   MySQLSocketConnection socketConnection;
 
   MySQLEncoder(ArrayDeque<CommandCodec<?, ?>> inflight, MySQLSocketConnection mySQLSocketConnection) {
     this.inflight = inflight;
     this.socketConnection = mySQLSocketConnection;
+    this.pipelinedBatch = mySQLSocketConnection.isPipelinedBatch();
   }
 
   @Override
@@ -53,14 +58,46 @@ class MySQLEncoder extends ChannelOutboundHandlerAdapter {
   void write(CommandBase<?> cmd) {
     CommandCodec<?, ?> codec = wrap(cmd);
     codec.completionHandler = resp -> {
-      CommandCodec<?, ?> c = inflight.poll();
-      resp.cmd = (CommandBase) c.cmd;
+      // A command might complete before the commands sent before it when it does not expect a response
+      inflight.remove(codec);
+      resp.cmd = (CommandBase) codec.cmd;
       chctx.fireChannelRead(resp);
+      encodeDeferred();
     };
+    if (deferred.isEmpty() && canEncode(codec)) {
+      encode(codec);
+    } else {
+      deferred.add(codec);
+    }
+  }
+
+  private boolean canEncode(CommandCodec<?, ?> codec) {
+    CommandCodec<?, ?> head = inflight.peek();
+    // An exclusive command is always the only command in flight
+    return head == null || (!head.isExclusive() && !codec.isExclusive());
+  }
+
+  private void encode(CommandCodec<?, ?> codec) {
     inflight.add(codec);
     codec.encode(this);
   }
 
+  private void encodeDeferred() {
+    if (encodingDeferred) {
+      return;
+    }
+    encodingDeferred = true;
+    try {
+      CommandCodec<?, ?> codec;
+      while ((codec = deferred.peek()) != null && canEncode(codec)) {
+        deferred.poll();
+        encode(codec);
+      }
+    } finally {
+      encodingDeferred = false;
+    }
+  }
+
   private CommandCodec<?, ?> wrap(CommandBase<?> cmd) {
     if (cmd instanceof InitialHandshakeCommand) {
       return new InitialHandshakeCommandCodec((InitialHandshakeCommand) cmd);
@@ -69,7 +106,7 @@ class MySQLEncoder extends ChannelOutboundHandlerAdapter {
     } else if (cmd instanceof ExtendedQueryCommand) {
       ExtendedQueryCommand<?> queryCmd = (ExtendedQueryCommand<?>) cmd;
       if (queryCmd.isBatch()) {
-        return new ExtendedBatchQueryCommandCodec<>(queryCmd);
+        return new ExtendedBatchQueryCommandCodec<>(queryCmd, pipelinedBatch);
       } else {
         return new ExtendedQueryCommandCodec<>(queryCmd);
       }
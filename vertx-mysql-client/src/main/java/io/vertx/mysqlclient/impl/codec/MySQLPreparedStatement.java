@@ -73,7 +73,7 @@ class MySQLPreparedStatement implements PreparedStatement {
     if (numberOfParameters != paramDescLength) {
       return ErrorMessageFactory.buildWhenArgumentsLengthNotMatched(paramDescLength, numberOfParameters);
     } else {
-      return null;
+      return ErrorMessageFactory.checkNoPrimitiveArray(values);
     }
   }
 
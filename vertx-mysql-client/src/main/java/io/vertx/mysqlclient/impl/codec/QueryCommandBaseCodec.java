@@ -179,7 +179,7 @@ abstract class QueryCommandBaseCodec<T, C extends QueryCommandBase<T>> extends C
     return (int) columnCount;
   }
 
-  private void resetIntermediaryResult() {
+  protected void resetIntermediaryResult() {
     commandHandlerState = CommandHandlerState.INIT;
     columnDefinitions = null;
     currentColumn = 0;
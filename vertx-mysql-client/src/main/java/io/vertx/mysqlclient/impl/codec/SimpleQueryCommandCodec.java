@@ -27,11 +27,16 @@ import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Supplier;
+import java.util.regex.Pattern;
 
 import static io.vertx.mysqlclient.impl.protocol.Packets.*;
 
 class SimpleQueryCommandCodec<T> extends QueryCommandBaseCodec<T, SimpleQueryCommand<T>> {
 
+  private static final Pattern LOCAL_INFILE = Pattern.compile("\\bLOAD\\s+(DATA|XML)\\b.*?\\bLOCAL\\s+INFILE\\b", Pattern.CASE_INSENSITIVE | Pattern.DOTALL);
+
+  private Boolean localInfile;
+
   SimpleQueryCommandCodec(SimpleQueryCommand<T> cmd) {
     super(cmd, DataFormat.TEXT);
   }
@@ -42,6 +47,15 @@ class SimpleQueryCommandCodec<T> extends QueryCommandBaseCodec<T, SimpleQueryCom
     sendQueryCommand();
   }
 
+  @Override
+  boolean isExclusive() {
+    // The server requests the file content of a LOAD DATA LOCAL INFILE query
+    if (localInfile == null) {
+      localInfile = LOCAL_INFILE.matcher(cmd.sql()).find();
+    }
+    return localInfile;
+  }
+
   @Override
   protected void handleInitPacket(ByteBuf payload) {
     // may receive ERR_Packet, OK_Packet, LOCAL INFILE Request, Text Resultset
@@ -28,7 +28,6 @@ import io.vertx.sqlclient.impl.codec.CommonCodec;
 
 import java.math.BigInteger;
 import java.nio.charset.Charset;
-import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -658,13 +657,11 @@ public class DataTypeCodec {
   }
 
   private static Float textDecodeFloat(int collationId, ByteBuf buffer, int index, int length) {
-    Charset charset = MySQLCollation.getJavaCharsetByCollationId(collationId);
-    return Float.parseFloat(buffer.toString(index, length, charset));
+    return CommonCodec.decodeDecStringToFloat(index, length, buffer);
   }
 
   private static Double textDecodeDouble(int collationId, ByteBuf buffer, int index, int length) {
-    Charset charset = MySQLCollation.getJavaCharsetByCollationId(collationId);
-    return Double.parseDouble(buffer.toString(index, length, charset));
+    return CommonCodec.decodeDecStringToDouble(index, length, buffer);
   }
 
   private static Long textDecodeBit(ByteBuf buffer, int index, int length) {
@@ -672,8 +669,7 @@ public class DataTypeCodec {
   }
 
   private static Number textDecodeNUMERIC(int collationId, ByteBuf buff, int index, int length) {
-    Charset charset = MySQLCollation.getJavaCharsetByCollationId(collationId);
-    return Numeric.parse(buff.toString(index, length, charset));
+    return Numeric.create(CommonCodec.decodeDecStringToBigDecimal(index, length, buff));
   }
 
   private static Object textDecodeBlobOrText(int collationId, int columnDefinitionFlags,
@@ -697,6 +693,12 @@ public class DataTypeCodec {
   }
 
   private static LocalDate textDecodeDate(int collationId, ByteBuf buffer, int index, int length) {
+    if (!hasZeroMonth(buffer, index, length)) {
+      LocalDate date = CommonCodec.decodeLocalDate(index, length, buffer);
+      if (date != null) {
+        return date;
+      }
+    }
     Charset charset = MySQLCollation.getJavaCharsetByCollationId(collationId);
     CharSequence cs = buffer.toString(index, length, charset);
     if (cs.equals("0000-00-00")) {
@@ -736,6 +738,12 @@ public class DataTypeCodec {
   }
 
   private static LocalDateTime textDecodeDateTime(int collationId, ByteBuf buffer, int index, int length) {
+    if (!hasZeroMonth(buffer, index, length)) {
+      LocalDateTime dateTime = CommonCodec.decodeLocalDateTime(index, length, buffer);
+      if (dateTime != null) {
+        return dateTime;
+      }
+    }
     Charset charset = MySQLCollation.getJavaCharsetByCollationId(collationId);
     CharSequence cs = buffer.toString(index, length, charset);
     if (cs.equals("0000-00-00 00:00:00")) {
@@ -745,33 +753,16 @@ public class DataTypeCodec {
     return LocalDateTime.parse(cs, DATETIME_FORMAT);
   }
 
+  /**
+   * @return whether the month is zero like in the zero date {@code 0000-00-00}
+   */
+  private static boolean hasZeroMonth(ByteBuf buffer, int index, int length) {
+    return length >= 10 && buffer.getByte(index + 5) == '0' && buffer.getByte(index + 6) == '0';
+  }
+
   private static Object textDecodeJson(int collationId, ByteBuf buffer, int index, int length) {
-    Charset charset = StandardCharsets.UTF_8; // MySQL JSON data type will only be UTF-8 string
-    // Try to do without the intermediary String (?)
-    CharSequence cs = buffer.getCharSequence(index, length, charset);
-    Object value = null;
-    String s = cs.toString();
-    int pos = 0;
-    while (pos < s.length() && Character.isWhitespace(s.charAt(pos))) {
-      pos++;
-    }
-    if (pos == s.length()) {
-      return null;
-    } else if (s.charAt(pos) == '{') {
-      value = new JsonObject(s);
-    } else if (s.charAt(pos) == '[') {
-      value = new JsonArray(s);
-    } else {
-      Object o = Json.decodeValue(s);
-      if (o == null) {
-        return Tuple.JSON_NULL;
-      }
-      if (o instanceof Number || o instanceof Boolean || o instanceof String) {
-        return o;
-      }
-      return null;
-    }
-    return value;
+    // MySQL JSON data type will only be UTF-8 string
+    return CommonCodec.decodeJson(index, length, buffer);
   }
 
   private static boolean isUnsignedNumeric(int columnDefinitionFlags) {
@@ -29,6 +29,7 @@ import io.vertx.mysqlclient.impl.MySQLConnectionImpl;
 import io.vertx.mysqlclient.impl.MySQLConnectionUriParser;
 import io.vertx.mysqlclient.impl.MySQLPoolImpl;
 import io.vertx.sqlclient.PoolOptions;
+import io.vertx.sqlclient.ServerTarget;
 import io.vertx.sqlclient.SqlConnectOptions;
 import io.vertx.sqlclient.impl.Connection;
 import io.vertx.sqlclient.impl.PoolImpl;
@@ -59,13 +60,26 @@ public class MySQLDriver implements Driver {
   }
 
   private PoolImpl newPoolImpl(VertxInternal vertx, List<? extends SqlConnectOptions> databases, PoolOptions options, CloseFuture closeFuture) {
+    if (options.isRouteReadsToReplicas() && databases.size() > 1) {
+      ConnectionFactory replicaFactory = newConnectionFactory(vertx, databases, new PoolOptions(options).setServerTarget(ServerTarget.PREFER_REPLICA));
+      PoolImpl replicas = newPoolImpl(vertx, databases, options, replicaFactory, closeFuture);
+      ConnectionFactory primaryFactory = newConnectionFactory(vertx, databases, new PoolOptions(options).setServerTarget(ServerTarget.PRIMARY));
+      return newPoolImpl(vertx, databases, options, primaryFactory, closeFuture).replicas(replicas, replicaFactory);
+    }
+    return newPoolImpl(vertx, databases, options, newConnectionFactory(vertx, databases, options), closeFuture);
+  }
+
+  private ConnectionFactory newConnectionFactory(VertxInternal vertx, List<? extends SqlConnectOptions> databases, PoolOptions options) {
+    List<ConnectionFactory> lst = databases.stream().map(o -> createConnectionFactory(vertx, o)).collect(Collectors.toList());
+    return ConnectionFactory.selector(lst, options);
+  }
+
+  private PoolImpl newPoolImpl(VertxInternal vertx, List<? extends SqlConnectOptions> databases, PoolOptions options, ConnectionFactory factory, CloseFuture closeFuture) {
     MySQLConnectOptions baseConnectOptions = MySQLConnectOptions.wrap(databases.get(0));
     QueryTracer tracer = vertx.tracer() == null ? null : new QueryTracer(vertx.tracer(), baseConnectOptions);
     VertxMetrics vertxMetrics = vertx.metricsSPI();
     ClientMetrics metrics = vertxMetrics != null ? vertxMetrics.createClientMetrics(baseConnectOptions.getSocketAddress(), "sql", baseConnectOptions.getMetricsName()) : null;
     PoolImpl pool = new PoolImpl(vertx, this, tracer, metrics, 1, options, null, null, closeFuture);
-    List<ConnectionFactory> lst = databases.stream().map(o -> createConnectionFactory(vertx, o)).collect(Collectors.toList());
-    ConnectionFactory factory = ConnectionFactory.roundRobinSelector(lst);
     pool.connectionProvider(factory::connect);
     pool.init();
     closeFuture.add(factory);
@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) 2011-2022 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.mysqlclient;
+
+import io.vertx.core.Vertx;
+import io.vertx.ext.unit.Async;
+import io.vertx.ext.unit.TestContext;
+import io.vertx.ext.unit.junit.VertxUnitRunner;
+import io.vertx.sqlclient.Cursor;
+import io.vertx.sqlclient.Row;
+import io.vertx.sqlclient.Tuple;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+
+@RunWith(VertxUnitRunner.class)
+public class MySQLPipeliningTest extends MySQLTestBase {
+
+  Vertx vertx;
+  MySQLConnectOptions options;
+
+  @Before
+  public void setup() {
+    vertx = Vertx.vertx();
+    options = new MySQLConnectOptions(MySQLTestBase.options).setPipeliningLimit(64);
+  }
+
+  @After
+  public void teardown(TestContext ctx) {
+    vertx.close(ctx.asyncAssertSuccess());
+  }
+
+  @Test
+  public void testOptions() {
+    MySQLConnectOptions copy = new MySQLConnectOptions(options);
+    assertEquals(64, copy.getPipeliningLimit());
+    assertEquals(64, new MySQLConnectOptions(options.toJson()).getPipeliningLimit());
+    assertEquals(MySQLConnectOptions.DEFAULT_PIPELINING_LIMIT, new MySQLConnectOptions().getPipeliningLimit());
+  }
+
+  @Test
+  public void testSimpleQueries(TestContext ctx) {
+    int num = 500;
+    Async async = ctx.async(num);
+    AtomicInteger count = new AtomicInteger();
+    MySQLConnection.connect(vertx, options, ctx.asyncAssertSuccess(conn -> {
+      for (int i = 0;i < num;i++) {
+        int val = i;
+        conn.query("SELECT " + val).execute(ctx.asyncAssertSuccess(rows -> {
+          ctx.assertEquals(val, count.getAndIncrement());
+          ctx.assertEquals(val, rows.iterator().next().getInteger(0));
+          async.countDown();
+        }));
+      }
+    }));
+  }
+
+  @Test
+  public void testPreparedQueries(TestContext ctx) {
+    int num = 500;
+    Async async = ctx.async(num);
+    MySQLConnection.connect(vertx, options.setCachePreparedStatements(true), ctx.asyncAssertSuccess(conn -> {
+      for (int i = 0;i < num;i++) {
+        int val = i;
+        conn.preparedQuery("SELECT ?").execute(Tuple.of(val), ctx.asyncAssertSuccess(rows -> {
+          ctx.assertEquals((long) val, rows.iterator().next().getLong(0));
+          async.countDown();
+        }));
+      }
+    }));
+  }
+
+  @Test
+  public void testFailureDoesNotAffectOtherQueries(TestContext ctx) {
+    Async async = ctx.async(3);
+    MySQLConnection.connect(vertx, options, ctx.asyncAssertSuccess(conn -> {
+      conn.query("SELECT 1").execute(ctx.asyncAssertSuccess(rows -> async.countDown()));
+      conn.query("SELECT FROM invalid").execute(ctx.asyncAssertFailure(err -> async.countDown()));
+      conn.query("SELECT 3").execute(ctx.asyncAssertSuccess(rows -> {
+        ctx.assertEquals(3, rows.iterator().next().getInteger(0));
+        async.countDown();
+      }));
+    }));
+  }
+
+  @Test
+  public void testExclusiveCommands(TestContext ctx) {
+    Async async = ctx.async(4);
+    MySQLConnection.connect(vertx, options, ctx.asyncAssertSuccess(conn -> {
+      conn.query("SELECT 1").execute(ctx.asyncAssertSuccess(rows -> async.countDown()));
+      conn
+        .preparedQuery("SELECT ?")
+        .executeBatch(Arrays.asList(Tuple.of(1), Tuple.of(2), Tuple.of(3)), ctx.asyncAssertSuccess(res -> {
+          int size = 0;
+          while (res != null) {
+            size++;
+            res = res.next();
+          }
+          ctx.assertEquals(3, size);
+          async.countDown();
+        }));
+      conn.prepare("SELECT * FROM immutable", ctx.asyncAssertSuccess(ps -> {
+        Cursor cursor = ps.cursor();
+        cursor.read(4, ctx.asyncAssertSuccess(rows -> {
+          ctx.assertEquals(4, rows.size());
+          cursor.close(ctx.asyncAssertSuccess(v -> async.countDown()));
+        }));
+      }));
+      conn.query("SELECT 4").execute(ctx.asyncAssertSuccess(rows -> {
+        Row row = rows.iterator().next();
+        ctx.assertEquals(4, row.getInteger(0));
+        async.countDown();
+      }));
+    }));
+  }
+
+  @Test
+  public void testPipelinedBatch(TestContext ctx) {
+    int num = 1000;
+    List<Tuple> batch = new ArrayList<>();
+    for (int i = 0;i < num;i++) {
+      batch.add(Tuple.of(i));
+    }
+    MySQLConnection.connect(vertx, options.setPipelinedBatch(true), ctx.asyncAssertSuccess(conn -> {
+      conn.query("SELECT 1").execute(ctx.asyncAssertSuccess());
+      conn.preparedQuery("SELECT ?").executeBatch(batch, ctx.asyncAssertSuccess(res -> {
+        for (int i = 0;i < num;i++) {
+          ctx.assertEquals((long) i, res.iterator().next().getLong(0));
+          res = res.next();
+        }
+        ctx.assertNull(res);
+        conn.query("SELECT 2").execute(ctx.asyncAssertSuccess(rows -> {
+          ctx.assertEquals(2, rows.iterator().next().getInteger(0));
+          conn.close();
+        }));
+      }));
+    }));
+  }
+
+  @Test
+  public void testPipelinedBatchFailure(TestContext ctx) {
+    MySQLConnection.connect(vertx, options.setPipelinedBatch(true), ctx.asyncAssertSuccess(conn -> {
+      conn.query("CREATE TEMPORARY TABLE pipelined_batch (id INT PRIMARY KEY)").execute(ctx.asyncAssertSuccess(v -> {
+        List<Tuple> batch = Arrays.asList(Tuple.of(1), Tuple.of(1), Tuple.of(2), Tuple.of(2), Tuple.of(3));
+        conn.preparedQuery("INSERT INTO pipelined_batch (id) VALUES (?)").executeBatch(batch, ctx.asyncAssertFailure(err -> {
+          ctx.assertTrue(err instanceof MySQLException);
+          // The executions following the failure are executed as well
+          conn.query("SELECT COUNT(*) FROM pipelined_batch").execute(ctx.asyncAssertSuccess(rows -> {
+            ctx.assertEquals(3L, rows.iterator().next().getLong(0));
+            conn.close();
+          }));
+        }));
+      }));
+    }));
+  }
+}
@@ -47,7 +47,7 @@ public class OracleRow extends ArrayTuple implements Row {
     if (name == null) {
       throw new NullPointerException();
     }
-    return desc.columnNames().indexOf(name.toUpperCase());
+    return desc.columnIndex(name.toUpperCase());
   }
 
   @Override
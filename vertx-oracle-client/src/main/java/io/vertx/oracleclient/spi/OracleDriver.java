@@ -42,6 +42,9 @@ public class OracleDriver implements Driver {
 
   @Override
   public Pool newPool(Vertx vertx, List<? extends SqlConnectOptions> databases, PoolOptions options, CloseFuture closeFuture) {
+    if (options.isRouteReadsToReplicas()) {
+      throw new IllegalArgumentException("Routing the reads to the replicas is not supported by the Oracle client");
+    }
     VertxInternal vx = (VertxInternal) vertx;
     PoolImpl pool;
     if (options.isShared()) {
@@ -61,7 +64,7 @@ public class OracleDriver implements Driver {
     Function<Connection, Future<Void>> beforeRecycle = conn -> ((CommandHandler) conn).beforeRecycle();
     PoolImpl pool = new PoolImpl(vertx, this, tracer, metrics, 1, options, afterAcquire, beforeRecycle, closeFuture);
     List<ConnectionFactory> lst = databases.stream().map(o -> createConnectionFactory(vertx, o)).collect(Collectors.toList());
-    ConnectionFactory factory = ConnectionFactory.roundRobinSelector(lst);
+    ConnectionFactory factory = ConnectionFactory.selector(lst, options);
     pool.connectionProvider(factory::connect);
     pool.init();
     closeFuture.add(factory);
@@ -19,7 +19,10 @@ package examples;
 
 import io.vertx.core.Future;
 import io.vertx.core.Vertx;
+import io.vertx.core.file.AsyncFile;
+import io.vertx.core.file.OpenOptions;
 import io.vertx.core.json.JsonObject;
+import io.vertx.core.streams.ReadStream;
 import io.vertx.core.net.PemTrustOptions;
 import io.vertx.docgen.Source;
 import io.vertx.pgclient.PgConnectOptions;
@@ -27,14 +30,19 @@ import io.vertx.pgclient.PgConnection;
 import io.vertx.pgclient.PgPool;
 import io.vertx.pgclient.SslMode;
 import io.vertx.pgclient.pubsub.PgSubscriber;
+import io.vertx.pgclient.spi.PgTypeCodec;
 import io.vertx.sqlclient.*;
 import io.vertx.sqlclient.data.Numeric;
+import io.vertx.sqlclient.metrics.PoolMetricsSnapshot;
+import io.vertx.sqlclient.metrics.StatementMetricsSnapshot;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collector;
 import java.util.stream.Collectors;
 
@@ -268,6 +276,103 @@ public class PgClientExamples {
     Future<RowSet<Row>> res2 = pool.query(sql).execute();
   }
 
+  public void leastLoadedPooledClient(Vertx vertx, PgConnectOptions connectOptions) {
+
+    // Route each command to the connection with the lowest expected delay
+    PoolOptions poolOptions = new PoolOptions()
+      .setMaxSize(4)
+      .setConnectionSelection(ConnectionSelection.LEAST_LOADED);
+
+    SqlClient pooledClient = PgPool.client(vertx, connectOptions, poolOptions);
+  }
+
+  public void poolMetrics(Vertx vertx, PgConnectOptions connectOptions) {
+
+    // Record the pool metrics
+    PoolOptions poolOptions = new PoolOptions()
+      .setMaxSize(4)
+      .setMetricsEnabled(true);
+
+    PgPool pool = PgPool.pool(vertx, connectOptions, poolOptions);
+
+    // Later
+    PoolMetricsSnapshot metrics = pool.metrics();
+    System.out.println("Pool wait p99: " + metrics.getPoolWait().getValueAtPercentile(99) + "ns");
+    for (StatementMetricsSnapshot statement : metrics.getStatements()) {
+      System.out.println(statement.getSql() + " p99: " + statement.getServerTime().getValueAtPercentile(99) + "ns");
+    }
+  }
+
+  public void poolWarmUp(Vertx vertx, PgConnectOptions connectOptions) {
+
+    // Keep at least 2 connections in the pool
+    PoolOptions poolOptions = new PoolOptions()
+      .setMaxSize(8)
+      .setMinSize(2);
+
+    PgPool pool = PgPool.pool(vertx, connectOptions, poolOptions);
+
+    // Establish the connections before serving traffic
+    pool
+      .warmUp()
+      .onSuccess(v -> System.out.println("Pool ready"));
+  }
+
+  public void poolMaxLifetime(Vertx vertx, PgConnectOptions connectOptions) {
+
+    // Rotate the pooled connections every 30 minutes
+    PoolOptions poolOptions = new PoolOptions()
+      .setMaxSize(4)
+      .setMaxLifetime(30)
+      .setMaxLifetimeUnit(TimeUnit.MINUTES);
+
+    PgPool pool = PgPool.pool(vertx, connectOptions, poolOptions);
+  }
+
+  public void poolAdaptiveSize(Vertx vertx, PgConnectOptions connectOptions) {
+
+    // Between 2 and 20 connections depending on the load
+    PoolOptions poolOptions = new PoolOptions()
+      .setMinSize(2)
+      .setMaxSize(20)
+      .setAdaptiveSize(true);
+
+    PgPool pool = PgPool.pool(vertx, connectOptions, poolOptions);
+  }
+
+  public void poolServerSelection(Vertx vertx) {
+
+    PgConnectOptions server1 = new PgConnectOptions().setHost("db1.example.com");
+    PgConnectOptions server2 = new PgConnectOptions().setHost("db2.example.com");
+    PgConnectOptions server3 = new PgConnectOptions().setHost("db3.example.com");
+
+    // Connect to the replicas, an unreachable server is ejected from 1 second up to 1 minute
+    PoolOptions poolOptions = new PoolOptions()
+      .setMaxSize(4)
+      .setServerTarget(ServerTarget.REPLICA)
+      .setServerEjectionTime(1000)
+      .setMaxServerEjectionTime(60000);
+
+    PgPool pool = PgPool.pool(vertx, Arrays.asList(server1, server2, server3), poolOptions);
+  }
+
+  public void poolReadReplicas(Vertx vertx, List<PgConnectOptions> servers) {
+
+    // Route the reads to the replicas, unless they lag more than 5 seconds
+    PoolOptions poolOptions = new PoolOptions()
+      .setMaxSize(4)
+      .setRouteReadsToReplicas(true)
+      .setReplicaStickiness(1000)
+      .setMaxReplicaLag(5000);
+
+    PgPool pool = PgPool.pool(vertx, servers, poolOptions);
+
+    // A SELECT calling a function that writes must be executed by the primary
+    pool
+      .preparedQuery("SELECT archive_orders($1)", new PrepareOptions().setReadOnly(false))
+      .execute(Tuple.of(30));
+  }
+
   public void unixDomainSockets(Vertx vertx) {
 
     // Connect Options
@@ -491,6 +596,20 @@ public class PgClientExamples {
     String[] array = tuple.getArrayOfStrings(0);
   }
 
+  public void primitiveArrayExample(SqlClient client, long[] ids) {
+    client
+      .preparedQuery("SELECT embedding FROM items WHERE id = ANY($1)")
+      .execute(Tuple.tuple().addLongArray(ids), ar -> {
+        if (ar.succeeded()) {
+          for (Row row : ar.result()) {
+            double[] embedding = row.getDoubleArray("embedding");
+          }
+        } else {
+          System.out.println("Failure: " + ar.cause().getMessage());
+        }
+      });
+  }
+
   public void infinitySpecialValue(SqlClient client) {
     client
       .query("SELECT 'infinity'::DATE \"LocalDate\"")
@@ -532,6 +651,25 @@ public class PgClientExamples {
     });
   }
 
+  public void typeCodecExample(Vertx vertx, PgConnectOptions connectOptions, PoolOptions poolOptions) {
+    connectOptions
+      .addTypeCodec(PgTypeCodec.hstore())
+      .addTypeCodec(PgTypeCodec.enumType("color", Color.class));
+    PgPool client = PgPool.pool(vertx, connectOptions, poolOptions);
+    Map<String, String> attributes = new HashMap<>();
+    attributes.put("size", "XL");
+    client
+      .preparedQuery("INSERT INTO products (color, attributes) VALUES ($1, $2) RETURNING attributes")
+      .execute(Tuple.of(Color.red, attributes), ar -> {
+        if (ar.succeeded()) {
+          Row row = ar.result().iterator().next();
+          Map<String, String> inserted = (Map<String, String>) row.getValue("attributes");
+        } else {
+          System.out.println("Failure: " + ar.cause().getMessage());
+        }
+      });
+  }
+
 
   public void tsQuery01Example(SqlClient client) {
     client
@@ -638,6 +776,94 @@ public class PgClientExamples {
       });
   }
 
+  public void columnarRowSetExample(SqlClient client) {
+
+    // Decode the rows straight into column arrays
+    client.query("SELECT id, amount FROM orders").collecting(ColumnarRowSet.collector()).execute(ar -> {
+        if (ar.succeeded()) {
+          ColumnarRowSet columns = ar.result().value();
+
+          // Sum a column without creating rows
+          int amount = columns.columnIndex("amount");
+          long[] amounts = columns.longColumn(amount);
+          long total = 0;
+          for (int i = 0;i < columns.size();i++) {
+            total += amounts[i];
+          }
+          System.out.println("Got " + columns.size() + " orders for a total of " + total);
+        } else {
+          System.out.println("Failure: " + ar.cause().getMessage());
+        }
+      });
+  }
+
+  public void copyFromExample(Vertx vertx, PgConnection connection) {
+
+    // Stream a CSV file to the server
+    vertx.fileSystem().open("orders.csv", new OpenOptions().setRead(true), ar1 -> {
+      if (ar1.succeeded()) {
+        AsyncFile file = ar1.result();
+        connection.copyFrom("COPY orders FROM STDIN (FORMAT csv)", file, ar2 -> {
+          if (ar2.succeeded()) {
+            System.out.println("Copied " + ar2.result() + " rows");
+          } else {
+            System.out.println("Failure: " + ar2.cause().getMessage());
+          }
+        });
+      }
+    });
+  }
+
+  public void copyFromBinaryExample(PgConnection connection, ReadStream<Tuple> orders) {
+
+    // Each tuple value must have the Java type of its column
+    connection.copyFromBinary("COPY orders (id, amount) FROM STDIN (FORMAT binary)", orders, ar -> {
+      if (ar.succeeded()) {
+        System.out.println("Copied " + ar.result() + " rows");
+      } else {
+        System.out.println("Failure: " + ar.cause().getMessage());
+      }
+    });
+  }
+
+  public void copyToExample(Vertx vertx, PgConnection connection) {
+
+    // Stream a table to a file
+    vertx.fileSystem().open("orders.csv", new OpenOptions().setWrite(true), ar -> {
+      if (ar.succeeded()) {
+        AsyncFile file = ar.result();
+        connection
+          .copyTo("COPY orders TO STDOUT (FORMAT csv)")
+          .pipeTo(file, res -> System.out.println("Export done"));
+      }
+    });
+  }
+
+  public void lazyRowDecodingExample(Vertx vertx) {
+
+    // Decode the column values when they are accessed
+    PgConnectOptions connectOptions = new PgConnectOptions()
+      .setPort(5432)
+      .setHost("the-host")
+      .setDatabase("the-db")
+      .setUser("user")
+      .setPassword("secret")
+      .setLazyRowDecoding(true);
+
+    PgPool pool = PgPool.pool(vertx, connectOptions, new PoolOptions());
+
+    pool
+      .query("SELECT * FROM orders")
+      .execute(ar -> {
+        if (ar.succeeded()) {
+          for (Row row : ar.result()) {
+            // Only these two columns are decoded
+            System.out.println(row.getLong("id") + " " + row.getString("status"));
+          }
+        }
+      });
+  }
+
   public void cancelRequest(PgConnection connection) {
     connection
       .query("SELECT pg_sleep(20)")
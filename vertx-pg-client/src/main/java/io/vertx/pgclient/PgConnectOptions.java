@@ -20,15 +20,19 @@ package io.vertx.pgclient;
 import io.vertx.codegen.annotations.GenIgnore;
 import io.vertx.core.tracing.TracingPolicy;
 import io.vertx.pgclient.impl.PgConnectionUriParser;
+import io.vertx.pgclient.spi.PgTypeCodec;
 import io.vertx.codegen.annotations.DataObject;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.json.JsonObject;
 import io.vertx.core.net.*;
 import io.vertx.sqlclient.SqlConnectOptions;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Predicate;
@@ -111,6 +115,8 @@ public class PgConnectOptions extends SqlConnectOptions {
   public static final String DEFAULT_PASSWORD = "pass";
   public static final int DEFAULT_PIPELINING_LIMIT = 256;
   public static final SslMode DEFAULT_SSLMODE = SslMode.DISABLE;
+  public static final boolean DEFAULT_LAZY_ROW_DECODING = false;
+  public static final boolean DEFAULT_PIPELINED_PREPARE = false;
   public static final Map<String, String> DEFAULT_PROPERTIES;
 
   static {
@@ -124,6 +130,9 @@ public class PgConnectOptions extends SqlConnectOptions {
 
   private int pipeliningLimit = DEFAULT_PIPELINING_LIMIT;
   private SslMode sslMode = DEFAULT_SSLMODE;
+  private boolean lazyRowDecoding = DEFAULT_LAZY_ROW_DECODING;
+  private boolean pipelinedPrepare = DEFAULT_PIPELINED_PREPARE;
+  private List<PgTypeCodec<?>> typeCodecs = new ArrayList<>();
 
   public PgConnectOptions() {
     super();
@@ -140,6 +149,9 @@ public class PgConnectOptions extends SqlConnectOptions {
       PgConnectOptions opts = (PgConnectOptions) other;
       pipeliningLimit = opts.pipeliningLimit;
       sslMode = opts.sslMode;
+      lazyRowDecoding = opts.lazyRowDecoding;
+      pipelinedPrepare = opts.pipelinedPrepare;
+      typeCodecs = new ArrayList<>(opts.typeCodecs);
     }
   }
 
@@ -147,6 +159,9 @@ public class PgConnectOptions extends SqlConnectOptions {
     super(other);
     pipeliningLimit = other.pipeliningLimit;
     sslMode = other.sslMode;
+    lazyRowDecoding = other.lazyRowDecoding;
+    pipelinedPrepare = other.pipelinedPrepare;
+    typeCodecs = new ArrayList<>(other.typeCodecs);
   }
 
   @Override
@@ -186,6 +201,78 @@ public class PgConnectOptions extends SqlConnectOptions {
     return this;
   }
 
+  /**
+   * @return whether rows are lazily decoded
+   */
+  public boolean isLazyRowDecoding() {
+    return lazyRowDecoding;
+  }
+
+  /**
+   * Set whether rows are lazily decoded.
+   * <p>
+   * When enabled, a row keeps the raw column bytes and decodes a column value only when it is accessed. This
+   * saves the decoding work of the columns that are never read, e.g when a query returns a wide row and
+   * only a few columns are used. A value that cannot be decoded fails when it is accessed instead of failing the query.
+   *
+   * @param lazyRowDecoding {@code true} to decode rows lazily
+   * @return a reference to this, so the API can be used fluently
+   */
+  public PgConnectOptions setLazyRowDecoding(boolean lazyRowDecoding) {
+    this.lazyRowDecoding = lazyRowDecoding;
+    return this;
+  }
+
+  /**
+   * @return whether a statement to cache is prepared along with its first execution
+   */
+  public boolean isPipelinedPrepare() {
+    return pipelinedPrepare;
+  }
+
+  /**
+   * Set whether a statement to cache is prepared, described and executed in a single exchange instead of waiting
+   * for the response of a prepare command, when its parameters are {@code null}, {@code Boolean}, {@code Short},
+   * {@code Integer}, {@code Long} or {@code UUID} values. It only applies when the prepared statements are cached.
+   * <p>
+   * The first execution sends the parameters in text format and returns the rows in text format, since the parameter
+   * and the column types are not known yet. The server infers the parameter types, so a parameter which does not
+   * match its type is not rejected by the client, e.g an {@code Integer} bound to a {@code VARCHAR} parameter is
+   * accepted. The next executions use the cached description and the binary format. It does not apply when
+   * {@link #addTypeCodec type codecs} are configured.
+   *
+   * @param pipelinedPrepare {@code true} to prepare a statement along with its first execution
+   * @return a reference to this, so the API can be used fluently
+   */
+  public PgConnectOptions setPipelinedPrepare(boolean pipelinedPrepare) {
+    this.pipelinedPrepare = pipelinedPrepare;
+    return this;
+  }
+
+  /**
+   * @return the codecs of the PostgreSQL types the client does not know
+   */
+  @GenIgnore
+  public List<PgTypeCodec<?>> getTypeCodecs() {
+    return typeCodecs;
+  }
+
+  /**
+   * Add a codec exchanging the values of a PostgreSQL type the client does not know in the binary format, e.g an
+   * enum, a composite type or a type defined by an extension such as {@code hstore}.
+   * <p>
+   * The OID of the type is resolved by name when a connection is established and is cached by the pool, a codec of
+   * a type the client knows is ignored.
+   *
+   * @param codec the codec
+   * @return a reference to this, so the API can be used fluently
+   */
+  @GenIgnore
+  public PgConnectOptions addTypeCodec(PgTypeCodec<?> codec) {
+    typeCodecs.add(Objects.requireNonNull(codec));
+    return this;
+  }
+
   public PgConnectOptions setCachePreparedStatements(boolean cachePreparedStatements) {
     return (PgConnectOptions) super.setCachePreparedStatements(cachePreparedStatements);
   }
@@ -493,6 +580,8 @@ public class PgConnectOptions extends SqlConnectOptions {
 
     if (pipeliningLimit != that.pipeliningLimit) return false;
     if (sslMode != that.sslMode) return false;
+    if (lazyRowDecoding != that.lazyRowDecoding) return false;
+    if (pipelinedPrepare != that.pipelinedPrepare) return false;
 
     return true;
   }
@@ -502,6 +591,8 @@ public class PgConnectOptions extends SqlConnectOptions {
     int result = super.hashCode();
     result = 31 * result + pipeliningLimit;
     result = 31 * result + sslMode.hashCode();
+    result = 31 * result + (lazyRowDecoding ? 1 : 0);
+    result = 31 * result + (pipelinedPrepare ? 1 : 0);
     return result;
   }
 
@@ -21,9 +21,12 @@ import io.vertx.core.impl.ContextInternal;
 import io.vertx.pgclient.impl.PgConnectionImpl;
 import io.vertx.sqlclient.PreparedStatement;
 import io.vertx.sqlclient.SqlConnection;
+import io.vertx.sqlclient.Tuple;
 import io.vertx.codegen.annotations.Fluent;
 import io.vertx.codegen.annotations.VertxGen;
 import io.vertx.core.*;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.streams.ReadStream;
 
 /**
  * A connection to Postgres.
@@ -125,6 +128,55 @@ public interface PgConnection extends SqlConnection {
    */
   int secretKey();
 
+  /**
+   * Execute a {@code COPY ... FROM STDIN} statement and send the content of the {@code source} stream.
+   * <p>
+   * The source is paused until the server is ready to receive the data and then piped to the connection: it is
+   * paused when the data is not sent fast enough. The copy is aborted when the source fails. Other queries
+   * scheduled on this connection are sent after the data.
+   *
+   * @param sql the {@code COPY} statement
+   * @param source the data, in the format of the statement
+   * @param handler the handler called with the number of copied rows
+   */
+  @Fluent
+  PgConnection copyFrom(String sql, ReadStream<Buffer> source, Handler<AsyncResult<Long>> handler);
+
+  /**
+   * Like {@link #copyFrom(String, ReadStream, Handler)} but returns a {@code Future} of the asynchronous result
+   */
+  Future<Long> copyFrom(String sql, ReadStream<Buffer> source);
+
+  /**
+   * Execute a {@code COPY ... FROM STDIN (FORMAT binary)} statement and send the tuples of the {@code source} stream
+   * in the binary format.
+   * <p>
+   * The type of a value is inferred from its Java class, each value must have the Java type of its column,
+   * e.g. a {@code Long} for a {@code bigint} column or a {@code LocalDate} for a {@code date} column.
+   *
+   * @param sql the {@code COPY} statement
+   * @param source the tuples
+   * @param handler the handler called with the number of copied rows
+   */
+  @Fluent
+  PgConnection copyFromBinary(String sql, ReadStream<Tuple> source, Handler<AsyncResult<Long>> handler);
+
+  /**
+   * Like {@link #copyFromBinary(String, ReadStream, Handler)} but returns a {@code Future} of the asynchronous result
+   */
+  Future<Long> copyFromBinary(String sql, ReadStream<Tuple> source);
+
+  /**
+   * Execute a {@code COPY ... TO STDOUT} statement and stream the data sent by the server.
+   * <p>
+   * The statement is executed when a handler is set on the returned stream. The connection stops reading from the
+   * socket when the stream is paused and its buffer is full.
+   *
+   * @param sql the {@code COPY} statement
+   * @return the data stream
+   */
+  ReadStream<Buffer> copyTo(String sql);
+
   /**
    * {@inheritDoc}
    */
@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2011-2022 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.pgclient.impl;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Handler;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.impl.ContextInternal;
+import io.vertx.core.streams.ReadStream;
+import io.vertx.core.streams.impl.InboundBuffer;
+import io.vertx.pgclient.impl.command.CopyOutCommand;
+
+/**
+ * The data of a {@code COPY ... TO STDOUT} statement.
+ * <p>
+ * The statement is executed when the handler is set. The data is buffered on the connection context and
+ * the socket is not read anymore when the buffer is full, until it is drained.
+ */
+class CopyOutStream implements ReadStream<Buffer> {
+
+  private final PgConnectionImpl conn;
+  private final ContextInternal context;
+  private final CopyOutCommand cmd;
+  private final InboundBuffer<Buffer> pending;
+  private Handler<Throwable> exceptionHandler;
+  private Handler<Void> endHandler;
+  private boolean started;
+  private boolean ended;
+
+  CopyOutStream(PgConnectionImpl conn, ContextInternal context, String sql) {
+    this.conn = conn;
+    this.context = context;
+    this.cmd = new CopyOutCommand(sql, data -> context.execute(data, this::handleData));
+    this.pending = new InboundBuffer<>(context);
+    pending.drainHandler(v -> cmd.resume());
+    pending.emptyHandler(v -> checkEnd());
+  }
+
+  private void handleData(Buffer data) {
+    if (!pending.write(data)) {
+      cmd.pause();
+    }
+  }
+
+  private void handleResult(AsyncResult<Long> ar) {
+    if (ar.succeeded()) {
+      synchronized (this) {
+        ended = true;
+      }
+      checkEnd();
+    } else {
+      Handler<Throwable> handler;
+      synchronized (this) {
+        handler = exceptionHandler;
+      }
+      pending.clear();
+      if (handler != null) {
+        handler.handle(ar.cause());
+      }
+    }
+  }
+
+  private void checkEnd() {
+    Handler<Void> handler;
+    synchronized (this) {
+      if (!ended || !pending.isEmpty()) {
+        return;
+      }
+      ended = false;
+      handler = endHandler;
+    }
+    if (handler != null) {
+      handler.handle(null);
+    }
+  }
+
+  @Override
+  public synchronized ReadStream<Buffer> exceptionHandler(Handler<Throwable> handler) {
+    exceptionHandler = handler;
+    return this;
+  }
+
+  @Override
+  public ReadStream<Buffer> handler(Handler<Buffer> handler) {
+    boolean start;
+    synchronized (this) {
+      start = handler != null && !started;
+      if (start) {
+        started = true;
+      }
+    }
+    pending.handler(handler);
+    if (start) {
+      conn.schedule(context, cmd).onComplete(this::handleResult);
+    }
+    return this;
+  }
+
+  @Override
+  public ReadStream<Buffer> pause() {
+    pending.pause();
+    return this;
+  }
+
+  @Override
+  public ReadStream<Buffer> resume() {
+    return fetch(Long.MAX_VALUE);
+  }
+
+  @Override
+  public ReadStream<Buffer> fetch(long amount) {
+    pending.fetch(amount);
+    return this;
+  }
+
+  @Override
+  public synchronized ReadStream<Buffer> endHandler(Handler<Void> handler) {
+    endHandler = handler;
+    return this;
+  }
+}
@@ -32,6 +32,8 @@ import io.vertx.core.net.TrustOptions;
 import io.vertx.core.net.impl.NetSocketInternal;
 import io.vertx.pgclient.PgConnectOptions;
 import io.vertx.pgclient.SslMode;
+import io.vertx.pgclient.impl.codec.PgStatementMetadataCache;
+import io.vertx.pgclient.impl.codec.PgTypeRegistry;
 import io.vertx.sqlclient.SqlConnectOptions;
 import io.vertx.sqlclient.SqlConnection;
 import io.vertx.sqlclient.impl.Connection;
@@ -45,6 +47,10 @@ public class PgConnectionFactory extends ConnectionFactoryBase {
 
   private SslMode sslMode;
   private int pipeliningLimit;
+  private boolean lazyRowDecoding;
+  private boolean pipelinedPrepare;
+  private PgStatementMetadataCache metadataCache;
+  private PgTypeRegistry typeRegistry;
 
   public PgConnectionFactory(VertxInternal context, PgConnectOptions options) {
     super(context, options);
@@ -54,6 +60,11 @@ public class PgConnectionFactory extends ConnectionFactoryBase {
   protected void initializeConfiguration(SqlConnectOptions connectOptions) {
     PgConnectOptions options = (PgConnectOptions) connectOptions;
     this.pipeliningLimit = options.getPipeliningLimit();
+    this.lazyRowDecoding = options.isLazyRowDecoding();
+    this.pipelinedPrepare = options.isPipelinedPrepare();
+    // Shared by the connections of a pool
+    this.metadataCache = options.getCachePreparedStatements() ? new PgStatementMetadataCache(options.getPreparedStatementCacheMaxSize()) : null;
+    this.typeRegistry = options.getTypeCodecs().isEmpty() ? null : new PgTypeRegistry(options.getTypeCodecs());
     this.sslMode = options.isUsingDomainSocket() ? SslMode.DISABLE : options.getSslMode();
 
     // check ssl mode here
@@ -83,6 +94,7 @@ public class PgConnectionFactory extends ConnectionFactoryBase {
       PgSocketConnection socket = (PgSocketConnection) conn;
       socket.init();
       return Future.<Connection>future(p -> socket.sendStartupMessage(username, password, database, properties, p))
+        .flatMap(v -> socket.resolveTypes())
         .map(conn);
     });
   }
@@ -161,7 +173,29 @@ public class PgConnectionFactory extends ConnectionFactoryBase {
     return promise.future();
   }
 
+  @Override
+  public boolean supportsReadOnly() {
+    return true;
+  }
+
+  @Override
+  public Future<Boolean> isReadOnly(SqlConnection connection) {
+    return connection
+      .query("SHOW transaction_read_only")
+      .execute()
+      .map(rows -> "on".equals(rows.iterator().next().getString(0)));
+  }
+
+  @Override
+  public Future<Long> replicationLag(SqlConnection connection) {
+    return connection
+      .query("SELECT COALESCE(CASE WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0" +
+        " ELSE EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000 END, 0)::BIGINT")
+      .execute()
+      .map(rows -> rows.iterator().next().getLong(0));
+  }
+
   private PgSocketConnection newSocketConnection(EventLoopContext context, NetSocketInternal socket) {
-    return new PgSocketConnection(socket, cachePreparedStatements, preparedStatementCacheSize, preparedStatementCacheSqlFilter, pipeliningLimit, context);
+    return new PgSocketConnection(socket, cachePreparedStatements, preparedStatementCacheSize, preparedStatementCacheSqlFilter, pipeliningLimit, lazyRowDecoding, pipelinedPrepare, metadataCache, typeRegistry, context);
   }
 }
@@ -30,6 +30,12 @@ import io.vertx.core.Context;
 import io.vertx.core.Future;
 import io.vertx.core.Handler;
 import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.streams.Pipe;
+import io.vertx.core.streams.ReadStream;
+import io.vertx.pgclient.impl.codec.CopyBinaryEncoder;
+import io.vertx.pgclient.impl.command.CopyInCommand;
+import io.vertx.sqlclient.Tuple;
 import io.vertx.pgclient.impl.codec.TxFailedEvent;
 import io.vertx.sqlclient.impl.tracing.QueryTracer;
 
@@ -79,6 +85,41 @@ public class PgConnectionImpl extends SqlConnectionBase<PgConnectionImpl> implem
     }
   }
 
+  @Override
+  public PgConnection copyFrom(String sql, ReadStream<Buffer> source, Handler<AsyncResult<Long>> handler) {
+    Future<Long> fut = copyFrom(sql, source);
+    if (handler != null) {
+      fut.onComplete(handler);
+    }
+    return this;
+  }
+
+  @Override
+  public Future<Long> copyFrom(String sql, ReadStream<Buffer> source) {
+    // Pause the source until the server is ready
+    Pipe<Buffer> pipe = source.pipe();
+    return schedule(context, new CopyInCommand(sql, pipe, context));
+  }
+
+  @Override
+  public PgConnection copyFromBinary(String sql, ReadStream<Tuple> source, Handler<AsyncResult<Long>> handler) {
+    Future<Long> fut = copyFromBinary(sql, source);
+    if (handler != null) {
+      fut.onComplete(handler);
+    }
+    return this;
+  }
+
+  @Override
+  public Future<Long> copyFromBinary(String sql, ReadStream<Tuple> source) {
+    return copyFrom(sql, new CopyBinaryEncoder(source));
+  }
+
+  @Override
+  public ReadStream<Buffer> copyTo(String sql) {
+    return new CopyOutStream(this, context, sql);
+  }
+
   @Override
   public int processId() {
     return conn.getProcessId();
@@ -28,19 +28,29 @@ import io.vertx.core.impl.EventLoopContext;
 import io.vertx.core.net.impl.NetSocketInternal;
 import io.vertx.pgclient.PgException;
 import io.vertx.pgclient.impl.codec.PgCodec;
+import io.vertx.pgclient.impl.codec.PgStatementMetadataCache;
+import io.vertx.pgclient.impl.codec.PgTypeRegistry;
 import io.vertx.pgclient.impl.codec.TxFailedEvent;
+import io.vertx.sqlclient.PropertyKind;
+import io.vertx.sqlclient.Row;
 import io.vertx.sqlclient.impl.*;
 import io.vertx.sqlclient.impl.command.*;
 import io.vertx.sqlclient.spi.DatabaseMetadata;
 
+import java.util.List;
 import java.util.Map;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 /**
  * @author <a href="mailto:julien@julienviet.com">Julien Viet</a>
  */
 public class PgSocketConnection extends SocketConnectionBase {
 
+  private final boolean lazyRowDecoding;
+  private final boolean pipelinedPrepare;
+  private final PgStatementMetadataCache metadataCache;
+  private final PgTypeRegistry typeRegistry;
   private PgCodec codec;
   public int processId;
   public int secretKey;
@@ -51,13 +61,21 @@ public class PgSocketConnection extends SocketConnectionBase {
                             int preparedStatementCacheSize,
                             Predicate<String> preparedStatementCacheSqlFilter,
                             int pipeliningLimit,
+                            boolean lazyRowDecoding,
+                            boolean pipelinedPrepare,
+                            PgStatementMetadataCache metadataCache,
+                            PgTypeRegistry typeRegistry,
                             EventLoopContext context) {
     super(socket, cachePreparedStatements, preparedStatementCacheSize, preparedStatementCacheSqlFilter, pipeliningLimit, context);
+    this.lazyRowDecoding = lazyRowDecoding;
+    this.pipelinedPrepare = pipelinedPrepare;
+    this.metadataCache = metadataCache;
+    this.typeRegistry = typeRegistry;
   }
 
   @Override
   public void init() {
-    codec = new PgCodec();
+    codec = new PgCodec(lazyRowDecoding, metadataCache, typeRegistry);
     ChannelPipeline pipeline = socket.channelHandlerContext().pipeline();
     pipeline.addBefore("handler", "codec", codec);
     super.init();
@@ -69,6 +87,35 @@ public class PgSocketConnection extends SocketConnectionBase {
     schedule(context, cmd).onComplete(completionHandler);
   }
 
+  /**
+   * Resolve the OIDs of the types of the registry, a failure is logged and leaves the types unresolved.
+   */
+  Future<Void> resolveTypes() {
+    if (typeRegistry == null || typeRegistry.isResolved()) {
+      return context.succeededFuture();
+    }
+    SimpleQueryCommand<List<Row>> cmd = new SimpleQueryCommand<>(
+      typeRegistry.resolveQuery(),
+      false,
+      false,
+      Collectors.toList(),
+      new QueryResultHandler<List<Row>>() {
+        @Override
+        public <V> void addProperty(PropertyKind<V> property, V value) {
+        }
+        @Override
+        public void handleResult(int updatedCount, int size, RowDesc desc, List<Row> result, Throwable failure) {
+          if (failure == null && result.size() == 1) {
+            typeRegistry.resolve(result.get(0));
+          }
+        }
+      });
+    return schedule(context, cmd).<Void>mapEmpty().recover(err -> {
+      logger.warn("Could not resolve the PostgreSQL types of the codecs", err);
+      return context.succeededFuture();
+    });
+  }
+
   void sendCancelRequestMessage(int processId, int secretKey, Handler<AsyncResult<Void>> handler) {
     Buffer buffer = Buffer.buffer(16);
     buffer.appendInt(16);
@@ -110,6 +157,16 @@ public class PgSocketConnection extends SocketConnectionBase {
     }
   }
 
+  @Override
+  protected PreparedStatement sharedStatement(String sql) {
+    return codec.sharedStatement(sql);
+  }
+
+  @Override
+  protected PreparedStatement unpreparedStatement(ExtendedQueryCommand<?> cmd) {
+    return pipelinedPrepare ? codec.unpreparedStatement(cmd) : null;
+  }
+
   private void handleNotice(Notice notice) {
     notice.log(logger);
   }
@@ -17,6 +17,8 @@
 
 package io.vertx.pgclient.impl;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 import io.vertx.pgclient.data.Box;
@@ -24,6 +26,7 @@ import io.vertx.pgclient.data.Circle;
 import io.vertx.pgclient.data.Line;
 import io.vertx.pgclient.data.LineSegment;
 import io.vertx.sqlclient.Row;
+import io.vertx.sqlclient.desc.ColumnDescriptor;
 import io.vertx.sqlclient.data.Numeric;
 import io.vertx.pgclient.data.Path;
 import io.vertx.pgclient.data.Polygon;
@@ -31,16 +34,30 @@ import io.vertx.pgclient.data.Interval;
 import io.vertx.pgclient.data.Point;
 import io.vertx.sqlclient.impl.ArrayTuple;
 import io.vertx.sqlclient.impl.RowDesc;
+import io.vertx.sqlclient.impl.codec.CommonCodec;
 import io.vertx.core.buffer.Buffer;
 
 import java.lang.reflect.Array;
 import java.time.*;
+import java.util.Arrays;
 import java.util.List;
 import java.util.UUID;
 
 public class RowImpl extends ArrayTuple implements Row {
 
+  // Kinds of the values stored as primitive
+  private static final byte OBJECT = 0;
+  private static final byte SHORT = 1;
+  private static final byte INT = 2;
+  private static final byte LONG = 3;
+  private static final byte FLOAT = 4;
+  private static final byte DOUBLE = 5;
+  // An int[], long[] or double[] array stored as the value
+  private static final byte PRIMITIVE_ARRAY = 6;
+
   private final RowDesc desc;
+  private byte[] kinds;
+  private long[] primitives;
 
   public RowImpl(RowDesc desc) {
     super(desc.columnNames().size());
@@ -52,6 +69,248 @@ public class RowImpl extends ArrayTuple implements Row {
     this.desc = row.desc;
   }
 
+  public void addShort(short value) {
+    addPrimitive(SHORT, value);
+  }
+
+  public void addInt(int value) {
+    addPrimitive(INT, value);
+  }
+
+  public void addLong(long value) {
+    addPrimitive(LONG, value);
+  }
+
+  public void addFloat(float value) {
+    addPrimitive(FLOAT, Float.floatToRawIntBits(value));
+  }
+
+  public void addDouble(double value) {
+    addPrimitive(DOUBLE, Double.doubleToRawLongBits(value));
+  }
+
+  /**
+   * Add an {@code int[]}, {@code long[]} or {@code double[]} array, it is boxed when it is accessed as an object.
+   */
+  public void addPrimitiveArray(Object array) {
+    int pos = size();
+    ensureKinds(pos);
+    kinds[pos] = PRIMITIVE_ARRAY;
+    super.addValue(array);
+  }
+
+  private void addPrimitive(byte kind, long value) {
+    int pos = size();
+    ensureKinds(pos);
+    kinds[pos] = kind;
+    primitives[pos] = value;
+    super.addValue(null);
+  }
+
+  private void ensureKinds(int pos) {
+    if (kinds == null) {
+      int len = Math.max(desc.columnNames().size(), pos + 1);
+      kinds = new byte[len];
+      primitives = new long[len];
+    } else if (pos >= kinds.length) {
+      kinds = Arrays.copyOf(kinds, (pos << 1) + 1);
+      primitives = Arrays.copyOf(primitives, kinds.length);
+    }
+  }
+
+  private byte kind(int pos) {
+    return kinds != null && pos >= 0 && pos < size() ? kinds[pos] : OBJECT;
+  }
+
+  @Override
+  public Object getValueInternal(int pos) {
+    byte kind = kind(pos);
+    if (kind == PRIMITIVE_ARRAY) {
+      Object value = boxArray(super.getValueInternal(pos));
+      kinds[pos] = OBJECT;
+      super.setValue(pos, value);
+      return value;
+    } else if (kind != OBJECT) {
+      // Box once and keep the boxed value
+      Object value;
+      long bits = primitives[pos];
+      switch (kind) {
+        case SHORT:
+          value = (short) bits;
+          break;
+        case INT:
+          value = (int) bits;
+          break;
+        case LONG:
+          value = bits;
+          break;
+        case FLOAT:
+          value = Float.intBitsToFloat((int) bits);
+          break;
+        default:
+          value = Double.longBitsToDouble(bits);
+          break;
+      }
+      kinds[pos] = OBJECT;
+      super.setValue(pos, value);
+      return value;
+    }
+    return super.getValueInternal(pos);
+  }
+
+  @Override
+  public void setValue(int pos, Object value) {
+    super.setValue(pos, value);
+    if (kinds != null) {
+      kinds[pos] = OBJECT;
+    }
+  }
+
+  @Override
+  public void clear() {
+    super.clear();
+    if (kinds != null) {
+      Arrays.fill(kinds, OBJECT);
+    }
+  }
+
+  @Override
+  public boolean isNull(int pos) {
+    return kind(pos) == OBJECT && Row.super.isNull(pos);
+  }
+
+  @Override
+  public int getIntValue(int pos) {
+    switch (kind(pos)) {
+      case SHORT:
+      case INT:
+      case LONG:
+        return (int) primitives[pos];
+      case FLOAT:
+        return (int) Float.intBitsToFloat((int) primitives[pos]);
+      case DOUBLE:
+        return (int) Double.longBitsToDouble(primitives[pos]);
+      default:
+        return Row.super.getIntValue(pos);
+    }
+  }
+
+  @Override
+  public long getLongValue(int pos) {
+    switch (kind(pos)) {
+      case SHORT:
+      case INT:
+      case LONG:
+        return primitives[pos];
+      case FLOAT:
+        return (long) Float.intBitsToFloat((int) primitives[pos]);
+      case DOUBLE:
+        return (long) Double.longBitsToDouble(primitives[pos]);
+      default:
+        return Row.super.getLongValue(pos);
+    }
+  }
+
+  @Override
+  public double getDoubleValue(int pos) {
+    switch (kind(pos)) {
+      case SHORT:
+      case INT:
+      case LONG:
+        return primitives[pos];
+      case FLOAT:
+        return Float.intBitsToFloat((int) primitives[pos]);
+      case DOUBLE:
+        return Double.longBitsToDouble(primitives[pos]);
+      default:
+        return Row.super.getDoubleValue(pos);
+    }
+  }
+
+  @Override
+  public int[] getIntArray(int pos) {
+    if (kind(pos) == PRIMITIVE_ARRAY) {
+      Object value = super.getValueInternal(pos);
+      if (value instanceof int[]) {
+        return (int[]) value;
+      }
+    }
+    return Row.super.getIntArray(pos);
+  }
+
+  @Override
+  public long[] getLongArray(int pos) {
+    if (kind(pos) == PRIMITIVE_ARRAY) {
+      Object value = super.getValueInternal(pos);
+      if (value instanceof long[]) {
+        return (long[]) value;
+      }
+    }
+    return Row.super.getLongArray(pos);
+  }
+
+  @Override
+  public double[] getDoubleArray(int pos) {
+    if (kind(pos) == PRIMITIVE_ARRAY) {
+      Object value = super.getValueInternal(pos);
+      if (value instanceof double[]) {
+        return (double[]) value;
+      }
+    }
+    return Row.super.getDoubleArray(pos);
+  }
+
+  /**
+   * The value of a {@code JSON} or {@code JSONB} column is returned as the UTF-8 encoded document.
+   */
+  @Override
+  public Buffer getBuffer(int pos) {
+    if (isJson(pos)) {
+      Object value = getValue(pos);
+      if (value == null || value instanceof Buffer) {
+        return (Buffer) value;
+      }
+      ByteBuf buff = Unpooled.buffer();
+      CommonCodec.encodeJson(value, buff);
+      return Buffer.buffer(buff);
+    }
+    return Row.super.getBuffer(pos);
+  }
+
+  private boolean isJson(int pos) {
+    List<ColumnDescriptor> columns = desc.columnDescriptor();
+    if (pos < 0 || pos >= columns.size()) {
+      return false;
+    }
+    String typeName = columns.get(pos).typeName();
+    return "JSON".equals(typeName) || "JSONB".equals(typeName);
+  }
+
+  private static Object boxArray(Object array) {
+    if (array instanceof int[]) {
+      int[] a = (int[]) array;
+      Integer[] boxed = new Integer[a.length];
+      for (int i = 0;i < a.length;i++) {
+        boxed[i] = a[i];
+      }
+      return boxed;
+    } else if (array instanceof long[]) {
+      long[] a = (long[]) array;
+      Long[] boxed = new Long[a.length];
+      for (int i = 0;i < a.length;i++) {
+        boxed[i] = a[i];
+      }
+      return boxed;
+    } else {
+      double[] a = (double[]) array;
+      Double[] boxed = new Double[a.length];
+      for (int i = 0;i < a.length;i++) {
+        boxed[i] = a[i];
+      }
+      return boxed;
+    }
+  }
+
   @Override
   public String getColumnName(int pos) {
     List<String> columnNames = desc.columnNames();
@@ -63,14 +322,20 @@ public class RowImpl extends ArrayTuple implements Row {
     if (name == null) {
       throw new NullPointerException();
     }
-    return desc.columnNames().indexOf(name);
+    return desc.columnIndex(name);
   }
 
   @Override
   public <T> T get(Class<T> type, int position) {
     if (type.isArray()) {
       Class<?> componentType = type.getComponentType();
-      if (componentType == Boolean.class) {
+      if (componentType == int.class) {
+        return type.cast(getIntArray(position));
+      } else if (componentType == long.class) {
+        return type.cast(getLongArray(position));
+      } else if (componentType == double.class) {
+        return type.cast(getDoubleArray(position));
+      } else if (componentType == Boolean.class) {
         return type.cast(getArrayOfBooleans(position));
       } else if (componentType == Short.class) {
         return type.cast(getArrayOfShorts(position));
@@ -179,6 +444,11 @@ public class RowImpl extends ArrayTuple implements Row {
       } else if (type.isEnum()) {
         return type.cast(getEnum(type, position));
       }
+      Object value = getValue(position);
+      if (type.isInstance(value)) {
+        // Decoded by a type codec
+        return type.cast(value);
+      }
     }
     throw new UnsupportedOperationException("Unsupported type " + type.getName());
   }
@@ -217,7 +487,9 @@ public class RowImpl extends ArrayTuple implements Row {
 
   private Object getEnum(Class enumType, int pos) {
     Object val = getValue(pos);
-    if (val instanceof String) {
+    if (enumType.isInstance(val)) {
+      return val;
+    } else if (val instanceof String) {
       return Enum.valueOf(enumType, (String) val);
     } else if (val instanceof Number) {
       int ordinal = ((Number) val).intValue();
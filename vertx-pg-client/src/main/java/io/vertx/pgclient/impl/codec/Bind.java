@@ -17,6 +17,8 @@
 
 package io.vertx.pgclient.impl.codec;
 
+import io.vertx.pgclient.spi.PgTypeCodec;
+
 /**
  * @author <a href="mailto:emad.albloushi@gmail.com">Emad Alblueshi</a>
  */
@@ -24,11 +26,25 @@ final class Bind {
 
   final byte[] statement;
   final DataType[] paramTypes;
+  final PgTypeCodec<?>[] paramCodecs;
   final PgColumnDesc[] resultColumns;
 
-  Bind(byte[] statement, DataType[] paramTypes, PgColumnDesc[] resultColumns) {
+  Bind(byte[] statement, DataType[] paramTypes, PgTypeCodec<?>[] paramCodecs, PgColumnDesc[] resultColumns) {
     this.statement = statement;
     this.paramTypes = paramTypes;
+    this.paramCodecs = paramCodecs;
     this.resultColumns = resultColumns;
   }
+
+  /**
+   * @return the codec encoding the parameter value or {@code null}
+   */
+  @SuppressWarnings("unchecked")
+  PgTypeCodec<Object> paramCodec(int idx, Object value) {
+    if (paramCodecs == null) {
+      return null;
+    }
+    PgTypeCodec<?> codec = paramCodecs[idx];
+    return codec != null && codec.javaType().isInstance(value) ? (PgTypeCodec<Object>) codec : null;
+  }
 }
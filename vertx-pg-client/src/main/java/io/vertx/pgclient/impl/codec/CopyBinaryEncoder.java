@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2011-2022 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.pgclient.impl.codec;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.vertx.core.Handler;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.streams.ReadStream;
+import io.vertx.sqlclient.Tuple;
+
+/**
+ * Encode a stream of tuples in the PostgreSQL binary {@code COPY} format.
+ * <p>
+ * The type of each value is inferred from its Java class with the same rules than the parameters of a query,
+ * the values must therefore have the Java type of their column, e.g. a {@code Long} for a {@code bigint} column.
+ * The header is sent with the first tuple and the trailer before the end of the stream.
+ */
+public class CopyBinaryEncoder implements ReadStream<Buffer> {
+
+  private static final byte[] HEADER = {
+    'P', 'G', 'C', 'O', 'P', 'Y', '\n', (byte) 0xFF, '\r', '\n', 0,
+    // flags
+    0, 0, 0, 0,
+    // header extension length
+    0, 0, 0, 0
+  };
+
+  private final ReadStream<Tuple> source;
+  private boolean headerSent;
+  private Handler<Buffer> handler;
+  private Handler<Throwable> exceptionHandler;
+
+  public CopyBinaryEncoder(ReadStream<Tuple> source) {
+    this.source = source;
+  }
+
+  /**
+   * Encode a tuple, the header is written first when {@code header} is {@code true}.
+   */
+  static void encode(Tuple tuple, boolean header, ByteBuf out) {
+    if (header) {
+      out.writeBytes(HEADER);
+    }
+    int size = tuple.size();
+    out.writeShort(size);
+    for (int i = 0;i < size;i++) {
+      Object value = tuple.getValue(i);
+      if (value == null) {
+        out.writeInt(-1);
+        continue;
+      }
+      DataType type = DataType.lookup(value.getClass());
+      if (type == DataType.UNKNOWN || !type.supportsBinary) {
+        throw new IllegalArgumentException("Cannot encode value of type " + value.getClass().getName() + " at position " + i);
+      }
+      int idx = out.writerIndex();
+      out.writeInt(0);
+      DataTypeCodec.encodeBinary(type, value, out);
+      out.setInt(idx, out.writerIndex() - idx - 4);
+    }
+  }
+
+  @Override
+  public synchronized ReadStream<Buffer> exceptionHandler(Handler<Throwable> handler) {
+    exceptionHandler = handler;
+    source.exceptionHandler(handler);
+    return this;
+  }
+
+  @Override
+  public ReadStream<Buffer> handler(Handler<Buffer> handler) {
+    synchronized (this) {
+      this.handler = handler;
+    }
+    if (handler == null) {
+      source.handler(null);
+    } else {
+      source.handler(this::handleTuple);
+    }
+    return this;
+  }
+
+  private void handleTuple(Tuple tuple) {
+    Handler<Buffer> h;
+    ByteBuf buf = Unpooled.buffer();
+    try {
+      synchronized (this) {
+        h = handler;
+        encode(tuple, !headerSent, buf);
+        headerSent = true;
+      }
+    } catch (Exception e) {
+      Handler<Throwable> eh;
+      synchronized (this) {
+        eh = exceptionHandler;
+      }
+      if (eh != null) {
+        eh.handle(e);
+      }
+      return;
+    }
+    if (h != null) {
+      h.handle(Buffer.buffer(buf));
+    }
+  }
+
+  @Override
+  public ReadStream<Buffer> pause() {
+    source.pause();
+    return this;
+  }
+
+  @Override
+  public ReadStream<Buffer> resume() {
+    source.resume();
+    return this;
+  }
+
+  @Override
+  public ReadStream<Buffer> fetch(long amount) {
+    source.fetch(amount);
+    return this;
+  }
+
+  @Override
+  public ReadStream<Buffer> endHandler(Handler<Void> endHandler) {
+    if (endHandler == null) {
+      source.endHandler(null);
+    } else {
+      source.endHandler(v -> {
+        Handler<Buffer> h;
+        ByteBuf buf = Unpooled.buffer();
+        synchronized (this) {
+          h = handler;
+          if (!headerSent) {
+            buf.writeBytes(HEADER);
+            headerSent = true;
+          }
+        }
+        // File trailer
+        buf.writeShort(-1);
+        if (h != null) {
+          h.handle(Buffer.buffer(buf));
+        }
+        endHandler.handle(null);
+      });
+    }
+    return this;
+  }
+}
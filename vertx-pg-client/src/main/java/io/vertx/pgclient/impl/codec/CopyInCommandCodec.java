@@ -0,0 +1,236 @@
+/*
+ * Copyright (c) 2011-2022 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.pgclient.impl.codec;
+
+import io.netty.channel.Channel;
+import io.netty.util.concurrent.EventExecutor;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.streams.WriteStream;
+import io.vertx.pgclient.PgException;
+import io.vertx.pgclient.impl.command.CopyInCommand;
+
+/**
+ * Pipe the source stream of the command to the server with {@code CopyData} messages.
+ * <p>
+ * The encoder defers the other commands until the copy is done since the server would interpret their
+ * messages as an error. The source is paused when the queued data reaches the write queue max size or when
+ * the channel is not writable.
+ */
+class CopyInCommandCodec extends PgCommandCodec<Long, CopyInCommand> {
+
+  /**
+   * Buffered copy data is flushed beyond this size, smaller writes are flushed once the pending event loop
+   * tasks are executed.
+   */
+  private static final int FLUSH_THRESHOLD = 16 * 1024;
+
+  private PgEncoder encoder;
+  private DataStream stream;
+
+  CopyInCommandCodec(CopyInCommand cmd) {
+    super(cmd);
+  }
+
+  @Override
+  void encode(PgEncoder encoder) {
+    this.encoder = encoder;
+    encoder.writeQuery(new Query(cmd.sql()));
+    encoder.beginCopyIn();
+  }
+
+  @Override
+  void handleCopyInResponse() {
+    DataStream s = stream = new DataStream(encoder.channelHandlerContext().channel());
+    cmd.context().execute(v -> cmd.pipe().endOnFailure(false).to(s, ar -> {
+      if (ar.failed()) {
+        s.fail(ar.cause());
+      }
+    }));
+  }
+
+  @Override
+  void handleWritabilityChanged(boolean writable) {
+    if (stream != null && writable) {
+      stream.checkDrained();
+    }
+  }
+
+  @Override
+  void handleCommandComplete(int updated) {
+    result = (long) updated;
+  }
+
+  @Override
+  void handleRowDescription(PgColumnDesc[] columnDescs) {
+    // The rows are ignored
+  }
+
+  @Override
+  void handleEmptyQueryResponse() {
+  }
+
+  @Override
+  void handleErrorResponse(ErrorResponse errorResponse) {
+    failure = errorResponse.toException();
+  }
+
+  @Override
+  void handleReadyForQuery() {
+    if (stream != null) {
+      stream.closed = true;
+    } else if (failure == null) {
+      failure = new PgException("Not a COPY FROM STDIN statement", "ERROR", "42601", null);
+    }
+    // The server ignores the copy messages sent after an error
+    encoder.endCopyIn();
+    cmd.context().execute(v -> cmd.pipe().close());
+    super.handleReadyForQuery();
+  }
+
+  /**
+   * The destination of the pipe, the messages are encoded on the channel event loop.
+   */
+  private class DataStream implements WriteStream<Buffer> {
+
+    private final Channel channel;
+    private final EventExecutor executor;
+    private int maxSize;
+    private long queued;
+    private boolean needsDrain;
+    private Handler<Void> drainHandler;
+    private boolean flushScheduled;
+    private boolean closed;
+
+    DataStream(Channel channel) {
+      this.channel = channel;
+      this.executor = encoder.channelHandlerContext().executor();
+      this.maxSize = channel.config().getWriteBufferHighWaterMark();
+    }
+
+    @Override
+    public WriteStream<Buffer> exceptionHandler(Handler<Throwable> handler) {
+      // Failures are reported by the copy result
+      return this;
+    }
+
+    @Override
+    public Future<Void> write(Buffer data) {
+      write(data, null);
+      return cmd.context().succeededFuture();
+    }
+
+    @Override
+    public void write(Buffer data, Handler<AsyncResult<Void>> handler) {
+      synchronized (this) {
+        queued += data.length();
+      }
+      execute(() -> {
+        synchronized (this) {
+          queued -= data.length();
+        }
+        if (!closed) {
+          encoder.writeCopyData(data);
+          if (encoder.bufferedBytes() >= FLUSH_THRESHOLD) {
+            encoder.flush();
+          } else if (!flushScheduled) {
+            flushScheduled = true;
+            executor.execute(() -> {
+              flushScheduled = false;
+              if (!closed) {
+                encoder.flush();
+              }
+            });
+          }
+        }
+        checkDrained();
+      });
+      if (handler != null) {
+        handler.handle(cmd.context().succeededFuture());
+      }
+    }
+
+    @Override
+    public void end(Handler<AsyncResult<Void>> handler) {
+      execute(() -> {
+        if (!closed) {
+          closed = true;
+          encoder.writeCopyDone();
+          encoder.endCopyIn();
+        }
+      });
+      if (handler != null) {
+        handler.handle(cmd.context().succeededFuture());
+      }
+    }
+
+    void fail(Throwable cause) {
+      execute(() -> {
+        if (!closed) {
+          closed = true;
+          String msg = cause.getMessage();
+          encoder.writeCopyFail(msg != null ? msg : cause.getClass().getName());
+          encoder.endCopyIn();
+        }
+      });
+    }
+
+    @Override
+    public synchronized WriteStream<Buffer> setWriteQueueMaxSize(int maxSize) {
+      this.maxSize = maxSize;
+      return this;
+    }
+
+    @Override
+    public synchronized boolean writeQueueFull() {
+      boolean full = isFull();
+      if (full) {
+        needsDrain = true;
+      }
+      return full;
+    }
+
+    @Override
+    public synchronized WriteStream<Buffer> drainHandler(Handler<Void> handler) {
+      drainHandler = handler;
+      return this;
+    }
+
+    private boolean isFull() {
+      return queued >= maxSize || !channel.isWritable();
+    }
+
+    void checkDrained() {
+      Handler<Void> handler;
+      synchronized (this) {
+        if (!needsDrain || isFull()) {
+          return;
+        }
+        needsDrain = false;
+        handler = drainHandler;
+      }
+      if (handler != null) {
+        cmd.context().execute(v -> handler.handle(null));
+      }
+    }
+
+    private void execute(Runnable task) {
+      if (executor.inEventLoop()) {
+        task.run();
+      } else {
+        executor.execute(task);
+      }
+    }
+  }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2011-2022 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.pgclient.impl.codec;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.pgclient.PgException;
+import io.vertx.pgclient.impl.command.CopyOutCommand;
+
+class CopyOutCommandCodec extends PgCommandCodec<Long, CopyOutCommand> {
+
+  private PgEncoder encoder;
+  private boolean started;
+
+  CopyOutCommandCodec(CopyOutCommand cmd) {
+    super(cmd);
+  }
+
+  @Override
+  void encode(PgEncoder encoder) {
+    this.encoder = encoder;
+    encoder.writeQuery(new Query(cmd.sql()));
+  }
+
+  @Override
+  void handleCopyOutResponse() {
+    started = true;
+    cmd.start(encoder.channelHandlerContext().channel());
+  }
+
+  @Override
+  void handleCopyData(ByteBuf in) {
+    // The inbound buffer is recycled once the message is processed
+    cmd.dataHandler().handle(Buffer.buffer(Unpooled.copiedBuffer(in)));
+  }
+
+  @Override
+  void handleCopyDone() {
+  }
+
+  @Override
+  void handleRowDescription(PgColumnDesc[] columnDescs) {
+    // The rows are ignored
+  }
+
+  @Override
+  void handleCommandComplete(int updated) {
+    result = (long) updated;
+  }
+
+  @Override
+  void handleEmptyQueryResponse() {
+  }
+
+  @Override
+  void handleErrorResponse(ErrorResponse errorResponse) {
+    failure = errorResponse.toException();
+  }
+
+  @Override
+  void handleReadyForQuery() {
+    cmd.end();
+    if (failure == null && !started) {
+      failure = new PgException("Not a COPY TO STDOUT statement", "ERROR", "42601", null);
+    }
+    super.handleReadyForQuery();
+  }
+}
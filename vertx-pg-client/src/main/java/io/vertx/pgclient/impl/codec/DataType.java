@@ -55,15 +55,15 @@ public enum DataType {
   INT2(21, true, Short.class, Number.class, JDBCType.SMALLINT, Tuple::getShort),
   INT2_ARRAY(1005, true, Short[].class, Number[].class, JDBCType.SMALLINT, Tuple::getArrayOfShorts),
   INT4(23, true, Integer.class, Number.class, JDBCType.INTEGER, Tuple::getInteger),
-  INT4_ARRAY(1007, true, Integer[].class, Number[].class, JDBCType.INTEGER, Tuple::getArrayOfIntegers),
+  INT4_ARRAY(1007, true, Integer[].class, Number[].class, JDBCType.INTEGER, ParamExtractor::extractIntArray),
   INT8(20, true, Long.class, Number.class, JDBCType.BIGINT, Tuple::getLong),
-  INT8_ARRAY(1016, true, Long[].class, Number[].class, JDBCType.BIGINT, Tuple::getArrayOfLongs),
+  INT8_ARRAY(1016, true, Long[].class, Number[].class, JDBCType.BIGINT, ParamExtractor::extractLongArray),
   FLOAT4(700, true, Float.class, Number.class, JDBCType.REAL, Tuple::getFloat),
   FLOAT4_ARRAY(1021, true, Float[].class, Number[].class, JDBCType.REAL, Tuple::getArrayOfFloats),
   FLOAT8(701, true, Double.class, Number.class, JDBCType.DOUBLE, Tuple::getDouble),
-  FLOAT8_ARRAY(1022, true, Double[].class, Number[].class, JDBCType.DOUBLE, Tuple::getArrayOfDoubles),
-  NUMERIC(1700, false, Numeric.class, Number.class, JDBCType.NUMERIC, Tuple::getNumeric),
-  NUMERIC_ARRAY(1231, false, Numeric[].class, Number[].class, JDBCType.NUMERIC, Tuple::getArrayOfNumerics),
+  FLOAT8_ARRAY(1022, true, Double[].class, Number[].class, JDBCType.DOUBLE, ParamExtractor::extractDoubleArray),
+  NUMERIC(1700, true, Numeric.class, Number.class, JDBCType.NUMERIC, Tuple::getNumeric),
+  NUMERIC_ARRAY(1231, true, Numeric[].class, Number[].class, JDBCType.NUMERIC, Tuple::getArrayOfNumerics),
   MONEY(790, true, Money.class, null),
   MONEY_ARRAY(791, true, Money[].class, null),
   BIT(1560, true, Object.class, JDBCType.BIT),
@@ -151,7 +151,7 @@ public enum DataType {
     this(id, supportsBinary, type, type, jdbcType, null);
   }
 
-  <T> DataType(int id, boolean supportsBinary, Class<T> encodingType, Class<?> decodingType, JDBCType jdbcType, ParamExtractor<T> paramExtractor) {
+  <T> DataType(int id, boolean supportsBinary, Class<T> encodingType, Class<?> decodingType, JDBCType jdbcType, ParamExtractor<?> paramExtractor) {
     this.id = id;
     this.supportsBinary = supportsBinary;
     this.encodingType = encodingType;
@@ -194,12 +194,15 @@ public enum DataType {
     encodingTypeToDataType.put(Short[].class, INT2_ARRAY);
     encodingTypeToDataType.put(Integer.class, INT4);
     encodingTypeToDataType.put(Integer[].class, INT4_ARRAY);
+    encodingTypeToDataType.put(int[].class, INT4_ARRAY);
     encodingTypeToDataType.put(Long.class, INT8);
     encodingTypeToDataType.put(Long[].class, INT8_ARRAY);
+    encodingTypeToDataType.put(long[].class, INT8_ARRAY);
     encodingTypeToDataType.put(Float.class, FLOAT4);
     encodingTypeToDataType.put(Float[].class, FLOAT4_ARRAY);
     encodingTypeToDataType.put(Double.class, FLOAT8);
     encodingTypeToDataType.put(Double[].class, FLOAT8_ARRAY);
+    encodingTypeToDataType.put(double[].class, FLOAT8_ARRAY);
     encodingTypeToDataType.put(LocalDate.class, DATE);
     encodingTypeToDataType.put(LocalDate[].class, DATE_ARRAY);
     encodingTypeToDataType.put(LocalDateTime.class, TIMESTAMP);
@@ -22,16 +22,15 @@ import io.netty.buffer.Unpooled;
 import io.netty.handler.codec.DecoderException;
 import io.vertx.core.impl.logging.Logger;
 import io.vertx.core.impl.logging.LoggerFactory;
-import io.vertx.core.json.Json;
-import io.vertx.sqlclient.Tuple;
 import io.vertx.sqlclient.data.Numeric;
 import io.vertx.pgclient.data.*;
 import io.vertx.pgclient.impl.util.UTF8StringEndDetector;
 import io.vertx.core.buffer.Buffer;
-import io.vertx.core.json.JsonArray;
-import io.vertx.core.json.JsonObject;
 import io.vertx.sqlclient.impl.codec.CommonCodec;
 
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
 import java.net.Inet4Address;
 import java.net.Inet6Address;
 import java.net.InetAddress;
@@ -72,6 +71,21 @@ public class DataTypeCodec {
   private static final UUID[] empty_uuid_array = new UUID[0];
   private static final Object[] empty_json_array = new Object[0];
   private static final Numeric[] empty_numeric_array = new Numeric[0];
+
+  // Binary NUMERIC representation
+  private static final int NBASE = 10000;
+  private static final BigInteger[] NBASE_POWERS = {
+    BigInteger.ONE,
+    BigInteger.valueOf(NBASE),
+    BigInteger.valueOf((long) NBASE * NBASE),
+    BigInteger.valueOf((long) NBASE * NBASE * NBASE),
+    BigInteger.valueOf((long) NBASE * NBASE * NBASE * NBASE)
+  };
+  private static final int NUMERIC_POS = 0x0000;
+  private static final int NUMERIC_NEG = 0x4000;
+  private static final int NUMERIC_NAN = 0xC000;
+  private static final int NUMERIC_PINF = 0xD000;
+  private static final int NUMERIC_NINF = 0xF000;
   private static final Point[] empty_point_array = new Point[0];
   private static final Line[] empty_line_array = new Line[0];
   private static final LineSegment[] empty_lseg_array = new LineSegment[0];
@@ -184,13 +198,21 @@ public class DataTypeCodec {
         binaryEncodeINT4((Number) value, buff);
         break;
       case INT4_ARRAY:
-        binaryEncodeArray((Number[]) value, DataType.INT4, buff);
+        if (value instanceof int[]) {
+          binaryEncodeIntArray((int[]) value, buff);
+        } else {
+          binaryEncodeArray((Number[]) value, DataType.INT4, buff);
+        }
         break;
       case INT8:
         binaryEncodeINT8((Number) value, buff);
         break;
       case INT8_ARRAY:
-        binaryEncodeArray((Number[]) value, DataType.INT8, buff);
+        if (value instanceof long[]) {
+          binaryEncodeLongArray((long[]) value, buff);
+        } else {
+          binaryEncodeArray((Number[]) value, DataType.INT8, buff);
+        }
         break;
       case FLOAT4:
         binaryEncodeFLOAT4((Number) value, buff);
@@ -202,7 +224,17 @@ public class DataTypeCodec {
         binaryEncodeFLOAT8((Number) value, buff);
         break;
       case FLOAT8_ARRAY:
-        binaryEncodeArray((Number[]) value, DataType.FLOAT8, buff);
+        if (value instanceof double[]) {
+          binaryEncodeDoubleArray((double[]) value, buff);
+        } else {
+          binaryEncodeArray((Number[]) value, DataType.FLOAT8, buff);
+        }
+        break;
+      case NUMERIC:
+        binaryEncodeNUMERIC((Number) value, buff);
+        break;
+      case NUMERIC_ARRAY:
+        binaryEncodeArray((Number[]) value, DataType.NUMERIC, buff);
         break;
       case CHAR:
         binaryEncodeCHAR((String) value, buff);
@@ -393,6 +425,10 @@ public class DataTypeCodec {
         return binaryDecodeFLOAT8(index, len, buff);
       case FLOAT8_ARRAY:
         return binaryDecodeArray(DOUBLE_ARRAY_FACTORY, DataType.FLOAT8, index, len, buff);
+      case NUMERIC:
+        return binaryDecodeNUMERIC(index, len, buff);
+      case NUMERIC_ARRAY:
+        return binaryDecodeArray(NUMERIC_ARRAY_FACTORY, DataType.NUMERIC, index, len, buff);
       case CHAR:
         return binaryDecodeCHAR(index, len, buff);
       case CHAR_ARRAY:
@@ -713,9 +749,7 @@ public class DataTypeCodec {
   }
 
   private static Float textDecodeFLOAT4(int index, int len, ByteBuf buff) {
-    // Todo optimize that
-    CharSequence cs = buff.getCharSequence(index, len, StandardCharsets.UTF_8);
-    return Float.parseFloat(cs.toString());
+    return CommonCodec.decodeDecStringToFloat(index, len, buff);
   }
 
   private static Float binaryDecodeFLOAT4(int index, int len, ByteBuf buff) {
@@ -735,15 +769,134 @@ public class DataTypeCodec {
   }
 
   private static double textDecodeFLOAT8(int index, int len, ByteBuf buff) {
-    // Todo optimize that
-    CharSequence cs = buff.getCharSequence(index, len, StandardCharsets.UTF_8);
-    return Double.parseDouble(cs.toString());
+    return CommonCodec.decodeDecStringToDouble(index, len, buff);
   }
 
   private static Number textDecodeNUMERIC(int index, int len, ByteBuf buff) {
-    // Todo optimize that
-    CharSequence cs = buff.getCharSequence(index, len, StandardCharsets.UTF_8);
-    return Numeric.parse(cs.toString());
+    if (len > 0 && buff.getByte(index) == 'N') {
+      return Numeric.NaN;
+    }
+    return Numeric.create(CommonCodec.decodeDecStringToBigDecimal(index, len, buff));
+  }
+
+  /**
+   * Decode the binary NUMERIC representation: the number of base 10000 digits, the weight of the first digit,
+   * the sign, the display scale and the digits.
+   */
+  private static Numeric binaryDecodeNUMERIC(int index, int len, ByteBuf buff) {
+    int ndigits = buff.getUnsignedShort(index);
+    int weight = buff.getShort(index + 2);
+    int sign = buff.getUnsignedShort(index + 4);
+    int dscale = buff.getUnsignedShort(index + 6);
+    switch (sign) {
+      case NUMERIC_POS:
+      case NUMERIC_NEG:
+        break;
+      case NUMERIC_NAN:
+        return Numeric.NaN;
+      default:
+        throw new NumberFormatException("Infinite numbers are not valid numerics");
+    }
+    index += 8;
+    BigInteger unscaled;
+    if (ndigits <= 4) {
+      long value = 0L;
+      for (int i = 0;i < ndigits;i++) {
+        value = value * NBASE + buff.getShort(index + 2 * i);
+      }
+      unscaled = BigInteger.valueOf(value);
+    } else {
+      // Accumulate the digits by chunks of 4 digits
+      unscaled = BigInteger.ZERO;
+      for (int i = 0;i < ndigits;i += 4) {
+        int n = Math.min(4, ndigits - i);
+        long chunk = 0L;
+        for (int j = 0;j < n;j++) {
+          chunk = chunk * NBASE + buff.getShort(index + 2 * (i + j));
+        }
+        unscaled = unscaled.multiply(NBASE_POWERS[n]).add(BigInteger.valueOf(chunk));
+      }
+    }
+    if (sign == NUMERIC_NEG) {
+      unscaled = unscaled.negate();
+    }
+    // The last digit is weighted by 10000^(weight - ndigits + 1), the display scale only removes trailing zeros
+    int scale = 4 * (ndigits - weight - 1);
+    BigDecimal value = new BigDecimal(unscaled, scale).setScale(dscale, RoundingMode.UNNECESSARY);
+    return Numeric.create(value);
+  }
+
+  private static void binaryEncodeNUMERIC(Number value, ByteBuf buff) {
+    BigDecimal decimal;
+    if (value instanceof Numeric) {
+      decimal = ((Numeric) value).bigDecimalValue();
+    } else if (value instanceof BigDecimal) {
+      decimal = (BigDecimal) value;
+    } else if (value instanceof BigInteger) {
+      decimal = new BigDecimal((BigInteger) value);
+    } else if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+      decimal = BigDecimal.valueOf(value.longValue());
+    } else if (value instanceof Double && ((Double) value).isInfinite() || value instanceof Float && ((Float) value).isInfinite()) {
+      buff.writeShort(0);
+      buff.writeShort(0);
+      buff.writeShort(value.doubleValue() > 0 ? NUMERIC_PINF : NUMERIC_NINF);
+      buff.writeShort(0);
+      return;
+    } else if (value instanceof Double && ((Double) value).isNaN() || value instanceof Float && ((Float) value).isNaN()) {
+      decimal = null;
+    } else {
+      decimal = new BigDecimal(value.toString());
+    }
+    if (decimal == null) {
+      buff.writeShort(0);
+      buff.writeShort(0);
+      buff.writeShort(NUMERIC_NAN);
+      buff.writeShort(0);
+      return;
+    }
+    if (decimal.scale() < 0) {
+      decimal = decimal.setScale(0);
+    }
+    int dscale = decimal.scale();
+    // Align the decimal point on a digit boundary
+    int pad = (4 - dscale % 4) % 4;
+    BigInteger unscaled = decimal.unscaledValue().abs();
+    if (pad > 0) {
+      unscaled = unscaled.multiply(BigInteger.TEN.pow(pad));
+    }
+    int start = buff.writerIndex();
+    buff.writeShort(0);
+    buff.writeShort(0);
+    buff.writeShort(decimal.signum() < 0 ? NUMERIC_NEG : NUMERIC_POS);
+    buff.writeShort(dscale);
+    if (unscaled.signum() == 0) {
+      return;
+    }
+    // Compute the digits from the least significant one, in chunks of 4 digits
+    short[] digits = new short[unscaled.bitLength() / 13 + 2];
+    int count = 0;
+    while (unscaled.bitLength() > 63) {
+      BigInteger[] qr = unscaled.divideAndRemainder(NBASE_POWERS[4]);
+      long chunk = qr[1].longValue();
+      for (int i = 0;i < 4;i++) {
+        digits[count++] = (short) (chunk % NBASE);
+        chunk /= NBASE;
+      }
+      unscaled = qr[0];
+    }
+    for (long l = unscaled.longValue();l != 0L;l /= NBASE) {
+      digits[count++] = (short) (l % NBASE);
+    }
+    int weight = count - 1 - (dscale + pad) / 4;
+    int trailing = 0;
+    while (digits[trailing] == 0) {
+      trailing++;
+    }
+    for (int i = count - 1;i >= trailing;i--) {
+      buff.writeShort(digits[i]);
+    }
+    buff.setShort(start, count - trailing);
+    buff.setShort(start + 2, weight);
   }
 
   private static Point textDecodePOINT(int index, int len, ByteBuf buff) {
@@ -1025,6 +1178,11 @@ public class DataTypeCodec {
   }
 
   private static LocalDate textDecodeDATE(int index, int len, ByteBuf buff) {
+    LocalDate date = CommonCodec.decodeLocalDate(index, len, buff);
+    if (date != null) {
+      return date;
+    }
+    // Infinity, BC dates and years of more than 4 digits
     CharSequence cs = buff.getCharSequence(index, len, StandardCharsets.UTF_8);
     String s = cs.toString();
     switch (s) {
@@ -1047,6 +1205,10 @@ public class DataTypeCodec {
   }
 
   private static LocalTime textDecodeTIME(int index, int len, ByteBuf buff) {
+    LocalTime time = CommonCodec.decodeLocalTime(index, len, buff);
+    if (time != null) {
+      return time;
+    }
     CharSequence cs = buff.getCharSequence(index, len, StandardCharsets.UTF_8);
     return LocalTime.parse(cs);
   }
@@ -1065,6 +1227,12 @@ public class DataTypeCodec {
   }
 
   private static OffsetTime textDecodeTIMETZ(int index, int len, ByteBuf buff) {
+    int offsetIndex = offsetIndex(index + 8, index + len, buff);
+    LocalTime time = CommonCodec.decodeLocalTime(index, offsetIndex - index, buff);
+    ZoneOffset offset = CommonCodec.decodeZoneOffset(offsetIndex, index + len - offsetIndex, buff);
+    if (time != null && offset != null) {
+      return OffsetTime.of(time, offset);
+    }
     CharSequence cs = buff.getCharSequence(index, len, StandardCharsets.UTF_8);
     return OffsetTime.parse(cs, TIMETZ_FORMAT);
   }
@@ -1096,6 +1264,11 @@ public class DataTypeCodec {
   }
 
   private static LocalDateTime textDecodeTIMESTAMP(int index, int len, ByteBuf buff) {
+    LocalDateTime ldt = CommonCodec.decodeLocalDateTime(index, len, buff);
+    if (ldt != null) {
+      return ldt;
+    }
+    // Infinity, BC timestamps and years of more than 4 digits
     CharSequence cs = buff.getCharSequence(index, len, StandardCharsets.UTF_8);
     String s = cs.toString();
     switch (s) {
@@ -1140,6 +1313,13 @@ public class DataTypeCodec {
   }
 
   private static OffsetDateTime textDecodeTIMESTAMPTZ(int index, int len, ByteBuf buff) {
+    int offsetIndex = offsetIndex(index + 19, index + len, buff);
+    LocalDateTime ldt = CommonCodec.decodeLocalDateTime(index, offsetIndex - index, buff);
+    ZoneOffset offset = CommonCodec.decodeZoneOffset(offsetIndex, index + len - offsetIndex, buff);
+    if (ldt != null && offset != null) {
+      return OffsetDateTime.of(ldt, offset);
+    }
+    // Infinity, BC timestamps and years of more than 4 digits
     CharSequence cs = buff.getCharSequence(index, len, StandardCharsets.UTF_8);
     String s = cs.toString();
     switch (s) {
@@ -1152,6 +1332,19 @@ public class DataTypeCodec {
     }
   }
 
+  /**
+   * @return the index of the zone offset sign after {@code from}, or {@code to} when there is none
+   */
+  private static int offsetIndex(int from, int to, ByteBuf buff) {
+    for (int i = from;i < to;i++) {
+      byte ch = buff.getByte(i);
+      if (ch == '+' || ch == '-') {
+        return i;
+      }
+    }
+    return to;
+  }
+
   private static Buffer textDecodeBYTEA(int index, int len, ByteBuf buff) {
     if (isHexFormat(index, len, buff)) {
       // hex format
@@ -1339,42 +1532,11 @@ public class DataTypeCodec {
   }
 
   private static void binaryEncodeJSON(Object value, ByteBuf buff) {
-    String s;
-    if (value == Tuple.JSON_NULL) {
-      s = "null";
-    } else {
-      s = Json.encode(value);
-    }
-    buff.writeCharSequence(s, StandardCharsets.UTF_8);
+    CommonCodec.encodeJson(value, buff);
   }
 
   private static Object textDecodeJSONB(int index, int len, ByteBuf buff) {
-
-    // Try to do without the intermediary String (?)
-    CharSequence cs = buff.getCharSequence(index, len, StandardCharsets.UTF_8);
-    Object value = null;
-    String s = cs.toString();
-    int pos = 0;
-    while (pos < s.length() && Character.isWhitespace(s.charAt(pos))) {
-      pos++;
-    }
-    if (pos == s.length()) {
-      return null;
-    } else if (s.charAt(pos) == '{') {
-      value = new JsonObject(s);
-    } else if (s.charAt(pos) == '[') {
-      value = new JsonArray(s);
-    } else {
-      Object o = Json.decodeValue(s);
-      if (o == null) {
-        return Tuple.JSON_NULL;
-      }
-      if (o instanceof Number || o instanceof Boolean || o instanceof String) {
-        return o;
-      }
-      return null;
-    }
-    return value;
+    return CommonCodec.decodeJson(index, len, buff);
   }
 
   private static Object binaryDecodeJSONB(int index, int len, ByteBuf buff) {
@@ -1619,6 +1781,130 @@ public class DataTypeCodec {
     return array;
   }
 
+  /**
+   * Decode a binary {@code int4[]}, {@code int8[]} or {@code float8[]} into an {@code int[]}, {@code long[]} or
+   * {@code double[]}.
+   *
+   * @return the array or {@code null} when the array cannot be decoded into primitive values
+   */
+  static Object binaryDecodePrimitiveArray(DataType type, int index, int len, ByteBuf buff) {
+    switch (type) {
+      case INT4_ARRAY:
+        return binaryDecodeIntArray(index, len, buff);
+      case INT8_ARRAY:
+        return binaryDecodeLongArray(index, len, buff);
+      case FLOAT8_ARRAY:
+        return binaryDecodeDoubleArray(index, len, buff);
+      default:
+        return null;
+    }
+  }
+
+  /**
+   * Decode a one dimension {@code int4[]} without {@code NULL} elements straight into an {@code int[]}.
+   *
+   * @return the array or {@code null} when the array cannot be decoded into primitive values
+   */
+  static int[] binaryDecodeIntArray(int index, int len, ByteBuf buff) {
+    int length = binaryDecodePrimitiveArrayLength(index, len, buff);
+    if (length == -1) {
+      return null;
+    }
+    int[] array = new int[length];
+    // Skip the header and the length of the first element, the elements are 4 bytes long
+    index += 24;
+    for (int i = 0; i < length; i++, index += 8) {
+      array[i] = buff.getInt(index);
+    }
+    return array;
+  }
+
+  /**
+   * Decode a one dimension {@code int8[]} without {@code NULL} elements straight into a {@code long[]}.
+   *
+   * @return the array or {@code null} when the array cannot be decoded into primitive values
+   */
+  static long[] binaryDecodeLongArray(int index, int len, ByteBuf buff) {
+    int length = binaryDecodePrimitiveArrayLength(index, len, buff);
+    if (length == -1) {
+      return null;
+    }
+    long[] array = new long[length];
+    // Skip the header and the length of the first element, the elements are 8 bytes long
+    index += 24;
+    for (int i = 0; i < length; i++, index += 12) {
+      array[i] = buff.getLong(index);
+    }
+    return array;
+  }
+
+  /**
+   * Decode a one dimension {@code float8[]} without {@code NULL} elements straight into a {@code double[]}.
+   *
+   * @return the array or {@code null} when the array cannot be decoded into primitive values
+   */
+  static double[] binaryDecodeDoubleArray(int index, int len, ByteBuf buff) {
+    int length = binaryDecodePrimitiveArrayLength(index, len, buff);
+    if (length == -1) {
+      return null;
+    }
+    double[] array = new double[length];
+    // Skip the header and the length of the first element, the elements are 8 bytes long
+    index += 24;
+    for (int i = 0; i < length; i++, index += 12) {
+      array[i] = buff.getDouble(index);
+    }
+    return array;
+  }
+
+  /**
+   * @return the number of elements or {@code -1} when the array has several dimensions or {@code NULL} elements
+   */
+  private static int binaryDecodePrimitiveArrayLength(int index, int len, ByteBuf buff) {
+    if (len == 12) {
+      return 0;
+    }
+    int dim = buff.getInt(index);
+    int hasNulls = buff.getInt(index + 4);
+    if (dim != 1 || hasNulls != 0) {
+      return -1;
+    }
+    return buff.getInt(index + 12);
+  }
+
+  private static void binaryEncodeIntArray(int[] values, ByteBuf buff) {
+    binaryEncodePrimitiveArrayHeader(DataType.INT4, values.length, 8, buff);
+    for (int value : values) {
+      buff.writeInt(4);
+      buff.writeInt(value);
+    }
+  }
+
+  private static void binaryEncodeLongArray(long[] values, ByteBuf buff) {
+    binaryEncodePrimitiveArrayHeader(DataType.INT8, values.length, 12, buff);
+    for (long value : values) {
+      buff.writeInt(8);
+      buff.writeLong(value);
+    }
+  }
+
+  private static void binaryEncodeDoubleArray(double[] values, ByteBuf buff) {
+    binaryEncodePrimitiveArrayHeader(DataType.FLOAT8, values.length, 12, buff);
+    for (double value : values) {
+      buff.writeInt(8);
+      buff.writeDouble(value);
+    }
+  }
+
+  private static void binaryEncodePrimitiveArrayHeader(DataType type, int length, int elementSize, ByteBuf buff) {
+    buff.ensureWritable(20 + length * elementSize);
+    buff.writeInt(1);       // ndim
+    buff.writeInt(0);       // no nulls
+    buff.writeInt(type.id); // elemtype
+    buff.writeInt(length);  // dimension
+    buff.writeInt(1);       // lower bnds
+  }
+
   private static <T> void binaryEncodeArray(T[] values, DataType type, ByteBuf buff){
     int startIndex = buff.writerIndex();
     buff.writeInt(1);             // ndim
@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2011-2022 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.pgclient.impl.codec;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.pgclient.spi.PgTypeCodec;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+/**
+ * The enum binary format: the UTF-8 bytes of the label.
+ */
+public final class EnumTypeCodec<E extends Enum<E>> implements PgTypeCodec<E> {
+
+  private final String typeName;
+  private final Class<E> type;
+
+  public EnumTypeCodec(String typeName, Class<E> type) {
+    this.typeName = Objects.requireNonNull(typeName);
+    this.type = Objects.requireNonNull(type);
+  }
+
+  @Override
+  public String typeName() {
+    return typeName;
+  }
+
+  @Override
+  public Class<E> javaType() {
+    return type;
+  }
+
+  @Override
+  public E decode(Buffer value) {
+    return Enum.valueOf(type, value.toString(StandardCharsets.UTF_8));
+  }
+
+  @Override
+  public void encode(E value, Buffer buffer) {
+    buffer.appendString(value.name());
+  }
+}
@@ -16,21 +16,32 @@
  */
 package io.vertx.pgclient.impl.codec;
 
+import io.netty.buffer.ByteBuf;
+import io.vertx.pgclient.PgException;
 import io.vertx.sqlclient.Tuple;
 import io.vertx.sqlclient.impl.codec.InvalidCachedStatementEvent;
 import io.vertx.sqlclient.impl.RowDesc;
 import io.vertx.sqlclient.impl.command.CommandResponse;
 import io.vertx.sqlclient.impl.command.ExtendedQueryCommand;
 
+import java.util.Arrays;
+
 class ExtendedQueryCommandCodec<R, C extends ExtendedQueryCommand<R>> extends QueryCommandBaseCodec<R, C> {
 
   private PgEncoder encoder;
+  private boolean parsing;
+  private PgParamDesc paramDesc;
+  private PgRowDesc rowDesc;
+  // Whether the statement created from the shared metadata is described along with its first execution
+  private boolean validating;
+  // Whether the description of the statement does not match the shared metadata
+  private boolean stale;
 
   private static final String TABLE_SCHEMA_CHANGE_ERROR_MESSAGE_PATTERN = "bind message has \\d result formats but query has \\d columns";
 
-  ExtendedQueryCommandCodec(C cmd) {
-    super(cmd);
-    decoder = new RowResultDecoder<>(cmd.collector(), ((PgPreparedStatement)cmd.preparedStatement()).rowDesc());
+  ExtendedQueryCommandCodec(C cmd, boolean lazyRowDecoding) {
+    super(cmd, lazyRowDecoding);
+    decoder = new RowResultDecoder<>(cmd.collector(), ((PgPreparedStatement)cmd.preparedStatement()).rowDesc(), lazyRowDecoding);
   }
 
   @Override
@@ -48,26 +59,147 @@ class ExtendedQueryCommandCodec<R, C extends ExtendedQueryCommand<R>> extends Qu
           completionHandler.handle(CommandResponse.failure("Can not execute batch query with 0 sets of batch parameters."));
           return;
         } else {
+          parseIfNecessary(ps);
           for (Tuple param : cmd.paramsList()) {
-            encoder.writeBind(ps.bind, cmd.cursorId(), param);
+            writeBind(ps, param);
             encoder.writeExecute(cmd.cursorId(), cmd.fetch());
           }
         }
       } else {
-        encoder.writeBind(ps.bind, cmd.cursorId(), cmd.params());
+        parseIfNecessary(ps);
+        writeBind(ps, cmd.params());
         encoder.writeExecute(cmd.cursorId(), cmd.fetch());
       }
       encoder.writeSync();
     }
   }
 
+  private void parseIfNecessary(PgPreparedStatement ps) {
+    if (!ps.parsed) {
+      parsing = true;
+      if (ps.isDescribed()) {
+        // The statement was created from the shared metadata, it is parsed and described along with its first
+        // execution, the rows are not decoded when the description does not match the metadata
+        ps.parsed = true;
+        validating = true;
+        encoder.writeParse(ps.sql, ps.bind.statement, ps.bind.paramTypes);
+        encoder.writeDescribe(new Describe(ps.bind.statement, null));
+      } else {
+        // The statement is parsed and described along with its execution
+        encoder.writeParse(ps.sql, ps.bind.statement, null);
+        encoder.writeDescribe(new Describe(ps.bind.statement, null));
+      }
+    }
+  }
+
+  private void writeBind(PgPreparedStatement ps, Tuple params) {
+    if (ps.isDescribed()) {
+      encoder.writeBind(ps.bind, cmd.cursorId(), params);
+    } else {
+      encoder.writeBindText(ps.bind.statement, cmd.cursorId(), params);
+    }
+  }
+
   @Override
   void handleParseComplete() {
     // Response to Parse
+    parsing = false;
+  }
+
+  @Override
+  void handleParameterDescription(PgParamDesc paramDesc) {
+    // Response to Describe
+    if (validating) {
+      PgPreparedStatement ps = (PgPreparedStatement) cmd.preparedStatement();
+      stale |= !Arrays.equals(ps.paramDesc.paramDataTypes(), paramDesc.paramDataTypes());
+    } else {
+      this.paramDesc = paramDesc;
+    }
+  }
+
+  @Override
+  void handleRowDescription(PgColumnDesc[] columnDescs) {
+    if (validating) {
+      // Response to Describe, the rows are in the formats of the shared metadata
+      PgPreparedStatement ps = (PgPreparedStatement) cmd.preparedStatement();
+      stale |= !sameColumns(ps.rowDesc, columnDescs);
+    } else {
+      // Response to Describe, the rows are in text format
+      rowDesc = PgRowDesc.create(columnDescs);
+      decoder = new RowResultDecoder<>(cmd.collector(), rowDesc, lazyRowDecoding);
+    }
+  }
+
+  @Override
+  void handleNoData() {
+    // Response to Describe
+    if (validating) {
+      PgPreparedStatement ps = (PgPreparedStatement) cmd.preparedStatement();
+      stale |= ps.rowDesc != null;
+    }
+  }
+
+  private static boolean sameColumns(PgRowDesc rowDesc, PgColumnDesc[] columnDescs) {
+    if (rowDesc == null || rowDesc.columns.length != columnDescs.length) {
+      return false;
+    }
+    for (int i = 0;i < columnDescs.length;i++) {
+      PgColumnDesc expected = rowDesc.columns[i];
+      PgColumnDesc actual = columnDescs[i];
+      if (!expected.name.equals(actual.name) || expected.dataType != actual.dataType || expected.codec != actual.codec) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Override
+  void handleDataRow(int len, ByteBuf in) {
+    if (!stale) {
+      super.handleDataRow(len, in);
+    }
+  }
+
+  @Override
+  public void handleCommandComplete(int updated) {
+    if (stale) {
+      // The command fails when the server is ready
+      this.result = false;
+      decoder.reset();
+    } else {
+      super.handleCommandComplete(updated);
+    }
+  }
+
+  @Override
+  void handleReadyForQuery() {
+    if (stale && failure == null) {
+      // The schema changed since the metadata was shared, the statement must be prepared again
+      String sql = cmd.preparedStatement().sql();
+      encoder.metadataCache.remove(sql);
+      encoder.channelHandlerContext().fireChannelRead(new InvalidCachedStatementEvent(sql));
+      failure = new PgException("cached plan must not change result type", "ERROR", "0A000", null);
+    } else if (paramDesc != null) {
+      // The statement has been described
+      PgPreparedStatement ps = (PgPreparedStatement) cmd.preparedStatement();
+      PgRowDesc binaryRowDesc = rowDesc != null ? PgRowDesc.createBinary(rowDesc.columns) : null;
+      if (ps.isCached()) {
+        cmd.ps = new PgPreparedStatement(ps.sql, ps.bind.statement, paramDesc, binaryRowDesc, true);
+      }
+      if (failure == null && encoder.metadataCache != null) {
+        encoder.metadataCache.put(cmd.sql(), paramDesc, binaryRowDesc);
+      }
+    }
+    super.handleReadyForQuery();
   }
 
   @Override
   void handlePortalSuspended() {
+    if (stale) {
+      this.result = true;
+      decoder.reset();
+      return;
+    }
     Throwable failure = decoder.complete();
     R result = decoder.result();
     RowDesc desc = decoder.desc;
@@ -84,8 +216,13 @@ class ExtendedQueryCommandCodec<R, C extends ExtendedQueryCommand<R>> extends Qu
 
   @Override
   public void handleErrorResponse(ErrorResponse errorResponse) {
-    if (((PgPreparedStatement)cmd.preparedStatement()).isCached() && isTableSchemaErrorMessage(errorResponse)) {
-      encoder.channelHandlerContext().fireChannelRead(new InvalidCachedStatementEvent(cmd.preparedStatement().sql()));
+    PgPreparedStatement ps = (PgPreparedStatement) cmd.preparedStatement();
+    if (ps.isCached() && ps.isDescribed() && (parsing || isTableSchemaErrorMessage(errorResponse))) {
+      String sql = cmd.preparedStatement().sql();
+      if (encoder.metadataCache != null) {
+        encoder.metadataCache.remove(sql);
+      }
+      encoder.channelHandlerContext().fireChannelRead(new InvalidCachedStatementEvent(sql));
     }
     super.handleErrorResponse(errorResponse);
   }
@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2011-2022 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.pgclient.impl.codec;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.pgclient.spi.PgTypeCodec;
+
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * The {@code hstore} binary format: the number of pairs followed by the length and the UTF-8 bytes of each key and
+ * value, a {@code NULL} value has a length of {@code -1}.
+ */
+public final class HstoreTypeCodec implements PgTypeCodec<Map<String, String>> {
+
+  public static final HstoreTypeCodec INSTANCE = new HstoreTypeCodec();
+
+  private HstoreTypeCodec() {
+  }
+
+  @Override
+  public String typeName() {
+    return "hstore";
+  }
+
+  @SuppressWarnings("unchecked")
+  @Override
+  public Class<Map<String, String>> javaType() {
+    return (Class) Map.class;
+  }
+
+  @Override
+  public Map<String, String> decode(Buffer value) {
+    int count = value.getInt(0);
+    Map<String, String> map = new LinkedHashMap<>(count * 4 / 3 + 1);
+    int index = 4;
+    for (int i = 0;i < count;i++) {
+      int len = value.getInt(index);
+      String key = value.getString(index + 4, index + 4 + len, "UTF-8");
+      index += 4 + len;
+      len = value.getInt(index);
+      index += 4;
+      String val = null;
+      if (len != -1) {
+        val = value.getString(index, index + len, "UTF-8");
+        index += len;
+      }
+      map.put(key, val);
+    }
+    return map;
+  }
+
+  @Override
+  public void encode(Map<String, String> value, Buffer buffer) {
+    buffer.appendInt(value.size());
+    for (Map.Entry<String, String> entry : value.entrySet()) {
+      appendString(entry.getKey(), buffer);
+      String val = entry.getValue();
+      if (val == null) {
+        buffer.appendInt(-1);
+      } else {
+        appendString(val, buffer);
+      }
+    }
+  }
+
+  private static void appendString(String s, Buffer buffer) {
+    byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+    buffer.appendInt(bytes.length);
+    buffer.appendBytes(bytes);
+  }
+}
@@ -0,0 +1,263 @@
+/*
+ * Copyright (c) 2011-2022 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.pgclient.impl.codec;
+
+import io.netty.buffer.ByteBuf;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.pgclient.impl.RowImpl;
+import io.vertx.sqlclient.impl.codec.CommonCodec;
+
+/**
+ * A row keeping the raw {@code DataRow} bytes and decoding a column value the first time it is accessed.
+ * <p>
+ * The primitive accessors read fixed width numeric values and arrays of them straight from the raw bytes,
+ * {@link #getBuffer(int)} returns the raw document of a JSON column without parsing it. The raw bytes are dropped
+ * once every column has been decoded. Like {@link RowImpl}, this row is not thread safe.
+ */
+class LazyRowImpl extends RowImpl {
+
+  private static final int DECODED = -1;
+
+  private final PgColumnDesc[] columns;
+  private ByteBuf data;
+  private int[] offsets;
+  private int pending;
+
+  /**
+   * @param desc the row description
+   * @param data the row bytes, i.e the {@code DataRow} message body after the column count
+   * @param offsets the offset of each column length in {@code data}
+   */
+  LazyRowImpl(PgRowDesc desc, ByteBuf data, int[] offsets) {
+    super(desc);
+    this.columns = desc.columns;
+    this.data = data;
+    this.offsets = offsets;
+    this.pending = offsets.length;
+    for (int i = 0;i < offsets.length;i++) {
+      super.addValue(null);
+    }
+  }
+
+  @Override
+  public Object getValueInternal(int pos) {
+    if (offsets != null && pos >= 0 && pos < offsets.length && offsets[pos] != DECODED) {
+      super.setValue(pos, decode(pos));
+      decoded(pos);
+    }
+    return super.getValueInternal(pos);
+  }
+
+  @Override
+  public void setValue(int pos, Object value) {
+    super.setValue(pos, value);
+    if (offsets != null && offsets[pos] != DECODED) {
+      decoded(pos);
+    }
+  }
+
+  @Override
+  public boolean isNull(int pos) {
+    if (pending(pos)) {
+      return data.getInt(offsets[pos]) == -1;
+    }
+    return super.isNull(pos);
+  }
+
+  @Override
+  public int getIntValue(int pos) {
+    if (pending(pos)) {
+      int idx = offsets[pos];
+      int length = data.getInt(idx);
+      PgColumnDesc columnDesc = columns[pos];
+      if (length == -1) {
+        return 0;
+      } else if (isIntegral(columnDesc)) {
+        return (int) readIntegral(columnDesc, idx + 4, length);
+      } else if (isFloatingPoint(columnDesc)) {
+        return (int) readFloatingPoint(columnDesc, idx + 4);
+      }
+    }
+    return super.getIntValue(pos);
+  }
+
+  @Override
+  public long getLongValue(int pos) {
+    if (pending(pos)) {
+      int idx = offsets[pos];
+      int length = data.getInt(idx);
+      PgColumnDesc columnDesc = columns[pos];
+      if (length == -1) {
+        return 0L;
+      } else if (isIntegral(columnDesc)) {
+        return readIntegral(columnDesc, idx + 4, length);
+      } else if (isFloatingPoint(columnDesc)) {
+        return (long) readFloatingPoint(columnDesc, idx + 4);
+      }
+    }
+    return super.getLongValue(pos);
+  }
+
+  @Override
+  public double getDoubleValue(int pos) {
+    if (pending(pos)) {
+      int idx = offsets[pos];
+      int length = data.getInt(idx);
+      PgColumnDesc columnDesc = columns[pos];
+      if (length == -1) {
+        return 0D;
+      } else if (isIntegral(columnDesc)) {
+        return readIntegral(columnDesc, idx + 4, length);
+      } else if (isFloatingPoint(columnDesc)) {
+        return readFloatingPoint(columnDesc, idx + 4);
+      }
+    }
+    return super.getDoubleValue(pos);
+  }
+
+  @Override
+  public int[] getIntArray(int pos) {
+    if (pending(pos) && columns[pos].dataType == DataType.INT4_ARRAY && columns[pos].dataFormat == DataFormat.BINARY) {
+      int idx = offsets[pos];
+      int length = data.getInt(idx);
+      if (length == -1) {
+        return null;
+      }
+      int[] array = DataTypeCodec.binaryDecodeIntArray(idx + 4, length, data);
+      if (array != null) {
+        return array;
+      }
+    }
+    return super.getIntArray(pos);
+  }
+
+  @Override
+  public long[] getLongArray(int pos) {
+    if (pending(pos) && columns[pos].dataType == DataType.INT8_ARRAY && columns[pos].dataFormat == DataFormat.BINARY) {
+      int idx = offsets[pos];
+      int length = data.getInt(idx);
+      if (length == -1) {
+        return null;
+      }
+      long[] array = DataTypeCodec.binaryDecodeLongArray(idx + 4, length, data);
+      if (array != null) {
+        return array;
+      }
+    }
+    return super.getLongArray(pos);
+  }
+
+  @Override
+  public double[] getDoubleArray(int pos) {
+    if (pending(pos) && columns[pos].dataType == DataType.FLOAT8_ARRAY && columns[pos].dataFormat == DataFormat.BINARY) {
+      int idx = offsets[pos];
+      int length = data.getInt(idx);
+      if (length == -1) {
+        return null;
+      }
+      double[] array = DataTypeCodec.binaryDecodeDoubleArray(idx + 4, length, data);
+      if (array != null) {
+        return array;
+      }
+    }
+    return super.getDoubleArray(pos);
+  }
+
+  @Override
+  public Buffer getBuffer(int pos) {
+    if (pending(pos) && isJson(columns[pos])) {
+      int idx = offsets[pos];
+      int length = data.getInt(idx);
+      if (length == -1) {
+        return null;
+      }
+      int index = idx + 4;
+      if (columns[pos].dataType == DataType.JSONB && columns[pos].dataFormat == DataFormat.BINARY) {
+        // Skip the version
+        index++;
+        length--;
+      }
+      return Buffer.buffer(data.copy(index, length));
+    }
+    return super.getBuffer(pos);
+  }
+
+  @Override
+  public void clear() {
+    super.clear();
+    data = null;
+    offsets = null;
+  }
+
+  private Object decode(int pos) {
+    int idx = offsets[pos];
+    int length = data.getInt(idx);
+    if (length == -1) {
+      return null;
+    }
+    return columns[pos].decode(idx + 4, length, data);
+  }
+
+  private boolean pending(int pos) {
+    return offsets != null && pos >= 0 && pos < offsets.length && offsets[pos] != DECODED;
+  }
+
+  private static boolean isIntegral(PgColumnDesc columnDesc) {
+    switch (columnDesc.dataType) {
+      case INT2:
+      case INT4:
+      case INT8:
+        return true;
+      default:
+        return false;
+    }
+  }
+
+  private static boolean isJson(PgColumnDesc columnDesc) {
+    return columnDesc.dataType == DataType.JSON || columnDesc.dataType == DataType.JSONB;
+  }
+
+  private static boolean isFloatingPoint(PgColumnDesc columnDesc) {
+    switch (columnDesc.dataType) {
+      case FLOAT4:
+      case FLOAT8:
+        return columnDesc.dataFormat == DataFormat.BINARY;
+      default:
+        return false;
+    }
+  }
+
+  private long readIntegral(PgColumnDesc columnDesc, int index, int length) {
+    if (columnDesc.dataFormat == DataFormat.BINARY) {
+      switch (columnDesc.dataType) {
+        case INT2:
+          return data.getShort(index);
+        case INT4:
+          return data.getInt(index);
+        default:
+          return data.getLong(index);
+      }
+    }
+    return CommonCodec.decodeDecStringToLong(index, length, data);
+  }
+
+  private double readFloatingPoint(PgColumnDesc columnDesc, int index) {
+    return columnDesc.dataType == DataType.FLOAT4 ? data.getFloat(index) : data.getDouble(index);
+  }
+
+  private void decoded(int pos) {
+    offsets[pos] = DECODED;
+    if (--pending == 0) {
+      data = null;
+      offsets = null;
+    }
+  }
+}
@@ -27,6 +27,34 @@ interface ParamExtractor<T> {
     }
   }
 
+  // Primitive arrays are passed through and encoded without boxing the elements
+  static Object extractIntArray(TupleInternal tuple, int pos) {
+    Object value = tuple.getValue(pos);
+    return value instanceof int[] ? value : tuple.getArrayOfIntegers(pos);
+  }
+
+  static Object extractLongArray(TupleInternal tuple, int pos) {
+    Object value = tuple.getValue(pos);
+    if (value instanceof long[]) {
+      return value;
+    } else if (value instanceof int[]) {
+      return Arrays.stream((int[]) value).asLongStream().toArray();
+    }
+    return tuple.getArrayOfLongs(pos);
+  }
+
+  static Object extractDoubleArray(TupleInternal tuple, int pos) {
+    Object value = tuple.getValue(pos);
+    if (value instanceof double[]) {
+      return value;
+    } else if (value instanceof int[]) {
+      return Arrays.stream((int[]) value).asDoubleStream().toArray();
+    } else if (value instanceof long[]) {
+      return Arrays.stream((long[]) value).asDoubleStream().toArray();
+    }
+    return tuple.getArrayOfDoubles(pos);
+  }
+
   T get(TupleInternal tuple, int idx);
 
 }
@@ -19,22 +19,89 @@ package io.vertx.pgclient.impl.codec;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.CombinedChannelDuplexHandler;
 import io.vertx.core.impl.NoStackTraceThrowable;
+import io.vertx.sqlclient.Tuple;
+import io.vertx.sqlclient.impl.PreparedStatement;
 import io.vertx.sqlclient.impl.command.CommandBase;
 import io.vertx.sqlclient.impl.command.CommandResponse;
+import io.vertx.sqlclient.impl.command.ExtendedQueryCommand;
 
 import java.util.ArrayDeque;
 import java.util.Iterator;
+import java.util.UUID;
 
 public class PgCodec extends CombinedChannelDuplexHandler<PgDecoder, PgEncoder> {
 
   private final ArrayDeque<PgCommandCodec<?, ?>> inflight = new ArrayDeque<>();
+  private final PgTypeRegistry typeRegistry;
 
-  public PgCodec() {
-    PgDecoder decoder = new PgDecoder(inflight);
-    PgEncoder encoder = new PgEncoder(inflight);
+  public PgCodec(boolean lazyRowDecoding, PgStatementMetadataCache metadataCache, PgTypeRegistry typeRegistry) {
+    this.typeRegistry = typeRegistry;
+    PgDecoder decoder = new PgDecoder(inflight, typeRegistry);
+    PgEncoder encoder = new PgEncoder(inflight, lazyRowDecoding, metadataCache);
     init(decoder, encoder);
   }
 
+  /**
+   * Create a named statement from the metadata shared by the pooled connections, the statement is parsed along
+   * with its first execution.
+   *
+   * @return the statement or {@code null} when its metadata is not known
+   */
+  public PreparedStatement sharedStatement(String sql) {
+    PgEncoder encoder = outboundHandler();
+    if (encoder.metadataCache == null) {
+      return null;
+    }
+    return encoder.metadataCache.statement(sql, encoder.nextStatementName());
+  }
+
+  /**
+   * Create a named statement parsed and described along with the execution of the command, the parameters and the
+   * rows are sent in text format, so the command parameters must have the same text representation for any type the
+   * server could infer.
+   *
+   * @return the statement or {@code null} when the command cannot be executed this way
+   */
+  public PreparedStatement unpreparedStatement(ExtendedQueryCommand<?> cmd) {
+    if (typeRegistry != null) {
+      // The type codecs only decode the binary format
+      return null;
+    }
+    if (cmd.cursorId() != null) {
+      // The rows fetched later need the description
+      return null;
+    }
+    if (cmd.isBatch()) {
+      if (cmd.paramsList().isEmpty()) {
+        return null;
+      }
+      for (Tuple tuple : cmd.paramsList()) {
+        if (!isTextParameters(tuple)) {
+          return null;
+        }
+      }
+    } else if (!isTextParameters(cmd.params())) {
+      return null;
+    }
+    byte[] statement = ((PgEncoder) outboundHandler()).nextStatementName();
+    return new PgPreparedStatement(cmd.sql(), statement, null, null, true, false);
+  }
+
+  private static boolean isTextParameters(Tuple tuple) {
+    for (int i = 0;i < tuple.size();i++) {
+      Object value = tuple.getValue(i);
+      if (value != null
+        && !(value instanceof Boolean)
+        && !(value instanceof Short)
+        && !(value instanceof Integer)
+        && !(value instanceof Long)
+        && !(value instanceof UUID)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
   @Override
   public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) throws Exception {
     fail(ctx, cause);
@@ -45,10 +112,20 @@ public class PgCodec extends CombinedChannelDuplexHandler<PgDecoder, PgEncoder>
     for  (Iterator<PgCommandCodec<?, ?>> it = inflight.iterator(); it.hasNext();) {
       PgCommandCodec<?, ?> codec = it.next();
       it.remove();
-      CommandResponse<Object> failure = CommandResponse.failure(cause);
-      failure.cmd = (CommandBase) codec.cmd;
-      ctx.fireChannelRead(failure);
+      fail(ctx, codec.cmd, cause);
     }
+    // The commands written during a copy are not sent yet
+    ArrayDeque<CommandBase<?>> deferred = ((PgEncoder) outboundHandler()).deferred;
+    CommandBase<?> cmd;
+    while ((cmd = deferred.poll()) != null) {
+      fail(ctx, cmd, cause);
+    }
+  }
+
+  private static void fail(ChannelHandlerContext ctx, CommandBase<?> cmd, Throwable cause) {
+    CommandResponse<Object> failure = CommandResponse.failure(cause);
+    failure.cmd = (CommandBase) cmd;
+    ctx.fireChannelRead(failure);
   }
 
   @Override
@@ -17,6 +17,9 @@
 
 package io.vertx.pgclient.impl.codec;
 
+import io.netty.buffer.ByteBuf;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.pgclient.spi.PgTypeCodec;
 import io.vertx.sqlclient.desc.ColumnDescriptor;
 
 import java.sql.JDBCType;
@@ -36,8 +39,13 @@ class PgColumnDesc implements ColumnDescriptor {
   final short relationAttributeNo;
   final short length;
   final int typeModifier;
+  final PgTypeCodec<?> codec; // The codec of a type registered by the application
 
   PgColumnDesc(String name, int relationId, short relationAttributeNo, DataType dataType, short length, int typeModifier, DataFormat dataFormat) {
+    this(name, relationId, relationAttributeNo, dataType, length, typeModifier, dataFormat, null);
+  }
+
+  PgColumnDesc(String name, int relationId, short relationAttributeNo, DataType dataType, short length, int typeModifier, DataFormat dataFormat, PgTypeCodec<?> codec) {
     this.name = name;
     this.dataType = dataType;
     this.dataFormat = dataFormat;
@@ -45,6 +53,28 @@ class PgColumnDesc implements ColumnDescriptor {
     this.relationId = relationId;
     this.relationAttributeNo = relationAttributeNo;
     this.typeModifier = typeModifier;
+    this.codec = codec;
+  }
+
+  /**
+   * @return whether the column values are requested in binary format
+   */
+  boolean supportsBinary() {
+    return codec != null || dataType.supportsBinary;
+  }
+
+  /**
+   * Decode a non {@code null} value of this column.
+   */
+  Object decode(int index, int length, ByteBuf in) {
+    if (dataFormat == DataFormat.BINARY) {
+      if (codec != null) {
+        return codec.decode(Buffer.buffer(in.slice(index, length)));
+      }
+      return DataTypeCodec.decodeBinary(dataType, index, length, in);
+    } else {
+      return DataTypeCodec.decodeText(dataType, index, length, in);
+    }
   }
 
   @Override
@@ -59,7 +89,7 @@ class PgColumnDesc implements ColumnDescriptor {
 
   @Override
   public String typeName() {
-    return dataType.toString();
+    return codec != null ? codec.typeName() : dataType.toString();
   }
 
   @Override
@@ -90,6 +90,25 @@ abstract class PgCommandCodec<R, C extends CommandBase<R>> {
     logger.warn(getClass().getSimpleName() + " should handle message CommandComplete");
   }
 
+  void handleCopyInResponse() {
+    throw new UnsupportedOperationException("COPY FROM STDIN requires PgConnection#copyFrom");
+  }
+
+  void handleCopyOutResponse() {
+    throw new UnsupportedOperationException("COPY TO STDOUT requires PgConnection#copyTo");
+  }
+
+  void handleCopyData(ByteBuf in) {
+    logger.warn(getClass().getSimpleName() + " should handle message CopyData");
+  }
+
+  void handleCopyDone() {
+    logger.warn(getClass().getSimpleName() + " should handle message CopyDone");
+  }
+
+  void handleWritabilityChanged(boolean writable) {
+  }
+
   void handleAuthenticationMD5Password(byte[] salt) {
     logger.warn(getClass().getSimpleName() + " should handle message AuthenticationMD5Password");
   }
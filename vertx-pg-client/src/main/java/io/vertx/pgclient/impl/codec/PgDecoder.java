@@ -22,6 +22,7 @@ import io.netty.buffer.CompositeByteBuf;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelInboundHandlerAdapter;
 import io.vertx.pgclient.PgException;
+import io.vertx.pgclient.spi.PgTypeCodec;
 import io.vertx.sqlclient.impl.Notification;
 import io.vertx.pgclient.impl.util.Util;
 import io.netty.buffer.ByteBuf;
@@ -39,11 +40,13 @@ import java.util.ArrayDeque;
 class PgDecoder extends ChannelInboundHandlerAdapter {
 
   private final ArrayDeque<PgCommandCodec<?, ?>> inflight;
+  private final PgTypeRegistry typeRegistry;
   private ByteBufAllocator alloc;
   private ByteBuf in;
 
-  PgDecoder(ArrayDeque<PgCommandCodec<?, ?>> inflight) {
+  PgDecoder(ArrayDeque<PgCommandCodec<?, ?>> inflight, PgTypeRegistry typeRegistry) {
     this.inflight = inflight;
+    this.typeRegistry = typeRegistry;
   }
 
   @Override
@@ -60,6 +63,15 @@ class PgDecoder extends ChannelInboundHandlerAdapter {
     }
   }
 
+  @Override
+  public void channelWritabilityChanged(ChannelHandlerContext ctx) throws Exception {
+    PgCommandCodec<?, ?> codec = inflight.peek();
+    if (codec != null) {
+      codec.handleWritabilityChanged(ctx.channel().isWritable());
+    }
+    super.channelWritabilityChanged(ctx);
+  }
+
   @Override
   public void channelRead(ChannelHandlerContext ctx, Object msg) {
     ByteBuf buff = (ByteBuf) msg;
@@ -108,6 +120,10 @@ class PgDecoder extends ChannelInboundHandlerAdapter {
             decodeBindComplete();
             break;
           }
+          case PgProtocolConstants.MESSAGE_TYPE_COPY_DATA: {
+            inflight.peek().handleCopyData(in);
+            break;
+          }
           default: {
             decodeMessage(ctx, id, in);
           }
@@ -176,6 +192,18 @@ class PgDecoder extends ChannelInboundHandlerAdapter {
         decodeNotificationResponse(ctx, in);
         break;
       }
+      case PgProtocolConstants.MESSAGE_TYPE_COPY_IN_RESPONSE: {
+        inflight.peek().handleCopyInResponse();
+        break;
+      }
+      case PgProtocolConstants.MESSAGE_TYPE_COPY_OUT_RESPONSE: {
+        inflight.peek().handleCopyOutResponse();
+        break;
+      }
+      case PgProtocolConstants.MESSAGE_TYPE_COPY_DONE: {
+        inflight.peek().handleCopyDone();
+        break;
+      }
       default: {
         throw new UnsupportedOperationException();
       }
@@ -193,9 +221,11 @@ class PgDecoder extends ChannelInboundHandlerAdapter {
 
   private void decodeDataRow(ByteBuf in) {
     PgCommandCodec<?, ?> codec = inflight.peek();
-    QueryCommandBaseCodec<?, ?> cmd = (QueryCommandBaseCodec<?, ?>) codec;
-    int len = in.readUnsignedShort();
-    cmd.decoder.handleRow(len, in);
+    if (codec instanceof QueryCommandBaseCodec) {
+      QueryCommandBaseCodec<?, ?> cmd = (QueryCommandBaseCodec<?, ?>) codec;
+      int len = in.readUnsignedShort();
+      cmd.handleDataRow(len, in);
+    }
   }
 
   private void  decodeRowDescription(ByteBuf in) {
@@ -208,14 +238,16 @@ class PgDecoder extends ChannelInboundHandlerAdapter {
       short typeSize = in.readShort();
       int typeModifier = in.readInt();
       int textOrBinary = in.readUnsignedShort(); // Useless for now
+      DataType dataType = DataType.valueOf(typeOID);
       PgColumnDesc column = new PgColumnDesc(
         fieldName,
         tableOID,
         columnAttributeNumber,
-        DataType.valueOf(typeOID),
+        dataType,
         typeSize,
         typeModifier,
-        DataFormat.valueOf(textOrBinary)
+        DataFormat.valueOf(textOrBinary),
+        codec(dataType, typeOID)
       );
       columns[c] = column;
     }
@@ -436,10 +468,29 @@ class PgDecoder extends ChannelInboundHandlerAdapter {
 
   private void decodeParameterDescription(ByteBuf in) {
     DataType[] paramDataTypes = new DataType[in.readUnsignedShort()];
+    PgTypeCodec<?>[] paramCodecs = null;
     for (int c = 0; c < paramDataTypes.length; ++c) {
-      paramDataTypes[c] = DataType.valueOf(in.readInt());
+      int typeOID = in.readInt();
+      paramDataTypes[c] = DataType.valueOf(typeOID);
+      PgTypeCodec<?> codec = codec(paramDataTypes[c], typeOID);
+      if (codec != null) {
+        if (paramCodecs == null) {
+          paramCodecs = new PgTypeCodec<?>[paramDataTypes.length];
+        }
+        paramCodecs[c] = codec;
+      }
+    }
+    inflight.peek().handleParameterDescription(new PgParamDesc(paramDataTypes, paramCodecs));
+  }
+
+  /**
+   * @return the codec registered for a type the client does not know or {@code null}
+   */
+  private PgTypeCodec<?> codec(DataType dataType, int typeOID) {
+    if (typeRegistry == null || (dataType != DataType.UNKNOWN && dataType != DataType.HSTORE)) {
+      return null;
     }
-    inflight.peek().handleParameterDescription(new PgParamDesc(paramDataTypes));
+    return typeRegistry.codec(typeOID);
   }
 
   private void decodeParameterStatus(ByteBuf in) {
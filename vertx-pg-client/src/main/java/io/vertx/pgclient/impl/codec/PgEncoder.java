@@ -23,6 +23,10 @@ import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelOutboundHandlerAdapter;
 import io.netty.channel.ChannelPromise;
 import io.netty.channel.socket.SocketChannel;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.pgclient.impl.command.CopyInCommand;
+import io.vertx.pgclient.impl.command.CopyOutCommand;
+import io.vertx.pgclient.spi.PgTypeCodec;
 import io.vertx.sqlclient.Tuple;
 import io.vertx.pgclient.impl.util.Util;
 import io.vertx.sqlclient.impl.HexSequence;
@@ -60,15 +64,25 @@ final class PgEncoder extends ChannelOutboundHandlerAdapter {
   private static final byte EXECUTE = 'E';
   private static final byte CLOSE = 'C';
   private static final byte SYNC = 'S';
+  private static final byte COPY_DATA = 'd';
+  private static final byte COPY_DONE = 'c';
+  private static final byte COPY_FAIL = 'f';
 
   private final ArrayDeque<PgCommandCodec<?, ?>> inflight;
   private ChannelHandlerContext ctx;
   private ByteBuf out;
   private final HexSequence psSeq = new HexSequence(); // used for generating named prepared statement name
+  private final boolean lazyRowDecoding;
+  final PgStatementMetadataCache metadataCache;
+  // Commands written while the server is in copy-in mode
+  final ArrayDeque<CommandBase<?>> deferred = new ArrayDeque<>();
+  private boolean copyIn;
   boolean closeSent;
 
-  PgEncoder(ArrayDeque<PgCommandCodec<?, ?>> inflight) {
+  PgEncoder(ArrayDeque<PgCommandCodec<?, ?>> inflight, boolean lazyRowDecoding, PgStatementMetadataCache metadataCache) {
     this.inflight = inflight;
+    this.lazyRowDecoding = lazyRowDecoding;
+    this.metadataCache = metadataCache;
   }
 
 
@@ -91,6 +105,11 @@ final class PgEncoder extends ChannelOutboundHandlerAdapter {
   }
 
   void write(CommandBase<?> cmd) {
+    if (copyIn) {
+      // The server would interpret any message other than copy data as an error
+      deferred.add(cmd);
+      return;
+    }
     PgCommandCodec<?, ?> codec = wrap(cmd);
     codec.completionHandler = resp -> {
       PgCommandCodec<?, ?> c = inflight.poll();
@@ -106,9 +125,9 @@ final class PgEncoder extends ChannelOutboundHandlerAdapter {
     if (cmd instanceof InitCommand) {
       return new InitCommandCodec((InitCommand) cmd);
     } else if (cmd instanceof SimpleQueryCommand<?>) {
-      return new SimpleQueryCodec<>((SimpleQueryCommand<?>) cmd);
+      return new SimpleQueryCodec<>((SimpleQueryCommand<?>) cmd, lazyRowDecoding);
     } else if (cmd instanceof ExtendedQueryCommand<?>) {
-      return new ExtendedQueryCommandCodec<>((ExtendedQueryCommand<?>) cmd);
+      return new ExtendedQueryCommandCodec<>((ExtendedQueryCommand<?>) cmd, lazyRowDecoding);
     } else if (cmd instanceof PrepareStatementCommand) {
       return new PrepareStatementCommandCodec((PrepareStatementCommand) cmd);
     } else if (cmd instanceof CloseConnectionCommand) {
@@ -117,6 +136,10 @@ final class PgEncoder extends ChannelOutboundHandlerAdapter {
       return new ClosePortalCommandCodec((CloseCursorCommand) cmd);
     } else if (cmd instanceof CloseStatementCommand) {
       return new CloseStatementCommandCodec((CloseStatementCommand) cmd);
+    } else if (cmd instanceof CopyInCommand) {
+      return new CopyInCommandCodec((CopyInCommand) cmd);
+    } else if (cmd instanceof CopyOutCommand) {
+      return new CopyOutCommandCodec((CopyOutCommand) cmd);
     }
     throw new AssertionError();
   }
@@ -420,7 +443,7 @@ final class PgEncoder extends ChannelOutboundHandlerAdapter {
     // Parameter formats
     for (int c = 0;c < paramLen;c++) {
       // for now each format is Binary
-      out.writeShort(bind.paramTypes[c].supportsBinary ? 1 : 0);
+      out.writeShort(bind.paramTypes[c].supportsBinary || bind.paramCodec(c, paramValues.getValue(c)) != null ? 1 : 0);
     }
     out.writeShort(paramLen);
     for (int c = 0;c < paramLen;c++) {
@@ -430,7 +453,13 @@ final class PgEncoder extends ChannelOutboundHandlerAdapter {
         out.writeInt(-1);
       } else {
         DataType dataType = bind.paramTypes[c];
-        if (dataType.supportsBinary) {
+        PgTypeCodec<Object> codec = bind.paramCodec(c, param);
+        if (codec != null) {
+          int idx = out.writerIndex();
+          out.writeInt(0);
+          codec.encode(param, Buffer.buffer(out));
+          out.setInt(idx, out.writerIndex() - idx - 4);
+        } else if (dataType.supportsBinary) {
           int idx = out.writerIndex();
           out.writeInt(0);
           DataTypeCodec.encodeBinary(dataType, param, out);
@@ -447,7 +476,7 @@ final class PgEncoder extends ChannelOutboundHandlerAdapter {
     if (bind.resultColumns.length > 0) {
       out.writeShort(bind.resultColumns.length);
       for (PgColumnDesc resultColumn : bind.resultColumns) {
-        out.writeShort(resultColumn.dataType.supportsBinary ? 1 : 0);
+        out.writeShort(resultColumn.supportsBinary() ? 1 : 0);
       }
     } else {
       out.writeShort(1);
@@ -456,6 +485,101 @@ final class PgEncoder extends ChannelOutboundHandlerAdapter {
     out.setInt(pos + 1, out.writerIndex() - pos - 1);
   }
 
+  /**
+   * Write a bind message for a statement whose parameter types are not known yet, the parameters and the
+   * result columns use the text format.
+   */
+  void writeBindText(byte[] statement, String portal, Tuple paramValues) {
+    ensureBuffer();
+    int pos = out.writerIndex();
+    out.writeByte(BIND);
+    out.writeInt(0);
+    if (portal != null) {
+      out.writeCharSequence(portal, UTF_8);
+    }
+    out.writeByte(0);
+    out.writeBytes(statement);
+    // Parameter formats, all parameters are in text format
+    out.writeShort(0);
+    int paramLen = paramValues.size();
+    out.writeShort(paramLen);
+    for (int c = 0;c < paramLen;c++) {
+      Object param = paramValues.getValue(c);
+      if (param == null) {
+        // NULL value
+        out.writeInt(-1);
+      } else {
+        DataTypeCodec.encodeText(DataType.UNKNOWN, param, out);
+      }
+    }
+    // Result formats, all result columns are in text format
+    out.writeShort(0);
+    out.setInt(pos + 1, out.writerIndex() - pos - 1);
+  }
+
+  /**
+   * Defer the commands written until {@link #endCopyIn()} is called.
+   */
+  void beginCopyIn() {
+    copyIn = true;
+  }
+
+  /**
+   * Write the commands deferred since {@link #beginCopyIn()}.
+   */
+  void endCopyIn() {
+    if (copyIn) {
+      copyIn = false;
+      CommandBase<?> cmd;
+      while (!copyIn && (cmd = deferred.poll()) != null) {
+        write(cmd);
+      }
+      flush();
+    }
+  }
+
+  /**
+   * <p>
+   * The message carries a chunk of the data sent to the server after it replied {@code CopyInResponse}.
+   */
+  void writeCopyData(Buffer data) {
+    ensureBuffer();
+    out.writeByte(COPY_DATA);
+    out.writeInt(4 + data.length());
+    out.writeBytes(data.getByteBuf());
+  }
+
+  /**
+   * <p>
+   * The message ends the data sent to the server, the response is {@link CommandComplete} followed by
+   * {@link ReadyForQuery} or {@link ErrorResponse}.
+   */
+  void writeCopyDone() {
+    ensureBuffer();
+    out.writeByte(COPY_DONE);
+    out.writeInt(4);
+  }
+
+  /**
+   * <p>
+   * The message aborts the copy, the server replies {@link ErrorResponse} with the given {@code message}.
+   */
+  void writeCopyFail(String message) {
+    ensureBuffer();
+    int pos = out.writerIndex();
+    out.writeByte(COPY_FAIL);
+    out.writeInt(0);
+    Util.writeCStringUTF8(out, message);
+    out.setInt(pos + 1, out.writerIndex() - pos - 1);
+  }
+
+  /**
+   * @return the number of bytes written and not yet flushed
+   */
+  int bufferedBytes() {
+    return out == null ? 0 : out.readableBytes();
+  }
+
   private void ensureBuffer() {
     if (out == null) {
       out = ctx.alloc().ioBuffer();
@@ -20,6 +20,7 @@ import io.vertx.sqlclient.Tuple;
 import io.vertx.sqlclient.impl.ErrorMessageFactory;
 import io.vertx.sqlclient.impl.ParamDesc;
 import io.vertx.pgclient.impl.util.Util;
+import io.vertx.pgclient.spi.PgTypeCodec;
 import io.vertx.sqlclient.impl.TupleInternal;
 
 import java.util.Arrays;
@@ -32,15 +33,26 @@ class PgParamDesc extends ParamDesc {
 
   // OIDs
   private final DataType[] paramDataTypes;
+  // The codecs of the types registered by the application, null when there are none
+  private final PgTypeCodec<?>[] paramCodecs;
 
   PgParamDesc(DataType[] paramDataTypes) {
+    this(paramDataTypes, null);
+  }
+
+  PgParamDesc(DataType[] paramDataTypes, PgTypeCodec<?>[] paramCodecs) {
     this.paramDataTypes = paramDataTypes;
+    this.paramCodecs = paramCodecs;
   }
 
   DataType[] paramDataTypes() {
     return paramDataTypes;
   }
 
+  PgTypeCodec<?>[] paramCodecs() {
+    return paramCodecs;
+  }
+
   public String prepare(TupleInternal values) {
     int numberOfParams = values.size();
     int paramDescLength = paramDataTypes.length;
@@ -48,6 +60,10 @@ class PgParamDesc extends ParamDesc {
       return ErrorMessageFactory.buildWhenArgumentsLengthNotMatched(paramDescLength, numberOfParams);
     }
     for (int i = 0; i < paramDescLength; i++) {
+      if (paramCodecs != null && paramCodecs[i] != null && paramCodecs[i].javaType().isInstance(values.getValue(i))) {
+        // Encoded by the codec
+        continue;
+      }
       DataType paramDataType = paramDataTypes[i];
       ParamExtractor<?> extractor = paramDataType.paramExtractor;
       Object val;
@@ -28,13 +28,20 @@ class PgPreparedStatement implements PreparedStatement {
   final PgParamDesc paramDesc;
   final PgRowDesc rowDesc;
   final boolean cached;
+  // Whether the statement has been parsed by the server, otherwise it is parsed along with its first execution
+  boolean parsed;
 
   PgPreparedStatement(String sql, byte[] statement, PgParamDesc paramDesc, PgRowDesc rowDesc, boolean cached) {
+    this(sql, statement, paramDesc, rowDesc, cached, true);
+  }
+
+  PgPreparedStatement(String sql, byte[] statement, PgParamDesc paramDesc, PgRowDesc rowDesc, boolean cached, boolean parsed) {
     this.paramDesc = paramDesc;
     this.rowDesc = rowDesc;
     this.sql = sql;
-    this.bind = new Bind(statement, paramDesc != null ? paramDesc.paramDataTypes() : null, rowDesc != null ? rowDesc.columns : PgColumnDesc.EMPTY_COLUMNS);
+    this.bind = new Bind(statement, paramDesc != null ? paramDesc.paramDataTypes() : null, paramDesc != null ? paramDesc.paramCodecs() : null, rowDesc != null ? rowDesc.columns : PgColumnDesc.EMPTY_COLUMNS);
     this.cached = cached;
+    this.parsed = parsed;
   }
 
   @Override
@@ -54,7 +61,15 @@ class PgPreparedStatement implements PreparedStatement {
 
   @Override
   public String prepare(TupleInternal values) {
-    return paramDesc.prepare(values);
+    // The parameters of a statement not yet described are checked by the server
+    return paramDesc != null ? paramDesc.prepare(values) : null;
+  }
+
+  /**
+   * @return whether the parameter and row descriptions of the statement are known
+   */
+  boolean isDescribed() {
+    return paramDesc != null;
   }
 
   public boolean isCached() {
@@ -35,7 +35,8 @@ class PgRowDesc extends RowDesc {
         c.dataType,
         c.length,
         c.typeModifier,
-        c.dataType.supportsBinary ? DataFormat.BINARY : DataFormat.TEXT))
+        c.supportsBinary() ? DataFormat.BINARY : DataFormat.TEXT,
+        c.codec))
       .toArray(PgColumnDesc[]::new));
   }
 
@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2011-2022 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.pgclient.impl.codec;
+
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The parameter and row descriptions of the statements prepared by the connections of a pool.
+ * <p>
+ * A connection preparing a statement known by this cache does not need to describe it, the statement
+ * is parsed along with its first execution, saving the round trip of the prepare command. The descriptions
+ * are immutable and shared by the connections.
+ */
+public final class PgStatementMetadataCache {
+
+  private final int capacity;
+  private final ConcurrentHashMap<String, Metadata> map = new ConcurrentHashMap<>();
+
+  public PgStatementMetadataCache(int capacity) {
+    this.capacity = capacity;
+  }
+
+  public int size() {
+    return map.size();
+  }
+
+  /**
+   * Create a statement from the cached metadata.
+   *
+   * @param sql the statement SQL
+   * @param statement the statement name
+   * @return the statement to parse or {@code null} when the metadata is not known
+   */
+  PgPreparedStatement statement(String sql, byte[] statement) {
+    Metadata metadata = map.get(sql);
+    if (metadata == null) {
+      return null;
+    }
+    return new PgPreparedStatement(sql, statement, metadata.paramDesc, metadata.rowDesc, true, false);
+  }
+
+  void put(String sql, PgParamDesc paramDesc, PgRowDesc rowDesc) {
+    if (paramDesc == null || capacity <= 0) {
+      return;
+    }
+    for (DataType type : paramDesc.paramDataTypes()) {
+      if (type == DataType.UNKNOWN) {
+        // The parse message would not declare the actual type
+        return;
+      }
+    }
+    if (map.size() >= capacity && !map.containsKey(sql)) {
+      Iterator<String> it = map.keySet().iterator();
+      if (it.hasNext()) {
+        map.remove(it.next());
+      }
+    }
+    map.put(sql, new Metadata(paramDesc, rowDesc));
+  }
+
+  void remove(String sql) {
+    map.remove(sql);
+  }
+
+  private static class Metadata {
+
+    final PgParamDesc paramDesc;
+    final PgRowDesc rowDesc;
+
+    Metadata(PgParamDesc paramDesc, PgRowDesc rowDesc) {
+      this.paramDesc = paramDesc;
+      this.rowDesc = rowDesc;
+    }
+  }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2011-2022 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.pgclient.impl.codec;
+
+import io.vertx.core.impl.logging.Logger;
+import io.vertx.core.impl.logging.LoggerFactory;
+import io.vertx.pgclient.spi.PgTypeCodec;
+import io.vertx.sqlclient.Row;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The {@link PgTypeCodec codecs} of the connections of a pool indexed by the OID of their type.
+ * <p>
+ * The OIDs are resolved by a query executed when a connection is established, until every type is resolved. The
+ * resolved codecs are immutable and shared by the connections.
+ */
+public final class PgTypeRegistry {
+
+  private static final Logger logger = LoggerFactory.getLogger(PgTypeRegistry.class);
+
+  private final List<PgTypeCodec<?>> codecs;
+  private volatile Map<Integer, PgTypeCodec<?>> resolved = Collections.emptyMap();
+
+  public PgTypeRegistry(List<PgTypeCodec<?>> codecs) {
+    this.codecs = new ArrayList<>(codecs);
+  }
+
+  /**
+   * @return the codec of the type or {@code null}
+   */
+  PgTypeCodec<?> codec(int oid) {
+    Map<Integer, PgTypeCodec<?>> map = resolved;
+    return map.isEmpty() ? null : map.get(oid);
+  }
+
+  /**
+   * @return whether the type of every codec is resolved
+   */
+  public boolean isResolved() {
+    return resolved.size() == codecs.size();
+  }
+
+  /**
+   * @return the query resolving the OIDs of the types, it returns a single row with the OID of each type
+   */
+  public String resolveQuery() {
+    StringBuilder sql = new StringBuilder("SELECT ");
+    for (int i = 0;i < codecs.size();i++) {
+      if (i > 0) {
+        sql.append(", ");
+      }
+      sql.append("to_regtype('").append(codecs.get(i).typeName().replace("'", "''")).append("')::oid::int8");
+    }
+    return sql.toString();
+  }
+
+  /**
+   * Resolve the OIDs from the row returned by the {@link #resolveQuery()}.
+   */
+  public void resolve(Row row) {
+    Map<Integer, PgTypeCodec<?>> map = new HashMap<>();
+    for (int i = 0;i < codecs.size();i++) {
+      PgTypeCodec<?> codec = codecs.get(i);
+      Long oid = row.getLong(i);
+      if (oid == null) {
+        logger.warn("PostgreSQL type " + codec.typeName() + " does not exist, its values are not decoded by " + codec.getClass().getName());
+      } else {
+        // OIDs are unsigned, the protocol messages carry them as an int
+        int id = oid.intValue();
+        DataType dataType = DataType.valueOf(id);
+        if (dataType != DataType.UNKNOWN && dataType != DataType.HSTORE) {
+          logger.warn("PostgreSQL type " + codec.typeName() + " is decoded by the client, " + codec.getClass().getName() + " is ignored");
+        }
+        map.put(id, codec);
+      }
+    }
+    resolved = map;
+  }
+}
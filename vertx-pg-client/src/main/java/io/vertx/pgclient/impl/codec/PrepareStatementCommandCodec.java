@@ -29,6 +29,7 @@ class PrepareStatementCommandCodec extends PgCommandCodec<PreparedStatement, Pre
   private PgRowDesc rowDesc;
 
   private byte[] statement;
+  private PgStatementMetadataCache metadataCache;
 
   PrepareStatementCommandCodec(PrepareStatementCommand cmd) {
     super(cmd);
@@ -36,6 +37,7 @@ class PrepareStatementCommandCodec extends PgCommandCodec<PreparedStatement, Pre
 
   @Override
   void encode(PgEncoder encoder) {
+    metadataCache = encoder.metadataCache;
     if (cmd.isManaged()) {
       statement = encoder.nextStatementName();
     } else {
@@ -92,6 +94,9 @@ class PrepareStatementCommandCodec extends PgCommandCodec<PreparedStatement, Pre
 
   @Override
   public void handleReadyForQuery() {
+    if (failure == null && metadataCache != null && cmd.parameterTypes() == null) {
+      metadataCache.put(cmd.sql(), parameterDesc, rowDesc);
+    }
     result = new PgPreparedStatement(cmd.sql(), statement, this.parameterDesc, this.rowDesc, cmd.isManaged());
     super.handleReadyForQuery();
   }
@@ -16,6 +16,7 @@
  */
 package io.vertx.pgclient.impl.codec;
 
+import io.netty.buffer.ByteBuf;
 import io.vertx.sqlclient.Row;
 import io.vertx.sqlclient.impl.RowDesc;
 import io.vertx.sqlclient.impl.command.QueryCommandBase;
@@ -24,10 +25,16 @@ import java.util.stream.Collector;
 
 abstract class QueryCommandBaseCodec<T, C extends QueryCommandBase<T>> extends PgCommandCodec<Boolean, C> {
 
+  final boolean lazyRowDecoding;
   RowResultDecoder<?, T> decoder;
 
-  QueryCommandBaseCodec(C cmd) {
+  QueryCommandBaseCodec(C cmd, boolean lazyRowDecoding) {
     super(cmd);
+    this.lazyRowDecoding = lazyRowDecoding;
+  }
+
+  void handleDataRow(int len, ByteBuf in) {
+    decoder.handleRow(len, in);
   }
 
   @Override
@@ -17,39 +17,197 @@
 
 package io.vertx.pgclient.impl.codec;
 
+import io.vertx.sqlclient.ColumnarRowSet.ColumnType;
 import io.vertx.sqlclient.Row;
 import io.vertx.pgclient.impl.RowImpl;
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.vertx.sqlclient.impl.ColumnarRowSetImpl;
 import io.vertx.sqlclient.impl.RowDecoder;
+import io.vertx.sqlclient.impl.codec.CommonCodec;
 
 import java.util.stream.Collector;
 
 class RowResultDecoder<C, R> extends RowDecoder<C, R> {
 
   final PgRowDesc desc;
+  private final boolean lazy;
+  private ColumnType[] columnTypes;
 
   RowResultDecoder(Collector<Row, C, R> collector, PgRowDesc desc) {
+    this(collector, desc, false);
+  }
+
+  RowResultDecoder(Collector<Row, C, R> collector, PgRowDesc desc, boolean lazy) {
     super(collector);
     this.desc = desc;
+    this.lazy = lazy;
   }
 
   @Override
   protected Row decodeRow(int len, ByteBuf in) {
-    Row row = new RowImpl(desc);
+    if (lazy) {
+      return decodeLazyRow(len, in);
+    }
+    RowImpl row = new RowImpl(desc);
     for (int c = 0; c < len; ++c) {
       int length = in.readInt();
       Object decoded = null;
       if (length != -1) {
         PgColumnDesc columnDesc = desc.columns[c];
-        if (columnDesc.dataFormat == DataFormat.BINARY) {
-          decoded = DataTypeCodec.decodeBinary(columnDesc.dataType, in.readerIndex(), length, in);
-        } else {
-          decoded = DataTypeCodec.decodeText(columnDesc.dataType, in.readerIndex(), length, in);
+        if (decodePrimitive(columnDesc, in.readerIndex(), length, in, row)) {
+          in.skipBytes(length);
+          continue;
         }
+        decoded = columnDesc.decode(in.readerIndex(), length, in);
         in.skipBytes(length);
       }
       row.addValue(decoded);
     }
     return row;
   }
+
+  /**
+   * Decode fixed width numeric values and arrays of them without boxing them.
+   *
+   * @return whether the value has been added to the row
+   */
+  private static boolean decodePrimitive(PgColumnDesc columnDesc, int index, int length, ByteBuf in, RowImpl row) {
+    boolean binary = columnDesc.dataFormat == DataFormat.BINARY;
+    switch (columnDesc.dataType) {
+      case INT2:
+        row.addShort(binary ? in.getShort(index) : (short) CommonCodec.decodeDecStringToLong(index, length, in));
+        return true;
+      case INT4:
+        row.addInt(binary ? in.getInt(index) : (int) CommonCodec.decodeDecStringToLong(index, length, in));
+        return true;
+      case INT8:
+        row.addLong(binary ? in.getLong(index) : CommonCodec.decodeDecStringToLong(index, length, in));
+        return true;
+      case FLOAT4:
+        if (binary) {
+          row.addFloat(in.getFloat(index));
+          return true;
+        }
+        return false;
+      case FLOAT8:
+        if (binary) {
+          row.addDouble(in.getDouble(index));
+          return true;
+        }
+        return false;
+      case INT4_ARRAY:
+      case INT8_ARRAY:
+      case FLOAT8_ARRAY:
+        if (binary) {
+          Object array = DataTypeCodec.binaryDecodePrimitiveArray(columnDesc.dataType, index, length, in);
+          if (array != null) {
+            row.addPrimitiveArray(array);
+            return true;
+          }
+        }
+        return false;
+      default:
+        return false;
+    }
+  }
+
+  /**
+   * Only locate the column values, the values are decoded by {@link LazyRowImpl} when they are accessed.
+   */
+  private Row decodeLazyRow(int len, ByteBuf in) {
+    int start = in.readerIndex();
+    int[] offsets = new int[len];
+    int idx = start;
+    for (int c = 0; c < len; ++c) {
+      offsets[c] = idx - start;
+      int length = in.getInt(idx);
+      idx += 4;
+      if (length > 0) {
+        idx += length;
+      }
+    }
+    // Copy the row out of the inbound buffer that is recycled as soon as the message is processed
+    byte[] data = new byte[idx - start];
+    in.readBytes(data);
+    return new LazyRowImpl(desc, Unpooled.wrappedBuffer(data), offsets);
+  }
+
+  @Override
+  protected boolean decodeColumns(int len, ByteBuf in, ColumnarRowSetImpl columns) {
+    if (!columns.isInitialized()) {
+      if (columnTypes == null) {
+        columnTypes = columnTypes(desc);
+      }
+      columns.init(desc.columnNames(), columnTypes);
+    }
+    for (int c = 0; c < len; ++c) {
+      int length = in.readInt();
+      if (length == -1) {
+        columns.addNull(c);
+        continue;
+      }
+      PgColumnDesc columnDesc = desc.columns[c];
+      int index = in.readerIndex();
+      boolean binary = columnDesc.dataFormat == DataFormat.BINARY;
+      switch (columnTypes[c]) {
+        case INT:
+          if (binary) {
+            columns.addInt(c, columnDesc.dataType == DataType.INT2 ? in.getShort(index) : in.getInt(index));
+          } else {
+            columns.addInt(c, (int) CommonCodec.decodeDecStringToLong(index, length, in));
+          }
+          break;
+        case LONG:
+          columns.addLong(c, binary ? in.getLong(index) : CommonCodec.decodeDecStringToLong(index, length, in));
+          break;
+        case DOUBLE:
+          if (binary) {
+            columns.addDouble(c, columnDesc.dataType == DataType.FLOAT4 ? in.getFloat(index) : in.getDouble(index));
+          } else {
+            columns.addValue(c, DataTypeCodec.decodeText(columnDesc.dataType, index, length, in));
+          }
+          break;
+        case STRING:
+          // Both formats are the UTF-8 bytes
+          columns.addString(c, in, index, length);
+          break;
+        default:
+          columns.addValue(c, columnDesc.decode(index, length, in));
+          break;
+      }
+      in.skipBytes(length);
+    }
+    columns.endRow();
+    return true;
+  }
+
+  private static ColumnType[] columnTypes(PgRowDesc desc) {
+    ColumnType[] types = new ColumnType[desc.columns.length];
+    for (int i = 0;i < types.length;i++) {
+      switch (desc.columns[i].dataType) {
+        case INT2:
+        case INT4:
+          types[i] = ColumnType.INT;
+          break;
+        case INT8:
+          types[i] = ColumnType.LONG;
+          break;
+        case FLOAT4:
+        case FLOAT8:
+          types[i] = ColumnType.DOUBLE;
+          break;
+        case VARCHAR:
+        case BPCHAR:
+        case TEXT:
+        case NAME:
+          types[i] = ColumnType.STRING;
+          break;
+        default:
+          types[i] = ColumnType.OBJECT;
+          break;
+      }
+    }
+    return types;
+  }
 }
@@ -24,8 +24,8 @@ class SimpleQueryCodec<T> extends QueryCommandBaseCodec<T, SimpleQueryCommand<T>
 
   private static final Logger LOGGER = LoggerFactory.getLogger(PgCommandCodec.class);
 
-  SimpleQueryCodec(SimpleQueryCommand<T> cmd) {
-    super(cmd);
+  SimpleQueryCodec(SimpleQueryCommand<T> cmd, boolean lazyRowDecoding) {
+    super(cmd, lazyRowDecoding);
   }
 
   @Override
@@ -35,6 +35,6 @@ class SimpleQueryCodec<T> extends QueryCommandBaseCodec<T, SimpleQueryCommand<T>
 
   @Override
   void handleRowDescription(PgColumnDesc[] columnDescs) {
-    decoder = new RowResultDecoder<>(cmd.collector(), PgRowDesc.create(columnDescs));
+    decoder = new RowResultDecoder<>(cmd.collector(), PgRowDesc.create(columnDescs), lazyRowDecoding);
   }
 }
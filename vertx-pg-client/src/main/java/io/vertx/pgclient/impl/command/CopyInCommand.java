@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2011-2022 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.pgclient.impl.command;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.impl.ContextInternal;
+import io.vertx.core.streams.Pipe;
+import io.vertx.sqlclient.impl.command.CommandBase;
+
+/**
+ * Execute a {@code COPY ... FROM STDIN} statement, the result is the number of copied rows.
+ * <p>
+ * The data is piped from the source stream once the server is ready to receive it, the pipe is
+ * manipulated on the {@link #context()} of the source stream.
+ */
+public class CopyInCommand extends CommandBase<Long> {
+
+  private final String sql;
+  private final Pipe<Buffer> pipe;
+  private final ContextInternal context;
+
+  public CopyInCommand(String sql, Pipe<Buffer> pipe, ContextInternal context) {
+    this.sql = sql;
+    this.pipe = pipe;
+    this.context = context;
+  }
+
+  public String sql() {
+    return sql;
+  }
+
+  public Pipe<Buffer> pipe() {
+    return pipe;
+  }
+
+  public ContextInternal context() {
+    return context;
+  }
+}
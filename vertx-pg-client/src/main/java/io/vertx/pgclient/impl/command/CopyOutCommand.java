@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2011-2022 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.pgclient.impl.command;
+
+import io.netty.channel.Channel;
+import io.vertx.core.Handler;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.sqlclient.impl.command.CommandBase;
+
+/**
+ * Execute a {@code COPY ... TO STDOUT} statement, the result is the number of copied rows.
+ * <p>
+ * The data handler is called on the connection event loop. The consumer of the data can {@link #pause()}
+ * the command to stop reading the socket, reading is always resumed when the command completes.
+ */
+public class CopyOutCommand extends CommandBase<Long> {
+
+  private final String sql;
+  private final Handler<Buffer> dataHandler;
+  private Channel channel;
+  private boolean paused;
+
+  public CopyOutCommand(String sql, Handler<Buffer> dataHandler) {
+    this.sql = sql;
+    this.dataHandler = dataHandler;
+  }
+
+  public String sql() {
+    return sql;
+  }
+
+  public Handler<Buffer> dataHandler() {
+    return dataHandler;
+  }
+
+  /**
+   * Called when the server starts to send the data.
+   */
+  public synchronized void start(Channel channel) {
+    this.channel = channel;
+    if (paused) {
+      channel.config().setAutoRead(false);
+    }
+  }
+
+  /**
+   * Called when the command completes.
+   */
+  public synchronized void end() {
+    if (channel != null) {
+      if (paused) {
+        channel.config().setAutoRead(true);
+      }
+      channel = null;
+    }
+  }
+
+  public synchronized void pause() {
+    if (!paused) {
+      paused = true;
+      if (channel != null) {
+        channel.config().setAutoRead(false);
+      }
+    }
+  }
+
+  public synchronized void resume() {
+    if (paused) {
+      paused = false;
+      if (channel != null) {
+        channel.config().setAutoRead(true);
+      }
+    }
+  }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2011-2022 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.pgclient.spi;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.pgclient.impl.codec.EnumTypeCodec;
+import io.vertx.pgclient.impl.codec.HstoreTypeCodec;
+
+import java.util.Map;
+
+/**
+ * A codec exchanging the values of a PostgreSQL type in the binary format, e.g an enum, a composite type, a domain,
+ * a range type or a type defined by an extension.
+ * <p>
+ * The type is identified by its name since the OID of the types which are not built-in differs from one database to
+ * another. The OID is looked up in {@code pg_type} when a connection is established and is cached by the pool until
+ * every codec of the pool is resolved.
+ * <p>
+ * The values of a column of this type are decoded by the codec when the column is in binary format, i.e for prepared
+ * queries. A parameter of this type is encoded by the codec when it is an instance of {@link #javaType()}, otherwise
+ * it is sent in text format.
+ * <p>
+ * A codec is shared by the connections of a pool and must be thread safe.
+ *
+ * @param <T> the Java type of the values
+ */
+public interface PgTypeCodec<T> {
+
+  /**
+   * @return a codec exchanging {@code hstore} values as a {@code Map<String, String>}
+   */
+  static PgTypeCodec<Map<String, String>> hstore() {
+    return HstoreTypeCodec.INSTANCE;
+  }
+
+  /**
+   * Create a codec exchanging the values of a PostgreSQL enum as a Java enum, the labels of the PostgreSQL enum must
+   * be the names of the Java enum constants.
+   *
+   * @param typeName the PostgreSQL enum name
+   * @param type the Java enum class
+   * @return the codec
+   */
+  static <E extends Enum<E>> PgTypeCodec<E> enumType(String typeName, Class<E> type) {
+    return new EnumTypeCodec<>(typeName, type);
+  }
+
+  /**
+   * @return the type name as accepted by a {@code regtype} cast, e.g {@code hstore} or {@code myschema.mytype}
+   */
+  String typeName();
+
+  /**
+   * @return the Java type of the values
+   */
+  Class<T> javaType();
+
+  /**
+   * Decode a non {@code null} value.
+   *
+   * @param value the binary representation of the value, only valid during the call
+   * @return the decoded value
+   */
+  T decode(Buffer value);
+
+  /**
+   * Encode a non {@code null} value.
+   *
+   * @param value the value to encode
+   * @param buffer the buffer to append the binary representation of the value to
+   */
+  void encode(T value, Buffer buffer);
+
+}
@@ -0,0 +1,236 @@
+/*
+ * Copyright (c) 2011-2022 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.pgclient;
+
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.streams.ReadStream;
+import io.vertx.core.streams.impl.InboundBuffer;
+import io.vertx.ext.unit.Async;
+import io.vertx.ext.unit.TestContext;
+import io.vertx.sqlclient.Row;
+import io.vertx.sqlclient.RowSet;
+import io.vertx.sqlclient.Tuple;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntFunction;
+
+public class PgCopyTest extends PgTestBase {
+
+  private static final String CREATE_TABLE = "CREATE TEMP TABLE copy_test (id INT8, val VARCHAR)";
+
+  Vertx vertx;
+
+  @Before
+  public void setup() throws Exception {
+    super.setup();
+    vertx = Vertx.vertx();
+  }
+
+  @After
+  public void teardown(TestContext ctx) {
+    vertx.close(ctx.asyncAssertSuccess());
+  }
+
+  @Test
+  public void testCopyFrom(TestContext ctx) {
+    int num = 10_000;
+    Async async = ctx.async();
+    PgConnection.connect(vertx, options, ctx.asyncAssertSuccess(conn -> {
+      conn.query(CREATE_TABLE).execute(ctx.asyncAssertSuccess(v1 -> {
+        ReadStream<Buffer> source = stream(vertx, num, i -> Buffer.buffer(i + "\tval-" + i + "\n"));
+        conn.copyFrom("COPY copy_test FROM STDIN", source, ctx.asyncAssertSuccess(count -> {
+          ctx.assertEquals((long) num, count);
+          checkCount(ctx, conn, num, async);
+        }));
+      }));
+    }));
+  }
+
+  @Test
+  public void testCopyFromBinary(TestContext ctx) {
+    int num = 10_000;
+    Async async = ctx.async();
+    PgConnection.connect(vertx, options, ctx.asyncAssertSuccess(conn -> {
+      conn.query(CREATE_TABLE).execute(ctx.asyncAssertSuccess(v1 -> {
+        ReadStream<Tuple> source = stream(vertx, num, i -> Tuple.of((long) i, i % 2 == 0 ? null : "val-" + i));
+        conn.copyFromBinary("COPY copy_test FROM STDIN (FORMAT binary)", source, ctx.asyncAssertSuccess(count -> {
+          ctx.assertEquals((long) num, count);
+          checkCount(ctx, conn, num, async);
+        }));
+      }));
+    }));
+  }
+
+  @Test
+  public void testCopyFromInvalidData(TestContext ctx) {
+    Async async = ctx.async();
+    PgConnection.connect(vertx, options, ctx.asyncAssertSuccess(conn -> {
+      conn.query(CREATE_TABLE).execute(ctx.asyncAssertSuccess(v1 -> {
+        ReadStream<Buffer> source = stream(vertx, 10, i -> Buffer.buffer("not-a-number\n"));
+        conn.copyFrom("COPY copy_test FROM STDIN", source, ctx.asyncAssertFailure(err -> {
+          ctx.assertTrue(err instanceof PgException);
+          // The connection is usable after the failure
+          checkCount(ctx, conn, 0, async);
+        }));
+      }));
+    }));
+  }
+
+  @Test
+  public void testQueriesScheduledDuringCopyFrom(TestContext ctx) {
+    int num = 1000;
+    Async async = ctx.async(2);
+    PgConnection.connect(vertx, options, ctx.asyncAssertSuccess(conn -> {
+      conn.query(CREATE_TABLE).execute(ctx.asyncAssertSuccess(v1 -> {
+        ReadStream<Buffer> source = stream(vertx, num, i -> Buffer.buffer(i + "\tval-" + i + "\n"));
+        conn.copyFrom("COPY copy_test FROM STDIN", source, ctx.asyncAssertSuccess(count -> {
+          ctx.assertEquals((long) num, count);
+          async.countDown();
+        }));
+        conn.query("SELECT COUNT(*) FROM copy_test").execute(ctx.asyncAssertSuccess(rows -> {
+          ctx.assertEquals((long) num, rows.iterator().next().getLong(0));
+          async.countDown();
+        }));
+      }));
+    }));
+  }
+
+  @Test
+  public void testCopyFromNotCopyStatement(TestContext ctx) {
+    PgConnection.connect(vertx, options, ctx.asyncAssertSuccess(conn -> {
+      conn.copyFrom("SELECT 1", stream(vertx, 0, Buffer::buffer), ctx.asyncAssertFailure(err -> {
+        ctx.assertTrue(err instanceof PgException);
+      }));
+    }));
+  }
+
+  @Test
+  public void testCopyTo(TestContext ctx) {
+    int num = 10_000;
+    Async async = ctx.async();
+    PgConnection.connect(vertx, options, ctx.asyncAssertSuccess(conn -> {
+      ReadStream<Buffer> stream = conn.copyTo("COPY (SELECT generate_series(1, " + num + ")) TO STDOUT");
+      Buffer data = Buffer.buffer();
+      stream.exceptionHandler(ctx::fail);
+      stream.endHandler(v -> {
+        String[] lines = data.toString().split("\n");
+        ctx.assertEquals(num, lines.length);
+        ctx.assertEquals("1", lines[0]);
+        ctx.assertEquals(String.valueOf(num), lines[num - 1]);
+        async.complete();
+      });
+      stream.handler(data::appendBuffer);
+    }));
+  }
+
+  @Test
+  public void testCopyToPaused(TestContext ctx) {
+    int num = 100_000;
+    Async async = ctx.async();
+    PgConnection.connect(vertx, options, ctx.asyncAssertSuccess(conn -> {
+      ReadStream<Buffer> stream = conn.copyTo("COPY (SELECT generate_series(1, " + num + ")) TO STDOUT");
+      Buffer data = Buffer.buffer();
+      stream.pause();
+      stream.endHandler(v -> {
+        ctx.assertEquals(num, data.toString().split("\n").length);
+        async.complete();
+      });
+      stream.handler(data::appendBuffer);
+      vertx.setTimer(100, id -> stream.resume());
+    }));
+  }
+
+  @Test
+  public void testCopyToFailure(TestContext ctx) {
+    Async async = ctx.async();
+    PgConnection.connect(vertx, options, ctx.asyncAssertSuccess(conn -> {
+      ReadStream<Buffer> stream = conn.copyTo("COPY does_not_exist TO STDOUT");
+      stream.exceptionHandler(err -> {
+        ctx.assertTrue(err instanceof PgException);
+        async.complete();
+      });
+      stream.endHandler(v -> ctx.fail());
+      stream.handler(buff -> ctx.fail());
+    }));
+  }
+
+  private void checkCount(TestContext ctx, PgConnection conn, long expected, Async async) {
+    conn.query("SELECT COUNT(*) FROM copy_test").execute(ctx.asyncAssertSuccess((RowSet<Row> rows) -> {
+      ctx.assertEquals(expected, rows.iterator().next().getLong(0));
+      async.complete();
+    }));
+  }
+
+  /**
+   * A stream of {@code num} elements honoring back pressure.
+   */
+  private static <T> ReadStream<T> stream(Vertx vertx, int num, IntFunction<T> generator) {
+    List<T> elements = new ArrayList<>(num);
+    for (int i = 0;i < num;i++) {
+      elements.add(generator.apply(i));
+    }
+    return new ReadStream<T>() {
+      final InboundBuffer<T> buffer = new InboundBuffer<>(vertx.getOrCreateContext());
+      Handler<Void> endHandler;
+      {
+        buffer.pause();
+        buffer.emptyHandler(v -> {
+          if (endHandler != null) {
+            endHandler.handle(null);
+          }
+        });
+        vertx.getOrCreateContext().runOnContext(v -> {
+          elements.forEach(buffer::write);
+          if (elements.isEmpty() && endHandler != null) {
+            endHandler.handle(null);
+          }
+        });
+      }
+      @Override
+      public ReadStream<T> exceptionHandler(Handler<Throwable> handler) {
+        buffer.exceptionHandler(handler);
+        return this;
+      }
+      @Override
+      public ReadStream<T> handler(Handler<T> handler) {
+        buffer.handler(handler);
+        return this;
+      }
+      @Override
+      public ReadStream<T> pause() {
+        buffer.pause();
+        return this;
+      }
+      @Override
+      public ReadStream<T> resume() {
+        buffer.resume();
+        return this;
+      }
+      @Override
+      public ReadStream<T> fetch(long amount) {
+        buffer.fetch(amount);
+        return this;
+      }
+      @Override
+      public ReadStream<T> endHandler(Handler<Void> handler) {
+        endHandler = handler;
+        return this;
+      }
+    };
+  }
+}
@@ -21,6 +21,7 @@ import io.netty.channel.EventLoop;
 import io.vertx.core.Future;
 import io.vertx.core.Handler;
 import io.vertx.core.VertxOptions;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.impl.ContextInternal;
 import io.vertx.ext.unit.Async;
 import io.vertx.ext.unit.TestContext;
@@ -30,16 +31,20 @@ import io.vertx.pgclient.impl.PgSocketConnection;
 import io.vertx.pgclient.spi.PgDriver;
 import io.vertx.sqlclient.*;
 import io.vertx.sqlclient.impl.SqlConnectionInternal;
+import io.vertx.sqlclient.metrics.PoolMetricsSnapshot;
+import io.vertx.sqlclient.metrics.StatementMetricsSnapshot;
 import io.vertx.sqlclient.spi.ConnectionFactory;
 import org.junit.Rule;
 import org.junit.Test;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
@@ -302,6 +307,34 @@ public class PgPoolTest extends PgPoolTestBase {
     ctx.assertTrue(elapsed < 2000, "Was expecting pipelined latency " + elapsed + " < 2000");
   }
 
+  @Test
+  public void testLeastLoadedConnectionSelection(TestContext ctx) {
+    int num = 5;
+    SqlClient pool = PgPool.client(vertx, options, new PoolOptions().setMaxSize(2).setConnectionSelection(ConnectionSelection.LEAST_LOADED));
+    Async warmUp = ctx.async(2);
+    for (int i = 0;i < 2;i++) {
+      // Each query creates a connection
+      pool.query("SELECT 1").execute(ctx.asyncAssertSuccess(v -> warmUp.countDown()));
+    }
+    warmUp.awaitSuccess(20_000);
+    Async async = ctx.async(num + 1);
+    AtomicBoolean slowDone = new AtomicBoolean();
+    pool.query("SELECT pg_sleep(2)").execute(ctx.asyncAssertSuccess(res -> {
+      slowDone.set(true);
+      async.countDown();
+    }));
+    vertx.setTimer(500, id -> {
+      for (int i = 0;i < num;i++) {
+        // Executed on the other connection rather than behind the slow query
+        pool.query("SELECT 1").execute(ctx.asyncAssertSuccess(res -> {
+          ctx.assertFalse(slowDone.get());
+          async.countDown();
+        }));
+      }
+    });
+    async.awaitSuccess(20_000);
+  }
+
 /*  @Test
   public void testPipeliningDistribution(TestContext ctx) {
     int num = 10;
@@ -370,6 +403,254 @@ public class PgPoolTest extends PgPoolTestBase {
       .onComplete(ctx.asyncAssertSuccess());
   }
 
+  @Test
+  public void testWarmUp(TestContext ctx) {
+    PgPool pool = createPool(options, poolOptions.setMaxSize(4).setMinSize(3));
+    pool.warmUp(ctx.asyncAssertSuccess(v -> {
+      ctx.assertEquals(3, pool.size());
+      pool.warmUp(ctx.asyncAssertSuccess(v2 -> ctx.assertEquals(3, pool.size())));
+    }));
+  }
+
+  @Test
+  public void testWarmUpToMaxSize(TestContext ctx) {
+    PgPool pool = createPool(options, poolOptions.setMaxSize(4));
+    pool.warmUp(ctx.asyncAssertSuccess(v -> {
+      ctx.assertEquals(4, pool.size());
+    }));
+  }
+
+  @Test
+  public void testMinSize(TestContext ctx) {
+    Async async = ctx.async();
+    poolOptions
+      .setMaxSize(4)
+      .setMinSize(2)
+      .setPoolCleanerPeriod(100)
+      .setIdleTimeout(200)
+      .setIdleTimeoutUnit(TimeUnit.MILLISECONDS);
+    PgPool pool = createPool(options, poolOptions);
+    // The cleaner creates the connections
+    vertx.setPeriodic(50, id -> {
+      if (pool.size() == 2) {
+        vertx.cancelTimer(id);
+        // Idle connections are not evicted below the minimum size
+        vertx.setTimer(1000, id2 -> {
+          ctx.assertEquals(2, pool.size());
+          async.complete();
+        });
+      }
+    });
+  }
+
+  @Test
+  public void testMinIdle(TestContext ctx) {
+    Async async = ctx.async();
+    poolOptions
+      .setMaxSize(4)
+      .setMinIdle(1)
+      .setPoolCleanerPeriod(100);
+    PgPool pool = createPool(options, poolOptions);
+    pool.getConnection(ctx.asyncAssertSuccess(conn -> {
+      // The connection is busy, the cleaner creates an idle connection
+      vertx.setPeriodic(50, id -> {
+        if (pool.size() == 2) {
+          vertx.cancelTimer(id);
+          conn.close();
+          async.complete();
+        }
+      });
+    }));
+  }
+
+  @Test
+  public void testMetrics(TestContext ctx) {
+    PgPool pool = createPool(options.setCachePreparedStatements(true), poolOptions.setMaxSize(1).setMetricsEnabled(true));
+    int num = 10;
+    Async async = ctx.async(num);
+    for (int i = 0;i < num;i++) {
+      pool.preparedQuery("SELECT * FROM immutable WHERE id=$1").execute(Tuple.of(i + 1), ctx.asyncAssertSuccess(rows -> async.countDown()));
+    }
+    async.awaitSuccess(20_000);
+    pool.query("SELECT * FROM immutable WHERE id=1").execute(ctx.asyncAssertSuccess(rows -> {
+      PoolMetricsSnapshot metrics = pool.metrics();
+      ctx.assertEquals(1, metrics.getSize());
+      ctx.assertEquals(num + 1, (int) metrics.getPoolWait().getCount());
+      ctx.assertEquals(num - 1L, metrics.getPreparedStatementCacheHits());
+      ctx.assertEquals(1L, metrics.getPreparedStatementCacheMisses());
+      StatementMetricsSnapshot prepared = metrics.getStatements().stream().filter(s -> s.getSql().equals("SELECT * FROM immutable WHERE id=$1")).findFirst().get();
+      ctx.assertEquals((long) num, prepared.getCount());
+      ctx.assertEquals((long) num, prepared.getRows());
+      ctx.assertTrue(prepared.getServerTime().getValueAtPercentile(50) > 0);
+      StatementMetricsSnapshot simple = metrics.getStatements().stream().filter(s -> s.getSql().equals("SELECT * FROM immutable WHERE id=?")).findFirst().get();
+      ctx.assertEquals(1L, simple.getCount());
+    }));
+  }
+
+  @Test
+  public void testMetricsDisabled(TestContext ctx) {
+    PgPool pool = createPool(options, poolOptions);
+    ctx.assertNull(pool.metrics());
+  }
+
+  @Test
+  public void testPoolMaxLifetime(TestContext ctx) {
+    ProxyServer proxy = ProxyServer.create(vertx, options.getPort(), options.getHost());
+    AtomicInteger connections = new AtomicInteger();
+    AtomicInteger closed = new AtomicInteger();
+    int maxLifetime = 1000;
+    proxy.proxyHandler(conn -> {
+      connections.incrementAndGet();
+      long now = System.currentTimeMillis();
+      conn.clientCloseHandler(v -> {
+        long lifetime = System.currentTimeMillis() - now;
+        ctx.assertTrue(lifetime >= maxLifetime * 9 / 10, "Was expecting connection to be closed in more than " + maxLifetime * 9 / 10 + ": " + lifetime);
+        closed.incrementAndGet();
+      });
+      conn.connect();
+    });
+
+    // Start proxy
+    Async listenLatch = ctx.async();
+    proxy.listen(8080, "localhost", ctx.asyncAssertSuccess(res -> listenLatch.complete()));
+    listenLatch.awaitSuccess(20_000);
+
+    poolOptions
+      .setMaxSize(1)
+      .setPoolCleanerPeriod(100)
+      .setMaxLifetime(maxLifetime)
+      .setMaxLifetimeUnit(TimeUnit.MILLISECONDS);
+    options.setPort(8080);
+    options.setHost("localhost");
+    PgPool pool = createPool(options, poolOptions);
+
+    // Keep the connection busy, the queries must not fail while the connection is replaced
+    Async async = ctx.async();
+    long end = System.currentTimeMillis() + 3 * maxLifetime;
+    Handler<Void> query = new Handler<Void>() {
+      @Override
+      public void handle(Void v) {
+        if (System.currentTimeMillis() < end) {
+          pool.query("SELECT pg_sleep(0.01)").execute(ctx.asyncAssertSuccess(rows -> handle(null)));
+        } else {
+          async.complete();
+        }
+      }
+    };
+    query.handle(null);
+    async.awaitSuccess(20_000);
+    ctx.assertTrue(connections.get() >= 3, "Was expecting the connection to be replaced: " + connections.get());
+    ctx.assertTrue(closed.get() >= 2, "Was expecting the replaced connections to be closed: " + closed.get());
+  }
+
+  @Test
+  public void testSharedStatementMetadata(TestContext ctx) {
+    ProxyServer proxy = ProxyServer.create(vertx, options.getPort(), options.getHost());
+    AtomicInteger describes = new AtomicInteger();
+    proxy.proxyHandler(conn -> {
+      // Count the describe messages, the startup message has no type
+      AtomicReference<Buffer> pending = new AtomicReference<>(Buffer.buffer());
+      AtomicBoolean started = new AtomicBoolean();
+      conn.clientHandler(buff -> {
+        Buffer data = pending.get().appendBuffer(buff);
+        int pos = 0;
+        while (true) {
+          int offset = started.get() ? 1 : 0;
+          if (data.length() - pos < offset + 4 || data.length() - pos < offset + data.getInt(pos + offset)) {
+            break;
+          }
+          if (started.get() && data.getByte(pos) == 'D') {
+            describes.incrementAndGet();
+          }
+          pos += offset + data.getInt(pos + offset);
+          started.set(true);
+        }
+        pending.set(data.getBuffer(pos, data.length()));
+        conn.serverSocket().write(buff);
+      });
+      conn.connect();
+    });
+    Async listenLatch = ctx.async();
+    proxy.listen(8080, "localhost", ctx.asyncAssertSuccess(res -> listenLatch.complete()));
+    listenLatch.awaitSuccess(20_000);
+
+    PgPool pool = createPool(new PgConnectOptions(options).setPort(8080).setHost("localhost").setCachePreparedStatements(true), 2);
+    String sql = "SELECT * FROM Fortune WHERE id=$1";
+    Async async = ctx.async();
+    pool.getConnection(ctx.asyncAssertSuccess(conn1 -> {
+      pool.getConnection(ctx.asyncAssertSuccess(conn2 -> {
+        conn1.preparedQuery(sql).execute(Tuple.of(1), ctx.asyncAssertSuccess(res1 -> {
+          ctx.assertEquals(1, describes.get());
+          // The second connection uses the metadata described by the first connection, the statement is described
+          // along with its execution to check the metadata
+          conn2.preparedQuery(sql).execute(Tuple.of(2), ctx.asyncAssertSuccess(res2 -> {
+            ctx.assertEquals(2, describes.get());
+            ctx.assertEquals(1, res2.size());
+            Row row = res2.iterator().next();
+            ctx.assertEquals(2, row.getInteger("id"));
+            ctx.assertEquals("A computer scientist is someone who fixes things that aren't broken.", row.getString("message"));
+            // The statement is now prepared by the second connection
+            conn2.preparedQuery(sql).execute(Tuple.of(1), ctx.asyncAssertSuccess(res3 -> {
+              ctx.assertEquals(2, describes.get());
+              ctx.assertEquals(1, res3.size());
+              conn1.close();
+              conn2.close();
+              async.complete();
+            }));
+          }));
+        }));
+      }));
+    }));
+  }
+
+  @Test
+  public void testSharedStatementMetadataSchemaChange(TestContext ctx) {
+    PgPool pool = createPool(new PgConnectOptions(options).setCachePreparedStatements(true), 2);
+    String sql = "SELECT val FROM shared_metadata WHERE id=$1";
+    Async async = ctx.async();
+    pool.getConnection(ctx.asyncAssertSuccess(conn1 -> {
+      pool.getConnection(ctx.asyncAssertSuccess(conn2 -> {
+        conn1
+          .query("DROP TABLE IF EXISTS shared_metadata").execute()
+          .compose(v -> conn1.query("CREATE TABLE shared_metadata (id INT4, val INT4)").execute())
+          .compose(v -> conn1.query("INSERT INTO shared_metadata VALUES (1, 5)").execute())
+          .compose(v -> conn1.preparedQuery(sql).execute(Tuple.of(1)))
+          .compose(v -> conn1.query("ALTER TABLE shared_metadata ALTER COLUMN val TYPE TEXT").execute())
+          .onComplete(ctx.asyncAssertSuccess(v1 -> {
+            // The metadata shared by the first connection is stale
+            conn2.preparedQuery(sql).execute(Tuple.of(1), ctx.asyncAssertFailure(err -> {
+              ctx.assertEquals("0A000", ((PgException) err).getCode());
+              conn2.preparedQuery(sql).execute(Tuple.of(1), ctx.asyncAssertSuccess(res -> {
+                ctx.assertEquals("5", res.iterator().next().getString("val"));
+                conn2.query("DROP TABLE shared_metadata").execute(ctx.asyncAssertSuccess(v2 -> {
+                  conn1.close();
+                  conn2.close();
+                  async.complete();
+                }));
+              }));
+            }));
+          }));
+      }));
+    }));
+  }
+
+  @Test
+  public void testRouteReadsToReplicas(TestContext ctx) {
+    // The server is not a replica, the replica pool falls back to it
+    PgPool pool = PgPool.pool(vertx, Arrays.asList(options, new PgConnectOptions(options)), poolOptions.setRouteReadsToReplicas(true));
+    pools.add(pool);
+    pool
+      .query("SELECT 1")
+      .execute(ctx.asyncAssertSuccess(res1 -> {
+        ctx.assertEquals(0, pool.size());
+        pool
+          .preparedQuery("SELECT set_config('application_name', $1, false)", new PrepareOptions().setReadOnly(false))
+          .execute(Tuple.of("test"), ctx.asyncAssertSuccess(res2 -> {
+            ctx.assertEquals(1, pool.size());
+          }));
+      }));
+  }
+
   @Test
   public void testPoolConnectTimeout(TestContext ctx) {
     Async async = ctx.async(2);
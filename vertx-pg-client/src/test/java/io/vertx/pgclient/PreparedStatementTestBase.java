@@ -258,6 +258,34 @@ public abstract class PreparedStatementTestBase extends PgTestBase {
     }));
   }
 
+  @Test
+  public void testPreparedQueryTextParameters(TestContext ctx) {
+    // Executed twice, the first execution describes the statement
+    UUID uuid = UUID.randomUUID();
+    Tuple params = Tuple.of(Long.MAX_VALUE, uuid, true, null);
+    PgConnectOptions options = new PgConnectOptions(options()).setCachePreparedStatements(true).setPipelinedPrepare(true);
+    PgConnection.connect(vertx, options, ctx.asyncAssertSuccess(conn -> {
+      conn
+        .preparedQuery("SELECT $1::INT8 \"l\", $2::UUID \"u\", $3::BOOL \"b\", $4::INT4 \"n\"").execute(params)
+        .compose(result1 -> {
+          Row row1 = result1.iterator().next();
+          ctx.assertEquals(Long.MAX_VALUE, row1.getLong("l"));
+          ctx.assertEquals(uuid, row1.getUUID("u"));
+          ctx.assertEquals(true, row1.getBoolean("b"));
+          ctx.assertNull(row1.getInteger("n"));
+          return conn.preparedQuery("SELECT $1::INT8 \"l\", $2::UUID \"u\", $3::BOOL \"b\", $4::INT4 \"n\"").execute(params);
+        })
+        .map(result2 -> {
+          Row row2 = result2.iterator().next();
+          ctx.assertEquals(Long.MAX_VALUE, row2.getLong("l"));
+          ctx.assertEquals(uuid, row2.getUUID("u"));
+          return "";
+        })
+        .eventually(v -> conn.close())
+        .onComplete(ctx.asyncAssertSuccess());
+    }));
+  }
+
   @Test
   public void testStreamQueryError(TestContext ctx) {
     Async async = ctx.async();
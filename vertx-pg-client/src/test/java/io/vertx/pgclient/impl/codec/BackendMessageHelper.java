@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2011-2022 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.pgclient.impl.codec;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.vertx.pgclient.impl.util.Util;
+
+/**
+ * Build the messages sent by the server to a {@link PgCodec} running in an {@link EmbeddedChannel}.
+ */
+public final class BackendMessageHelper {
+
+  private BackendMessageHelper() {
+  }
+
+  public static void parseComplete(ByteBuf buf) {
+    empty(buf, PgProtocolConstants.MESSAGE_TYPE_PARSE_COMPLETE);
+  }
+
+  public static void bindComplete(ByteBuf buf) {
+    empty(buf, PgProtocolConstants.MESSAGE_TYPE_BIND_COMPLETE);
+  }
+
+  public static void parameterDescription(ByteBuf buf, int... oids) {
+    int idx = begin(buf, PgProtocolConstants.MESSAGE_TYPE_PARAMETER_DESCRIPTION);
+    buf.writeShort(oids.length);
+    for (int oid : oids) {
+      buf.writeInt(oid);
+    }
+    end(buf, idx);
+  }
+
+  /**
+   * A row description of a single column in text format, as returned when describing a statement.
+   */
+  public static void rowDescription(ByteBuf buf, String name, int oid) {
+    int idx = begin(buf, PgProtocolConstants.MESSAGE_TYPE_ROW_DESCRIPTION);
+    buf.writeShort(1);
+    Util.writeCStringUTF8(buf, name);
+    buf.writeInt(0);
+    buf.writeShort(0);
+    buf.writeInt(oid);
+    buf.writeShort(-1);
+    buf.writeInt(-1);
+    buf.writeShort(0);
+    end(buf, idx);
+  }
+
+  /**
+   * @param values the column values built with {@link DataRowHelper}
+   */
+  public static void dataRow(ByteBuf buf, int columns, ByteBuf values) {
+    int idx = begin(buf, PgProtocolConstants.MESSAGE_TYPE_DATA_ROW);
+    buf.writeShort(columns);
+    buf.writeBytes(values);
+    values.release();
+    end(buf, idx);
+  }
+
+  public static void commandComplete(ByteBuf buf, String tag) {
+    int idx = begin(buf, PgProtocolConstants.MESSAGE_TYPE_COMMAND_COMPLETE);
+    Util.writeCStringUTF8(buf, tag);
+    end(buf, idx);
+  }
+
+  public static void readyForQuery(ByteBuf buf) {
+    int idx = begin(buf, PgProtocolConstants.MESSAGE_TYPE_READY_FOR_QUERY);
+    buf.writeByte('I');
+    end(buf, idx);
+  }
+
+  /**
+   * Release the messages written by the client.
+   */
+  public static void releaseOutbound(EmbeddedChannel channel) {
+    Object msg;
+    while ((msg = channel.readOutbound()) != null) {
+      ((ByteBuf) msg).release();
+    }
+  }
+
+  private static void empty(ByteBuf buf, byte id) {
+    end(buf, begin(buf, id));
+  }
+
+  private static int begin(ByteBuf buf, byte id) {
+    buf.writeByte(id);
+    int idx = buf.writerIndex();
+    buf.writeInt(0);
+    return idx;
+  }
+
+  private static void end(ByteBuf buf, int idx) {
+    buf.setInt(idx, buf.writerIndex() - idx);
+  }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2011-2022 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.pgclient.impl.codec;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.vertx.sqlclient.ColumnarRowSet;
+import io.vertx.sqlclient.ColumnarRowSet.ColumnType;
+import io.vertx.sqlclient.Row;
+import io.vertx.sqlclient.data.Numeric;
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class ColumnarRowSetTest {
+
+  private static final PgRowDesc DESC = PgRowDesc.create(new PgColumnDesc[]{
+    new PgColumnDesc("int2", 0, (short) 0, DataType.INT2, (short) 2, -1, DataFormat.BINARY),
+    new PgColumnDesc("int4", 0, (short) 0, DataType.INT4, (short) 4, -1, DataFormat.TEXT),
+    new PgColumnDesc("int8", 0, (short) 0, DataType.INT8, (short) 8, -1, DataFormat.BINARY),
+    new PgColumnDesc("float4", 0, (short) 0, DataType.FLOAT4, (short) 4, -1, DataFormat.BINARY),
+    new PgColumnDesc("float8", 0, (short) 0, DataType.FLOAT8, (short) 8, -1, DataFormat.TEXT),
+    new PgColumnDesc("name", 0, (short) 0, DataType.VARCHAR, (short) -1, -1, DataFormat.TEXT),
+    new PgColumnDesc("amount", 0, (short) 0, DataType.NUMERIC, (short) -1, -1, DataFormat.TEXT)
+  });
+
+  private static ByteBuf dataRow(int i) {
+    ByteBuf buf = Unpooled.buffer();
+    if (i % 2 == 0) {
+      for (int c = 0;c < DESC.columns.length;c++) {
+        DataRowHelper.writeNull(buf);
+      }
+      return buf;
+    }
+    DataRowHelper.writeBinary(buf, DataType.INT2, (short) -i);
+    DataRowHelper.writeText(buf, String.valueOf(i * 1000));
+    DataRowHelper.writeBinary(buf, DataType.INT8, i * 10_000_000_000L);
+    DataRowHelper.writeBinary(buf, DataType.FLOAT4, i + 0.5f);
+    DataRowHelper.writeText(buf, i + ".25");
+    DataRowHelper.writeText(buf, "naïve-" + i);
+    DataRowHelper.writeText(buf, i + ".125");
+    return buf;
+  }
+
+  private static ByteBuf[] dataRows(int rows) {
+    ByteBuf[] bufs = new ByteBuf[rows];
+    for (int i = 0;i < rows;i++) {
+      bufs[i] = dataRow(i);
+    }
+    return bufs;
+  }
+
+  @Test
+  public void testDecodeColumns() {
+    int rows = 100;
+    ColumnarRowSet set = DataRowHelper.decode(DESC, ColumnarRowSet.collector(), false, dataRows(rows));
+    assertEquals(ColumnType.INT, set.columnType(0));
+    assertEquals(ColumnType.INT, set.columnType(1));
+    assertEquals(ColumnType.LONG, set.columnType(2));
+    assertEquals(ColumnType.DOUBLE, set.columnType(3));
+    assertEquals(ColumnType.DOUBLE, set.columnType(4));
+    assertEquals(ColumnType.STRING, set.columnType(5));
+    assertEquals(ColumnType.OBJECT, set.columnType(6));
+    checkValues(set, rows);
+  }
+
+  @Test
+  public void testCollectRows() {
+    int rows = 100;
+    List<Row> list = DataRowHelper.decode(DESC, false, dataRows(rows));
+    ColumnarRowSet set = list.stream().collect(ColumnarRowSet.collector());
+    for (int c = 0;c < DESC.columns.length;c++) {
+      assertEquals(ColumnType.OBJECT, set.columnType(c));
+    }
+    checkValues(set, rows);
+  }
+
+  private void checkValues(ColumnarRowSet set, int rows) {
+    assertEquals(rows, set.size());
+    assertEquals(DESC.columnNames(), set.columnsNames());
+    assertEquals(5, set.columnIndex("name"));
+    for (int i = 0;i < rows;i++) {
+      if (i % 2 == 0) {
+        for (int c = 0;c < DESC.columns.length;c++) {
+          assertTrue(set.isNull(c, i));
+        }
+        assertEquals(0, set.getInt(0, i));
+        assertNull(set.getString(5, i));
+      } else {
+        for (int c = 0;c < DESC.columns.length;c++) {
+          assertFalse(set.isNull(c, i));
+        }
+        assertEquals(-i, set.getInt(0, i));
+        assertEquals(i * 1000, set.getInt(1, i));
+        assertEquals(i * 10_000_000_000L, set.getLong(2, i));
+        assertEquals(i + 0.5D, set.getDouble(3, i), 0D);
+        assertEquals(i + 0.25D, set.getDouble(4, i), 0D);
+        assertEquals("naïve-" + i, set.getString(5, i));
+        assertEquals(Numeric.parse(i + ".125"), set.getValue(6, i));
+      }
+    }
+  }
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2011-2022 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.pgclient.impl.codec;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.vertx.core.Handler;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.streams.ReadStream;
+import io.vertx.sqlclient.Tuple;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class CopyBinaryEncoderTest {
+
+  private static final String SIGNATURE = "PGCOPY\nÿ\r\n\0";
+
+  @Test
+  public void testEncode() {
+    TupleStream source = new TupleStream();
+    Buffer data = Buffer.buffer();
+    List<Throwable> failures = new ArrayList<>();
+    boolean[] ended = new boolean[1];
+    CopyBinaryEncoder encoder = new CopyBinaryEncoder(source);
+    encoder.exceptionHandler(failures::add);
+    encoder.endHandler(v -> ended[0] = true);
+    encoder.handler(data::appendBuffer);
+    source.handler.handle(Tuple.of(4, "abc", null));
+    source.handler.handle(Tuple.of(5L));
+    source.endHandler.handle(null);
+    assertTrue(ended[0]);
+    assertEquals(0, failures.size());
+
+    ByteBuf buf = data.getByteBuf();
+    checkHeader(buf);
+    // First tuple
+    assertEquals(3, buf.readShort());
+    assertEquals(4, buf.readInt());
+    assertEquals(4, buf.readInt());
+    assertEquals(3, buf.readInt());
+    assertEquals("abc", buf.readCharSequence(3, StandardCharsets.UTF_8));
+    assertEquals(-1, buf.readInt());
+    // Second tuple
+    assertEquals(1, buf.readShort());
+    assertEquals(8, buf.readInt());
+    assertEquals(5L, buf.readLong());
+    // Trailer
+    assertEquals(-1, buf.readShort());
+    assertEquals(0, buf.readableBytes());
+  }
+
+  @Test
+  public void testEmpty() {
+    TupleStream source = new TupleStream();
+    Buffer data = Buffer.buffer();
+    CopyBinaryEncoder encoder = new CopyBinaryEncoder(source);
+    encoder.endHandler(v -> {});
+    encoder.handler(data::appendBuffer);
+    source.endHandler.handle(null);
+    ByteBuf buf = data.getByteBuf();
+    checkHeader(buf);
+    assertEquals(-1, buf.readShort());
+    assertEquals(0, buf.readableBytes());
+  }
+
+  @Test
+  public void testUnsupportedType() {
+    TupleStream source = new TupleStream();
+    List<Buffer> data = new ArrayList<>();
+    List<Throwable> failures = new ArrayList<>();
+    CopyBinaryEncoder encoder = new CopyBinaryEncoder(source);
+    encoder.exceptionHandler(failures::add);
+    encoder.handler(data::add);
+    source.handler.handle(Tuple.of(new Object()));
+    assertEquals(0, data.size());
+    assertEquals(1, failures.size());
+    assertTrue(failures.get(0) instanceof IllegalArgumentException);
+  }
+
+  private static void checkHeader(ByteBuf buf) {
+    ByteBuf expected = Unpooled.copiedBuffer(SIGNATURE, StandardCharsets.ISO_8859_1);
+    assertEquals(expected, buf.readSlice(expected.readableBytes()));
+    // Flags and header extension length
+    assertEquals(0, buf.readInt());
+    assertEquals(0, buf.readInt());
+  }
+
+  private static class TupleStream implements ReadStream<Tuple> {
+
+    Handler<Tuple> handler;
+    Handler<Void> endHandler;
+
+    @Override
+    public ReadStream<Tuple> exceptionHandler(Handler<Throwable> handler) {
+      return this;
+    }
+
+    @Override
+    public ReadStream<Tuple> handler(Handler<Tuple> handler) {
+      this.handler = handler;
+      return this;
+    }
+
+    @Override
+    public ReadStream<Tuple> pause() {
+      return this;
+    }
+
+    @Override
+    public ReadStream<Tuple> resume() {
+      return this;
+    }
+
+    @Override
+    public ReadStream<Tuple> fetch(long amount) {
+      return this;
+    }
+
+    @Override
+    public ReadStream<Tuple> endHandler(Handler<Void> endHandler) {
+      this.endHandler = endHandler;
+      return this;
+    }
+  }
+}
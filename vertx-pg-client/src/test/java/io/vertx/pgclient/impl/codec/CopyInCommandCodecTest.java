@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2011-2022 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.pgclient.impl.codec;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.vertx.pgclient.impl.command.CopyInCommand;
+import io.vertx.sqlclient.impl.QueryResultHandler;
+import io.vertx.sqlclient.impl.command.CommandResponse;
+import io.vertx.sqlclient.impl.command.QueryCommandBase;
+import io.vertx.sqlclient.impl.command.SimpleQueryCommand;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class CopyInCommandCodecTest {
+
+  @Test
+  public void testFailDeferredCommandsWhenConnectionIsLost() {
+    EmbeddedChannel channel = new EmbeddedChannel(new PgCodec(false, null, null));
+    CopyInCommand copy = new CopyInCommand("COPY person FROM STDIN", null, null);
+    SimpleQueryCommand<?> query = new SimpleQueryCommand<>("SELECT 1", false, true, QueryCommandBase.NULL_COLLECTOR, QueryResultHandler.NOOP_HANDLER);
+    channel.writeOutbound(copy, query);
+    ByteBuf out = channel.readOutbound();
+    // Only the copy statement is sent, the query waits for the end of the copy
+    assertEquals('Q', out.readByte());
+    out.skipBytes(4);
+    assertEquals("COPY person FROM STDIN", out.readCharSequence(out.bytesBefore((byte) 0), StandardCharsets.UTF_8));
+    out.skipBytes(1);
+    assertEquals(0, out.readableBytes());
+    out.release();
+    BackendMessageHelper.releaseOutbound(channel);
+
+    channel.pipeline().fireChannelInactive();
+    CommandResponse<?> copyResponse = channel.readInbound();
+    assertSame(copy, copyResponse.cmd);
+    assertTrue(copyResponse.toAsyncResult().failed());
+    CommandResponse<?> queryResponse = channel.readInbound();
+    assertSame(query, queryResponse.cmd);
+    assertTrue(queryResponse.toAsyncResult().failed());
+    assertNull(channel.readInbound());
+    channel.finishAndReleaseAll();
+  }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2011-2022 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.pgclient.impl.codec;
+
+import io.netty.buffer.ByteBuf;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.sqlclient.Row;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.Collector;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+/**
+ * Build the column values of {@code DataRow} messages and decode them with a {@link RowResultDecoder}.
+ */
+public final class DataRowHelper {
+
+  private DataRowHelper() {
+  }
+
+  public static void writeText(ByteBuf buf, String value) {
+    writeBytes(buf, value.getBytes(StandardCharsets.UTF_8));
+  }
+
+  public static void writeBinary(ByteBuf buf, DataType type, Object value) {
+    int idx = buf.writerIndex();
+    buf.writeInt(0);
+    DataTypeCodec.encodeBinary(type, value, buf);
+    buf.setInt(idx, buf.writerIndex() - idx - 4);
+  }
+
+  public static void writeBytes(ByteBuf buf, byte[] value) {
+    buf.writeInt(value.length);
+    buf.writeBytes(value);
+  }
+
+  public static void writeBytes(ByteBuf buf, Buffer value) {
+    writeBytes(buf, value.getBytes());
+  }
+
+  public static void writeNull(ByteBuf buf) {
+    buf.writeInt(-1);
+  }
+
+  /**
+   * Decode the rows, each row must be entirely read by the decoder, the rows are released.
+   */
+  public static <R> R decode(PgRowDesc desc, Collector<Row, ?, R> collector, boolean lazy, ByteBuf... rows) {
+    RowResultDecoder<?, R> decoder = new RowResultDecoder<>(collector, desc, lazy);
+    for (ByteBuf row : rows) {
+      decoder.handleRow(desc.columns.length, row);
+      assertEquals(0, row.readableBytes());
+      row.release();
+    }
+    assertNull(decoder.complete());
+    assertEquals(rows.length, decoder.size());
+    return decoder.result();
+  }
+
+  public static List<Row> decode(PgRowDesc desc, boolean lazy, ByteBuf... rows) {
+    return decode(desc, Collectors.toList(), lazy, rows);
+  }
+
+  public static Row decodeRow(PgRowDesc desc, boolean lazy, ByteBuf row) {
+    return decode(desc, lazy, row).get(0);
+  }
+}
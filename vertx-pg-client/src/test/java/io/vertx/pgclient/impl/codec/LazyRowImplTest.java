@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2011-2022 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.pgclient.impl.codec;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.JsonObject;
+import io.vertx.sqlclient.Row;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class LazyRowImplTest {
+
+  private static final PgRowDesc DESC = PgRowDesc.create(new PgColumnDesc[]{
+    new PgColumnDesc("id", 0, (short) 0, DataType.INT4, (short) 4, -1, DataFormat.BINARY),
+    new PgColumnDesc("name", 0, (short) 0, DataType.VARCHAR, (short) -1, -1, DataFormat.TEXT),
+    new PgColumnDesc("amount", 0, (short) 0, DataType.NUMERIC, (short) -1, -1, DataFormat.TEXT),
+    new PgColumnDesc("missing", 0, (short) 0, DataType.INT4, (short) 4, -1, DataFormat.BINARY)
+  });
+
+  private static ByteBuf dataRow(String amount) {
+    ByteBuf buf = Unpooled.buffer();
+    DataRowHelper.writeBinary(buf, DataType.INT4, 17);
+    DataRowHelper.writeText(buf, "julien");
+    DataRowHelper.writeText(buf, amount);
+    DataRowHelper.writeNull(buf);
+    return buf;
+  }
+
+  private static List<Row> decode(boolean lazy, ByteBuf... rows) {
+    return DataRowHelper.decode(DESC, lazy, rows);
+  }
+
+  @Test
+  public void testDecodeLikeEagerRow() {
+    Row eager = decode(false, dataRow("1234567890123")).get(0);
+    Row lazy = decode(true, dataRow("1234567890123")).get(0);
+    assertEquals(eager.size(), lazy.size());
+    for (int i = 0;i < eager.size();i++) {
+      assertEquals(eager.getValue(i), lazy.getValue(i));
+    }
+    assertEquals(17, (int) lazy.getInteger("id"));
+    assertEquals("julien", lazy.getString("name"));
+    assertEquals(1234567890123L, (long) lazy.getLong("amount"));
+    assertNull(lazy.getValue("missing"));
+    assertEquals(eager.deepToString(), lazy.deepToString());
+  }
+
+  @Test
+  public void testDecodeMultipleRows() {
+    List<Row> rows = decode(true, dataRow("1"), dataRow("2"), dataRow("3"));
+    List<Long> amounts = new ArrayList<>();
+    for (Row row : rows) {
+      amounts.add(row.getLong(2));
+    }
+    assertEquals(3, amounts.size());
+    assertEquals(1L, (long) amounts.get(0));
+    assertEquals(2L, (long) amounts.get(1));
+    assertEquals(3L, (long) amounts.get(2));
+  }
+
+  @Test
+  public void testDecodeOnAccess() {
+    Row row = decode(true, dataRow("not-a-number")).get(0);
+    assertEquals("julien", row.getString(1));
+    try {
+      row.getLong(2);
+      fail();
+    } catch (NumberFormatException ignore) {
+      // Expected
+    }
+  }
+
+  @Test
+  public void testSetValue() {
+    Row row = decode(true, dataRow("not-a-number")).get(0);
+    ((LazyRowImpl) row).setValue(2, 5L);
+    assertEquals(5L, (long) row.getLong(2));
+    assertEquals(17, (int) row.getInteger(0));
+    assertTrue(row.getValue(3) == null);
+  }
+
+  @Test
+  public void testJsonBuffer() {
+    PgRowDesc desc = PgRowDesc.create(new PgColumnDesc[]{
+      new PgColumnDesc("doc", 0, (short) 0, DataType.JSONB, (short) -1, -1, DataFormat.BINARY)
+    });
+    ByteBuf buf = Unpooled.buffer();
+    byte[] doc = "{\"id\":17,\"name\":\"julien\"}".getBytes(StandardCharsets.UTF_8);
+    // The jsonb binary format is a version byte followed by the text
+    DataRowHelper.writeBytes(buf, Buffer.buffer().appendByte((byte) 1).appendBytes(doc));
+    Row row = DataRowHelper.decodeRow(desc, true, buf);
+    assertEquals(Buffer.buffer(doc), row.getBuffer(0));
+    assertEquals(new JsonObject().put("id", 17).put("name", "julien"), row.getJsonObject(0));
+  }
+
+  @Test
+  public void testJsonBufferAfterDecode() {
+    PgRowDesc desc = PgRowDesc.create(new PgColumnDesc[]{
+      new PgColumnDesc("doc", 0, (short) 0, DataType.JSON, (short) -1, -1, DataFormat.TEXT),
+      new PgColumnDesc("str", 0, (short) 0, DataType.JSON, (short) -1, -1, DataFormat.TEXT)
+    });
+    byte[] doc = "{\"id\":17,\"name\":\"julien\"}".getBytes(StandardCharsets.UTF_8);
+    byte[] str = "\"julien\"".getBytes(StandardCharsets.UTF_8);
+    for (boolean lazy : new boolean[]{true, false}) {
+      ByteBuf buf = Unpooled.buffer();
+      DataRowHelper.writeBytes(buf, Buffer.buffer(doc));
+      DataRowHelper.writeBytes(buf, Buffer.buffer(str));
+      Row row = DataRowHelper.decodeRow(desc, lazy, buf);
+      assertEquals(new JsonObject().put("id", 17).put("name", "julien"), row.getJsonObject(0));
+      assertEquals("julien", row.getString(1));
+      assertEquals(Buffer.buffer(doc), row.getBuffer(0));
+      assertEquals(Buffer.buffer(str), row.getBuffer("str"));
+    }
+  }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2011-2022 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.pgclient.impl.codec;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.vertx.sqlclient.data.Numeric;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+public class NumericCodecTest {
+
+  @Test
+  public void testWireFormat() {
+    assertWireFormat("1.5", 2, 0, 0x0000, 1, 1, 5000);
+    assertWireFormat("-1.5", 2, 0, 0x4000, 1, 1, 5000);
+    assertWireFormat("10000", 1, 1, 0x0000, 0, 1);
+    assertWireFormat("0.0001", 1, -1, 0x0000, 4, 1);
+    assertWireFormat("123456.789", 3, 1, 0x0000, 3, 12, 3456, 7890);
+    assertWireFormat("0.00", 0, 0, 0x0000, 2);
+  }
+
+  @Test
+  public void testRoundTrip() {
+    String[] values = {
+      "0", "0.00", "1", "-1", "1.5", "1.50000", "9999", "10000", "-10000.0001", "0.0000001", "123456789.123456789",
+      "9223372036854775807", "-9223372036854775808", "92233720368547758070",
+      "12345678901234567890123456789.98765432109876543210",
+      "-0.000000000000000000000000000000000000001"
+    };
+    for (String value : values) {
+      Numeric expected = Numeric.parse(value);
+      assertEquals(value, expected, roundTrip(expected));
+      assertEquals(value, expected.toString(), roundTrip(expected).toString());
+    }
+  }
+
+  @Test
+  public void testEncodeNumbers() {
+    assertEquals(Numeric.parse("42"), roundTrip(42));
+    assertEquals(Numeric.parse("-42"), roundTrip(-42L));
+    assertEquals(Numeric.parse("1.25"), roundTrip(1.25D));
+    assertEquals(Numeric.parse("100000000000000000000"), roundTrip(new BigDecimal("1E+20")));
+    assertEquals(Numeric.parse("123456789012345678901234567890"), roundTrip(new BigInteger("123456789012345678901234567890")));
+  }
+
+  @Test
+  public void testNaN() {
+    assertSame(Numeric.NaN, roundTrip(Numeric.NaN));
+    assertSame(Numeric.NaN, roundTrip(Double.NaN));
+  }
+
+  @Test(expected = NumberFormatException.class)
+  public void testDecodeInfinity() {
+    roundTrip(Double.POSITIVE_INFINITY);
+  }
+
+  @Test
+  public void testArray() {
+    Numeric[] values = { Numeric.parse("1.5"), null, Numeric.parse("-123456789.000001"), Numeric.NaN };
+    ByteBuf buff = Unpooled.buffer();
+    DataTypeCodec.encodeBinary(DataType.NUMERIC_ARRAY, values, buff);
+    Object decoded = DataTypeCodec.decodeBinary(DataType.NUMERIC_ARRAY, 0, buff.readableBytes(), buff);
+    assertArrayEquals(values, (Numeric[]) decoded);
+  }
+
+  private static Numeric roundTrip(Number value) {
+    ByteBuf buff = Unpooled.buffer();
+    DataTypeCodec.encodeBinary(DataType.NUMERIC, value, buff);
+    return (Numeric) DataTypeCodec.decodeBinary(DataType.NUMERIC, 0, buff.readableBytes(), buff);
+  }
+
+  private static void assertWireFormat(String value, int ndigits, int weight, int sign, int dscale, int... digits) {
+    ByteBuf buff = Unpooled.buffer();
+    DataTypeCodec.encodeBinary(DataType.NUMERIC, Numeric.parse(value), buff);
+    assertEquals(8 + 2 * digits.length, buff.readableBytes());
+    assertEquals(ndigits, buff.readShort());
+    assertEquals(weight, buff.readShort());
+    assertEquals(sign, buff.readUnsignedShort());
+    assertEquals(dscale, buff.readShort());
+    for (int digit : digits) {
+      assertEquals(digit, buff.readShort());
+    }
+  }
+}
@@ -0,0 +1,222 @@
+/*
+ * Copyright (c) 2011-2022 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.pgclient.impl.codec;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.pgclient.impl.RowImpl;
+import io.vertx.pgclient.spi.PgTypeCodec;
+import io.vertx.sqlclient.PropertyKind;
+import io.vertx.sqlclient.Row;
+import io.vertx.sqlclient.Tuple;
+import io.vertx.sqlclient.impl.PreparedStatement;
+import io.vertx.sqlclient.impl.QueryResultHandler;
+import io.vertx.sqlclient.impl.RowDesc;
+import io.vertx.sqlclient.impl.TupleInternal;
+import io.vertx.sqlclient.impl.command.CommandResponse;
+import io.vertx.sqlclient.impl.command.ExtendedQueryCommand;
+import io.vertx.sqlclient.impl.command.PrepareStatementCommand;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class PgTypeCodecTest {
+
+  enum Mood { sad, ok, happy }
+
+  private static final PgTypeCodec<Mood> MOOD = PgTypeCodec.enumType("mood", Mood.class);
+
+  private static Map<String, String> hstore() {
+    Map<String, String> map = new LinkedHashMap<>();
+    map.put("a", "1");
+    map.put("é", "ü");
+    map.put("null", null);
+    map.put("", "");
+    return map;
+  }
+
+  @Test
+  public void testHstoreRoundTrip() {
+    Buffer buffer = Buffer.buffer();
+    PgTypeCodec.hstore().encode(hstore(), buffer);
+    assertEquals(4, buffer.getInt(0));
+    Map<String, String> decoded = PgTypeCodec.hstore().decode(buffer);
+    assertEquals(hstore(), decoded);
+    assertEquals(Arrays.asList("a", "é", "null", ""), Arrays.asList(decoded.keySet().toArray()));
+  }
+
+  @Test
+  public void testEnumRoundTrip() {
+    Buffer buffer = Buffer.buffer();
+    MOOD.encode(Mood.happy, buffer);
+    assertEquals("happy", buffer.toString());
+    assertSame(Mood.happy, MOOD.decode(buffer));
+  }
+
+  @Test
+  public void testResolve() {
+    PgTypeRegistry registry = new PgTypeRegistry(Arrays.asList(PgTypeCodec.hstore(), PgTypeCodec.enumType("it's", Mood.class), MOOD));
+    assertEquals("SELECT to_regtype('hstore')::oid::int8, to_regtype('it''s')::oid::int8, to_regtype('mood')::oid::int8", registry.resolveQuery());
+    assertFalse(registry.isResolved());
+    assertNull(registry.codec(16384));
+    // OIDs above 2^31 are negative on the wire
+    registry.resolve(oids(16384L, null, 0xFFFFFFF0L));
+    assertFalse(registry.isResolved());
+    assertSame(PgTypeCodec.hstore(), registry.codec(16384));
+    assertSame(MOOD, registry.codec(0xFFFFFFF0));
+  }
+
+  private static Row oids(Long... oids) {
+    PgColumnDesc[] columns = new PgColumnDesc[oids.length];
+    for (int i = 0;i < oids.length;i++) {
+      columns[i] = new PgColumnDesc("oid" + i, 0, (short) 0, DataType.INT8, (short) 8, -1, DataFormat.TEXT);
+    }
+    RowImpl row = new RowImpl(PgRowDesc.create(columns));
+    for (Long oid : oids) {
+      row.addValue(oid);
+    }
+    return row;
+  }
+
+  @Test
+  public void testDecodeRow() {
+    checkRow(decode(false));
+    checkRow(decode(true));
+  }
+
+  private static Row decode(boolean lazy) {
+    PgRowDesc desc = PgRowDesc.create(new PgColumnDesc[]{
+      new PgColumnDesc("tags", 0, (short) 0, DataType.HSTORE, (short) -1, -1, DataFormat.BINARY, PgTypeCodec.hstore()),
+      new PgColumnDesc("mood", 0, (short) 0, DataType.UNKNOWN, (short) 4, -1, DataFormat.BINARY, MOOD),
+      new PgColumnDesc("missing", 0, (short) 0, DataType.UNKNOWN, (short) 4, -1, DataFormat.BINARY, MOOD)
+    });
+    ByteBuf buf = Unpooled.buffer();
+    Buffer value = Buffer.buffer();
+    PgTypeCodec.hstore().encode(hstore(), value);
+    DataRowHelper.writeBytes(buf, value);
+    value = Buffer.buffer();
+    MOOD.encode(Mood.ok, value);
+    DataRowHelper.writeBytes(buf, value);
+    DataRowHelper.writeNull(buf);
+    return DataRowHelper.decodeRow(desc, lazy, buf);
+  }
+
+  private static void checkRow(Row row) {
+    assertEquals(hstore(), row.getValue("tags"));
+    assertSame(Mood.ok, row.get(Mood.class, 1));
+    assertNull(row.getValue(2));
+  }
+
+  @Test
+  public void testPreparedQueryWithIntegerParameters() {
+    PgTypeRegistry registry = new PgTypeRegistry(Collections.singletonList(MOOD));
+    registry.resolve(oids(16384L));
+    PgCodec codec = new PgCodec(false, null, registry);
+    EmbeddedChannel channel = new EmbeddedChannel(codec);
+    String sql = "SELECT mood FROM person WHERE id = $1";
+    List<Row> rows = new ArrayList<>();
+    ExtendedQueryCommand<List<Row>> query = ExtendedQueryCommand.createQuery(sql, null, null, Tuple.of(1), true, Collectors.toList(), new QueryResultHandler<List<Row>>() {
+      @Override
+      public <V> void addProperty(PropertyKind<V> property, V value) {
+      }
+      @Override
+      public void handleResult(int updatedCount, int size, RowDesc desc, List<Row> result, Throwable failure) {
+        rows.addAll(result);
+      }
+    });
+    // The rows of a statement prepared along with the query would be in text format
+    assertNull(codec.unpreparedStatement(query));
+
+    channel.writeOutbound(new PrepareStatementCommand(sql, null, true));
+    BackendMessageHelper.releaseOutbound(channel);
+    ByteBuf in = Unpooled.buffer();
+    BackendMessageHelper.parseComplete(in);
+    BackendMessageHelper.parameterDescription(in, DataType.INT4.id);
+    BackendMessageHelper.rowDescription(in, "mood", 16384);
+    BackendMessageHelper.readyForQuery(in);
+    channel.writeInbound(in);
+    CommandResponse<PreparedStatement> prepared = channel.readInbound();
+    query.ps = prepared.toAsyncResult().result();
+    assertNull(query.prepare());
+
+    channel.writeOutbound(query);
+    ByteBuf out = channel.readOutbound();
+    assertEquals(Collections.singletonList(1), resultFormats(out));
+    out.release();
+    BackendMessageHelper.releaseOutbound(channel);
+    in = Unpooled.buffer();
+    BackendMessageHelper.bindComplete(in);
+    ByteBuf values = Unpooled.buffer();
+    DataRowHelper.writeBytes(values, Buffer.buffer("ok"));
+    BackendMessageHelper.dataRow(in, 1, values);
+    BackendMessageHelper.commandComplete(in, "SELECT 1");
+    BackendMessageHelper.readyForQuery(in);
+    channel.writeInbound(in);
+    CommandResponse<Boolean> executed = channel.readInbound();
+    assertTrue(executed.toAsyncResult().succeeded());
+    assertEquals(1, rows.size());
+    assertSame(Mood.ok, rows.get(0).getValue("mood"));
+    channel.finishAndReleaseAll();
+  }
+
+  /**
+   * @return the result column format codes of the Bind message at the beginning of the buffer
+   */
+  private static List<Integer> resultFormats(ByteBuf out) {
+    assertEquals('B', out.readByte());
+    out.skipBytes(4);
+    // Portal and statement names
+    out.skipBytes(out.bytesBefore((byte) 0) + 1);
+    out.skipBytes(out.bytesBefore((byte) 0) + 1);
+    out.skipBytes(2 * out.readUnsignedShort());
+    int params = out.readUnsignedShort();
+    for (int i = 0;i < params;i++) {
+      int len = out.readInt();
+      if (len > 0) {
+        out.skipBytes(len);
+      }
+    }
+    List<Integer> formats = new ArrayList<>();
+    int count = out.readUnsignedShort();
+    for (int i = 0;i < count;i++) {
+      formats.add(out.readUnsignedShort());
+    }
+    return formats;
+  }
+
+  @Test
+  public void testPrepareParams() {
+    PgParamDesc desc = new PgParamDesc(new DataType[]{ DataType.UNKNOWN, DataType.UNKNOWN }, new PgTypeCodec<?>[]{ MOOD, MOOD });
+    TupleInternal params = (TupleInternal) Tuple.of(Mood.sad, "happy");
+    assertNull(desc.prepare(params));
+    // The codec encodes the enum, the string is sent as text
+    assertSame(Mood.sad, params.getValue(0));
+    assertEquals("happy", params.getValue(1));
+    Bind bind = new Bind(null, desc.paramDataTypes(), desc.paramCodecs(), null);
+    assertSame(MOOD, bind.paramCodec(0, Mood.sad));
+    assertNull(bind.paramCodec(1, "happy"));
+  }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2011-2022 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.pgclient.impl.codec;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.vertx.sqlclient.Row;
+import org.junit.Test;
+
+import java.util.NoSuchElementException;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class PrimitiveAccessorTest {
+
+  private static final PgRowDesc DESC = PgRowDesc.create(new PgColumnDesc[]{
+    new PgColumnDesc("int2", 0, (short) 0, DataType.INT2, (short) 2, -1, DataFormat.BINARY),
+    new PgColumnDesc("int4", 0, (short) 0, DataType.INT4, (short) 4, -1, DataFormat.BINARY),
+    new PgColumnDesc("int8", 0, (short) 0, DataType.INT8, (short) 8, -1, DataFormat.BINARY),
+    new PgColumnDesc("float4", 0, (short) 0, DataType.FLOAT4, (short) 4, -1, DataFormat.BINARY),
+    new PgColumnDesc("float8", 0, (short) 0, DataType.FLOAT8, (short) 8, -1, DataFormat.BINARY),
+    new PgColumnDesc("text_int8", 0, (short) 0, DataType.INT8, (short) 8, -1, DataFormat.TEXT),
+    new PgColumnDesc("numeric", 0, (short) 0, DataType.NUMERIC, (short) -1, -1, DataFormat.TEXT),
+    new PgColumnDesc("missing", 0, (short) 0, DataType.INT4, (short) 4, -1, DataFormat.BINARY)
+  });
+
+  private static ByteBuf dataRow() {
+    ByteBuf buf = Unpooled.buffer();
+    DataRowHelper.writeBinary(buf, DataType.INT2, (short) -3);
+    DataRowHelper.writeBinary(buf, DataType.INT4, 123456);
+    DataRowHelper.writeBinary(buf, DataType.INT8, 9876543210123L);
+    DataRowHelper.writeBinary(buf, DataType.FLOAT4, 1.5f);
+    DataRowHelper.writeBinary(buf, DataType.FLOAT8, 2.75D);
+    DataRowHelper.writeText(buf, "-4567890123");
+    DataRowHelper.writeText(buf, "12.5");
+    DataRowHelper.writeNull(buf);
+    return buf;
+  }
+
+  private static Row decode(boolean lazy) {
+    return DataRowHelper.decodeRow(DESC, lazy, dataRow());
+  }
+
+  @Test
+  public void testEagerRow() {
+    checkPrimitives(decode(false));
+    checkBoxed(decode(false));
+  }
+
+  @Test
+  public void testLazyRow() {
+    checkPrimitives(decode(true));
+    checkBoxed(decode(true));
+  }
+
+  @Test
+  public void testBoxedThenPrimitive() {
+    Row row = decode(false);
+    checkBoxed(row);
+    checkPrimitives(row);
+  }
+
+  private void checkPrimitives(Row row) {
+    assertEquals(-3, row.getIntValue(0));
+    assertEquals(-3L, row.getLongValue("int2"));
+    assertEquals(123456, row.getIntValue("int4"));
+    assertEquals(123456D, row.getDoubleValue(1), 0D);
+    assertEquals(9876543210123L, row.getLongValue(2));
+    assertEquals(1.5D, row.getDoubleValue(3), 0D);
+    assertEquals(1, row.getIntValue(3));
+    assertEquals(2.75D, row.getDoubleValue("float8"), 0D);
+    assertEquals(2L, row.getLongValue(4));
+    assertEquals(-4567890123L, row.getLongValue(5));
+    assertEquals(12.5D, row.getDoubleValue(6), 0D);
+    assertEquals(12L, row.getLongValue(6));
+    for (int i = 0;i < 7;i++) {
+      assertFalse(row.isNull(i));
+    }
+    assertTrue(row.isNull(7));
+    assertTrue(row.isNull("missing"));
+    assertEquals(0, row.getIntValue(7));
+    assertEquals(0L, row.getLongValue(7));
+    assertEquals(0D, row.getDoubleValue(7), 0D);
+    try {
+      row.getIntValue("does_not_exist");
+      fail();
+    } catch (NoSuchElementException ignore) {
+      // Expected
+    }
+  }
+
+  private void checkBoxed(Row row) {
+    assertEquals((short) -3, row.getValue(0));
+    assertEquals(123456, row.getValue(1));
+    assertEquals(9876543210123L, row.getValue(2));
+    assertEquals(1.5f, row.getValue(3));
+    assertEquals(2.75D, row.getValue(4));
+    assertEquals(-4567890123L, row.getValue(5));
+    assertEquals(12.5D, row.getNumeric(6).doubleValue(), 0D);
+    assertNull(row.getValue(7));
+  }
+}
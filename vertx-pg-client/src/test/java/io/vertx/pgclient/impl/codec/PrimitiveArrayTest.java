@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2011-2022 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.pgclient.impl.codec;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.vertx.sqlclient.Row;
+import io.vertx.sqlclient.Tuple;
+import io.vertx.sqlclient.impl.TupleInternal;
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+public class PrimitiveArrayTest {
+
+  private static final int[] INTS = { 1, -2, Integer.MAX_VALUE, Integer.MIN_VALUE };
+  private static final long[] LONGS = { 1L, -2L, Long.MAX_VALUE, Long.MIN_VALUE };
+  private static final double[] DOUBLES = { 1.5D, -2.25D, Double.NaN, Double.NEGATIVE_INFINITY };
+
+  private static final PgRowDesc DESC = PgRowDesc.create(new PgColumnDesc[]{
+    new PgColumnDesc("ints", 0, (short) 0, DataType.INT4_ARRAY, (short) -1, -1, DataFormat.BINARY),
+    new PgColumnDesc("longs", 0, (short) 0, DataType.INT8_ARRAY, (short) -1, -1, DataFormat.BINARY),
+    new PgColumnDesc("doubles", 0, (short) 0, DataType.FLOAT8_ARRAY, (short) -1, -1, DataFormat.BINARY),
+    new PgColumnDesc("with_null", 0, (short) 0, DataType.INT4_ARRAY, (short) -1, -1, DataFormat.BINARY),
+    new PgColumnDesc("empty", 0, (short) 0, DataType.INT8_ARRAY, (short) -1, -1, DataFormat.BINARY),
+    new PgColumnDesc("missing", 0, (short) 0, DataType.FLOAT8_ARRAY, (short) -1, -1, DataFormat.BINARY)
+  });
+
+  private static ByteBuf dataRow() {
+    ByteBuf buf = Unpooled.buffer();
+    DataRowHelper.writeBinary(buf, DataType.INT4_ARRAY, INTS);
+    DataRowHelper.writeBinary(buf, DataType.INT8_ARRAY, LONGS);
+    DataRowHelper.writeBinary(buf, DataType.FLOAT8_ARRAY, DOUBLES);
+    DataRowHelper.writeBinary(buf, DataType.INT4_ARRAY, new Integer[]{ 1, null, 3 });
+    // An empty array only has a header
+    buf.writeInt(12);
+    buf.writeInt(0);
+    buf.writeInt(0);
+    buf.writeInt(DataType.INT8.id);
+    DataRowHelper.writeNull(buf);
+    return buf;
+  }
+
+  private static Row decode(boolean lazy) {
+    return DataRowHelper.decodeRow(DESC, lazy, dataRow());
+  }
+
+  @Test
+  public void testEncodeLikeBoxedArray() {
+    assertEncodeLikeBoxedArray(DataType.INT4_ARRAY, INTS, new Integer[]{ 1, -2, Integer.MAX_VALUE, Integer.MIN_VALUE });
+    assertEncodeLikeBoxedArray(DataType.INT8_ARRAY, LONGS, new Long[]{ 1L, -2L, Long.MAX_VALUE, Long.MIN_VALUE });
+    assertEncodeLikeBoxedArray(DataType.FLOAT8_ARRAY, DOUBLES, new Double[]{ 1.5D, -2.25D, Double.NaN, Double.NEGATIVE_INFINITY });
+    assertEncodeLikeBoxedArray(DataType.INT4_ARRAY, new int[0], new Integer[0]);
+  }
+
+  private static void assertEncodeLikeBoxedArray(DataType type, Object primitive, Object[] boxed) {
+    ByteBuf expected = Unpooled.buffer();
+    DataTypeCodec.encodeBinary(type, boxed, expected);
+    ByteBuf actual = Unpooled.buffer();
+    DataTypeCodec.encodeBinary(type, primitive, actual);
+    assertEquals(expected, actual);
+  }
+
+  @Test
+  public void testEagerRow() {
+    checkPrimitiveArrays(decode(false));
+    checkBoxedArrays(decode(false));
+  }
+
+  @Test
+  public void testLazyRow() {
+    checkPrimitiveArrays(decode(true));
+    checkBoxedArrays(decode(true));
+  }
+
+  @Test
+  public void testBoxedThenPrimitive() {
+    Row row = decode(false);
+    checkBoxedArrays(row);
+    checkPrimitiveArrays(row);
+  }
+
+  @Test
+  public void testEagerRowKeepsArray() {
+    Row row = decode(false);
+    assertSame(row.getIntArray(0), row.getIntArray(0));
+    assertArrayEquals(LONGS, row.get(long[].class, 1));
+  }
+
+  @Test
+  public void testConversion() {
+    Row row = decode(false);
+    assertArrayEquals(new long[]{ 1L, -2L, Integer.MAX_VALUE, Integer.MIN_VALUE }, row.getLongArray(0));
+    assertArrayEquals(new double[]{ 1D, -2D, Integer.MAX_VALUE, Integer.MIN_VALUE }, row.getDoubleArray(0), 0D);
+    assertArrayEquals(new int[]{ 1, -2, -1, 0 }, row.getIntArray(1));
+  }
+
+  @Test
+  public void testParamExtractor() {
+    TupleInternal params = (TupleInternal) Tuple.tuple().addIntArray(INTS).addLongArray(null).addArrayOfInteger(new Integer[]{ 1, 2 });
+    assertSame(INTS, DataType.INT4_ARRAY.paramExtractor.get(params, 0));
+    assertNull(DataType.INT8_ARRAY.paramExtractor.get(params, 1));
+    assertArrayEquals(new Long[]{ 1L, 2L }, (Long[]) DataType.INT8_ARRAY.paramExtractor.get(params, 2));
+    assertArrayEquals(new long[]{ 1L, -2L, Integer.MAX_VALUE, Integer.MIN_VALUE }, (long[]) DataType.INT8_ARRAY.paramExtractor.get(params, 0));
+    assertArrayEquals(new double[]{ 1D, -2D, Integer.MAX_VALUE, Integer.MIN_VALUE }, (double[]) DataType.FLOAT8_ARRAY.paramExtractor.get(params, 0), 0D);
+    assertEquals(DataType.INT4_ARRAY, DataType.lookup(int[].class));
+    assertEquals(DataType.INT8_ARRAY, DataType.lookup(long[].class));
+    assertEquals(DataType.FLOAT8_ARRAY, DataType.lookup(double[].class));
+  }
+
+  private void checkPrimitiveArrays(Row row) {
+    assertArrayEquals(INTS, row.getIntArray(0));
+    assertArrayEquals(LONGS, row.getLongArray("longs"));
+    assertArrayEquals(DOUBLES, row.getDoubleArray(2), 0D);
+    try {
+      row.getIntArray("with_null");
+      fail();
+    } catch (NullPointerException ignore) {
+      // Expected
+    }
+    assertArrayEquals(new long[0], row.getLongArray(4));
+    assertNull(row.getDoubleArray(5));
+  }
+
+  private void checkBoxedArrays(Row row) {
+    assertArrayEquals(new Integer[]{ 1, -2, Integer.MAX_VALUE, Integer.MIN_VALUE }, row.getArrayOfIntegers(0));
+    assertArrayEquals(new Long[]{ 1L, -2L, Long.MAX_VALUE, Long.MIN_VALUE }, (Object[]) row.getValue(1));
+    assertArrayEquals(new Double[]{ 1.5D, -2.25D, Double.NaN, Double.NEGATIVE_INFINITY }, row.getArrayOfDoubles("doubles"));
+    assertArrayEquals(new Integer[]{ 1, null, 3 }, row.getArrayOfIntegers(3));
+    assertArrayEquals(new Long[0], row.getArrayOfLongs(4));
+    assertNull(row.getValue(5));
+  }
+}
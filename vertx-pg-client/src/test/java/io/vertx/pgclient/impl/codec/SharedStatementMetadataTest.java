@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2011-2022 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.pgclient.impl.codec;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.vertx.pgclient.PgException;
+import io.vertx.sqlclient.PropertyKind;
+import io.vertx.sqlclient.Row;
+import io.vertx.sqlclient.Tuple;
+import io.vertx.sqlclient.impl.QueryResultHandler;
+import io.vertx.sqlclient.impl.RowDesc;
+import io.vertx.sqlclient.impl.codec.InvalidCachedStatementEvent;
+import io.vertx.sqlclient.impl.command.CommandResponse;
+import io.vertx.sqlclient.impl.command.ExtendedQueryCommand;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class SharedStatementMetadataTest {
+
+  private static final String SQL = "SELECT val FROM t WHERE id = $1";
+
+  private final List<Row> rows = new ArrayList<>();
+
+  private PgStatementMetadataCache metadataCache() {
+    PgStatementMetadataCache cache = new PgStatementMetadataCache(16);
+    cache.put(SQL, new PgParamDesc(new DataType[]{ DataType.INT4 }), PgRowDesc.createBinary(new PgColumnDesc[]{
+      new PgColumnDesc("val", 0, (short) 0, DataType.INT4, (short) 4, -1, DataFormat.TEXT)
+    }));
+    return cache;
+  }
+
+  private ExtendedQueryCommand<List<Row>> query(PgCodec codec) {
+    ExtendedQueryCommand<List<Row>> query = ExtendedQueryCommand.createQuery(SQL, null, null, Tuple.of(1), true, Collectors.toList(), new QueryResultHandler<List<Row>>() {
+      @Override
+      public <V> void addProperty(PropertyKind<V> property, V value) {
+      }
+      @Override
+      public void handleResult(int updatedCount, int size, RowDesc desc, List<Row> result, Throwable failure) {
+        rows.addAll(result);
+      }
+    });
+    query.ps = codec.sharedStatement(SQL);
+    return query;
+  }
+
+  @Test
+  public void testDescribeSharedStatement() {
+    PgCodec codec = new PgCodec(false, metadataCache(), null);
+    EmbeddedChannel channel = new EmbeddedChannel(codec);
+    channel.writeOutbound(query(codec));
+    // The statement is described in the same flush as its execution
+    assertEquals("PDBES", messageTypes(channel));
+    ByteBuf in = Unpooled.buffer();
+    BackendMessageHelper.parseComplete(in);
+    BackendMessageHelper.parameterDescription(in, DataType.INT4.id);
+    BackendMessageHelper.rowDescription(in, "val", DataType.INT4.id);
+    BackendMessageHelper.bindComplete(in);
+    ByteBuf values = Unpooled.buffer();
+    DataRowHelper.writeBinary(values, DataType.INT4, 5);
+    BackendMessageHelper.dataRow(in, 1, values);
+    BackendMessageHelper.commandComplete(in, "SELECT 1");
+    BackendMessageHelper.readyForQuery(in);
+    channel.writeInbound(in);
+    CommandResponse<Boolean> executed = channel.readInbound();
+    assertTrue(executed.toAsyncResult().succeeded());
+    assertEquals(1, rows.size());
+    assertEquals(5, (int) rows.get(0).getInteger("val"));
+    channel.finishAndReleaseAll();
+  }
+
+  @Test
+  public void testStaleSharedStatement() {
+    PgStatementMetadataCache cache = metadataCache();
+    PgCodec codec = new PgCodec(false, cache, null);
+    EmbeddedChannel channel = new EmbeddedChannel(codec);
+    channel.writeOutbound(query(codec));
+    BackendMessageHelper.releaseOutbound(channel);
+    // The column type changed since the metadata was shared
+    ByteBuf in = Unpooled.buffer();
+    BackendMessageHelper.parseComplete(in);
+    BackendMessageHelper.parameterDescription(in, DataType.INT4.id);
+    BackendMessageHelper.rowDescription(in, "val", DataType.TEXT.id);
+    BackendMessageHelper.bindComplete(in);
+    ByteBuf values = Unpooled.buffer();
+    DataRowHelper.writeText(values, "five");
+    BackendMessageHelper.dataRow(in, 1, values);
+    BackendMessageHelper.commandComplete(in, "SELECT 1");
+    BackendMessageHelper.readyForQuery(in);
+    channel.writeInbound(in);
+    InvalidCachedStatementEvent event = channel.readInbound();
+    assertEquals(SQL, event.sql());
+    CommandResponse<Boolean> executed = channel.readInbound();
+    assertFalse(executed.toAsyncResult().succeeded());
+    assertEquals("0A000", ((PgException) executed.toAsyncResult().cause()).getCode());
+    assertTrue(rows.isEmpty());
+    assertEquals(0, cache.size());
+    channel.finishAndReleaseAll();
+  }
+
+  /**
+   * @return the types of the messages written by the client
+   */
+  private static String messageTypes(EmbeddedChannel channel) {
+    StringBuilder types = new StringBuilder();
+    ByteBuf out;
+    while ((out = channel.readOutbound()) != null) {
+      while (out.isReadable()) {
+        types.append((char) out.readByte());
+        out.skipBytes(out.readInt() - 4);
+      }
+      out.release();
+    }
+    return types.toString();
+  }
+}
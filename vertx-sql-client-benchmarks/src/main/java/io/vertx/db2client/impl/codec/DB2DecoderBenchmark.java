@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2011-2022 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.db2client.impl.codec;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.vertx.sqlclient.impl.command.CloseConnectionCommand;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the framing of a chain of DSS segments by {@link DB2Decoder}.
+ * <p>
+ * Decoding DRDA query data requires the cursor state established by the prior OPNQRY exchange, so the
+ * payload is handed to a codec that only consumes it.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DB2DecoderBenchmark {
+
+  @Param({"1", "16"})
+  public int segments;
+
+  @Param({"1024"})
+  public int segmentSize;
+
+  private ByteBuf chain;
+  private EmbeddedChannel channel;
+  private ConsumingCodec codec;
+
+  @Setup
+  public void setup() {
+    chain = Unpooled.directBuffer();
+    for (int i = 0;i < segments;i++) {
+      chain.writeShort(segmentSize);
+      chain.writeByte(0xD0); // DSS magic
+      chain.writeByte(i < segments - 1 ? 0x43 : 0x03); // reply DSS, chained to the next one
+      chain.writeShort(1); // correlation id
+      chain.writeZero(segmentSize - 6);
+    }
+    codec = new ConsumingCodec();
+    ArrayDeque<CommandCodec<?, ?>> inflight = new ArrayDeque<>();
+    inflight.add(codec);
+    channel = new EmbeddedChannel(new DB2Decoder(inflight));
+  }
+
+  @TearDown
+  public void tearDown() {
+    channel.finishAndReleaseAll();
+    chain.release();
+  }
+
+  @Benchmark
+  public int frameChain() {
+    channel.writeInbound(chain.retainedDuplicate());
+    return codec.consumed;
+  }
+
+  private static class ConsumingCodec extends CommandCodec<Void, CloseConnectionCommand> {
+
+    private int consumed;
+
+    ConsumingCodec() {
+      super(CloseConnectionCommand.INSTANCE);
+    }
+
+    @Override
+    void decodePayload(ByteBuf payload, int payloadLength) {
+      payload.skipBytes(payloadLength);
+      consumed += payloadLength;
+    }
+  }
+}
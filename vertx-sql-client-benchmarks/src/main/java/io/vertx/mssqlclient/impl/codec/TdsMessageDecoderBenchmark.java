@@ -0,0 +1,212 @@
+/*
+ * Copyright (c) 2011-2022 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.mssqlclient.impl.codec;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.vertx.sqlclient.benchmarks.RowSink;
+import io.vertx.sqlclient.impl.QueryResultHandler;
+import io.vertx.sqlclient.impl.command.SimpleQueryCommand;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the decoding by {@link TdsMessageDecoder} of the TDS packets of a
+ * tabular result message (COLMETADATA, ROW or NBCROW tokens and DONE).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TdsMessageDecoderBenchmark {
+
+  private static final int PACKET_SIZE = 4096;
+  private static final String STRING_VALUE = "vert.x reactive sql client";
+
+  @Param({"narrow", "wide"})
+  public String shape;
+
+  @Param({"row", "nbcrow"})
+  public String token;
+
+  @Param({"100"})
+  public int rows;
+
+  private final RowSink sink = new RowSink();
+  private final List<ByteBuf> packets = new ArrayList<>();
+  private EmbeddedChannel channel;
+
+  @Setup
+  public void setup() {
+    int columnCount;
+    switch (shape) {
+      case "narrow":
+        columnCount = 5;
+        break;
+      case "wide":
+        columnCount = 40;
+        break;
+      default:
+        throw new IllegalArgumentException("Unknown shape " + shape);
+    }
+    ByteBuf message = Unpooled.buffer();
+    writeColumnMetadata(columnCount, message);
+    for (int i = 0;i < rows;i++) {
+      if ("nbcrow".equals(token)) {
+        message.writeByte(TokenType.NBCROW);
+        message.writeZero(((columnCount - 1) >> 3) + 1);
+      } else {
+        message.writeByte(TokenType.ROW);
+      }
+      for (int c = 0;c < columnCount;c++) {
+        writeValue(c, message);
+      }
+    }
+    message.writeByte(TokenType.DONE);
+    message.writeShortLE(Done.STATUS_DONE_COUNT);
+    message.writeShortLE(0);
+    message.writeLongLE(rows);
+
+    int chunk = PACKET_SIZE - TdsPacket.PACKET_HEADER_SIZE;
+    while (message.isReadable()) {
+      ByteBuf packet = Unpooled.directBuffer();
+      packet.writeBytes(message, Math.min(chunk, message.readableBytes()));
+      packets.add(packet);
+    }
+
+    TdsMessageCodec tdsMessageCodec = new TdsMessageCodec(PACKET_SIZE);
+    SQLBatchCommandCodec<Void> codec = new SQLBatchCommandCodec<>(tdsMessageCodec, new SimpleQueryCommand<>(
+      "SELECT * FROM bench", false, true, sink.collector(), QueryResultHandler.NOOP_HANDLER));
+    codec.completionHandler = resp -> {};
+    tdsMessageCodec.add(codec);
+    channel = new EmbeddedChannel(new TdsMessageDecoder(tdsMessageCodec));
+  }
+
+  @TearDown
+  public void tearDown() {
+    channel.finishAndReleaseAll();
+    packets.forEach(ByteBuf::release);
+    packets.clear();
+  }
+
+  @Benchmark
+  public void decodeMessage(Blackhole bh) {
+    for (int i = 0;i < packets.size();i++) {
+      ByteBuf data = packets.get(i);
+      short status = i == packets.size() - 1 ? MessageStatus.END_OF_MESSAGE : MessageStatus.NORMAL;
+      channel.writeInbound(new TdsPacket(MessageType.TABULAR_RESULT, status, TdsPacket.PACKET_HEADER_SIZE + data.readableBytes(), data.retainedDuplicate()));
+    }
+    bh.consume(sink.drain());
+  }
+
+  private static void writeColumnMetadata(int columnCount, ByteBuf out) {
+    out.writeByte(TokenType.COLMETADATA);
+    out.writeShortLE(columnCount);
+    for (int c = 0;c < columnCount;c++) {
+      out.writeIntLE(0); // user type
+      out.writeShortLE(0); // flags
+      switch (c % 8) {
+        case 0:
+          out.writeByte(DataType.INTN.id);
+          out.writeByte(4);
+          break;
+        case 1:
+          out.writeByte(DataType.INTN.id);
+          out.writeByte(8);
+          break;
+        case 2:
+          out.writeByte(DataType.FLTN.id);
+          out.writeByte(8);
+          break;
+        case 4:
+          out.writeByte(DataType.DATETIME2N.id);
+          out.writeByte(7);
+          break;
+        case 5:
+          out.writeByte(DataType.BITN.id);
+          out.writeByte(1);
+          break;
+        case 6:
+          out.writeByte(DataType.GUID.id);
+          out.writeByte(16);
+          break;
+        default:
+          out.writeByte(DataType.NVARCHAR.id);
+          out.writeShortLE(200);
+          out.writeZero(5); // collation
+          break;
+      }
+      String name = "col" + c;
+      out.writeByte(name.length());
+      out.writeCharSequence(name, StandardCharsets.UTF_16LE);
+    }
+  }
+
+  private static void writeValue(int column, ByteBuf out) {
+    switch (column % 8) {
+      case 0:
+        out.writeByte(4);
+        out.writeIntLE(123456);
+        break;
+      case 1:
+        out.writeByte(8);
+        out.writeLongLE(9876543210123L);
+        break;
+      case 2:
+        out.writeByte(8);
+        out.writeDoubleLE(3.14159265358979);
+        break;
+      case 4:
+        out.writeByte(8);
+        long hundredsOfNanos = LocalTime.of(12, 34, 56, 123456000).toNanoOfDay() / 100;
+        out.writeIntLE((int) hundredsOfNanos);
+        out.writeByte((int) (hundredsOfNanos >>> 32));
+        out.writeMediumLE((int) ChronoUnit.DAYS.between(LocalDate.of(1, 1, 1), LocalDate.of(2021, 7, 14)));
+        break;
+      case 5:
+        out.writeByte(1);
+        out.writeBoolean(true);
+        break;
+      case 6:
+        out.writeByte(16);
+        out.writeLong(0x6f1b6f0a3c4e4d8bL);
+        out.writeLong(0x9b1a2f6e4b8c9d10L);
+        break;
+      default:
+        out.writeShortLE(STRING_VALUE.length() * 2);
+        out.writeCharSequence(STRING_VALUE, StandardCharsets.UTF_16LE);
+        break;
+    }
+  }
+}
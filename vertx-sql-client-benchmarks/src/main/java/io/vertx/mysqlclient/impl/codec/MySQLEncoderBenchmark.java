@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2011-2022 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.mysqlclient.impl.codec;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.vertx.mysqlclient.impl.MySQLParamDesc;
+import io.vertx.mysqlclient.impl.MySQLRowDesc;
+import io.vertx.mysqlclient.impl.datatype.DataFormat;
+import io.vertx.mysqlclient.impl.protocol.ColumnDefinition;
+import io.vertx.sqlclient.benchmarks.RowSink;
+import io.vertx.sqlclient.impl.ArrayTuple;
+import io.vertx.sqlclient.impl.QueryResultHandler;
+import io.vertx.sqlclient.impl.command.ExtendedQueryCommand;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the encoding of a {@code COM_STMT_EXECUTE} packet by {@link MySQLEncoder}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MySQLEncoderBenchmark {
+
+  @Param({"narrow", "wide"})
+  public String shape;
+
+  private final RowSink sink = new RowSink();
+  private ArrayDeque<CommandCodec<?, ?>> inflight;
+  private EmbeddedChannel channel;
+  private MySQLEncoder encoder;
+  private ExtendedQueryCommand<Void> cmd;
+
+  @Setup
+  public void setup() {
+    int count = MySQLWire.columnCount(shape);
+    ColumnDefinition[] paramDefinitions = MySQLWire.columns(count);
+    ArrayTuple params = new ArrayTuple(count);
+    for (int i = 0;i < count;i++) {
+      params.addValue(MySQLWire.value(i));
+    }
+    String sql = "SELECT * FROM bench WHERE id = ?";
+    MySQLPreparedStatement ps = new MySQLPreparedStatement(sql, 1L,
+      new MySQLParamDesc(paramDefinitions),
+      new MySQLRowDesc(new ColumnDefinition[0], DataFormat.BINARY),
+      false);
+    cmd = ExtendedQueryCommand.createQuery(sql, null, ps, params, true, sink.collector(), QueryResultHandler.NOOP_HANDLER);
+    inflight = new ArrayDeque<>();
+    encoder = new MySQLEncoder(inflight, null);
+    channel = new EmbeddedChannel(encoder);
+    encoder.encodingCharset = StandardCharsets.UTF_8;
+  }
+
+  @TearDown
+  public void tearDown() {
+    channel.finishAndReleaseAll();
+  }
+
+  @Benchmark
+  public int encodeExecute() {
+    encoder.write(cmd);
+    // no response will ever be decoded
+    inflight.clear();
+    ByteBuf out = channel.readOutbound();
+    int size = out.readableBytes();
+    out.release();
+    return size;
+  }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2011-2022 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.mysqlclient.impl.codec;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.vertx.mysqlclient.impl.MySQLRowDesc;
+import io.vertx.mysqlclient.impl.datatype.DataFormat;
+import io.vertx.mysqlclient.impl.protocol.ColumnDefinition;
+import io.vertx.sqlclient.benchmarks.RowSink;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the decoding of text and binary protocol rows by {@link RowResultDecoder}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MySQLRowDecoderBenchmark {
+
+  @Param({"narrow", "wide"})
+  public String shape;
+
+  @Param({"text", "binary"})
+  public String format;
+
+  @Param({"100"})
+  public int rows;
+
+  private final RowSink sink = new RowSink();
+  private ByteBuf rowData;
+  private int columnCount;
+  private RowResultDecoder<?, Void> decoder;
+
+  @Setup
+  public void setup() {
+    columnCount = MySQLWire.columnCount(shape);
+    ColumnDefinition[] columns = MySQLWire.columns(columnCount);
+    boolean binary = "binary".equals(format);
+    rowData = Unpooled.directBuffer();
+    for (int i = 0;i < rows;i++) {
+      if (binary) {
+        MySQLWire.writeBinaryRow(columns, rowData);
+      } else {
+        MySQLWire.writeTextRow(columns, rowData);
+      }
+    }
+    decoder = new RowResultDecoder<>(sink.collector(), new MySQLRowDesc(columns, binary ? DataFormat.BINARY : DataFormat.TEXT));
+  }
+
+  @TearDown
+  public void tearDown() {
+    rowData.release();
+  }
+
+  @Benchmark
+  public void decodeRows(Blackhole bh) {
+    ByteBuf in = rowData.duplicate();
+    while (in.isReadable()) {
+      decoder.handleRow(columnCount, in);
+    }
+    decoder.complete();
+    decoder.reset();
+    bh.consume(sink.drain());
+  }
+}
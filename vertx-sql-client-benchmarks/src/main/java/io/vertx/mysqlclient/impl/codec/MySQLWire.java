@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2011-2022 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.mysqlclient.impl.codec;
+
+import io.netty.buffer.ByteBuf;
+import io.vertx.mysqlclient.impl.datatype.DataType;
+import io.vertx.mysqlclient.impl.datatype.DataTypeCodec;
+import io.vertx.mysqlclient.impl.protocol.ColumnDefinition;
+import io.vertx.mysqlclient.impl.util.BufferUtils;
+import io.vertx.sqlclient.data.Numeric;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+/**
+ * Synthesizes result set rows the way a MySQL server lays them out on the wire.
+ */
+final class MySQLWire {
+
+  /**
+   * utf8mb4_general_ci
+   */
+  static final int COLLATION = 45;
+
+  private static final DataType[] TYPES = {
+    DataType.INT4,
+    DataType.INT8,
+    DataType.DOUBLE,
+    DataType.VARSTRING,
+    DataType.DATETIME,
+    DataType.INT1,
+    DataType.NUMERIC,
+    DataType.VARSTRING
+  };
+
+  private static final Object[] VALUES = {
+    123456,
+    9876543210123L,
+    3.14159265358979,
+    "vert.x reactive sql client",
+    LocalDateTime.of(2021, 7, 14, 12, 34, 56, 123456000),
+    (byte) 1,
+    Numeric.parse("123456.789"),
+    "6f1b6f0a-3c4e-4d8b-9b1a-2f6e4b8c9d10"
+  };
+
+  private static final String[] TEXT_VALUES = {
+    "123456",
+    "9876543210123",
+    "3.14159265358979",
+    "vert.x reactive sql client",
+    "2021-07-14 12:34:56.123456",
+    "1",
+    "123456.789",
+    "6f1b6f0a-3c4e-4d8b-9b1a-2f6e4b8c9d10"
+  };
+
+  private MySQLWire() {
+  }
+
+  /**
+   * @param shape {@code narrow} (5 columns) or {@code wide} (40 columns)
+   */
+  static int columnCount(String shape) {
+    switch (shape) {
+      case "narrow":
+        return 5;
+      case "wide":
+        return 40;
+      default:
+        throw new IllegalArgumentException("Unknown shape " + shape);
+    }
+  }
+
+  static Object value(int column) {
+    return VALUES[column % VALUES.length];
+  }
+
+  static ColumnDefinition[] columns(int count) {
+    ColumnDefinition[] columns = new ColumnDefinition[count];
+    for (int i = 0;i < count;i++) {
+      columns[i] = new ColumnDefinition("def", "bench", "bench", "bench", "col" + i, "col" + i, COLLATION, 255, TYPES[i % TYPES.length], 0, (byte) 0);
+    }
+    return columns;
+  }
+
+  /**
+   * Write the body of a text protocol row, i.e a length encoded string per column.
+   */
+  static void writeTextRow(ColumnDefinition[] columns, ByteBuf out) {
+    for (int i = 0;i < columns.length;i++) {
+      BufferUtils.writeLengthEncodedString(out, TEXT_VALUES[i % TEXT_VALUES.length], StandardCharsets.UTF_8);
+    }
+  }
+
+  /**
+   * Write the body of a binary protocol row, i.e the packet header, the null bitmap and the values.
+   */
+  static void writeBinaryRow(ColumnDefinition[] columns, ByteBuf out) {
+    out.writeByte(0x00);
+    out.writeZero((columns.length + 7 + 2) >> 3);
+    for (int i = 0;i < columns.length;i++) {
+      DataTypeCodec.encodeBinary(columns[i].type(), value(i), StandardCharsets.UTF_8, out);
+    }
+  }
+}
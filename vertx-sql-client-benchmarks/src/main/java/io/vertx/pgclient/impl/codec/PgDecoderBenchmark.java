@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2011-2022 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.pgclient.impl.codec;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.vertx.sqlclient.benchmarks.RowSink;
+import io.vertx.sqlclient.impl.QueryResultHandler;
+import io.vertx.sqlclient.impl.command.SimpleQueryCommand;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the decoding of a query response by {@link PgDecoder} and {@link RowResultDecoder}.
+ *
+ * <ul>
+ *   <li>{@link #decodeResponse} frames a complete response (row description, data rows, command complete
+ *   and ready for query) through the {@link PgDecoder} channel handler</li>
+ *   <li>{@link #decodeRows} feeds the data row bodies directly to the {@link RowResultDecoder}</li>
+ * </ul>
+ *
+ * Run with {@code -p lazy=true} to measure the lazy row decoding, no column is accessed in this case.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PgDecoderBenchmark {
+
+  @Param({"narrow", "wide"})
+  public String shape;
+
+  @Param({"text", "binary"})
+  public String format;
+
+  @Param({"100"})
+  public int rows;
+
+  @Param({"false"})
+  public boolean lazy;
+
+  private final RowSink sink = new RowSink();
+  private ByteBuf response;
+  private ByteBuf dataRows;
+  private int columnCount;
+  private EmbeddedChannel channel;
+  private RowResultDecoder<?, Void> rowDecoder;
+
+  @Setup
+  public void setup() {
+    columnCount = PgWire.columnCount(shape);
+    PgColumnDesc[] columns = PgWire.columns(columnCount, "binary".equals(format));
+    response = PgWire.queryResponse(columns, rows);
+    dataRows = Unpooled.directBuffer();
+    for (int i = 0;i < rows;i++) {
+      PgWire.writeDataRow(columns, dataRows);
+    }
+
+    SimpleQueryCodec<Void> codec = new SimpleQueryCodec<>(new SimpleQueryCommand<>(
+      "SELECT * FROM bench", false, true, sink.collector(), QueryResultHandler.NOOP_HANDLER), lazy);
+    codec.completionHandler = resp -> {};
+    ArrayDeque<PgCommandCodec<?, ?>> inflight = new ArrayDeque<>();
+    inflight.add(codec);
+    channel = new EmbeddedChannel(new PgDecoder(inflight));
+
+    rowDecoder = new RowResultDecoder<>(sink.collector(), PgRowDesc.create(columns), lazy);
+  }
+
+  @TearDown
+  public void tearDown() {
+    channel.finishAndReleaseAll();
+    response.release();
+    dataRows.release();
+  }
+
+  @Benchmark
+  public void decodeResponse(Blackhole bh) {
+    channel.writeInbound(response.retainedDuplicate());
+    bh.consume(sink.drain());
+  }
+
+  @Benchmark
+  public void decodeRows(Blackhole bh) {
+    ByteBuf in = dataRows.duplicate();
+    while (in.isReadable()) {
+      // message type and length
+      in.skipBytes(5);
+      rowDecoder.handleRow(in.readUnsignedShort(), in);
+    }
+    rowDecoder.complete();
+    rowDecoder.reset();
+    bh.consume(sink.drain());
+  }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2011-2022 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.pgclient.impl.codec;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.vertx.sqlclient.impl.ArrayTuple;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the encoding of a prepared query execution by {@link PgEncoder}: Bind, Execute and Sync messages.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PgEncoderBenchmark {
+
+  @Param({"narrow", "wide"})
+  public String shape;
+
+  private EmbeddedChannel channel;
+  private PgEncoder encoder;
+  private Bind bind;
+  private ArrayTuple params;
+
+  @Setup
+  public void setup() {
+    int count = PgWire.columnCount(shape);
+    DataType[] paramTypes = new DataType[count];
+    params = new ArrayTuple(count);
+    for (int i = 0;i < count;i++) {
+      paramTypes[i] = PgWire.type(i);
+      params.addValue(PgWire.value(i));
+    }
+    bind = new Bind("S_1\0".getBytes(StandardCharsets.UTF_8), paramTypes, PgWire.columns(count, true));
+    encoder = new PgEncoder(new ArrayDeque<>(), false);
+    channel = new EmbeddedChannel(encoder);
+  }
+
+  @TearDown
+  public void tearDown() {
+    channel.finishAndReleaseAll();
+  }
+
+  @Benchmark
+  public int encodeBindExecute() {
+    encoder.writeBind(bind, null, params);
+    encoder.writeExecute(null, 0);
+    encoder.writeSync();
+    encoder.flush();
+    ByteBuf out = channel.readOutbound();
+    int size = out.readableBytes();
+    out.release();
+    return size;
+  }
+}
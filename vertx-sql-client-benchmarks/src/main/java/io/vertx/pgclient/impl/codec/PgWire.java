@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) 2011-2022 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.pgclient.impl.codec;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.vertx.sqlclient.data.Numeric;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Synthesizes backend messages the way a PostgreSQL server lays them out on the wire.
+ */
+final class PgWire {
+
+  private static final DataType[] TYPES = {
+    DataType.INT4,
+    DataType.INT8,
+    DataType.FLOAT8,
+    DataType.VARCHAR,
+    DataType.TIMESTAMP,
+    DataType.BOOL,
+    DataType.NUMERIC,
+    DataType.UUID
+  };
+
+  private static final Object[] VALUES = {
+    123456,
+    9876543210123L,
+    3.14159265358979,
+    "vert.x reactive sql client",
+    LocalDateTime.of(2021, 7, 14, 12, 34, 56, 123456000),
+    true,
+    Numeric.parse("123456.789"),
+    UUID.fromString("6f1b6f0a-3c4e-4d8b-9b1a-2f6e4b8c9d10")
+  };
+
+  private static final String[] TEXT_VALUES = {
+    "123456",
+    "9876543210123",
+    "3.14159265358979",
+    "vert.x reactive sql client",
+    "2021-07-14 12:34:56.123456",
+    "t",
+    "123456.789",
+    "6f1b6f0a-3c4e-4d8b-9b1a-2f6e4b8c9d10"
+  };
+
+  private PgWire() {
+  }
+
+  /**
+   * @param shape {@code narrow} (5 columns) or {@code wide} (40 columns)
+   */
+  static int columnCount(String shape) {
+    switch (shape) {
+      case "narrow":
+        return 5;
+      case "wide":
+        return 40;
+      default:
+        throw new IllegalArgumentException("Unknown shape " + shape);
+    }
+  }
+
+  static DataType type(int column) {
+    return TYPES[column % TYPES.length];
+  }
+
+  static Object value(int column) {
+    return VALUES[column % VALUES.length];
+  }
+
+  static PgColumnDesc[] columns(int count, boolean binary) {
+    PgColumnDesc[] columns = new PgColumnDesc[count];
+    for (int i = 0;i < count;i++) {
+      DataType type = type(i);
+      DataFormat format = binary && type.supportsBinary ? DataFormat.BINARY : DataFormat.TEXT;
+      columns[i] = new PgColumnDesc("col" + i, 0, (short) (i + 1), type, (short) -1, -1, format);
+    }
+    return columns;
+  }
+
+  static void writeRowDescription(PgColumnDesc[] columns, ByteBuf out) {
+    int pos = out.writerIndex();
+    out.writeByte(PgProtocolConstants.MESSAGE_TYPE_ROW_DESCRIPTION);
+    out.writeInt(0);
+    out.writeShort(columns.length);
+    for (PgColumnDesc column : columns) {
+      out.writeCharSequence(column.name, StandardCharsets.UTF_8);
+      out.writeByte(0);
+      out.writeInt(column.relationId);
+      out.writeShort(column.relationAttributeNo);
+      out.writeInt(column.dataType.id);
+      out.writeShort(column.length);
+      out.writeInt(column.typeModifier);
+      out.writeShort(column.dataFormat.id);
+    }
+    out.setInt(pos + 1, out.writerIndex() - pos - 1);
+  }
+
+  static void writeDataRow(PgColumnDesc[] columns, ByteBuf out) {
+    int pos = out.writerIndex();
+    out.writeByte(PgProtocolConstants.MESSAGE_TYPE_DATA_ROW);
+    out.writeInt(0);
+    out.writeShort(columns.length);
+    for (int i = 0;i < columns.length;i++) {
+      int idx = out.writerIndex();
+      out.writeInt(0);
+      if (columns[i].dataFormat == DataFormat.BINARY) {
+        DataTypeCodec.encodeBinary(columns[i].dataType, value(i), out);
+      } else {
+        out.writeCharSequence(TEXT_VALUES[i % TEXT_VALUES.length], StandardCharsets.UTF_8);
+      }
+      out.setInt(idx, out.writerIndex() - idx - 4);
+    }
+    out.setInt(pos + 1, out.writerIndex() - pos - 1);
+  }
+
+  static void writeCommandComplete(int rows, ByteBuf out) {
+    int pos = out.writerIndex();
+    out.writeByte(PgProtocolConstants.MESSAGE_TYPE_COMMAND_COMPLETE);
+    out.writeInt(0);
+    out.writeCharSequence("SELECT " + rows, StandardCharsets.UTF_8);
+    out.writeByte(0);
+    out.setInt(pos + 1, out.writerIndex() - pos - 1);
+  }
+
+  static void writeReadyForQuery(ByteBuf out) {
+    out.writeByte(PgProtocolConstants.MESSAGE_TYPE_READY_FOR_QUERY);
+    out.writeInt(5);
+    out.writeByte('I');
+  }
+
+  /**
+   * @return the complete response of a query returning {@code rows} rows
+   */
+  static ByteBuf queryResponse(PgColumnDesc[] columns, int rows) {
+    ByteBuf out = Unpooled.directBuffer();
+    writeRowDescription(columns, out);
+    for (int i = 0;i < rows;i++) {
+      writeDataRow(columns, out);
+    }
+    writeCommandComplete(rows, out);
+    writeReadyForQuery(out);
+    return out;
+  }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2011-2022 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.sqlclient.benchmarks;
+
+import io.vertx.sqlclient.Row;
+
+import java.util.stream.Collector;
+
+/**
+ * A row collector retaining the last decoded row, so the decoding work cannot be eliminated by the JIT.
+ */
+public final class RowSink {
+
+  private final Collector<Row, RowSink, Void> collector = Collector.of(
+    () -> this,
+    (sink, row) -> {
+      sink.last = row;
+      sink.count++;
+    },
+    (a, b) -> a,
+    sink -> null);
+
+  private Row last;
+  private int count;
+
+  public Collector<Row, RowSink, Void> collector() {
+    return collector;
+  }
+
+  /**
+   * @return the last row collected, the sink is reset
+   */
+  public Row drain() {
+    Row row = last;
+    last = null;
+    count = 0;
+    return row;
+  }
+
+  public int count() {
+    return count;
+  }
+}
@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) 2011-2022 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.sqlclient;
+
+import io.vertx.sqlclient.impl.ColumnarRowSetImpl;
+
+import java.util.List;
+import java.util.stream.Collector;
+
+/**
+ * A query result stored column by column instead of row by row.
+ * <p>
+ * Integral and floating point columns are stored in {@code int[]}, {@code long[]} and {@code double[]} arrays,
+ * character columns are stored as UTF-8 bytes and other columns are stored as objects. Null values are tracked
+ * with a bitmap per column, the primitive arrays contain {@code 0} at the position of a null value.
+ * <p>
+ * Use {@link #collector()} with {@link Query#collecting}. Drivers supporting it decode the rows straight into
+ * the columns without creating a {@link Row} per row. Otherwise the rows are created and their values are stored
+ * as objects.
+ * <p>
+ * This object is not thread safe.
+ */
+public interface ColumnarRowSet {
+
+  /**
+   * The storage of a column.
+   */
+  enum ColumnType {
+
+    /**
+     * Stored in an {@code int[]}.
+     */
+    INT,
+
+    /**
+     * Stored in a {@code long[]}.
+     */
+    LONG,
+
+    /**
+     * Stored in a {@code double[]}.
+     */
+    DOUBLE,
+
+    /**
+     * Stored as UTF-8 bytes.
+     */
+    STRING,
+
+    /**
+     * Stored in an {@code Object[]}.
+     */
+    OBJECT
+
+  }
+
+  /**
+   * @return a collector to use with {@link Query#collecting}
+   */
+  static Collector<Row, ?, ColumnarRowSet> collector() {
+    return ColumnarRowSetImpl.COLLECTOR;
+  }
+
+  /**
+   * @return the number of rows
+   */
+  int size();
+
+  /**
+   * @return the names of the columns
+   */
+  List<String> columnsNames();
+
+  /**
+   * Get the position of the column {@code name}.
+   *
+   * @param name the column name
+   * @return the column position or {@code -1} when it does not exist
+   */
+  int columnIndex(String name);
+
+  /**
+   * @param column the column position
+   * @return the column storage
+   */
+  ColumnType columnType(int column);
+
+  /**
+   * @param column the column position
+   * @param row the row position
+   * @return whether the value is null
+   */
+  boolean isNull(int column, int row);
+
+  /**
+   * Get a value as an {@code int}, a numeric value is converted like a Java cast and a null value returns {@code 0}.
+   *
+   * @param column the column position
+   * @param row the row position
+   * @return the value
+   * @throws ClassCastException when the value is not numeric
+   */
+  int getInt(int column, int row);
+
+  /**
+   * Get a value as a {@code long}, a numeric value is converted like a Java cast and a null value returns {@code 0}.
+   *
+   * @param column the column position
+   * @param row the row position
+   * @return the value
+   * @throws ClassCastException when the value is not numeric
+   */
+  long getLong(int column, int row);
+
+  /**
+   * Get a value as a {@code double}, a numeric value is converted like a Java cast and a null value returns {@code 0}.
+   *
+   * @param column the column position
+   * @param row the row position
+   * @return the value
+   * @throws ClassCastException when the value is not numeric
+   */
+  double getDouble(int column, int row);
+
+  /**
+   * Get a value as a {@code String}, a non character value is converted with {@link Object#toString()}.
+   *
+   * @param column the column position
+   * @param row the row position
+   * @return the value or {@code null}
+   */
+  String getString(int column, int row);
+
+  /**
+   * Get a value, the value of a primitive column is boxed.
+   *
+   * @param column the column position
+   * @param row the row position
+   * @return the value or {@code null}
+   */
+  Object getValue(int column, int row);
+
+  /**
+   * @param column the position of an {@link ColumnType#INT} column
+   * @return the column values, the array length is {@link #size()}
+   * @throws IllegalArgumentException when the column is not an {@link ColumnType#INT} column
+   */
+  int[] intColumn(int column);
+
+  /**
+   * @param column the position of a {@link ColumnType#LONG} column
+   * @return the column values, the array length is {@link #size()}
+   * @throws IllegalArgumentException when the column is not a {@link ColumnType#LONG} column
+   */
+  long[] longColumn(int column);
+
+  /**
+   * @param column the position of a {@link ColumnType#DOUBLE} column
+   * @return the column values, the array length is {@link #size()}
+   * @throws IllegalArgumentException when the column is not a {@link ColumnType#DOUBLE} column
+   */
+  double[] doubleColumn(int column);
+
+}
@@ -0,0 +1,36 @@
+/*
+ * Copyright (c) 2011-2022 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.sqlclient;
+
+import io.vertx.codegen.annotations.VertxGen;
+
+/**
+ * How a pool selects the connection executing a command when several connections can accept it,
+ * which happens when commands are pipelined on pooled connections.
+ */
+@VertxGen
+public enum ConnectionSelection {
+
+  /**
+   * Use the first connection able to accept the command, preferring the connections of the current event-loop.
+   * A new connection is created only when no connection can accept the command.
+   */
+  FIRST_AVAILABLE,
+
+  /**
+   * Use the connection with the lowest expected delay, estimated from the commands in flight on the connection
+   * and its recent response times, so a slow command does not hold back the commands queued behind it.
+   * While the pool can grow, a new connection is created rather than queueing behind commands in flight.
+   */
+  LEAST_LOADED
+
+}
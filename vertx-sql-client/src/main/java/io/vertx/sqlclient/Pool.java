@@ -24,6 +24,7 @@ import java.util.ServiceConfigurationError;
 import java.util.ServiceLoader;
 
 import io.vertx.codegen.annotations.Fluent;
+import io.vertx.codegen.annotations.GenIgnore;
 import io.vertx.codegen.annotations.Nullable;
 import io.vertx.codegen.annotations.VertxGen;
 import io.vertx.core.AsyncResult;
@@ -31,6 +32,7 @@ import io.vertx.core.Context;
 import io.vertx.core.Future;
 import io.vertx.core.Handler;
 import io.vertx.core.Vertx;
+import io.vertx.sqlclient.metrics.PoolMetricsSnapshot;
 import io.vertx.sqlclient.spi.Driver;
 
 import java.util.function.Function;
@@ -226,4 +228,25 @@ public interface Pool extends SqlClient {
    * @return the current pool size approximation
    */
   int size();
+
+  /**
+   * Establish connections ahead of the traffic, so the first requests do not pay the connection latency. The pool
+   * is filled up to {@link PoolOptions#getMinSize()} or {@link PoolOptions#getMinIdle()}, or up to
+   * {@link PoolOptions#getMaxSize()} when neither is set.
+   *
+   * @param handler the handler notified when the connections are established
+   */
+  void warmUp(Handler<AsyncResult<Void>> handler);
+
+  /**
+   * Like {@link #warmUp(Handler)} but returns a {@code Future} of the asynchronous result
+   */
+  Future<Void> warmUp();
+
+  /**
+   * @return a snapshot of the pool metrics or {@code null} when the pool does not record metrics,
+   *         see {@link PoolOptions#setMetricsEnabled(boolean)}
+   */
+  @GenIgnore
+  PoolMetricsSnapshot metrics();
 }
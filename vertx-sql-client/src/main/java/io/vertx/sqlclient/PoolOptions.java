@@ -38,6 +38,16 @@ public class PoolOptions {
    */
   public static final int DEFAULT_MAX_SIZE = 4;
 
+  /**
+   * The default minimum number of connections a client will pool = 0
+   */
+  public static final int DEFAULT_MIN_SIZE = 0;
+
+  /**
+   * The default minimum number of idle connections a client will pool = 0
+   */
+  public static final int DEFAULT_MIN_IDLE = 0;
+
   /**
    * Default max wait queue size = -1 (unbounded)
    */
@@ -53,6 +63,16 @@ public class PoolOptions {
    */
   public static final TimeUnit DEFAULT_IDLE_TIMEOUT_TIME_UNIT = TimeUnit.SECONDS;
 
+  /**
+   * Default pooled connection maximum lifetime = 0 (no maximum)
+   */
+  public static final int DEFAULT_MAX_LIFETIME = 0;
+
+  /**
+   * Default pooled connection maximum lifetime unit = seconds
+   */
+  public static final TimeUnit DEFAULT_MAX_LIFETIME_TIME_UNIT = TimeUnit.SECONDS;
+
   /**
    * Default pool cleaner period = 1000 ms (1 second)
    */
@@ -83,16 +103,74 @@ public class PoolOptions {
    */
   public static final int DEFAULT_EVENT_LOOP_SIZE = 0;
 
+  /**
+   * Default connection selection = {@link ConnectionSelection#FIRST_AVAILABLE}
+   */
+  public static final ConnectionSelection DEFAULT_CONNECTION_SELECTION = ConnectionSelection.FIRST_AVAILABLE;
+
+  /**
+   * Default pool metrics = {@code false}
+   */
+  public static final boolean DEFAULT_METRICS_ENABLED = false;
+
+  /**
+   * Default server targeted by the connections = {@link ServerTarget#ANY}
+   */
+  public static final ServerTarget DEFAULT_SERVER_TARGET = ServerTarget.ANY;
+
+  /**
+   * Default time in milliseconds a server is ejected after a connection failure = 1000
+   */
+  public static final int DEFAULT_SERVER_EJECTION_TIME = 1000;
+
+  /**
+   * Default maximum time in milliseconds a server is ejected after consecutive connection failures = 30000
+   */
+  public static final int DEFAULT_MAX_SERVER_EJECTION_TIME = 30000;
+
+  /**
+   * Default read routing to the replicas = {@code false}
+   */
+  public static final boolean DEFAULT_ROUTE_READS_TO_REPLICAS = false;
+
+  /**
+   * Default time in milliseconds the reads go to the primary after a write = 1000
+   */
+  public static final int DEFAULT_REPLICA_STICKINESS = 1000;
+
+  /**
+   * Default maximum replication lag in milliseconds of the replicas receiving the reads = 0 (not checked)
+   */
+  public static final int DEFAULT_MAX_REPLICA_LAG = 0;
+
+  /**
+   * Default adaptive pool size = false
+   */
+  public static final boolean DEFAULT_ADAPTIVE_SIZE = false;
+
   private int maxSize = DEFAULT_MAX_SIZE;
+  private int minSize = DEFAULT_MIN_SIZE;
+  private int minIdle = DEFAULT_MIN_IDLE;
   private int maxWaitQueueSize = DEFAULT_MAX_WAIT_QUEUE_SIZE;
   private int idleTimeout = DEFAULT_IDLE_TIMEOUT;
   private TimeUnit idleTimeoutUnit = DEFAULT_IDLE_TIMEOUT_TIME_UNIT;
+  private int maxLifetime = DEFAULT_MAX_LIFETIME;
+  private TimeUnit maxLifetimeUnit = DEFAULT_MAX_LIFETIME_TIME_UNIT;
   private int poolCleanerPeriod = DEFAULT_POOL_CLEANER_PERIOD;
   private int connectionTimeout = DEFAULT_CONNECTION_TIMEOUT;
   private TimeUnit connectionTimeoutUnit = DEFAULT_CONNECTION_TIMEOUT_TIME_UNIT;
   private boolean shared = DEFAULT_SHARED_POOL;
   private String name = DEFAULT_NAME;
   private int eventLoopSize = DEFAULT_EVENT_LOOP_SIZE;
+  private ConnectionSelection connectionSelection = DEFAULT_CONNECTION_SELECTION;
+  private boolean metricsEnabled = DEFAULT_METRICS_ENABLED;
+  private ServerTarget serverTarget = DEFAULT_SERVER_TARGET;
+  private int serverEjectionTime = DEFAULT_SERVER_EJECTION_TIME;
+  private int maxServerEjectionTime = DEFAULT_MAX_SERVER_EJECTION_TIME;
+  private boolean routeReadsToReplicas = DEFAULT_ROUTE_READS_TO_REPLICAS;
+  private int replicaStickiness = DEFAULT_REPLICA_STICKINESS;
+  private int maxReplicaLag = DEFAULT_MAX_REPLICA_LAG;
+  private boolean adaptiveSize = DEFAULT_ADAPTIVE_SIZE;
 
   public PoolOptions() {
   }
@@ -103,12 +181,25 @@ public class PoolOptions {
 
   public PoolOptions(PoolOptions other) {
     maxSize = other.maxSize;
+    minSize = other.minSize;
+    minIdle = other.minIdle;
     maxWaitQueueSize = other.maxWaitQueueSize;
     idleTimeout = other.idleTimeout;
     idleTimeoutUnit = other.idleTimeoutUnit;
+    maxLifetime = other.maxLifetime;
+    maxLifetimeUnit = other.maxLifetimeUnit;
     shared= other.shared;
     name = other.name;
     eventLoopSize = other.eventLoopSize;
+    connectionSelection = other.connectionSelection;
+    metricsEnabled = other.metricsEnabled;
+    serverTarget = other.serverTarget;
+    serverEjectionTime = other.serverEjectionTime;
+    maxServerEjectionTime = other.maxServerEjectionTime;
+    routeReadsToReplicas = other.routeReadsToReplicas;
+    replicaStickiness = other.replicaStickiness;
+    maxReplicaLag = other.maxReplicaLag;
+    adaptiveSize = other.adaptiveSize;
   }
 
   /**
@@ -132,6 +223,54 @@ public class PoolOptions {
     return this;
   }
 
+  /**
+   * @return  the minimum pool size
+   */
+  public int getMinSize() {
+    return minSize;
+  }
+
+  /**
+   * Set the minimum pool size, the pool cleaner creates the missing connections and idle connections are not evicted
+   * below this size.
+   *
+   * <p> The minimum size is maintained by the pool cleaner, see {@link #setPoolCleanerPeriod(int)}.
+   *
+   * @param minSize  the minimum pool size
+   * @return a reference to this, so the API can be used fluently
+   */
+  public PoolOptions setMinSize(int minSize) {
+    if (minSize < 0) {
+      throw new IllegalArgumentException("Min size cannot be negative");
+    }
+    this.minSize = minSize;
+    return this;
+  }
+
+  /**
+   * @return  the minimum number of idle connections
+   */
+  public int getMinIdle() {
+    return minIdle;
+  }
+
+  /**
+   * Set the minimum number of idle connections, the pool cleaner creates connections when fewer connections are idle,
+   * within the limit of the maximum pool size.
+   *
+   * <p> The minimum number of idle connections is maintained by the pool cleaner, see {@link #setPoolCleanerPeriod(int)}.
+   *
+   * @param minIdle  the minimum number of idle connections
+   * @return a reference to this, so the API can be used fluently
+   */
+  public PoolOptions setMinIdle(int minIdle) {
+    if (minIdle < 0) {
+      throw new IllegalArgumentException("Min idle cannot be negative");
+    }
+    this.minIdle = minIdle;
+    return this;
+  }
+
   /**
    * @return the maximum wait queue size
    */
@@ -187,6 +326,49 @@ public class PoolOptions {
     return this;
   }
 
+  /**
+   * @return the pooled connection maximum lifetime unit
+   */
+  public TimeUnit getMaxLifetimeUnit() {
+    return maxLifetimeUnit;
+  }
+
+  /**
+   * Establish a maximum lifetime unit for pooled connections.
+   *
+   * @param maxLifetimeUnit pooled connection maximum lifetime unit
+   * @return a reference to this, so the API can be used fluently
+   */
+  public PoolOptions setMaxLifetimeUnit(TimeUnit maxLifetimeUnit) {
+    this.maxLifetimeUnit = maxLifetimeUnit;
+    return this;
+  }
+
+  /**
+   * @return the pooled connection maximum lifetime
+   */
+  public int getMaxLifetime() {
+    return maxLifetime;
+  }
+
+  /**
+   * Establish a maximum lifetime for pooled connections, a non positive value means connections live until they
+   * are closed or expire after the idle timeout.
+   *
+   * <p> Connections are rotated even when they are busy: when a connection reaches its lifetime, the pool first connects
+   * a successor and then retires the connection, which is closed once its commands in flight have completed. The lifetime
+   * of each connection is randomly shortened by up to 10% so connections created together are not rotated together.
+   *
+   * <p> The lifetime is checked by the pool cleaner, see {@link #setPoolCleanerPeriod(int)}.
+   *
+   * @param maxLifetime the pooled connection maximum lifetime
+   * @return a reference to this, so the API can be used fluently
+   */
+  public PoolOptions setMaxLifetime(int maxLifetime) {
+    this.maxLifetime = maxLifetime;
+    return this;
+  }
+
   /**
    * @return the connection pool cleaner period in ms.
    */
@@ -309,6 +491,206 @@ public class PoolOptions {
     return this;
   }
 
+  /**
+   * @return how the pool selects the connection executing a command
+   */
+  public ConnectionSelection getConnectionSelection() {
+    return connectionSelection;
+  }
+
+  /**
+   * Set how the pool selects the connection executing a command when several connections can accept it,
+   * this only matters when commands are pipelined on pooled connections.
+   *
+   * The default selection is {@link ConnectionSelection#FIRST_AVAILABLE}.
+   *
+   * @param connectionSelection the connection selection
+   * @return a reference to this, so the API can be used fluently
+   */
+  public PoolOptions setConnectionSelection(ConnectionSelection connectionSelection) {
+    Objects.requireNonNull(connectionSelection, "Connection selection cannot be null");
+    this.connectionSelection = connectionSelection;
+    return this;
+  }
+
+  /**
+   * @return whether the pool records the metrics returned by {@link Pool#metrics()}
+   */
+  public boolean isMetricsEnabled() {
+    return metricsEnabled;
+  }
+
+  /**
+   * Set to {@code true} to record the pool metrics returned by {@link Pool#metrics()}: the time waiting for a
+   * connection, the connections load, the prepared statement cache hits and the latency histograms of each statement.
+   *
+   * @param metricsEnabled {@code true} to record the pool metrics
+   * @return a reference to this, so the API can be used fluently
+   */
+  public PoolOptions setMetricsEnabled(boolean metricsEnabled) {
+    this.metricsEnabled = metricsEnabled;
+    return this;
+  }
+
+  /**
+   * @return the kind of server the pool connects to
+   */
+  public ServerTarget getServerTarget() {
+    return serverTarget;
+  }
+
+  /**
+   * Set the kind of server the pool connects to when it is configured with several databases.
+   *
+   * The default target is {@link ServerTarget#ANY}. The other targets require a driver able to determine whether
+   * a server is read-only (PostgreSQL and MySQL), the creation of the pool fails otherwise.
+   *
+   * @param serverTarget the server target
+   * @return a reference to this, so the API can be used fluently
+   */
+  public PoolOptions setServerTarget(ServerTarget serverTarget) {
+    Objects.requireNonNull(serverTarget, "Server target cannot be null");
+    this.serverTarget = serverTarget;
+    return this;
+  }
+
+  /**
+   * @return the time in milliseconds a server is ejected after a connection failure
+   */
+  public int getServerEjectionTime() {
+    return serverEjectionTime;
+  }
+
+  /**
+   * Set the time in milliseconds a server is ejected after a connection failure when the pool is configured with
+   * several databases. An ejected server does not receive connection attempts while other servers are available,
+   * the ejection time doubles with each consecutive failure up to {@link #setMaxServerEjectionTime}.
+   *
+   * The default value is {@code 1000}.
+   *
+   * @param serverEjectionTime the ejection time in milliseconds
+   * @return a reference to this, so the API can be used fluently
+   */
+  public PoolOptions setServerEjectionTime(int serverEjectionTime) {
+    Arguments.require(serverEjectionTime >= 0, "serverEjectionTime must be >= 0");
+    this.serverEjectionTime = serverEjectionTime;
+    return this;
+  }
+
+  /**
+   * @return the maximum time in milliseconds a server is ejected after consecutive connection failures
+   */
+  public int getMaxServerEjectionTime() {
+    return maxServerEjectionTime;
+  }
+
+  /**
+   * Set the maximum time in milliseconds a server is ejected after consecutive connection failures, this is also
+   * the time after which the read-only state of a server is checked again.
+   *
+   * The default value is {@code 30000}.
+   *
+   * @param maxServerEjectionTime the maximum ejection time in milliseconds
+   * @return a reference to this, so the API can be used fluently
+   */
+  public PoolOptions setMaxServerEjectionTime(int maxServerEjectionTime) {
+    Arguments.require(maxServerEjectionTime >= 0, "maxServerEjectionTime must be >= 0");
+    this.maxServerEjectionTime = maxServerEjectionTime;
+    return this;
+  }
+
+  /**
+   * @return whether the pool routes the read-only statements to the replicas
+   */
+  public boolean isRouteReadsToReplicas() {
+    return routeReadsToReplicas;
+  }
+
+  /**
+   * Set to {@code true} to route the read-only statements executed by a pool configured with several databases
+   * to a replica, the other statements, the transactions and the connections borrowed from the pool use a primary.
+   *
+   * Only the PostgreSQL and MySQL clients support the routing, the creation of a pool of the other clients fails
+   * when it is enabled.
+   *
+   * @param routeReadsToReplicas {@code true} to route the reads to the replicas
+   * @return a reference to this, so the API can be used fluently
+   */
+  public PoolOptions setRouteReadsToReplicas(boolean routeReadsToReplicas) {
+    this.routeReadsToReplicas = routeReadsToReplicas;
+    return this;
+  }
+
+  /**
+   * @return the time in milliseconds the reads go to the primary after a write
+   */
+  public int getReplicaStickiness() {
+    return replicaStickiness;
+  }
+
+  /**
+   * Set the time in milliseconds the reads executed from a context go to the primary after a write executed from the
+   * same context, so a request reads its own writes despite the replication lag.
+   *
+   * The default value is {@code 1000}.
+   *
+   * @param replicaStickiness the stickiness in milliseconds
+   * @return a reference to this, so the API can be used fluently
+   */
+  public PoolOptions setReplicaStickiness(int replicaStickiness) {
+    Arguments.require(replicaStickiness >= 0, "replicaStickiness must be >= 0");
+    this.replicaStickiness = replicaStickiness;
+    return this;
+  }
+
+  /**
+   * @return the maximum replication lag in milliseconds of the replicas receiving the reads
+   */
+  public int getMaxReplicaLag() {
+    return maxReplicaLag;
+  }
+
+  /**
+   * Set the maximum replication lag in milliseconds of the replicas receiving the reads, the lag is checked every
+   * {@link #getPoolCleanerPeriod() cleaner period} and the reads go to the primary while it is exceeded.
+   *
+   * The default value is {@code 0}, the lag is not checked.
+   *
+   * @param maxReplicaLag the maximum lag in milliseconds
+   * @return a reference to this, so the API can be used fluently
+   */
+  public PoolOptions setMaxReplicaLag(int maxReplicaLag) {
+    Arguments.require(maxReplicaLag >= 0, "maxReplicaLag must be >= 0");
+    this.maxReplicaLag = maxReplicaLag;
+    return this;
+  }
+
+  /**
+   * @return whether the pool size adapts to the load
+   */
+  public boolean isAdaptiveSize() {
+    return adaptiveSize;
+  }
+
+  /**
+   * Set whether the pool size adapts to the load.
+   *
+   * An adaptive pool limits the number of concurrent requests between the {@link #getMinSize() min size} and the
+   * {@link #getMaxSize() max size}: the limit grows while the requests wait for a connection and the response times
+   * of the database are stable, and shrinks when the response times grow. The pool only opens connections for the
+   * requests within the limit, the idle connections beyond the limit are closed every
+   * {@link #getPoolCleanerPeriod() cleaner period}.
+   *
+   * The default value is {@code false}, the pool opens connections up to its max size.
+   *
+   * @param adaptiveSize whether the pool size adapts to the load
+   * @return a reference to this, so the API can be used fluently
+   */
+  public PoolOptions setAdaptiveSize(boolean adaptiveSize) {
+    this.adaptiveSize = adaptiveSize;
+    return this;
+  }
+
   public JsonObject toJson() {
     JsonObject json = new JsonObject();
     PoolOptionsConverter.toJson(this, json);
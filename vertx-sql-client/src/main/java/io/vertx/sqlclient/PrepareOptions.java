@@ -23,30 +23,57 @@ import io.vertx.core.json.JsonObject;
 public class PrepareOptions {
 
   private JsonObject json;
+  private Boolean readOnly;
 
   public PrepareOptions() {
   }
 
   public PrepareOptions(PrepareOptions other) {
     json = other.json == null ? null : other.json.copy();
+    readOnly = other.readOnly;
   }
 
   public PrepareOptions(JsonObject json) {
     this();
     this.json = json.copy();
+    this.readOnly = json.getBoolean("readOnly");
+  }
+
+  /**
+   * @return whether the statement is read-only, {@code null} when the statement is classified from its SQL
+   */
+  public Boolean isReadOnly() {
+    return readOnly;
+  }
+
+  /**
+   * Mark the statement as read-only or not, a pool routing the reads to replicas uses it instead of classifying
+   * the statement from its SQL.
+   *
+   * @param readOnly whether the statement is read-only, {@code null} to classify the statement from its SQL
+   * @return a reference to this, so the API can be used fluently
+   */
+  public PrepareOptions setReadOnly(Boolean readOnly) {
+    this.readOnly = readOnly;
+    return this;
   }
 
   /**
    * @return a JSON representation of these options
    */
   public JsonObject toJson() {
-    return json != null ? json.copy() : new JsonObject();
+    JsonObject copy = json != null ? json.copy() : new JsonObject();
+    if (readOnly != null) {
+      copy.put("readOnly", readOnly);
+    }
+    return copy;
   }
 
   @Override
   public String toString() {
     return "PrepareOptions{" +
       "json=" + json +
+      ", readOnly=" + readOnly +
       '}';
   }
 }
@@ -46,6 +46,9 @@ public interface Row extends Tuple {
 
   /**
    * Get a column position for the given @code column}.
+   * <p>
+   * The lookup does not depend on the number of columns. The position is the same for every row of a result,
+   * so it can be resolved once on the first row and then used with the position based getters for the other rows.
    *
    * @param column the column name
    * @return the column name or {@code -1} if not found
@@ -157,6 +160,292 @@ public interface Row extends Tuple {
     return getDouble(pos);
   }
 
+  /**
+   * Test whether the value at {@code pos} is {@code null}.
+   *
+   * @param pos the column position
+   * @return {@code true} when the value is {@code null}
+   */
+  default boolean isNull(int pos) {
+    return getValue(pos) == null;
+  }
+
+  /**
+   * Test whether the value for the given {@code column} is {@code null}.
+   *
+   * @param column the column name
+   * @return {@code true} when the value is {@code null}
+   * @throws NoSuchElementException when the {@code column} does not exist
+   */
+  default boolean isNull(String column) {
+    int pos = getColumnIndex(column);
+    if (pos == -1) {
+      throw new NoSuchElementException("Column " + column + " does not exist");
+    }
+    return isNull(pos);
+  }
+
+  /**
+   * Get a primitive int value at {@code pos}, a {@code null} value is returned as {@code 0}, use {@link #isNull(int)}
+   * to tell them apart.
+   * <p>
+   * Unlike {@link #getInteger(int)}, the value is not boxed when the row stores it as a primitive value.
+   *
+   * @param pos the column position
+   * @return the value
+   */
+  default int getIntValue(int pos) {
+    Object val = getValue(pos);
+    if (val == null) {
+      return 0;
+    } else if (val instanceof Number) {
+      return ((Number) val).intValue();
+    } else if (val instanceof Enum<?>) {
+      return ((Enum<?>) val).ordinal();
+    } else {
+      return (Integer) val; // Throw CCE
+    }
+  }
+
+  /**
+   * Get a primitive int value for the given {@code column}, see {@link #getIntValue(int)}.
+   *
+   * @param column the column name
+   * @return the {@code column} value
+   * @throws NoSuchElementException when the {@code column} does not exist
+   */
+  default int getIntValue(String column) {
+    int pos = getColumnIndex(column);
+    if (pos == -1) {
+      throw new NoSuchElementException("Column " + column + " does not exist");
+    }
+    return getIntValue(pos);
+  }
+
+  /**
+   * Get a primitive long value at {@code pos}, a {@code null} value is returned as {@code 0}, use {@link #isNull(int)}
+   * to tell them apart.
+   * <p>
+   * Unlike {@link #getLong(int)}, the value is not boxed when the row stores it as a primitive value.
+   *
+   * @param pos the column position
+   * @return the value
+   */
+  default long getLongValue(int pos) {
+    Object val = getValue(pos);
+    if (val == null) {
+      return 0L;
+    } else if (val instanceof Number) {
+      return ((Number) val).longValue();
+    } else if (val instanceof Enum<?>) {
+      return ((Enum<?>) val).ordinal();
+    } else {
+      return (Long) val; // Throw CCE
+    }
+  }
+
+  /**
+   * Get a primitive long value for the given {@code column}, see {@link #getLongValue(int)}.
+   *
+   * @param column the column name
+   * @return the {@code column} value
+   * @throws NoSuchElementException when the {@code column} does not exist
+   */
+  default long getLongValue(String column) {
+    int pos = getColumnIndex(column);
+    if (pos == -1) {
+      throw new NoSuchElementException("Column " + column + " does not exist");
+    }
+    return getLongValue(pos);
+  }
+
+  /**
+   * Get a primitive double value at {@code pos}, a {@code null} value is returned as {@code 0}, use {@link #isNull(int)}
+   * to tell them apart.
+   * <p>
+   * Unlike {@link #getDouble(int)}, the value is not boxed when the row stores it as a primitive value.
+   *
+   * @param pos the column position
+   * @return the value
+   */
+  default double getDoubleValue(int pos) {
+    Object val = getValue(pos);
+    if (val == null) {
+      return 0D;
+    } else if (val instanceof Number) {
+      return ((Number) val).doubleValue();
+    } else if (val instanceof Enum<?>) {
+      return ((Enum<?>) val).ordinal();
+    } else {
+      return (Double) val; // Throw CCE
+    }
+  }
+
+  /**
+   * Get a primitive double value for the given {@code column}, see {@link #getDoubleValue(int)}.
+   *
+   * @param column the column name
+   * @return the {@code column} value
+   * @throws NoSuchElementException when the {@code column} does not exist
+   */
+  default double getDoubleValue(String column) {
+    int pos = getColumnIndex(column);
+    if (pos == -1) {
+      throw new NoSuchElementException("Column " + column + " does not exist");
+    }
+    return getDoubleValue(pos);
+  }
+
+  /**
+   * Get an array of primitive int values at {@code pos}.
+   * <p>
+   * Unlike {@link #getArrayOfIntegers(int)}, the elements are not boxed when the row stores the array as primitive
+   * values, the returned array might then be the array stored by the row.
+   *
+   * @param pos the column position
+   * @return the value
+   * @throws NullPointerException when an element of the array is {@code null}
+   */
+  @GenIgnore
+  default int[] getIntArray(int pos) {
+    Object val = getValue(pos);
+    if (val == null) {
+      return null;
+    } else if (val instanceof int[]) {
+      return (int[]) val;
+    }
+    Number[] a = val instanceof Number[] ? (Number[]) val : getArrayOfIntegers(pos);
+    int len = a.length;
+    int[] arr = new int[len];
+    for (int i = 0; i < len; i++) {
+      arr[i] = a[i].intValue();
+    }
+    return arr;
+  }
+
+  /**
+   * Get an array of primitive int values for the given {@code column}, see {@link #getIntArray(int)}.
+   *
+   * @param column the column name
+   * @return the {@code column} value
+   * @throws NoSuchElementException when the {@code column} does not exist
+   */
+  @GenIgnore
+  default int[] getIntArray(String column) {
+    int pos = getColumnIndex(column);
+    if (pos == -1) {
+      throw new NoSuchElementException("Column " + column + " does not exist");
+    }
+    return getIntArray(pos);
+  }
+
+  /**
+   * Get an array of primitive long values at {@code pos}.
+   * <p>
+   * Unlike {@link #getArrayOfLongs(int)}, the elements are not boxed when the row stores the array as primitive
+   * values, the returned array might then be the array stored by the row.
+   *
+   * @param pos the column position
+   * @return the value
+   * @throws NullPointerException when an element of the array is {@code null}
+   */
+  @GenIgnore
+  default long[] getLongArray(int pos) {
+    Object val = getValue(pos);
+    if (val == null) {
+      return null;
+    } else if (val instanceof long[]) {
+      return (long[]) val;
+    } else if (val instanceof int[]) {
+      int[] a = (int[]) val;
+      long[] arr = new long[a.length];
+      for (int i = 0; i < a.length; i++) {
+        arr[i] = a[i];
+      }
+      return arr;
+    }
+    Number[] a = val instanceof Number[] ? (Number[]) val : getArrayOfLongs(pos);
+    int len = a.length;
+    long[] arr = new long[len];
+    for (int i = 0; i < len; i++) {
+      arr[i] = a[i].longValue();
+    }
+    return arr;
+  }
+
+  /**
+   * Get an array of primitive long values for the given {@code column}, see {@link #getLongArray(int)}.
+   *
+   * @param column the column name
+   * @return the {@code column} value
+   * @throws NoSuchElementException when the {@code column} does not exist
+   */
+  @GenIgnore
+  default long[] getLongArray(String column) {
+    int pos = getColumnIndex(column);
+    if (pos == -1) {
+      throw new NoSuchElementException("Column " + column + " does not exist");
+    }
+    return getLongArray(pos);
+  }
+
+  /**
+   * Get an array of primitive double values at {@code pos}.
+   * <p>
+   * Unlike {@link #getArrayOfDoubles(int)}, the elements are not boxed when the row stores the array as primitive
+   * values, the returned array might then be the array stored by the row.
+   *
+   * @param pos the column position
+   * @return the value
+   * @throws NullPointerException when an element of the array is {@code null}
+   */
+  @GenIgnore
+  default double[] getDoubleArray(int pos) {
+    Object val = getValue(pos);
+    if (val == null) {
+      return null;
+    } else if (val instanceof double[]) {
+      return (double[]) val;
+    } else if (val instanceof int[]) {
+      int[] a = (int[]) val;
+      double[] arr = new double[a.length];
+      for (int i = 0; i < a.length; i++) {
+        arr[i] = a[i];
+      }
+      return arr;
+    } else if (val instanceof long[]) {
+      long[] a = (long[]) val;
+      double[] arr = new double[a.length];
+      for (int i = 0; i < a.length; i++) {
+        arr[i] = a[i];
+      }
+      return arr;
+    }
+    Number[] a = val instanceof Number[] ? (Number[]) val : getArrayOfDoubles(pos);
+    int len = a.length;
+    double[] arr = new double[len];
+    for (int i = 0; i < len; i++) {
+      arr[i] = a[i].doubleValue();
+    }
+    return arr;
+  }
+
+  /**
+   * Get an array of primitive double values for the given {@code column}, see {@link #getDoubleArray(int)}.
+   *
+   * @param column the column name
+   * @return the {@code column} value
+   * @throws NoSuchElementException when the {@code column} does not exist
+   */
+  @GenIgnore
+  default double[] getDoubleArray(String column) {
+    int pos = getColumnIndex(column);
+    if (pos == -1) {
+      throw new NoSuchElementException("Column " + column + " does not exist");
+    }
+    return getDoubleArray(pos);
+  }
+
   /**
    * Get {@link Numeric} value for the given {@code column}.
    *
@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2011-2022 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.sqlclient;
+
+import io.vertx.codegen.annotations.VertxGen;
+
+/**
+ * The kind of server a pool configured with several databases connects to, similar to the PostgreSQL
+ * {@code target_session_attrs} connection parameter.
+ * <p>
+ * Targeting a primary or a replica requires the driver to tell whether a server is read-only, see
+ * {@link io.vertx.sqlclient.spi.ConnectionFactory#isReadOnly}.
+ */
+@VertxGen
+public enum ServerTarget {
+
+  /**
+   * Connect to any server.
+   */
+  ANY,
+
+  /**
+   * Connect to a server accepting read-write transactions.
+   */
+  PRIMARY,
+
+  /**
+   * Connect to a read-only server.
+   */
+  REPLICA,
+
+  /**
+   * Connect to a read-only server, or to any server when no read-only server is available.
+   */
+  PREFER_REPLICA
+
+}
@@ -727,6 +727,14 @@ public interface Tuple {
       return null;
     } else if (val instanceof Integer[]) {
       return (Integer[]) val;
+    } else if (val instanceof int[]) {
+      int[] a = (int[]) val;
+      int len = a.length;
+      Integer[] arr = new Integer[len];
+      for (int i = 0; i < len; i++) {
+        arr[i] = a[i];
+      }
+      return arr;
     } else if (val instanceof Number[]) {
       Number[] a = (Number[]) val;
       int len = a.length;
@@ -777,6 +785,14 @@ public interface Tuple {
       return null;
     } else if (val instanceof Long[]) {
       return (Long[]) val;
+    } else if (val instanceof long[]) {
+      long[] a = (long[]) val;
+      int len = a.length;
+      Long[] arr = new Long[len];
+      for (int i = 0; i < len; i++) {
+        arr[i] = a[i];
+      }
+      return arr;
     } else if (val instanceof Number[]) {
       Number[] a = (Number[]) val;
       int len = a.length;
@@ -877,6 +893,14 @@ public interface Tuple {
       return null;
     } else if (val instanceof Double[]) {
       return (Double[]) val;
+    } else if (val instanceof double[]) {
+      double[] a = (double[]) val;
+      int len = a.length;
+      Double[] arr = new Double[len];
+      for (int i = 0; i < len; i++) {
+        arr[i] = a[i];
+      }
+      return arr;
     } else if (val instanceof Number[]) {
       Number[] a = (Number[]) val;
       int len = a.length;
@@ -1524,6 +1548,48 @@ public interface Tuple {
     return addValue(value == null ? NullValue.ArrayOfDouble : value);
   }
 
+  /**
+   * Add an array of primitive {@code int} value at the end of the tuple, unlike {@link #addArrayOfInteger(Integer[])} the elements
+   * are not boxed.
+   * <p>
+   * Only the PostgreSQL client supports arrays of primitive values, the other clients fail the query.
+   *
+   * @param value the value
+   * @return a reference to this, so the API can be used fluently
+   */
+  @GenIgnore
+  default Tuple addIntArray(int[] value) {
+    return addValue(value == null ? NullValue.ArrayOfInteger : value);
+  }
+
+  /**
+   * Add an array of primitive {@code long} value at the end of the tuple, unlike {@link #addArrayOfLong(Long[])} the elements
+   * are not boxed.
+   * <p>
+   * Only the PostgreSQL client supports arrays of primitive values, the other clients fail the query.
+   *
+   * @param value the value
+   * @return a reference to this, so the API can be used fluently
+   */
+  @GenIgnore
+  default Tuple addLongArray(long[] value) {
+    return addValue(value == null ? NullValue.ArrayOfLong : value);
+  }
+
+  /**
+   * Add an array of primitive {@code double} value at the end of the tuple, unlike {@link #addArrayOfDouble(Double[])} the elements
+   * are not boxed.
+   * <p>
+   * Only the PostgreSQL client supports arrays of primitive values, the other clients fail the query.
+   *
+   * @param value the value
+   * @return a reference to this, so the API can be used fluently
+   */
+  @GenIgnore
+  default Tuple addDoubleArray(double[] value) {
+    return addValue(value == null ? NullValue.ArrayOfDouble : value);
+  }
+
   /**
    * Add an array of {@link String} value at the end of the tuple.
    *
@@ -0,0 +1,442 @@
+/*
+ * Copyright (c) 2011-2022 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.sqlclient.impl;
+
+import io.netty.buffer.ByteBuf;
+import io.vertx.sqlclient.ColumnarRowSet;
+import io.vertx.sqlclient.Row;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collector;
+
+/**
+ * The {@link ColumnarRowSet} implementation, it is also the container of the collector.
+ * <p>
+ * A {@link RowDecoder} decoding the rows straight into the columns first calls {@link #init} and then
+ * adds the values of each row, column by column, followed by {@link #endRow()}.
+ */
+public class ColumnarRowSetImpl implements ColumnarRowSet {
+
+  public static final Collector<Row, ColumnarRowSetImpl, ColumnarRowSet> COLLECTOR = Collector.of(
+    ColumnarRowSetImpl::new,
+    ColumnarRowSetImpl::addRow,
+    (set1, set2) -> null, // Shall not be invoked as this is sequential
+    ColumnarRowSetImpl::complete
+  );
+
+  private static final int INITIAL_CAPACITY = 16;
+
+  private List<String> columnNames = Collections.emptyList();
+  private ColumnType[] types;
+  private Column[] columns;
+  private RowDesc desc;
+  private int capacity;
+  private int size;
+
+  /**
+   * @return whether the columns have been initialized
+   */
+  public boolean isInitialized() {
+    return columns != null;
+  }
+
+  /**
+   * Initialize the columns, this must be called before any value is added.
+   *
+   * @param columnNames the column names
+   * @param types the column types
+   */
+  public void init(List<String> columnNames, ColumnType[] types) {
+    this.columnNames = columnNames;
+    this.types = types;
+    this.desc = new RowDesc(columnNames);
+    this.capacity = INITIAL_CAPACITY;
+    this.columns = new Column[types.length];
+    for (int i = 0;i < types.length;i++) {
+      columns[i] = Column.create(types[i], capacity);
+    }
+  }
+
+  public void addNull(int column) {
+    Column col = columns[column];
+    if (col.nulls == null) {
+      col.nulls = new long[(capacity + 63) >> 6];
+    }
+    col.nulls[size >> 6] |= 1L << size;
+    if (col instanceof StringColumn) {
+      ((StringColumn) col).addEmpty(size);
+    }
+  }
+
+  public void addInt(int column, int value) {
+    ((IntColumn) columns[column]).values[size] = value;
+  }
+
+  public void addLong(int column, long value) {
+    ((LongColumn) columns[column]).values[size] = value;
+  }
+
+  public void addDouble(int column, double value) {
+    ((DoubleColumn) columns[column]).values[size] = value;
+  }
+
+  /**
+   * Add a character value from its UTF-8 bytes.
+   */
+  public void addString(int column, ByteBuf buf, int index, int length) {
+    ((StringColumn) columns[column]).add(size, buf, index, length);
+  }
+
+  /**
+   * Add a value converted to the column type.
+   */
+  public void addValue(int column, Object value) {
+    if (value == null) {
+      addNull(column);
+      return;
+    }
+    Column col = columns[column];
+    switch (types[column]) {
+      case INT:
+        ((IntColumn) col).values[size] = ((Number) value).intValue();
+        break;
+      case LONG:
+        ((LongColumn) col).values[size] = ((Number) value).longValue();
+        break;
+      case DOUBLE:
+        ((DoubleColumn) col).values[size] = ((Number) value).doubleValue();
+        break;
+      case STRING:
+        ((StringColumn) col).add(size, value.toString().getBytes(StandardCharsets.UTF_8));
+        break;
+      default:
+        ((ObjectColumn) col).values[size] = value;
+        break;
+    }
+  }
+
+  /**
+   * Terminate the current row.
+   */
+  public void endRow() {
+    if (++size == capacity) {
+      capacity <<= 1;
+      for (Column column : columns) {
+        column.grow(capacity);
+      }
+    }
+  }
+
+  private void addRow(Row row) {
+    int len = row.size();
+    if (columns == null) {
+      List<String> names = new ArrayList<>(len);
+      ColumnType[] types = new ColumnType[len];
+      for (int i = 0;i < len;i++) {
+        names.add(row.getColumnName(i));
+        types[i] = ColumnType.OBJECT;
+      }
+      init(Collections.unmodifiableList(names), types);
+    }
+    for (int i = 0;i < len;i++) {
+      addValue(i, row.getValue(i));
+    }
+    endRow();
+  }
+
+  private ColumnarRowSet complete() {
+    if (columns == null) {
+      init(Collections.emptyList(), new ColumnType[0]);
+    }
+    for (Column column : columns) {
+      column.trim(size);
+    }
+    capacity = size;
+    return this;
+  }
+
+  @Override
+  public int size() {
+    return size;
+  }
+
+  @Override
+  public List<String> columnsNames() {
+    return columnNames;
+  }
+
+  @Override
+  public int columnIndex(String name) {
+    return desc.columnIndex(name);
+  }
+
+  @Override
+  public ColumnType columnType(int column) {
+    return types[column];
+  }
+
+  @Override
+  public boolean isNull(int column, int row) {
+    checkRow(row);
+    long[] nulls = columns[column].nulls;
+    return nulls != null && (nulls[row >> 6] & (1L << row)) != 0;
+  }
+
+  @Override
+  public int getInt(int column, int row) {
+    Column col = columns[column];
+    switch (types[column]) {
+      case INT:
+        checkRow(row);
+        return ((IntColumn) col).values[row];
+      case LONG:
+        return (int) getLong(column, row);
+      case DOUBLE:
+        return (int) getDouble(column, row);
+      default:
+        Number number = (Number) getValue(column, row);
+        return number == null ? 0 : number.intValue();
+    }
+  }
+
+  @Override
+  public long getLong(int column, int row) {
+    Column col = columns[column];
+    switch (types[column]) {
+      case INT:
+        return getInt(column, row);
+      case LONG:
+        checkRow(row);
+        return ((LongColumn) col).values[row];
+      case DOUBLE:
+        return (long) getDouble(column, row);
+      default:
+        Number number = (Number) getValue(column, row);
+        return number == null ? 0L : number.longValue();
+    }
+  }
+
+  @Override
+  public double getDouble(int column, int row) {
+    Column col = columns[column];
+    switch (types[column]) {
+      case INT:
+        return getInt(column, row);
+      case LONG:
+        return getLong(column, row);
+      case DOUBLE:
+        checkRow(row);
+        return ((DoubleColumn) col).values[row];
+      default:
+        Number number = (Number) getValue(column, row);
+        return number == null ? 0D : number.doubleValue();
+    }
+  }
+
+  @Override
+  public String getString(int column, int row) {
+    if (types[column] == ColumnType.STRING) {
+      return isNull(column, row) ? null : ((StringColumn) columns[column]).get(row);
+    }
+    Object value = getValue(column, row);
+    return value == null ? null : value.toString();
+  }
+
+  @Override
+  public Object getValue(int column, int row) {
+    if (isNull(column, row)) {
+      return null;
+    }
+    Column col = columns[column];
+    switch (types[column]) {
+      case INT:
+        return ((IntColumn) col).values[row];
+      case LONG:
+        return ((LongColumn) col).values[row];
+      case DOUBLE:
+        return ((DoubleColumn) col).values[row];
+      case STRING:
+        return ((StringColumn) col).get(row);
+      default:
+        return ((ObjectColumn) col).values[row];
+    }
+  }
+
+  @Override
+  public int[] intColumn(int column) {
+    return ((IntColumn) column(column, ColumnType.INT)).values;
+  }
+
+  @Override
+  public long[] longColumn(int column) {
+    return ((LongColumn) column(column, ColumnType.LONG)).values;
+  }
+
+  @Override
+  public double[] doubleColumn(int column) {
+    return ((DoubleColumn) column(column, ColumnType.DOUBLE)).values;
+  }
+
+  private Column column(int column, ColumnType type) {
+    if (types[column] != type) {
+      throw new IllegalArgumentException("Column " + columnNames.get(column) + " is a " + types[column] + " column");
+    }
+    return columns[column];
+  }
+
+  private void checkRow(int row) {
+    if (row < 0 || row >= size) {
+      throw new IndexOutOfBoundsException("Invalid row " + row);
+    }
+  }
+
+  private static abstract class Column {
+
+    static Column create(ColumnType type, int capacity) {
+      switch (type) {
+        case INT:
+          return new IntColumn(capacity);
+        case LONG:
+          return new LongColumn(capacity);
+        case DOUBLE:
+          return new DoubleColumn(capacity);
+        case STRING:
+          return new StringColumn(capacity);
+        default:
+          return new ObjectColumn(capacity);
+      }
+    }
+
+    long[] nulls;
+
+    void grow(int capacity) {
+      if (nulls != null) {
+        nulls = Arrays.copyOf(nulls, (capacity + 63) >> 6);
+      }
+      resize(capacity);
+    }
+
+    void trim(int size) {
+      if (nulls != null) {
+        nulls = Arrays.copyOf(nulls, (size + 63) >> 6);
+      }
+      resize(size);
+    }
+
+    abstract void resize(int capacity);
+
+  }
+
+  private static class IntColumn extends Column {
+    int[] values;
+    IntColumn(int capacity) {
+      values = new int[capacity];
+    }
+    @Override
+    void resize(int capacity) {
+      values = Arrays.copyOf(values, capacity);
+    }
+  }
+
+  private static class LongColumn extends Column {
+    long[] values;
+    LongColumn(int capacity) {
+      values = new long[capacity];
+    }
+    @Override
+    void resize(int capacity) {
+      values = Arrays.copyOf(values, capacity);
+    }
+  }
+
+  private static class DoubleColumn extends Column {
+    double[] values;
+    DoubleColumn(int capacity) {
+      values = new double[capacity];
+    }
+    @Override
+    void resize(int capacity) {
+      values = Arrays.copyOf(values, capacity);
+    }
+  }
+
+  private static class ObjectColumn extends Column {
+    Object[] values;
+    ObjectColumn(int capacity) {
+      values = new Object[capacity];
+    }
+    @Override
+    void resize(int capacity) {
+      values = Arrays.copyOf(values, capacity);
+    }
+  }
+
+  /**
+   * The UTF-8 bytes of the values one after the other, the value of row {@code i} spans
+   * from {@code offsets[i]} to {@code offsets[i + 1]}.
+   */
+  private static class StringColumn extends Column {
+
+    byte[] data;
+    int[] offsets;
+
+    StringColumn(int capacity) {
+      data = new byte[capacity * 8];
+      offsets = new int[capacity + 1];
+    }
+
+    void addEmpty(int row) {
+      offsets[row + 1] = offsets[row];
+    }
+
+    void add(int row, ByteBuf buf, int index, int length) {
+      int start = ensureData(row, length);
+      buf.getBytes(index, data, start, length);
+      offsets[row + 1] = start + length;
+    }
+
+    void add(int row, byte[] bytes) {
+      int start = ensureData(row, bytes.length);
+      System.arraycopy(bytes, 0, data, start, bytes.length);
+      offsets[row + 1] = start + bytes.length;
+    }
+
+    String get(int row) {
+      int start = offsets[row];
+      return new String(data, start, offsets[row + 1] - start, StandardCharsets.UTF_8);
+    }
+
+    private int ensureData(int row, int length) {
+      int start = offsets[row];
+      int required = start + length;
+      if (required > data.length) {
+        data = Arrays.copyOf(data, Math.max(required, data.length << 1));
+      }
+      return start;
+    }
+
+    @Override
+    void resize(int capacity) {
+      offsets = Arrays.copyOf(offsets, capacity + 1);
+    }
+
+    @Override
+    void trim(int size) {
+      super.trim(size);
+      data = Arrays.copyOf(data, offsets[size]);
+    }
+  }
+}
@@ -52,7 +52,7 @@ public abstract class ConnectionFactoryBase implements ConnectionFactory {
   protected final CloseFuture clientCloseFuture = new CloseFuture();
 
   // auto-retry
-  private final int reconnectAttempts;
+  private int reconnectAttempts;
   private final long reconnectInterval;
 
   protected ConnectionFactoryBase(VertxInternal vertx, SqlConnectOptions options) {
@@ -99,6 +99,21 @@ public abstract class ConnectionFactoryBase implements ConnectionFactory {
     return promise.future();
   }
 
+  int reconnectAttempts() {
+    return reconnectAttempts;
+  }
+
+  long reconnectInterval() {
+    return reconnectInterval;
+  }
+
+  /**
+   * Disable the auto-retry, the {@link HostSelector} retries on the other servers instead of this server.
+   */
+  void disableReconnect() {
+    reconnectAttempts = 0;
+  }
+
   @Override
   public void close(Promise<Void> promise) {
     clientCloseFuture.close(promise);
@@ -11,6 +11,8 @@
 
 package io.vertx.sqlclient.impl;
 
+import io.vertx.sqlclient.Tuple;
+
 /**
  * A factory for building error messages.
  */
@@ -22,4 +24,23 @@ public class ErrorMessageFactory {
   public static String buildWhenArgumentsTypeNotMatched(Class expectedClass, int pos, Object value) {
     return String.format("Parameter at position[%d] with class = [%s] and value = [%s] can not be coerced to the expected class = [%s] for encoding.", pos, value.getClass().getName(), String.valueOf(value), expectedClass.getName());
   }
+
+  public static String buildWhenPrimitiveArrayNotSupported(int pos, Object value) {
+    return String.format("Parameter at position[%d] with class = [%s] is an array of primitive values, which is only supported by the PostgreSQL client.", pos, value.getClass().getName());
+  }
+
+  /**
+   * Check that the tuple contains no array of primitive values, for the clients that cannot encode them.
+   *
+   * @return {@code null} when the tuple contains no array of primitive values otherwise the validation error
+   */
+  public static String checkNoPrimitiveArray(Tuple values) {
+    for (int i = 0; i < values.size(); i++) {
+      Object val = values.getValue(i);
+      if (val instanceof int[] || val instanceof long[] || val instanceof double[]) {
+        return buildWhenPrimitiveArrayNotSupported(i, val);
+      }
+    }
+    return null;
+  }
 }
@@ -0,0 +1,279 @@
+/*
+ * Copyright (c) 2011-2022 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.sqlclient.impl;
+
+import io.vertx.core.CompositeFuture;
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.impl.NoStackTraceThrowable;
+import io.vertx.sqlclient.PoolOptions;
+import io.vertx.sqlclient.ServerTarget;
+import io.vertx.sqlclient.SqlConnection;
+import io.vertx.sqlclient.spi.ConnectionFactory;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A connection factory selecting the server of each new connection among several servers.
+ * <p>
+ * Servers are taken in turn, a server is skipped for the next one when it takes more than twice as long to connect,
+ * accounting for its recent connection failures. A server failing to connect is ejected for a time doubling with each
+ * consecutive failure, the connection attempt fails over to the next server. Ejected servers are only tried again
+ * when all the servers matching the target are ejected.
+ * <p>
+ * When the target is not {@link ServerTarget#ANY}, the read-only state of each new connection is checked with
+ * {@link ConnectionFactory#isReadOnly} and the connection is closed when it does not match the target. The state is
+ * remembered for the maximum ejection time so the next connections go straight to the matching servers. With
+ * {@link ServerTarget#PREFER_REPLICA}, a read-write connection is kept until a healthy replica is found.
+ * <p>
+ * The auto-retry of the servers is disabled, each retry tries the servers again after the reconnect interval.
+ */
+public class HostSelector implements ConnectionFactory {
+
+  // Weight of the last sample in the moving averages
+  private static final double ALPHA = 0.3D;
+  // Number of consecutive times a slower server can be skipped
+  private static final int MAX_SKIPS = 4;
+
+  private final List<Host> hosts;
+  private final ServerTarget target;
+  private final long ejectionTime;
+  private final long maxEjectionTime;
+  private final int reconnectAttempts;
+  private final long reconnectInterval;
+  private int index;
+
+  /**
+   * @throws IllegalArgumentException when the target is not {@link ServerTarget#ANY} and a factory cannot determine
+   *         whether its server is read-only
+   */
+  public HostSelector(List<ConnectionFactory> factories, PoolOptions options) {
+    ServerTarget target = options.getServerTarget();
+    if (target != ServerTarget.ANY) {
+      for (ConnectionFactory factory : factories) {
+        if (!factory.supportsReadOnly()) {
+          throw new IllegalArgumentException("The server target " + target + " is not supported by the driver, it cannot determine whether a server is read-only");
+        }
+      }
+    }
+    int attempts = 0;
+    long interval = 0L;
+    List<Host> hosts = new ArrayList<>(factories.size());
+    for (ConnectionFactory factory : factories) {
+      if (factory instanceof ConnectionFactoryBase) {
+        ConnectionFactoryBase base = (ConnectionFactoryBase) factory;
+        attempts = Math.max(attempts, base.reconnectAttempts());
+        interval = Math.max(interval, base.reconnectInterval());
+        base.disableReconnect();
+      }
+      hosts.add(new Host(factory));
+    }
+    this.hosts = hosts;
+    this.target = target;
+    this.ejectionTime = TimeUnit.MILLISECONDS.toNanos(options.getServerEjectionTime());
+    this.maxEjectionTime = TimeUnit.MILLISECONDS.toNanos(options.getMaxServerEjectionTime());
+    this.reconnectAttempts = attempts;
+    this.reconnectInterval = interval;
+  }
+
+  @Override
+  public Future<SqlConnection> connect(Context context) {
+    Promise<SqlConnection> promise = Promise.promise();
+    connect(context, new HashSet<>(), reconnectAttempts, null, null, promise);
+    return promise.future();
+  }
+
+  /**
+   * @param fallback a read-write connection kept while looking for a replica
+   */
+  private void connect(Context context, Set<Host> tried, int remainingAttempts, Throwable failure, SqlConnection fallback, Promise<SqlConnection> promise) {
+    Host host = select(tried, fallback != null);
+    if (host == null) {
+      if (fallback != null) {
+        promise.complete(fallback);
+      } else if (remainingAttempts > 0) {
+        context.owner().setTimer(reconnectInterval, id -> {
+          tried.clear();
+          connect(context, tried, remainingAttempts - 1, failure, null, promise);
+        });
+      } else {
+        promise.fail(failure != null ? failure : new NoStackTraceThrowable("No server matches the target " + target));
+      }
+      return;
+    }
+    tried.add(host);
+    long begin = System.nanoTime();
+    host.factory.connect(context).onComplete(ar -> {
+      if (ar.failed()) {
+        failed(host);
+        connect(context, tried, remainingAttempts, ar.cause(), fallback, promise);
+        return;
+      }
+      SqlConnection conn = ar.result();
+      connected(host, System.nanoTime() - begin);
+      if (target == ServerTarget.ANY) {
+        promise.complete(conn);
+        return;
+      }
+      host.factory.isReadOnly(conn).onComplete(ar2 -> {
+        if (ar2.failed()) {
+          conn.close();
+          if (fallback != null) {
+            fallback.close();
+          }
+          promise.fail(ar2.cause());
+        } else if (matches(host, ar2.result())) {
+          if (fallback != null) {
+            fallback.close();
+          }
+          promise.complete(conn);
+        } else if (target == ServerTarget.PREFER_REPLICA && fallback == null) {
+          // Keep the connection in case no replica is available
+          connect(context, tried, remainingAttempts, null, conn, promise);
+        } else {
+          conn.close();
+          connect(context, tried, remainingAttempts, new NoStackTraceThrowable("Server does not match the target " + target), fallback, promise);
+        }
+      });
+    });
+  }
+
+  /**
+   * @param strict whether {@link ServerTarget#PREFER_REPLICA} only accepts replicas
+   */
+  private synchronized Host select(Set<Host> tried, boolean strict) {
+    long now = System.nanoTime();
+    // Relax the criteria until a server is found: prefer the healthy servers and the servers known to match the target
+    for (int level = 0;level < 4;level++) {
+      int size = hosts.size();
+      Host first = null;
+      Host second = null;
+      int firstIdx = -1;
+      for (int i = 0;i < size && second == null;i++) {
+        int idx = (index + i) % size;
+        Host host = hosts.get(idx);
+        if (!tried.contains(host) && accepts(host, level, strict, now)) {
+          if (first == null) {
+            first = host;
+            firstIdx = idx;
+          } else {
+            second = host;
+          }
+        }
+      }
+      if (first != null) {
+        index = (firstIdx + 1) % size;
+        if (second != null && first.skips < MAX_SKIPS && second.score() * 2 < first.score()) {
+          first.skips++;
+          return second;
+        }
+        first.skips = 0;
+        return first;
+      }
+    }
+    return null;
+  }
+
+  private boolean accepts(Host host, int level, boolean strict, long now) {
+    if ((level < 2 || strict) && host.ejectedUntil - now > 0) {
+      return false;
+    }
+    if (target == ServerTarget.ANY || (level == 3 && !strict)) {
+      return true;
+    }
+    Boolean readOnly = now - host.checked < maxEjectionTime ? host.readOnly : null;
+    if (readOnly == null) {
+      return true;
+    }
+    switch (target) {
+      case PRIMARY:
+        return !readOnly;
+      case REPLICA:
+        return readOnly;
+      default:
+        // Fallback to any server after the replicas
+        return readOnly || (level > 0 && !strict);
+    }
+  }
+
+  private synchronized boolean matches(Host host, boolean readOnly) {
+    host.readOnly = readOnly;
+    host.checked = System.nanoTime();
+    return target == ServerTarget.PRIMARY ? !readOnly : readOnly;
+  }
+
+  private synchronized void connected(Host host, long connectTime) {
+    host.failures = 0;
+    host.errorRate *= 1 - ALPHA;
+    host.connectTime = host.connectTime == 0L ? connectTime : (long) (host.connectTime * (1 - ALPHA) + connectTime * ALPHA);
+  }
+
+  private synchronized void failed(Host host) {
+    host.failures++;
+    host.errorRate = host.errorRate * (1 - ALPHA) + ALPHA;
+    long ejection = Math.min(ejectionTime << Math.min(host.failures - 1, 30), maxEjectionTime);
+    host.ejectedUntil = System.nanoTime() + ejection;
+  }
+
+  @Override
+  public boolean supportsReadOnly() {
+    return hosts.get(0).factory.supportsReadOnly();
+  }
+
+  @Override
+  public Future<Boolean> isReadOnly(SqlConnection connection) {
+    return hosts.get(0).factory.isReadOnly(connection);
+  }
+
+  @Override
+  public Future<Long> replicationLag(SqlConnection connection) {
+    return hosts.get(0).factory.replicationLag(connection);
+  }
+
+  @Override
+  public void close(Promise<Void> promise) {
+    List<Future> list = new ArrayList<>(hosts.size());
+    for (Host host : hosts) {
+      Promise<Void> p = Promise.promise();
+      host.factory.close(p);
+      list.add(p.future());
+    }
+    CompositeFuture.all(list)
+      .<Void>mapEmpty()
+      .onComplete(promise);
+  }
+
+  private static class Host {
+
+    final ConnectionFactory factory;
+    long connectTime;
+    double errorRate;
+    int failures;
+    long ejectedUntil = System.nanoTime();
+    int skips;
+    Boolean readOnly;
+    long checked;
+
+    Host(ConnectionFactory factory) {
+      this.factory = factory;
+    }
+
+    double score() {
+      return connectTime * (1D + 4D * errorRate);
+    }
+  }
+}
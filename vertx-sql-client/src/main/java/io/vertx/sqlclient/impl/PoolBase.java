@@ -31,6 +31,7 @@ import io.vertx.sqlclient.Row;
 import io.vertx.sqlclient.RowSet;
 import io.vertx.sqlclient.SqlClient;
 import io.vertx.sqlclient.SqlConnection;
+import io.vertx.sqlclient.metrics.PoolMetricsSnapshot;
 import io.vertx.sqlclient.spi.Driver;
 
 import java.util.function.Function;
@@ -94,6 +95,21 @@ public class PoolBase<P extends Pool> implements Pool, SqlClientInternal {
     return delegate.size();
   }
 
+  @Override
+  public void warmUp(Handler<AsyncResult<Void>> handler) {
+    delegate.warmUp(handler);
+  }
+
+  @Override
+  public Future<Void> warmUp() {
+    return delegate.warmUp();
+  }
+
+  @Override
+  public PoolMetricsSnapshot metrics() {
+    return delegate.metrics();
+  }
+
   @Override
   public PreparedQuery<RowSet<Row>> preparedQuery(String sql, PrepareOptions options) {
     return delegate.preparedQuery(sql, options);
@@ -27,14 +27,21 @@ import io.vertx.sqlclient.Pool;
 import io.vertx.sqlclient.PoolOptions;
 import io.vertx.sqlclient.SqlConnection;
 import io.vertx.sqlclient.impl.command.CommandBase;
+import io.vertx.sqlclient.impl.command.ExtendedQueryCommand;
+import io.vertx.sqlclient.impl.command.QueryCommandBase;
+import io.vertx.sqlclient.impl.metrics.PoolMetricsRecorder;
 import io.vertx.sqlclient.impl.pool.SqlConnectionPool;
+import io.vertx.sqlclient.metrics.PoolMetricsSnapshot;
 import io.vertx.sqlclient.impl.tracing.QueryTracer;
+import io.vertx.sqlclient.spi.ConnectionFactory;
 import io.vertx.sqlclient.spi.Driver;
 
 import java.util.Objects;
+import java.util.concurrent.ConcurrentMap;
 import java.util.function.Function;
 
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
 
 /**
  * @author <a href="mailto:julien@julienviet.com">Julien Viet</a>
@@ -46,12 +53,24 @@ public class PoolImpl extends SqlClientBase implements Pool, Closeable {
   private final SqlConnectionPool pool;
   private final CloseFuture closeFuture;
   private final long idleTimeout;
+  private final long maxLifetime;
+  private final int minSize;
+  private final int minIdle;
   private final long connectionTimeout;
   private final long cleanerPeriod;
+  private final boolean adaptiveSize;
   private volatile Handler<SqlConnectionPool.PooledConnection> connectionInitializer;
   private long timerID;
   private volatile Function<Context, Future<SqlConnection>> connectionProvider;
 
+  // Read routing
+  private final long replicaStickiness;
+  private final long maxReplicaLag;
+  private volatile PoolImpl replicas;
+  private volatile boolean replicasLagging;
+  private boolean checkingReplicaLag;
+  private long lagTimerID = -1L;
+
   public PoolImpl(VertxInternal vertx,
                   Driver driver,
                   QueryTracer tracer,
@@ -61,20 +80,26 @@ public class PoolImpl extends SqlClientBase implements Pool, Closeable {
                   Function<Connection, Future<Void>> afterAcquire,
                   Function<Connection, Future<Void>> beforeRecycle,
                   CloseFuture closeFuture) {
-    super(driver, tracer, metrics);
+    super(driver, tracer, poolOptions.isMetricsEnabled() ? new PoolMetricsRecorder(metrics) : metrics);
 
     this.idleTimeout = MILLISECONDS.convert(poolOptions.getIdleTimeout(), poolOptions.getIdleTimeoutUnit());
+    this.maxLifetime = MILLISECONDS.convert(poolOptions.getMaxLifetime(), poolOptions.getMaxLifetimeUnit());
+    this.minSize = poolOptions.getMinSize();
+    this.minIdle = poolOptions.getMinIdle();
     this.connectionTimeout = MILLISECONDS.convert(poolOptions.getConnectionTimeout(), poolOptions.getConnectionTimeoutUnit());
     this.cleanerPeriod = poolOptions.getPoolCleanerPeriod();
+    this.adaptiveSize = poolOptions.isAdaptiveSize();
     this.timerID = -1L;
+    this.replicaStickiness = NANOSECONDS.convert(poolOptions.getReplicaStickiness(), MILLISECONDS);
+    this.maxReplicaLag = poolOptions.getMaxReplicaLag();
     this.vertx = vertx;
-    this.pool = new SqlConnectionPool(ctx -> connectionProvider.apply(ctx), () -> connectionInitializer, afterAcquire, beforeRecycle, vertx, idleTimeout, poolOptions.getMaxSize(), pipeliningLimit, poolOptions.getMaxWaitQueueSize(), poolOptions.getEventLoopSize());
+    this.pool = new SqlConnectionPool(ctx -> connectionProvider.apply(ctx), () -> connectionInitializer, afterAcquire, beforeRecycle, vertx, idleTimeout, maxLifetime, minSize, minIdle, poolOptions.getMaxSize(), pipeliningLimit, poolOptions.getMaxWaitQueueSize(), poolOptions.getEventLoopSize(), poolOptions.getConnectionSelection(), adaptiveSize, poolOptions.isMetricsEnabled() ? (PoolMetricsRecorder) this.metrics : null);
     this.closeFuture = closeFuture;
   }
 
   public Pool init() {
     closeFuture.add(this);
-    if (idleTimeout > 0 && cleanerPeriod > 0) {
+    if ((idleTimeout > 0 || maxLifetime > 0 || minSize > 0 || minIdle > 0 || adaptiveSize) && cleanerPeriod > 0) {
       synchronized (this) {
         timerID = vertx.setTimer(cleanerPeriod, id -> {
           checkExpired();
@@ -92,6 +117,80 @@ public class PoolImpl extends SqlClientBase implements Pool, Closeable {
     return this;
   }
 
+  /**
+   * Route the read-only statements executed by this pool to the {@code replicas} pool.
+   *
+   * @param replicas the pool of the replicas
+   * @param factory the connection factory of the replicas, checking their replication lag
+   */
+  public PoolImpl replicas(PoolImpl replicas, ConnectionFactory factory) {
+    this.replicas = replicas;
+    if (maxReplicaLag > 0 && cleanerPeriod > 0) {
+      synchronized (this) {
+        lagTimerID = vertx.setPeriodic(cleanerPeriod, id -> checkReplicaLag(replicas, factory));
+      }
+    }
+    return this;
+  }
+
+  private void checkReplicaLag(PoolImpl replicas, ConnectionFactory factory) {
+    synchronized (this) {
+      if (checkingReplicaLag) {
+        return;
+      }
+      checkingReplicaLag = true;
+    }
+    replicas
+      .getConnection()
+      .compose(conn -> factory
+        .replicationLag(conn)
+        .eventually(v -> conn.close()))
+      .onComplete(ar -> {
+        synchronized (this) {
+          checkingReplicaLag = false;
+        }
+        // Keep the previous state when the lag is unknown
+        if (ar.succeeded()) {
+          replicasLagging = ar.result() > maxReplicaLag;
+        }
+      });
+  }
+
+  /**
+   * @return whether the command can be executed by a replica
+   */
+  private boolean isReplicaCommand(ContextInternal context, CommandBase<?> cmd) {
+    if (!(cmd instanceof QueryCommandBase)) {
+      return false;
+    }
+    Boolean readOnly = null;
+    if (cmd instanceof ExtendedQueryCommand && ((ExtendedQueryCommand<?>) cmd).options() != null) {
+      readOnly = ((ExtendedQueryCommand<?>) cmd).options().isReadOnly();
+    }
+    if (readOnly == null) {
+      readOnly = StatementClassifier.isReadOnly(((QueryCommandBase<?>) cmd).sql());
+    }
+    ConcurrentMap<Object, Object> data = context.localContextData();
+    if (!readOnly) {
+      if (replicaStickiness > 0) {
+        // Read the writes of the context on the primary
+        data.put(this, System.nanoTime() + replicaStickiness);
+      }
+      return false;
+    }
+    if (replicasLagging) {
+      return false;
+    }
+    Long sticky = (Long) data.get(this);
+    if (sticky != null) {
+      if (sticky - System.nanoTime() > 0) {
+        return false;
+      }
+      data.remove(this, sticky);
+    }
+    return true;
+  }
+
   private void checkExpired() {
     synchronized (this) {
       if (timerID == -1) {
@@ -152,6 +251,10 @@ public class PoolImpl extends SqlClientBase implements Pool, Closeable {
 
   @Override
   public <R> Future<R> schedule(ContextInternal context, CommandBase<R> cmd) {
+    PoolImpl replicas = this.replicas;
+    if (replicas != null && isReplicaCommand(context, cmd)) {
+      return replicas.schedule(context, cmd);
+    }
     Object metric;
     if (metrics != null) {
       metric = metrics.enqueueRequest();
@@ -202,6 +305,10 @@ public class PoolImpl extends SqlClientBase implements Pool, Closeable {
     } else {
       connectionInitializer = null;
     }
+    PoolImpl replicas = this.replicas;
+    if (replicas != null) {
+      replicas.connectHandler(handler);
+    }
     return this;
   }
 
@@ -211,6 +318,10 @@ public class PoolImpl extends SqlClientBase implements Pool, Closeable {
         vertx.cancelTimer(timerID);
         timerID = -1;
       }
+      if (lagTimerID >= 0) {
+        vertx.cancelTimer(lagTimerID);
+        lagTimerID = -1;
+      }
     }
     return pool.close().onComplete(v -> {
       if (metrics != null) {
@@ -222,4 +333,30 @@ public class PoolImpl extends SqlClientBase implements Pool, Closeable {
   public int size() {
     return pool.size();
   }
+
+  @Override
+  public void warmUp(Handler<AsyncResult<Void>> handler) {
+    Future<Void> fut = warmUp();
+    if (handler != null) {
+      fut.onComplete(handler);
+    }
+  }
+
+  @Override
+  public PoolMetricsSnapshot metrics() {
+    return pool.metrics();
+  }
+
+  @Override
+  public Future<Void> warmUp() {
+    ContextInternal current = vertx.getOrCreateContext();
+    Promise<Void> promise = current.promise();
+    Future<Void> fut = pool.warmUp(current);
+    PoolImpl replicas = this.replicas;
+    if (replicas != null) {
+      fut = CompositeFuture.all(fut, replicas.warmUp()).mapEmpty();
+    }
+    fut.onComplete(promise);
+    return promise.future();
+  }
 }
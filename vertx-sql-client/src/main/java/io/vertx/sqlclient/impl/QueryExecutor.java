@@ -85,7 +85,6 @@ class QueryExecutor<T, R extends SqlResultBase<T>, L extends SqlResult<T>> {
     Object metric;
     if (metrics != null) {
       metric = metrics.requestBegin(sql, sql);
-      metrics.requestEnd(metric);
     } else {
       metric = null;
     }
@@ -112,7 +111,6 @@ class QueryExecutor<T, R extends SqlResultBase<T>, L extends SqlResult<T>> {
     Object metric;
     if (metrics != null) {
       metric = metrics.requestBegin(preparedStatement.sql(), preparedStatement.sql());
-      metrics.requestEnd(metric);
     } else {
       metric = null;
     }
@@ -148,7 +146,6 @@ class QueryExecutor<T, R extends SqlResultBase<T>, L extends SqlResult<T>> {
     Object metric;
     if (metrics != null) {
       metric = metrics.requestBegin(sql, sql);
-      metrics.requestEnd(metric);
     } else {
       metric = null;
     }
@@ -188,7 +185,6 @@ class QueryExecutor<T, R extends SqlResultBase<T>, L extends SqlResult<T>> {
     Object metric;
     if (metrics != null) {
       metric = metrics.requestBegin(preparedStatement.sql(), preparedStatement.sql());
-      metrics.requestEnd(metric);
     } else {
       metric = null;
     }
@@ -215,7 +211,6 @@ class QueryExecutor<T, R extends SqlResultBase<T>, L extends SqlResult<T>> {
     Object metric;
     if (metrics != null) {
       metric = metrics.requestBegin(sql, sql);
-      metrics.requestEnd(metric);
     } else {
       metric = null;
     }
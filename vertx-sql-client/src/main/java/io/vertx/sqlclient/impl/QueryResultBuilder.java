@@ -45,6 +45,7 @@ class QueryResultBuilder<T, R extends SqlResultBase<T>, L extends SqlResult<T>>
   private R current;
   private Throwable failure;
   private boolean suspended;
+  private volatile boolean written;
 
   QueryResultBuilder(Function<T, R> factory, QueryTracer tracer, Object tracingPayload, ClientMetrics metrics, Object metric, PromiseInternal<L> handler) {
     this.factory = factory;
@@ -93,6 +94,14 @@ class QueryResultBuilder<T, R extends SqlResultBase<T>, L extends SqlResult<T>>
     }
   }
 
+  @Override
+  public void handleWritten() {
+    if (metrics != null && !written) {
+      written = true;
+      metrics.requestEnd(metric);
+    }
+  }
+
   @Override
   public boolean tryComplete(Boolean result) {
     suspended = result;
@@ -102,7 +111,9 @@ class QueryResultBuilder<T, R extends SqlResultBase<T>, L extends SqlResult<T>>
       boolean completed = handler.tryComplete((L) first);
       if (completed) {
         if (metrics != null) {
-          metrics.responseBegin(metric, null);
+          // The connection might not report the query as written
+          handleWritten();
+          metrics.responseBegin(metric, first);
           metrics.responseEnd(metric);
         }
         if (tracer != null) {
@@ -37,4 +37,10 @@ public interface QueryResultHandler<T> {
 
   void handleResult(int updatedCount, int size, RowDesc desc, T result, Throwable failure);
 
+  /**
+   * Called when the query is sent to the database.
+   */
+  default void handleWritten() {
+  }
+
 }
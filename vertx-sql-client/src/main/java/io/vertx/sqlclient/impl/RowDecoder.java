@@ -26,6 +26,7 @@ import java.util.stream.Collector;
 public abstract class RowDecoder<C, R> {
 
   private final Collector<Row, C, R> collector;
+  private final boolean columnar;
   private BiConsumer<C, Row> accumulator;
 
   private int size;
@@ -35,6 +36,7 @@ public abstract class RowDecoder<C, R> {
 
   protected RowDecoder(Collector<Row, C, R> collector) {
     this.collector = collector;
+    this.columnar = collector == ColumnarRowSetImpl.COLLECTOR;
 
     reset();
   }
@@ -45,10 +47,25 @@ public abstract class RowDecoder<C, R> {
 
   protected abstract Row decodeRow(int len, ByteBuf in);
 
+  /**
+   * Decode a row straight into the columns of a {@link io.vertx.sqlclient.ColumnarRowSet}, a decoder that
+   * does not support it returns {@code false} without reading {@code in} and the row is decoded by
+   * {@link #decodeRow} instead.
+   *
+   * @return whether the row has been decoded
+   */
+  protected boolean decodeColumns(int len, ByteBuf in, ColumnarRowSetImpl columns) {
+    return false;
+  }
+
   public void handleRow(int len, ByteBuf in) {
     if (failure != null) {
       return;
     }
+    if (columnar && decodeColumns(len, in, (ColumnarRowSetImpl) container)) {
+      size++;
+      return;
+    }
     Row row = decodeRow(len, in);
     if (accumulator == null) {
       try {
@@ -21,7 +21,9 @@ import io.vertx.sqlclient.desc.ColumnDescriptor;
 
 import java.sql.JDBCType;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 /**
@@ -34,6 +36,7 @@ public class RowDesc {
 
   private final List<String> columnNames;
   private final List<ColumnDescriptor> columnDescriptors;
+  private final Map<String, Integer> columnIndexes;
 
   public RowDesc(List<String> columnNames) {
     this(columnNames, columnNames.stream().map(colName -> new ColumnDescriptor() {
@@ -62,13 +65,35 @@ public class RowDesc {
   public RowDesc(List<String> columnNames, List<ColumnDescriptor> columnDescriptors) {
     this.columnNames = columnNames;
     this.columnDescriptors = columnDescriptors;
+    this.columnIndexes = columnIndexes(columnNames);
   }
 
+  private static Map<String, Integer> columnIndexes(List<String> columnNames) {
+    int size = columnNames.size();
+    if (size == 0) {
+      return Collections.emptyMap();
+    }
+    Map<String, Integer> indexes = new HashMap<>(size * 4 / 3 + 1);
+    for (int i = 0;i < size;i++) {
+      // Keep the first occurrence of a duplicate name like List#indexOf
+      indexes.putIfAbsent(columnNames.get(i), i);
+    }
+    return indexes;
+  }
+
+  /**
+   * Resolve the position of a column in constant time, the position remains valid for every row
+   * described by this instance, so it can be resolved once and reused when iterating the rows.
+   *
+   * @param columnName the column name
+   * @return the column position or {@code -1} when there is no such column
+   */
   public int columnIndex(String columnName) {
     if (columnName == null) {
       throw new NullPointerException("Column name must not be null");
     }
-    return columnNames.indexOf(columnName);
+    Integer index = columnIndexes.get(columnName);
+    return index == null ? -1 : index;
   }
 
   public List<String> columnNames() {
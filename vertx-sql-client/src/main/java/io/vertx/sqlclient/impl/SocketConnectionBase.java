@@ -70,6 +70,8 @@ public abstract class SocketConnectionBase implements Connection {
   private boolean executing;
   private int inflight;
   private boolean paused;
+  // Statements evicted from the cache, closed with the next commands flushed or once a response is handled
+  private final ArrayDeque<PreparedStatement> evicted = new ArrayDeque<>();
 
   protected final NetSocketInternal socket;
   protected Status status = Status.CONNECTED;
@@ -108,6 +110,10 @@ public abstract class SocketConnectionBase implements Connection {
     return socket;
   }
 
+  public PreparedStatementCache preparedStatementCache() {
+    return psCache;
+  }
+
   @Override
   public SocketAddress server() {
     return socket.remoteAddress();
@@ -203,6 +209,9 @@ public abstract class SocketConnectionBase implements Connection {
       CommandBase<?> cmd;
       while (!paused && inflight < pipeliningLimit && (cmd = pending.poll()) != null) {
         inflight++;
+        if (cmd instanceof QueryCommandBase) {
+          ((QueryCommandBase<?>) cmd).resultHandler().handleWritten();
+        }
         if (cmd instanceof ExtendedQueryCommand) {
           ExtendedQueryCommand queryCmd = (ExtendedQueryCommand) cmd;
           if (queryCmd.ps == null) {
@@ -211,21 +220,29 @@ public abstract class SocketConnectionBase implements Connection {
             }
           }
           if (queryCmd.ps == null) {
-            // Execute prepare
             boolean cache = psCache != null && preparedStatementCacheSqlFilter.test(queryCmd.sql());
             if (cache) {
-              CloseStatementCommand closeCmd = evictStatementIfNecessary();
-              if (closeCmd != null) {
-                inflight++;
-                written++;
-                ctx.write(closeCmd, ctx.voidPromise());
+              queryCmd.ps = sharedStatement(queryCmd.sql());
+              if (queryCmd.ps != null) {
+                // The statement is prepared along with the query
+                cacheStatement(queryCmd.ps);
+              } else {
+                queryCmd.ps = unpreparedStatement(queryCmd);
+                if (queryCmd.ps != null) {
+                  // The statement is prepared and described along with the query
+                  handleUnpreparedStatement(queryCmd);
+                }
               }
             }
-            PrepareStatementCommand prepareCmd = prepareCommand(queryCmd, cache, false);
-            paused = true;
-            inflight++;
-            cmd = prepareCmd;
-          } else {
+            if (queryCmd.ps == null) {
+              // Execute prepare
+              PrepareStatementCommand prepareCmd = prepareCommand(queryCmd, cache, false);
+              paused = true;
+              inflight++;
+              cmd = prepareCmd;
+            }
+          }
+          if (queryCmd.ps != null) {
             String msg = queryCmd.prepare();
             if (msg != null) {
               inflight--;
@@ -237,8 +254,9 @@ public abstract class SocketConnectionBase implements Connection {
         written++;
         ctx.write(cmd, ctx.voidPromise());
       }
-      if (written > 0) {
-        ctx.flush();
+      if (written > 0 || (!evicted.isEmpty() && status == Status.CONNECTED)) {
+        // Statements evicted by a command completion handler are closed even when nothing else is written
+        flush(ctx);
       }
     } finally {
       executing = false;
@@ -262,7 +280,7 @@ public abstract class SocketConnectionBase implements Connection {
         } else {
           ChannelHandlerContext ctx = socket.channelHandlerContext();
           ctx.write(queryCmd, ctx.voidPromise());
-          ctx.flush();
+          flush(ctx);
         }
       } else {
         Throwable cause = ar.cause();
@@ -270,7 +288,7 @@ public abstract class SocketConnectionBase implements Connection {
           ChannelHandlerContext ctx = socket.channelHandlerContext();
           // We cannot cache this prepared statement because it might be executed with another type
           ctx.write(prepareCommand(queryCmd, false, true), ctx.voidPromise());
-          ctx.flush();
+          flush(ctx);
         } else {
           inflight--;
           queryCmd.fail(cause);
@@ -280,6 +298,66 @@ public abstract class SocketConnectionBase implements Connection {
     return prepareCmd;
   }
 
+  private void handleUnpreparedStatement(ExtendedQueryCommand<?> queryCmd) {
+    PreparedStatement unprepared = queryCmd.ps;
+    Handler<AsyncResult<Boolean>> handler = queryCmd.handler;
+    queryCmd.handler = ar -> {
+      queryCmd.handler = handler;
+      if (queryCmd.ps != unprepared) {
+        // The statement has been described
+        if (status == Status.CONNECTED) {
+          cacheDescribedStatement(queryCmd.ps);
+        }
+        handler.handle(ar);
+      } else if (ar.failed() && isIndeterminatePreparedStatementError(ar.cause()) && status == Status.CONNECTED) {
+        // Prepare the statement with the parameter types and then execute the query again
+        queryCmd.ps = null;
+        inflight += 2;
+        paused = true;
+        ChannelHandlerContext ctx = socket.channelHandlerContext();
+        ctx.write(prepareCommand(queryCmd, false, true), ctx.voidPromise());
+        flush(ctx);
+      } else {
+        handler.handle(ar);
+      }
+    };
+  }
+
+  private void cacheDescribedStatement(PreparedStatement ps) {
+    if (psCache.contains(ps.sql())) {
+      // Another query has cached the same statement meanwhile
+      evicted.add(ps);
+    } else {
+      cacheStatement(ps);
+    }
+  }
+
+  /**
+   * Create a statement to cache which is prepared and described along with the execution of the query command,
+   * instead of waiting for the response of a prepare command. When the database cannot determine the parameter
+   * types of the statement, the statement is prepared again with the parameter types of the command.
+   * <p>
+   * Once described, the command {@link ExtendedQueryCommand#ps} must be set to the described statement, which
+   * is then cached and used by the next executions.
+   *
+   * @param cmd the query command
+   * @return the statement or {@code null} when the command cannot be executed this way
+   */
+  protected PreparedStatement unpreparedStatement(ExtendedQueryCommand<?> cmd) {
+    return null;
+  }
+
+  /**
+   * Create a statement from the metadata shared by the connections of a pool, such statement is prepared
+   * along with its first execution instead of waiting for the response of a prepare command.
+   *
+   * @param sql the statement SQL
+   * @return the statement or {@code null} when the metadata of the statement is not known
+   */
+  protected PreparedStatement sharedStatement(String sql) {
+    return null;
+  }
+
   protected void handleMessage(Object msg) {
     if (msg instanceof CommandResponse) {
       inflight--;
@@ -298,25 +376,29 @@ public abstract class SocketConnectionBase implements Connection {
     }
   }
 
-  private CloseStatementCommand evictStatementIfNecessary() {
-    if (psCache != null && psCache.isFull()) {
-      PreparedStatement evicted = psCache.evict();
-      CloseStatementCommand closeCmd = new CloseStatementCommand(evicted);
+  /**
+   * Flush the written commands, the statements evicted from the cache are closed after these commands so
+   * the closes do not need a flush of their own.
+   */
+  private void flush(ChannelHandlerContext ctx) {
+    PreparedStatement ps;
+    while ((ps = evicted.poll()) != null) {
+      CloseStatementCommand closeCmd = new CloseStatementCommand(ps);
       closeCmd.handler = ar -> {
         if (ar.failed()) {
           logger.error("Error when closing cached prepared statement", ar.cause());
         }
       };
-      return closeCmd;
-    } else {
-      return null;
+      inflight++;
+      ctx.write(closeCmd, ctx.voidPromise());
     }
+    ctx.flush();
   }
 
   private void cacheStatement(PreparedStatement preparedStatement) {
     if (psCache != null) {
-      List<PreparedStatement> evictedList = psCache.put(preparedStatement);
-      assert evictedList.size() == 0;
+      // The statement itself is evicted when it is not admitted in the cache
+      evicted.addAll(psCache.put(preparedStatement));
     }
   }
 
@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2011-2022 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.sqlclient.impl;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Classify SQL statements as read-only, the classification is conservative: a statement is read-only when it is
+ * a single {@code SELECT}, {@code VALUES}, {@code TABLE}, {@code SHOW} or {@code WITH} statement that does not contain
+ * a keyword that can modify data or lock rows, outside of literals, quoted identifiers and comments.
+ * <p>
+ * Functions with side effects cannot be detected, statements calling them must be marked with
+ * {@link io.vertx.sqlclient.PrepareOptions#setReadOnly(Boolean)}.
+ */
+public final class StatementClassifier {
+
+  private static final Set<String> READ_STATEMENTS = new HashSet<>(Arrays.asList(
+    "SELECT", "VALUES", "TABLE", "SHOW", "WITH"
+  ));
+
+  private static final Set<String> WRITE_KEYWORDS = new HashSet<>(Arrays.asList(
+    "INSERT", "UPDATE", "DELETE", "MERGE", "UPSERT", "REPLACE", "INTO", "FOR", "LOCK", "NEXTVAL", "SETVAL", "CALL", "EXEC", "EXECUTE",
+    // MySQL named locks are held by the session
+    "GET_LOCK", "RELEASE_LOCK", "RELEASE_ALL_LOCKS"
+  ));
+
+  private StatementClassifier() {
+  }
+
+  public static boolean isReadOnly(String sql) {
+    int len = sql.length();
+    boolean first = true;
+    int i = 0;
+    while (i < len) {
+      char c = sql.charAt(i);
+      if (c == '\'' || c == '"' || c == '`') {
+        // Literal or quoted identifier, a quote is escaped by doubling it
+        i++;
+        while (i < len) {
+          if (sql.charAt(i++) == c) {
+            if (i < len && sql.charAt(i) == c) {
+              i++;
+            } else {
+              break;
+            }
+          }
+        }
+      } else if (c == '-' && i + 1 < len && sql.charAt(i + 1) == '-') {
+        while (i < len && sql.charAt(i) != '\n') {
+          i++;
+        }
+      } else if (c == '/' && i + 1 < len && sql.charAt(i + 1) == '*') {
+        int end = sql.indexOf("*/", i + 2);
+        i = end == -1 ? len : end + 2;
+      } else if (c == ';') {
+        // Only a trailing semicolon is accepted
+        for (i++;i < len;i++) {
+          if (!Character.isWhitespace(sql.charAt(i))) {
+            return false;
+          }
+        }
+      } else if (Character.isLetter(c) || c == '_') {
+        int start = i++;
+        while (i < len && (Character.isLetterOrDigit(sql.charAt(i)) || sql.charAt(i) == '_' || sql.charAt(i) == '$')) {
+          i++;
+        }
+        String word = sql.substring(start, i).toUpperCase(Locale.ROOT);
+        if (first) {
+          if (!READ_STATEMENTS.contains(word)) {
+            return false;
+          }
+          first = false;
+        } else if (WRITE_KEYWORDS.contains(word)) {
+          return false;
+        }
+      } else {
+        if (first && !Character.isWhitespace(c) && c != '(') {
+          return false;
+        }
+        i++;
+      }
+    }
+    return !first;
+  }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2011-2022 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.sqlclient.impl.cache;
+
+/**
+ * A count-min sketch estimating the access frequency of keys, the counters saturate at {@code 15} and are halved
+ * periodically so the frequencies reflect the recent accesses.
+ */
+class FrequencySketch {
+
+  private static final int DEPTH = 4;
+  private static final int MAX_COUNT = 15;
+  private static final int[] SEEDS = { 0x97cb3127, 0xb4f2e2b5, 0xc2b2ae35, 0x85ebca6b };
+
+  private final byte[][] table;
+  private final int mask;
+  private final int sampleSize;
+  private int additions;
+
+  FrequencySketch(int capacity) {
+    int width = Integer.highestOneBit(Math.max(16, capacity) * 8 - 1);
+    this.table = new byte[DEPTH][width];
+    this.mask = width - 1;
+    this.sampleSize = 10 * Math.max(1, capacity);
+  }
+
+  /**
+   * @return the estimated frequency of the {@code key}
+   */
+  int frequency(Object key) {
+    int hash = spread(key.hashCode());
+    int frequency = MAX_COUNT;
+    for (int i = 0;i < DEPTH;i++) {
+      frequency = Math.min(frequency, table[i][index(hash, i)]);
+    }
+    return frequency;
+  }
+
+  /**
+   * Record an access to the {@code key}.
+   */
+  void increment(Object key) {
+    int hash = spread(key.hashCode());
+    boolean added = false;
+    for (int i = 0;i < DEPTH;i++) {
+      int index = index(hash, i);
+      if (table[i][index] < MAX_COUNT) {
+        table[i][index]++;
+        added = true;
+      }
+    }
+    if (added && ++additions == sampleSize) {
+      reset();
+    }
+  }
+
+  private void reset() {
+    for (byte[] row : table) {
+      for (int i = 0;i < row.length;i++) {
+        row[i] >>= 1;
+      }
+    }
+    additions /= 2;
+  }
+
+  private int index(int hash, int i) {
+    int h = (hash ^ SEEDS[i]) * SEEDS[(i + 1) % DEPTH];
+    return (h ^ (h >>> 16)) & mask;
+  }
+
+  private static int spread(int h) {
+    h ^= h >>> 16;
+    h *= 0x45d9f3b;
+    return h ^ (h >>> 16);
+  }
+}
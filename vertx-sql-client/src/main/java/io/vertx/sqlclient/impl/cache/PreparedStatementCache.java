@@ -16,30 +16,41 @@ import io.vertx.sqlclient.impl.PreparedStatement;
 import java.util.List;
 
 /**
- * Cache which manages the lifecycle of all cached prepared statements .
+ * Cache which manages the lifecycle of all cached prepared statements, the eviction policy is frequency aware
+ * so statements executed once do not evict the statements executed often, see {@link TinyLfuCache}.
  */
 public class PreparedStatementCache {
 
-  private final int capacity;
-  private final LruCache<String, PreparedStatement> cache;
+  private final TinyLfuCache<String, PreparedStatement> cache;
+  // Only updated by the connection event-loop
+  private volatile long hits;
+  private volatile long misses;
+  private volatile long evictions;
 
   public PreparedStatementCache(int cacheCapacity) {
-    this.capacity = cacheCapacity;
-    this.cache = new LruCache<>(cacheCapacity);
+    this.cache = new TinyLfuCache<>(cacheCapacity);
   }
 
   public PreparedStatement get(String sql) {
-    return cache.get(sql);
+    PreparedStatement ps = cache.get(sql);
+    if (ps != null) {
+      hits++;
+    } else {
+      misses++;
+    }
+    return ps;
   }
 
   /**
    * Put a statement in the cache.
    *
    * @param preparedStatement the prepared statement to cache
-   * @return the list of prepared statement to evict and close
+   * @return the list of prepared statement to evict and close, which includes the statement when it is not admitted
    */
   public List<PreparedStatement> put(PreparedStatement preparedStatement) {
-    return cache.cache(preparedStatement.sql(), preparedStatement);
+    List<PreparedStatement> evicted = cache.cache(preparedStatement.sql(), preparedStatement);
+    evictions += evicted.size();
+    return evicted;
   }
 
   /**
@@ -51,12 +62,32 @@ public class PreparedStatementCache {
     this.cache.remove(sql);
   }
 
-  public PreparedStatement evict() {
-    return cache.evict();
+  /**
+   * @return whether a statement is cached for the {@code sql}, the lookup is not recorded
+   */
+  public boolean contains(String sql) {
+    return cache.containsKey(sql);
+  }
+
+  /**
+   * @return the number of lookups that found a statement
+   */
+  public long hits() {
+    return hits;
   }
 
-  public boolean isFull() {
-    return cache.size() == capacity;
+  /**
+   * @return the number of lookups that did not find a statement
+   */
+  public long misses() {
+    return misses;
+  }
+
+  /**
+   * @return the number of statements evicted or not admitted
+   */
+  public long evictions() {
+    return evictions;
   }
 
   /**
@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2011-2022 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.sqlclient.impl.cache;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A W-TinyLFU replacement strategy cache.
+ * <p>
+ * New entries enter a small LRU window. An entry leaving the window is admitted in the main space only when it
+ * is accessed more frequently than the entry the main space would evict, so a scan of entries used once cannot
+ * flush the frequently used entries. The main space is a segmented LRU: entries are first on probation and
+ * become protected when they are accessed again.
+ * <p>
+ * This class is not thread safe.
+ */
+public class TinyLfuCache<K, V> {
+
+  private final int capacity;
+  private final int windowCapacity;
+  private final int protectedCapacity;
+  private final LinkedHashMap<K, V> window = new LinkedHashMap<>(16, 0.75f, true);
+  private final LinkedHashMap<K, V> probation = new LinkedHashMap<>(16, 0.75f, true);
+  private final LinkedHashMap<K, V> protect = new LinkedHashMap<>(16, 0.75f, true);
+  private final FrequencySketch sketch;
+
+  public TinyLfuCache(int capacity) {
+    if (capacity < 1) {
+      throw new IllegalArgumentException("Capacity must be > 0");
+    }
+    this.capacity = capacity;
+    this.windowCapacity = Math.max(1, capacity / 100);
+    this.protectedCapacity = (capacity - windowCapacity) * 4 / 5;
+    this.sketch = new FrequencySketch(capacity);
+  }
+
+  public int size() {
+    return window.size() + probation.size() + protect.size();
+  }
+
+  public boolean containsKey(K key) {
+    return window.containsKey(key) || probation.containsKey(key) || protect.containsKey(key);
+  }
+
+  /**
+   * Lookup an entry, the access is recorded whether the entry is cached or not.
+   *
+   * @return the cached value or {@code null}
+   */
+  public V get(K key) {
+    sketch.increment(key);
+    V value = window.get(key);
+    if (value == null) {
+      value = protect.get(key);
+      if (value == null) {
+        value = probation.remove(key);
+        if (value != null) {
+          protect(key, value);
+        }
+      }
+    }
+    return value;
+  }
+
+  /**
+   * Cache an entry.
+   *
+   * @return the values removed from the cache, which can include {@code value} when it is not admitted or the
+   *         value previously cached for the {@code key}
+   */
+  public List<V> cache(K key, V value) {
+    V previous = remove(key);
+    List<V> evicted = previous != null && previous != value ? new ArrayList<>(Collections.singletonList(previous)) : null;
+    window.put(key, value);
+    if (window.size() > windowCapacity) {
+      Map.Entry<K, V> candidate = removeEldest(window);
+      V rejected = admit(candidate.getKey(), candidate.getValue());
+      if (rejected != null) {
+        if (evicted == null) {
+          evicted = new ArrayList<>();
+        }
+        evicted.add(rejected);
+      }
+    }
+    return evicted != null ? evicted : Collections.emptyList();
+  }
+
+  /**
+   * Remove an entry.
+   *
+   * @return the removed value or {@code null}
+   */
+  public V remove(K key) {
+    V value = window.remove(key);
+    if (value == null) {
+      value = probation.remove(key);
+      if (value == null) {
+        value = protect.remove(key);
+      }
+    }
+    return value;
+  }
+
+  /**
+   * Admit the candidate in the main space.
+   *
+   * @return the value evicted from the cache, either the candidate or the main space victim
+   */
+  private V admit(K key, V value) {
+    if (probation.size() + protect.size() < capacity - windowCapacity) {
+      probation.put(key, value);
+      return null;
+    }
+    LinkedHashMap<K, V> victims = probation.isEmpty() ? protect : probation;
+    if (victims.isEmpty()) {
+      // No main space
+      return value;
+    }
+    K victim = victims.keySet().iterator().next();
+    if (sketch.frequency(key) > sketch.frequency(victim)) {
+      probation.put(key, value);
+      return victims.remove(victim);
+    }
+    return value;
+  }
+
+  private void protect(K key, V value) {
+    protect.put(key, value);
+    if (protect.size() > protectedCapacity) {
+      // Demote the least recently used protected entry
+      Map.Entry<K, V> demoted = removeEldest(protect);
+      probation.put(demoted.getKey(), demoted.getValue());
+    }
+  }
+
+  private static <K, V> Map.Entry<K, V> removeEldest(LinkedHashMap<K, V> map) {
+    Iterator<Map.Entry<K, V>> it = map.entrySet().iterator();
+    Map.Entry<K, V> eldest = it.next();
+    Map.Entry<K, V> entry = new AbstractMap.SimpleImmutableEntry<>(eldest);
+    it.remove();
+    return entry;
+  }
+}
@@ -12,8 +12,36 @@
 package io.vertx.sqlclient.impl.codec;
 
 import io.netty.buffer.ByteBuf;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.Json;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.sqlclient.Tuple;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
 
 public class CommonCodec {
+
+  // Powers of ten exactly representable as a double
+  private static final double[] DOUBLE_POW10 = {
+    1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+    1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+  };
+
+  // Powers of ten exactly representable as a float
+  private static final float[] FLOAT_POW10 = {
+    1e0f, 1e1f, 1e2f, 1e3f, 1e4f, 1e5f, 1e6f, 1e7f, 1e8f, 1e9f, 1e10f
+  };
+
+  private static final int[] NANOS_FACTOR = {
+    100_000_000, 10_000_000, 1_000_000, 100_000, 10_000, 1_000, 100, 10, 1
+  };
+
   /**
    * Decode the specified {@code buff} formatted as a decimal string starting at the readable index
    * with the specified {@code length} to a long.
@@ -43,4 +71,261 @@ public class CommonCodec {
     }
     return value;
   }
+
+  /**
+   * Decode the specified {@code buff} formatted as a decimal string to a double, the value is computed from
+   * the digits when it is exactly rounded this way, otherwise the string is parsed by {@link Double#parseDouble(String)}.
+   *
+   * @param index the string index
+   * @param len   the string length
+   * @param buff  the byte buff to read from
+   * @return the decoded value as a double
+   */
+  public static double decodeDecStringToDouble(int index, int len, ByteBuf buff) {
+    int to = index + len;
+    long digits = decodeDigits(index, to, buff);
+    int scale = decodeScale(index, to, buff);
+    if (digits >= 0L && digits <= 1L << 53 && scale < DOUBLE_POW10.length) {
+      double value = digits / DOUBLE_POW10[scale];
+      return buff.getByte(index) == '-' ? -value : value;
+    }
+    return Double.parseDouble(buff.toString(index, len, StandardCharsets.US_ASCII));
+  }
+
+  /**
+   * Decode the specified {@code buff} formatted as a decimal string to a float, the value is computed from
+   * the digits when it is exactly rounded this way, otherwise the string is parsed by {@link Float#parseFloat(String)}.
+   *
+   * @param index the string index
+   * @param len   the string length
+   * @param buff  the byte buff to read from
+   * @return the decoded value as a float
+   */
+  public static float decodeDecStringToFloat(int index, int len, ByteBuf buff) {
+    int to = index + len;
+    long digits = decodeDigits(index, to, buff);
+    int scale = decodeScale(index, to, buff);
+    if (digits >= 0L && digits <= 1L << 24 && scale < FLOAT_POW10.length) {
+      float value = digits / FLOAT_POW10[scale];
+      return buff.getByte(index) == '-' ? -value : value;
+    }
+    return Float.parseFloat(buff.toString(index, len, StandardCharsets.US_ASCII));
+  }
+
+  /**
+   * Decode the specified {@code buff} formatted as a decimal string to a {@code BigDecimal} with the scale
+   * of the string, the string is parsed by {@link BigDecimal#BigDecimal(String)} when it has more than 18 digits.
+   *
+   * @param index the string index
+   * @param len   the string length
+   * @param buff  the byte buff to read from
+   * @return the decoded value as a {@code BigDecimal}
+   */
+  public static BigDecimal decodeDecStringToBigDecimal(int index, int len, ByteBuf buff) {
+    int to = index + len;
+    long digits = decodeDigits(index, to, buff);
+    if (digits >= 0L) {
+      return BigDecimal.valueOf(buff.getByte(index) == '-' ? -digits : digits, decodeScale(index, to, buff));
+    }
+    return new BigDecimal(buff.toString(index, len, StandardCharsets.US_ASCII));
+  }
+
+  /**
+   * @return the digits of a {@code [-]digits[.digits]} string as a long, or {@code -1} when the string has another
+   *         format or more than 18 significant digits
+   */
+  private static long decodeDigits(int index, int to, ByteBuf buff) {
+    if (index < to && buff.getByte(index) == '-') {
+      index++;
+    }
+    if (index == to) {
+      return -1L;
+    }
+    long value = 0L;
+    boolean dot = false;
+    while (index < to) {
+      byte ch = buff.getByte(index++);
+      if (ch >= '0' && ch <= '9') {
+        if (value >= 100_000_000_000_000_000L) {
+          return -1L;
+        }
+        value = value * 10 + (ch - '0');
+      } else if (ch == '.' && !dot) {
+        dot = true;
+      } else {
+        return -1L;
+      }
+    }
+    return value;
+  }
+
+  private static int decodeScale(int index, int to, ByteBuf buff) {
+    int dot = buff.indexOf(index, to, (byte) '.');
+    return dot == -1 ? 0 : to - dot - 1;
+  }
+
+  /**
+   * Decode the specified {@code buff} formatted as an ISO date {@code yyyy-MM-dd}.
+   *
+   * @param index the string index
+   * @param len   the string length
+   * @param buff  the byte buff to read from
+   * @return the decoded date or {@code null} when the string has another format, e.g. a year of more than 4 digits
+   */
+  public static LocalDate decodeLocalDate(int index, int len, ByteBuf buff) {
+    if (len != 10 || buff.getByte(index + 4) != '-' || buff.getByte(index + 7) != '-') {
+      return null;
+    }
+    int year = decodeFixedDigits(index, 4, buff);
+    int month = decodeFixedDigits(index + 5, 2, buff);
+    int day = decodeFixedDigits(index + 8, 2, buff);
+    if ((year | month | day) < 0) {
+      return null;
+    }
+    return LocalDate.of(year, month, day);
+  }
+
+  /**
+   * Decode the specified {@code buff} formatted as an ISO time {@code HH:mm:ss[.S]} with up to 9 fraction digits.
+   *
+   * @param index the string index
+   * @param len   the string length
+   * @param buff  the byte buff to read from
+   * @return the decoded time or {@code null} when the string has another format
+   */
+  public static LocalTime decodeLocalTime(int index, int len, ByteBuf buff) {
+    if (len < 8 || buff.getByte(index + 2) != ':' || buff.getByte(index + 5) != ':') {
+      return null;
+    }
+    int hour = decodeFixedDigits(index, 2, buff);
+    int minute = decodeFixedDigits(index + 3, 2, buff);
+    int second = decodeFixedDigits(index + 6, 2, buff);
+    int nanos = 0;
+    if (len > 8) {
+      int fraction = len - 9;
+      if (buff.getByte(index + 8) != '.' || fraction < 1 || fraction > 9) {
+        return null;
+      }
+      nanos = decodeFixedDigits(index + 9, fraction, buff);
+      if (nanos < 0) {
+        return null;
+      }
+      nanos *= NANOS_FACTOR[fraction - 1];
+    }
+    if ((hour | minute | second) < 0) {
+      return null;
+    }
+    return LocalTime.of(hour, minute, second, nanos);
+  }
+
+  /**
+   * Decode the specified {@code buff} formatted as an ISO date time {@code yyyy-MM-dd HH:mm:ss[.S]}, the date and
+   * the time can also be separated by {@code T}.
+   *
+   * @param index the string index
+   * @param len   the string length
+   * @param buff  the byte buff to read from
+   * @return the decoded date time or {@code null} when the string has another format
+   */
+  public static LocalDateTime decodeLocalDateTime(int index, int len, ByteBuf buff) {
+    if (len < 19) {
+      return null;
+    }
+    byte separator = buff.getByte(index + 10);
+    if (separator != ' ' && separator != 'T') {
+      return null;
+    }
+    LocalDate date = decodeLocalDate(index, 10, buff);
+    LocalTime time = date != null ? decodeLocalTime(index + 11, len - 11, buff) : null;
+    return time != null ? LocalDateTime.of(date, time) : null;
+  }
+
+  /**
+   * Decode the specified {@code buff} formatted as a zone offset {@code +HH[:mm[:ss]]}.
+   *
+   * @param index the string index
+   * @param len   the string length
+   * @param buff  the byte buff to read from
+   * @return the decoded offset or {@code null} when the string has another format
+   */
+  public static ZoneOffset decodeZoneOffset(int index, int len, ByteBuf buff) {
+    if (len != 3 && len != 6 && len != 9) {
+      return null;
+    }
+    byte sign = buff.getByte(index);
+    if (sign != '+' && sign != '-') {
+      return null;
+    }
+    int seconds = 0;
+    for (int i = 0;i < len / 3;i++) {
+      int pos = index + 3 * i;
+      int value = decodeFixedDigits(pos + 1, 2, buff);
+      if (value < 0 || (i > 0 && buff.getByte(pos) != ':')) {
+        return null;
+      }
+      seconds = seconds * 60 + value;
+    }
+    for (int i = len / 3;i < 3;i++) {
+      seconds *= 60;
+    }
+    // The JDK caches the offsets multiple of 15 minutes
+    return ZoneOffset.ofTotalSeconds(sign == '-' ? -seconds : seconds);
+  }
+
+  /**
+   * @return the value of {@code len} digits or {@code -1} when a character is not a digit
+   */
+  private static int decodeFixedDigits(int index, int len, ByteBuf buff) {
+    int value = 0;
+    for (int i = 0;i < len;i++) {
+      int digit = buff.getByte(index + i) - '0';
+      if (digit < 0 || digit > 9) {
+        return -1;
+      }
+      value = value * 10 + digit;
+    }
+    return value;
+  }
+
+  /**
+   * Decode the specified {@code buff} holding a UTF-8 JSON document, the document is parsed straight from
+   * the buffer bytes.
+   *
+   * @param index the document index
+   * @param len   the document length
+   * @param buff  the byte buff to read from
+   * @return the decoded {@code JsonObject}, {@code JsonArray}, {@code String}, {@code Number}, {@code Boolean},
+   *         {@link Tuple#JSON_NULL} for the {@code null} literal or {@code null} for a blank document
+   */
+  public static Object decodeJson(int index, int len, ByteBuf buff) {
+    int to = index + len;
+    while (index < to && Character.isWhitespace(buff.getByte(index))) {
+      index++;
+    }
+    if (index == to) {
+      return null;
+    }
+    Object value = Json.CODEC.fromBuffer(Buffer.buffer(buff.slice(index, to - index)), Object.class);
+    if (value == null) {
+      return Tuple.JSON_NULL;
+    }
+    if (value instanceof JsonObject || value instanceof JsonArray || value instanceof Number || value instanceof Boolean || value instanceof String) {
+      return value;
+    }
+    return null;
+  }
+
+  /**
+   * Encode the specified JSON {@code value} to UTF-8 in the {@code buff}, without an intermediate {@code String}.
+   *
+   * @param value the value, {@link Tuple#JSON_NULL} is encoded as the {@code null} literal
+   * @param buff  the byte buff to write to
+   */
+  public static void encodeJson(Object value, ByteBuf buff) {
+    if (value == Tuple.JSON_NULL) {
+      buff.writeCharSequence("null", StandardCharsets.US_ASCII);
+    } else {
+      buff.writeBytes(Json.CODEC.toBuffer(value, false).getByteBuf());
+    }
+  }
 }
@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2011-2022 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.sqlclient.impl.metrics;
+
+import io.vertx.sqlclient.metrics.LatencySnapshot;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A concurrent histogram of durations in nanoseconds with log-linear buckets, in the manner of HdrHistogram: each
+ * power of two is divided in {@code 16} buckets so a recorded value is known within 6.25%. Recording does not allocate.
+ */
+public class Histogram {
+
+  private static final int SUB_BUCKET_BITS = 4;
+  private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+  private static final int SUB_BUCKET_MASK = SUB_BUCKET_COUNT - 1;
+  // Values above 2^46 ns (~19 hours) are counted in the last bucket
+  private static final int MAX_EXPONENT = 46;
+
+  public static final int BUCKET_COUNT = (MAX_EXPONENT - SUB_BUCKET_BITS + 2) * SUB_BUCKET_COUNT;
+
+  /**
+   * @return the index of the bucket counting {@code value}
+   */
+  public static int bucketIndex(long value) {
+    if (value < SUB_BUCKET_COUNT) {
+      return value < 0L ? 0 : (int) value;
+    }
+    int exponent = 63 - Long.numberOfLeadingZeros(value);
+    if (exponent > MAX_EXPONENT) {
+      return BUCKET_COUNT - 1;
+    }
+    int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & SUB_BUCKET_MASK;
+    return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKET_COUNT + subBucket;
+  }
+
+  /**
+   * @return the highest value counted by the bucket at {@code index}
+   */
+  public static long highestValue(int index) {
+    if (index < SUB_BUCKET_COUNT) {
+      return index;
+    }
+    int shift = index / SUB_BUCKET_COUNT - 1;
+    long lowest = (long) (SUB_BUCKET_COUNT + index % SUB_BUCKET_COUNT) << shift;
+    return lowest + (1L << shift) - 1;
+  }
+
+  private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+  private final AtomicLong count = new AtomicLong();
+  private final AtomicLong sum = new AtomicLong();
+  private final AtomicLong min = new AtomicLong(Long.MAX_VALUE);
+  private final AtomicLong max = new AtomicLong();
+
+  public void record(long value) {
+    if (value < 0L) {
+      value = 0L;
+    }
+    counts.incrementAndGet(bucketIndex(value));
+    count.incrementAndGet();
+    sum.addAndGet(value);
+    long m;
+    while (value < (m = min.get()) && !min.compareAndSet(m, value)) {
+    }
+    while (value > (m = max.get()) && !max.compareAndSet(m, value)) {
+    }
+  }
+
+  public LatencySnapshot snapshot() {
+    long[] copy = new long[BUCKET_COUNT];
+    for (int i = 0;i < BUCKET_COUNT;i++) {
+      copy[i] = counts.get(i);
+    }
+    long c = count.get();
+    return new LatencySnapshot(copy, c, c == 0L ? 0L : min.get(), max.get(), sum.get());
+  }
+}
@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) 2011-2022 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.sqlclient.impl.metrics;
+
+import io.vertx.core.spi.metrics.ClientMetrics;
+import io.vertx.sqlclient.SqlResult;
+import io.vertx.sqlclient.metrics.PoolMetricsSnapshot;
+import io.vertx.sqlclient.metrics.StatementMetricsSnapshot;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Records the pool metrics, the statement metrics are recorded through the {@link ClientMetrics} lifecycle of the
+ * queries, the recorder forwards this lifecycle to the Vert.x client metrics when there are.
+ */
+public class PoolMetricsRecorder implements ClientMetrics<Object, Object, Object, Object> {
+
+  // Maximum number of distinct statements, other statements are recorded together
+  static final int MAX_STATEMENTS = 256;
+  static final String OTHER_STATEMENTS = "<other>";
+  // Maximum number of SQL strings mapped to their normalized statement
+  private static final int MAX_ALIASES = 4 * MAX_STATEMENTS;
+
+  private final ClientMetrics delegate;
+  private final Histogram poolWait = new Histogram();
+  private final ConcurrentHashMap<String, StatementMetrics> statements = new ConcurrentHashMap<>();
+  private final ConcurrentHashMap<String, StatementMetrics> aliases = new ConcurrentHashMap<>();
+
+  public PoolMetricsRecorder(ClientMetrics delegate) {
+    this.delegate = delegate;
+  }
+
+  /**
+   * Record the time spent waiting for a pooled connection.
+   */
+  public void recordPoolWait(long nanos) {
+    poolWait.record(nanos);
+  }
+
+  StatementMetrics statement(String sql) {
+    StatementMetrics metrics = aliases.get(sql);
+    if (metrics == null) {
+      String normalized = SqlNormalizer.normalize(sql);
+      metrics = statements.get(normalized);
+      if (metrics == null) {
+        if (statements.size() >= MAX_STATEMENTS) {
+          normalized = OTHER_STATEMENTS;
+        }
+        metrics = statements.computeIfAbsent(normalized, StatementMetrics::new);
+      }
+      if (aliases.size() < MAX_ALIASES) {
+        aliases.putIfAbsent(sql, metrics);
+      }
+    }
+    return metrics;
+  }
+
+  public PoolMetricsSnapshot snapshot(int size, int waiting, List<Integer> inflight, long preparedStatementCacheHits, long preparedStatementCacheMisses, long preparedStatementCacheEvictions) {
+    List<StatementMetricsSnapshot> list = new ArrayList<>(statements.size());
+    for (StatementMetrics metrics : statements.values()) {
+      list.add(new StatementMetricsSnapshot(metrics.sql, metrics.failures.get(), metrics.rows.get(), metrics.queueTime.snapshot(), metrics.serverTime.snapshot()));
+    }
+    return new PoolMetricsSnapshot(size, waiting, inflight, poolWait.snapshot(), preparedStatementCacheHits, preparedStatementCacheMisses, preparedStatementCacheEvictions, list);
+  }
+
+  @Override
+  public Object enqueueRequest() {
+    return delegate != null ? delegate.enqueueRequest() : null;
+  }
+
+  @Override
+  public void dequeueRequest(Object taskMetric) {
+    if (delegate != null) {
+      delegate.dequeueRequest(taskMetric);
+    }
+  }
+
+  @Override
+  public Object requestBegin(String uri, Object request) {
+    return new RequestMetric(statement(uri), System.nanoTime(), delegate != null ? delegate.requestBegin(uri, request) : null);
+  }
+
+  @Override
+  public void requestEnd(Object requestMetric) {
+    RequestMetric metric = (RequestMetric) requestMetric;
+    metric.written = System.nanoTime();
+    if (delegate != null) {
+      delegate.requestEnd(metric.metric);
+    }
+  }
+
+  @Override
+  public void responseBegin(Object requestMetric, Object response) {
+    RequestMetric metric = (RequestMetric) requestMetric;
+    if (response instanceof SqlResult) {
+      long rows = 0L;
+      for (SqlResult<?> result = (SqlResult<?>) response;result != null;result = result.next()) {
+        rows += result.size();
+      }
+      metric.rows = rows;
+    }
+    if (delegate != null) {
+      delegate.responseBegin(metric.metric, response);
+    }
+  }
+
+  @Override
+  public void responseEnd(Object requestMetric) {
+    RequestMetric metric = (RequestMetric) requestMetric;
+    long now = System.nanoTime();
+    long written = metric.written != 0L ? metric.written : metric.begin;
+    StatementMetrics statement = metric.statement;
+    statement.queueTime.record(written - metric.begin);
+    statement.serverTime.record(now - written);
+    statement.rows.addAndGet(metric.rows);
+    if (delegate != null) {
+      delegate.responseEnd(metric.metric);
+    }
+  }
+
+  @Override
+  public void requestReset(Object requestMetric) {
+    RequestMetric metric = (RequestMetric) requestMetric;
+    metric.statement.failures.incrementAndGet();
+    if (delegate != null) {
+      delegate.requestReset(metric.metric);
+    }
+  }
+
+  @Override
+  public void close() {
+    if (delegate != null) {
+      delegate.close();
+    }
+  }
+
+  static class StatementMetrics {
+
+    final String sql;
+    final Histogram queueTime = new Histogram();
+    final Histogram serverTime = new Histogram();
+    final AtomicLong failures = new AtomicLong();
+    final AtomicLong rows = new AtomicLong();
+
+    StatementMetrics(String sql) {
+      this.sql = sql;
+    }
+  }
+
+  private static class RequestMetric {
+
+    final StatementMetrics statement;
+    final long begin;
+    final Object metric;
+    volatile long written;
+    long rows;
+
+    RequestMetric(StatementMetrics statement, long begin, Object metric) {
+      this.statement = statement;
+      this.begin = begin;
+      this.metric = metric;
+    }
+  }
+}
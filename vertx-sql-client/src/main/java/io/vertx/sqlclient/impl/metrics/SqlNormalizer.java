@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2011-2022 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.sqlclient.impl.metrics;
+
+/**
+ * Normalize SQL so statements differing only by their literal values are recorded together: string and numeric
+ * literals are replaced by {@code ?} and whitespace sequences by a single space.
+ */
+public final class SqlNormalizer {
+
+  private SqlNormalizer() {
+  }
+
+  public static String normalize(String sql) {
+    int len = sql.length();
+    StringBuilder sb = new StringBuilder(len);
+    boolean whitespace = false;
+    int i = 0;
+    while (i < len) {
+      char c = sql.charAt(i);
+      if (Character.isWhitespace(c)) {
+        whitespace = true;
+        i++;
+        continue;
+      }
+      if (whitespace && sb.length() > 0) {
+        sb.append(' ');
+      }
+      whitespace = false;
+      if (c == '\'') {
+        // String literal, a quote is escaped by doubling it
+        i++;
+        while (i < len) {
+          if (sql.charAt(i++) == '\'') {
+            if (i < len && sql.charAt(i) == '\'') {
+              i++;
+            } else {
+              break;
+            }
+          }
+        }
+        sb.append('?');
+      } else if (c >= '0' && c <= '9' && !isIdentifierPart(sb)) {
+        // Numeric literal, not a digit of an identifier or of a placeholder like $1 or @p1
+        i++;
+        while (i < len && (Character.isLetterOrDigit(sql.charAt(i)) || sql.charAt(i) == '.')) {
+          i++;
+        }
+        sb.append('?');
+      } else {
+        sb.append(c);
+        i++;
+      }
+    }
+    return sb.toString();
+  }
+
+  private static boolean isIdentifierPart(StringBuilder sb) {
+    if (sb.length() == 0) {
+      return false;
+    }
+    char prev = sb.charAt(sb.length() - 1);
+    return Character.isLetterOrDigit(prev) || prev == '_' || prev == '$' || prev == '@' || prev == ':';
+  }
+}
@@ -0,0 +1,187 @@
+/*
+ * Copyright (c) 2011-2022 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.sqlclient.impl.pool;
+
+import java.util.ArrayDeque;
+
+/**
+ * An adaptive limit of the requests a pool serves concurrently, the pool only creates connections for the requests
+ * within the limit so the limit drives the number of connections.
+ * <p>
+ * The limit is updated after each window of samples with a Vegas-like estimation: the number of requests queued by
+ * the database is estimated from the ratio between the minimum and the average response time. The limit grows by
+ * one when the requests waited for a connection and the database is not queueing, it shrinks multiplicatively when
+ * the database queues, and by one when the limit is not used.
+ * <p>
+ * This class is thread safe.
+ */
+class ConcurrencyLimiter {
+
+  // Number of windows after which the minimum response time is measured again
+  private static final int MIN_RTT_WINDOWS = 50;
+  private static final int MIN_WINDOW_SIZE = 10;
+  private static final double BACKOFF_RATIO = 0.9D;
+
+  private final int minLimit;
+  private final int maxLimit;
+  private final int maxWaiters;
+  private final ArrayDeque<Runnable> waiters = new ArrayDeque<>();
+  private double limit;
+  private int inflight;
+
+  // Current window
+  private int samples;
+  private int responses;
+  private long responseTimeSum;
+  private long waitTimeSum;
+  private int maxInflight;
+  private long windowMinRtt = Long.MAX_VALUE;
+
+  private long minRtt = Long.MAX_VALUE;
+  private int windows;
+
+  /**
+   * @param minLimit the minimum limit
+   * @param maxLimit the maximum limit
+   * @param maxWaiters the maximum number of requests waiting for the limit, {@code -1} for no maximum
+   */
+  ConcurrencyLimiter(int minLimit, int maxLimit, int maxWaiters) {
+    this.minLimit = Math.max(1, Math.min(minLimit, maxLimit));
+    this.maxLimit = maxLimit;
+    this.maxWaiters = maxWaiters;
+    this.limit = this.minLimit;
+  }
+
+  synchronized int limit() {
+    return (int) limit;
+  }
+
+  /**
+   * Run the {@code task} when the request is within the limit, the task must call {@link #release()} once done.
+   *
+   * @return {@code false} when the request is rejected because too many requests are waiting
+   */
+  boolean acquire(Runnable task) {
+    synchronized (this) {
+      if (inflight >= (int) limit || !waiters.isEmpty()) {
+        if (maxWaiters >= 0 && waiters.size() >= maxWaiters) {
+          return false;
+        }
+        waiters.add(task);
+        return true;
+      }
+      inflight++;
+      maxInflight = Math.max(maxInflight, inflight);
+    }
+    task.run();
+    return true;
+  }
+
+  /**
+   * Cancel a waiting request.
+   *
+   * @return whether the request was waiting
+   */
+  synchronized boolean cancel(Runnable task) {
+    return waiters.remove(task);
+  }
+
+  void release() {
+    Runnable next;
+    synchronized (this) {
+      inflight--;
+      next = poll();
+    }
+    if (next != null) {
+      next.run();
+    }
+  }
+
+  private Runnable poll() {
+    if (inflight < (int) limit) {
+      Runnable next = waiters.poll();
+      if (next != null) {
+        inflight++;
+        maxInflight = Math.max(maxInflight, inflight);
+      }
+      return next;
+    }
+    return null;
+  }
+
+  /**
+   * Record a request sample.
+   *
+   * @param waitTime the time waiting for a connection in nanoseconds
+   * @param responseTime the response time in nanoseconds or {@code -1} when it is unknown, e.g. for a borrowed connection
+   */
+  void sample(long waitTime, long responseTime) {
+    Runnable next;
+    synchronized (this) {
+      samples++;
+      waitTimeSum += waitTime;
+      if (responseTime >= 0L) {
+        responses++;
+        responseTimeSum += responseTime;
+        windowMinRtt = Math.min(windowMinRtt, responseTime);
+        minRtt = Math.min(minRtt, responseTime);
+      }
+      if (samples < Math.max(MIN_WINDOW_SIZE, (int) limit)) {
+        return;
+      }
+      update();
+      next = poll();
+    }
+    // The limit might have grown
+    while (next != null) {
+      next.run();
+      synchronized (this) {
+        next = poll();
+      }
+    }
+  }
+
+  private void update() {
+    double averageWait = (double) waitTimeSum / samples;
+    double averageRtt = responses > 0 ? (double) responseTimeSum / responses : 0D;
+    double newLimit = limit;
+    if (responses > 0 && averageRtt > 0D) {
+      // Estimated number of requests queued by the database
+      double queue = limit * (1D - minRtt / averageRtt);
+      double log = Math.log10(Math.max(limit, 1D));
+      double alpha = Math.max(1D, 3D * log);
+      double beta = Math.max(2D, 6D * log);
+      if (queue > beta) {
+        newLimit = limit * BACKOFF_RATIO;
+      } else if (queue < alpha && averageWait > averageRtt / 10D) {
+        newLimit = limit + 1D;
+      } else if (maxInflight < limit / 2D) {
+        newLimit = limit - 1D;
+      }
+    } else if (averageWait > 0D && maxInflight >= (int) limit) {
+      // Only borrowed connections, grow on contention
+      newLimit = limit + 1D;
+    }
+    limit = Math.max(minLimit, Math.min(maxLimit, newLimit));
+    if (++windows >= MIN_RTT_WINDOWS && windowMinRtt != Long.MAX_VALUE) {
+      // Measure the minimum response time again, it might have changed with the data or the database
+      windows = 0;
+      minRtt = windowMinRtt;
+    }
+    samples = 0;
+    responses = 0;
+    responseTimeSum = 0L;
+    waitTimeSum = 0L;
+    maxInflight = inflight;
+    windowMinRtt = Long.MAX_VALUE;
+  }
+}
@@ -13,29 +13,38 @@ package io.vertx.sqlclient.impl.pool;
 
 import io.netty.channel.EventLoop;
 import io.vertx.core.*;
+import io.vertx.core.http.ConnectionPoolTooBusyException;
 import io.vertx.core.impl.ContextInternal;
 import io.vertx.core.impl.EventLoopContext;
 import io.vertx.core.impl.VertxInternal;
 import io.vertx.core.net.SocketAddress;
 import io.vertx.core.net.impl.ConnectionBase;
 import io.vertx.core.net.impl.pool.*;
+import io.vertx.sqlclient.ConnectionSelection;
 import io.vertx.sqlclient.SqlConnection;
 import io.vertx.sqlclient.impl.Connection;
+import io.vertx.sqlclient.impl.SocketConnectionBase;
 import io.vertx.sqlclient.impl.SqlConnectionBase;
+import io.vertx.sqlclient.impl.cache.PreparedStatementCache;
 import io.vertx.sqlclient.impl.command.CommandBase;
+import io.vertx.sqlclient.impl.metrics.PoolMetricsRecorder;
+import io.vertx.sqlclient.metrics.PoolMetricsSnapshot;
 import io.vertx.sqlclient.spi.ConnectionFactory;
 import io.vertx.sqlclient.spi.DatabaseMetadata;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 /**
- * Todo :
- *
- * - for per statement pooling, have several physical connection and use the less busy one to avoid head of line blocking effect
- *
  * @author <a href="mailto:julien@julienviet.com">Julien Viet</a>
  */
 public class SqlConnectionPool {
@@ -48,7 +57,22 @@ public class SqlConnectionPool {
   private final Function<Connection, Future<Void>> beforeRecycle;
   private final int pipeliningLimit;
   private final long idleTimeout;
+  private final long maxLifetime;
+  private final int minSize;
+  private final int minIdle;
   private final int maxSize;
+  private final int maxWaitQueueSize;
+  private final boolean leastLoaded;
+  private final PoolMetricsRecorder metrics;
+  // Adaptive limit of the leases, null when the pool size is not adaptive
+  private final ConcurrencyLimiter limiter;
+  // Connections established by the pool and not yet closed
+  private final Set<PooledConnection> connections = ConcurrentHashMap.newKeySet();
+  // Connected successors of retired connections, used first when the pool creates a connection
+  private final Queue<SqlConnection> successors = new ConcurrentLinkedQueue<>();
+  // Contexts of the requests adding a connection to the pool
+  private final Set<ContextInternal> growing = ConcurrentHashMap.newKeySet();
+  private volatile boolean closed;
 
   public SqlConnectionPool(Function<Context, Future<SqlConnection>> connectionProvider,
                            Supplier<Handler<PooledConnection>> hook,
@@ -56,10 +80,16 @@ public class SqlConnectionPool {
                            Function<Connection, Future<Void>> beforeRecycle,
                            VertxInternal vertx,
                            long idleTimeout,
+                           long maxLifetime,
+                           int minSize,
+                           int minIdle,
                            int maxSize,
                            int pipeliningLimit,
                            int maxWaitQueueSize,
-                           int eventLoopSize) {
+                           int eventLoopSize,
+                           ConnectionSelection connectionSelection,
+                           boolean adaptiveSize,
+                           PoolMetricsRecorder metrics) {
     if (maxSize < 1) {
       throw new IllegalArgumentException("Pool max size must be > 0");
     }
@@ -73,11 +103,20 @@ public class SqlConnectionPool {
     this.vertx = vertx;
     this.pipeliningLimit = pipeliningLimit;
     this.idleTimeout = idleTimeout;
+    this.maxLifetime = maxLifetime;
+    this.minSize = Math.min(minSize, maxSize);
+    this.minIdle = Math.min(minIdle, maxSize);
     this.maxSize = maxSize;
+    this.maxWaitQueueSize = maxWaitQueueSize;
     this.hook = hook;
     this.connectionProvider = connectionProvider;
     this.afterAcquire = afterAcquire;
     this.beforeRecycle = beforeRecycle;
+    this.leastLoaded = connectionSelection == ConnectionSelection.LEAST_LOADED;
+    this.metrics = metrics;
+    this.limiter = adaptiveSize ? new ConcurrencyLimiter(minSize, maxSize * pipeliningLimit, maxWaitQueueSize) : null;
+
+    pool.connectionSelector(this::selectConnection);
 
     if (eventLoopSize > 0) {
       EventLoop[] loops = new EventLoop[eventLoopSize];
@@ -101,16 +140,66 @@ public class SqlConnectionPool {
     }
   }
 
+  private PoolConnection<PooledConnection> selectConnection(PoolWaiter<PooledConnection> waiter, List<PoolConnection<PooledConnection>> connections) {
+    if (!growing.isEmpty() && growing.contains(waiter.context())) {
+      // Create a new connection
+      return null;
+    }
+    if (leastLoaded) {
+      return selectLeastLoaded(waiter, connections);
+    }
+    // Same as the pool default selection
+    EventLoop eventLoop = waiter.context().nettyEventLoop();
+    int size = connections.size();
+    for (int i = 0;i < size;i++) {
+      PoolConnection<PooledConnection> connection = connections.get(i);
+      if (connection.context().nettyEventLoop() == eventLoop && connection.available() > 0) {
+        return connection;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Select the available connection with the lowest expected delay. While the pool can grow, a new connection
+   * is created instead of using a connection that has commands in flight.
+   */
+  private PoolConnection<PooledConnection> selectLeastLoaded(PoolWaiter<PooledConnection> waiter, List<PoolConnection<PooledConnection>> connections) {
+    long now = System.nanoTime();
+    EventLoop eventLoop = waiter.context().nettyEventLoop();
+    PoolConnection<PooledConnection> selected = null;
+    long selectedDelay = Long.MAX_VALUE;
+    boolean selectedSameEventLoop = false;
+    int size = connections.size();
+    for (int i = 0;i < size;i++) {
+      PoolConnection<PooledConnection> connection = connections.get(i);
+      if (connection.available() > 0) {
+        long delay = connection.get().expectedDelay(now);
+        boolean sameEventLoop = connection.context().nettyEventLoop() == eventLoop;
+        if (delay < selectedDelay || (delay == selectedDelay && sameEventLoop && !selectedSameEventLoop)) {
+          selected = connection;
+          selectedDelay = delay;
+          selectedSameEventLoop = sameEventLoop;
+        }
+      }
+    }
+    // When the pool is full and no connection is selected, the pool falls back on the first available connection
+    if (selected != null && selected.usage() > 0 && size < maxSize) {
+      return null;
+    }
+    return selected;
+  }
+
   private final PoolConnector<PooledConnection> connector = new PoolConnector<PooledConnection>() {
     @Override
     public void connect(EventLoopContext context, PoolConnector.Listener listener, Handler<AsyncResult<ConnectResult<PooledConnection>>> handler) {
-      Future<SqlConnection> future = connectionProvider.apply(context);
+      Future<SqlConnection> future = connectOrReuseSuccessor(context);
       future.onComplete(ar -> {
         if (ar.succeeded()) {
           SqlConnectionBase res = (SqlConnectionBase) ar.result();
           Connection conn = res.unwrap();
           if (conn.isValid()) {
-            PooledConnection pooled = new PooledConnection(res.factory(), conn, listener);
+            PooledConnection pooled = new PooledConnection(res.factory(), conn, listener, context);
             conn.init(pooled);
             Handler<PooledConnection> connectionHandler = hook.get();
             if (connectionHandler != null) {
@@ -134,6 +223,16 @@ public class SqlConnectionPool {
     }
   };
 
+  private Future<SqlConnection> connectOrReuseSuccessor(EventLoopContext context) {
+    SqlConnection successor;
+    while ((successor = successors.poll()) != null) {
+      if (((SqlConnectionBase) successor).unwrap().isValid()) {
+        return Future.succeededFuture(successor);
+      }
+    }
+    return connectionProvider.apply(context);
+  }
+
   public int available() {
     return maxSize - pool.size();
   }
@@ -144,21 +243,194 @@ public class SqlConnectionPool {
 
   public void checkExpired() {
     long now = System.currentTimeMillis();
-    pool.evict(conn -> conn.expirationTimestamp < now, ar -> {
-      if (ar.succeeded()) {
-        List<PooledConnection> res = ar.result();
-        for (PooledConnection conn : res) {
+    if (idleTimeout > 0 || limiter != null) {
+      // Do not shrink the pool below its minimum size, an adaptive pool also closes the idle connections beyond its limit
+      int[] evictable = { pool.size() - minSize };
+      int[] beyondLimit = { limiter != null ? pool.size() - Math.max(minSize, (limiter.limit() + pipeliningLimit - 1) / pipeliningLimit) : 0 };
+      pool.evict(conn -> {
+        if (evictable[0] > 0 && ((idleTimeout > 0 && conn.expirationTimestamp < now) || (beyondLimit[0] > 0 && conn.isIdle()))) {
+          evictable[0]--;
+          beyondLimit[0]--;
+          return true;
+        }
+        return false;
+      }, ar -> {
+        if (ar.succeeded()) {
+          List<PooledConnection> res = ar.result();
+          for (PooledConnection conn : res) {
+            conn.close(Promise.promise());
+          }
+        }
+      });
+    }
+    if (maxLifetime > 0) {
+      for (PooledConnection conn : connections) {
+        if (conn.lifetimeExpirationTimestamp < now && conn.startReplacement()) {
+          replace(conn);
+        } else if (conn.drained()) {
+          // Retired connection that had no command in flight
           conn.close(Promise.promise());
         }
       }
+    }
+    if (minSize > 0 || minIdle > 0) {
+      fill(vertx.getOrCreateContext());
+    }
+  }
+
+  /**
+   * Create the connections missing to satisfy the minimum size and the minimum number of idle connections.
+   */
+  private void fill(ContextInternal context) {
+    int size = pool.size();
+    int missing = Math.max(minSize - size, minIdle - idle() - growing.size());
+    missing = Math.min(missing, maxSize - size);
+    for (int i = 0;i < missing;i++) {
+      grow(context);
+    }
+  }
+
+  private int idle() {
+    int idle = 0;
+    for (PooledConnection conn : connections) {
+      if (conn.isIdle()) {
+        idle++;
+      }
+    }
+    return idle;
+  }
+
+  /**
+   * Establish connections ahead of the traffic, up to the minimum size or the minimum number of idle connections,
+   * or up to the maximum size when neither is set.
+   *
+   * @return a future completed when the connections are established
+   */
+  public Future<Void> warmUp(ContextInternal context) {
+    int target = Math.max(minSize, minIdle);
+    if (target == 0) {
+      target = maxSize;
+    }
+    List<Future> futures = new ArrayList<>();
+    for (int i = pool.size();i < target;i++) {
+      futures.add(grow(context));
+    }
+    return CompositeFuture.all(futures).mapEmpty();
+  }
+
+  /**
+   * Replace a connection that reached its lifetime: the successor is connected before the connection is retired
+   * so the pool capacity is not reduced during the replacement.
+   */
+  private void replace(PooledConnection conn) {
+    connectionProvider.apply(conn.context).onComplete(ar -> {
+      if (ar.succeeded()) {
+        SqlConnection successor = ar.result();
+        if (closed || !connections.contains(conn)) {
+          // The pool is closed or the connection was closed meanwhile
+          successor.close();
+          return;
+        }
+        successors.add(successor);
+        conn.retire();
+        grow(conn.context);
+      } else {
+        // Keep the connection, the replacement is attempted again on the next check
+        conn.cancelReplacement();
+      }
     });
   }
 
+  /**
+   * Create a new connection in the pool, using a pending successor first. Nothing is created when the pool is full,
+   * a pending successor then remains pending until the pool creates a new connection.
+   *
+   * @param base the context providing the event-loop of the connection
+   * @return a future completed when the connection is established or the pool is full
+   */
+  private Future<Void> grow(ContextInternal base) {
+    // Use a new context to recognize the request in the selector
+    EventLoopContext context = vertx.createEventLoopContext(base.nettyEventLoop(), null, Thread.currentThread().getContextClassLoader());
+    Promise<Void> promise = Promise.promise();
+    class GrowRequest implements PoolWaiter.Listener<PooledConnection>, Handler<AsyncResult<Lease<PooledConnection>>> {
+      @Override
+      public void handle(AsyncResult<Lease<PooledConnection>> ar) {
+        growing.remove(context);
+        if (ar.succeeded()) {
+          ar.result().recycle();
+          promise.tryComplete();
+        } else {
+          promise.tryFail(ar.cause());
+        }
+      }
+      @Override
+      public void onEnqueue(PoolWaiter<PooledConnection> waiter) {
+        // The pool is full
+        pool.cancel(waiter, ar -> {
+          growing.remove(context);
+          promise.tryComplete();
+        });
+      }
+      @Override
+      public void onConnect(PoolWaiter<PooledConnection> waiter) {
+      }
+    }
+    growing.add(context);
+    GrowRequest request = new GrowRequest();
+    pool.acquire(context, request, 0, request);
+    return promise.future();
+  }
+
+  /**
+   * @return a snapshot of the pool metrics or {@code null} when the pool does not record metrics
+   */
+  public PoolMetricsSnapshot metrics() {
+    if (metrics == null) {
+      return null;
+    }
+    List<Integer> inflight = new ArrayList<>();
+    long hits = 0L;
+    long misses = 0L;
+    long evictions = 0L;
+    for (PooledConnection pooled : connections) {
+      inflight.add(pooled.leases());
+      if (pooled.conn instanceof SocketConnectionBase) {
+        PreparedStatementCache cache = ((SocketConnectionBase) pooled.conn).preparedStatementCache();
+        if (cache != null) {
+          hits += cache.hits();
+          misses += cache.misses();
+          evictions += cache.evictions();
+        }
+      }
+    }
+    return metrics.snapshot(pool.size(), pool.waiters(), inflight, hits, misses, evictions);
+  }
+
   public <R> Future<R> execute(ContextInternal context, CommandBase<R> cmd) {
+    if (limiter == null) {
+      return execute(context, cmd, metrics != null ? System.nanoTime() : 0L);
+    }
+    long begin = System.nanoTime();
+    Promise<R> promise = context.promise();
+    if (!limiter.acquire(() -> execute(context, cmd, begin).onComplete(promise))) {
+      promise.fail(tooBusy());
+    }
+    return promise.future();
+  }
+
+  private <R> Future<R> execute(ContextInternal context, CommandBase<R> cmd, long begin) {
     Promise<Lease<PooledConnection>> p = context.promise();
     pool.acquire(context, 0, p);
     return p.future().compose(lease -> {
       PooledConnection pooled = lease.get();
+      long acquired = begin != 0L ? System.nanoTime() : 0L;
+      if (metrics != null) {
+        metrics.recordPoolWait(acquired - begin);
+      }
+      pooled.leased();
+      if (leastLoaded) {
+        pooled.commandStarted(System.nanoTime());
+      }
       Future<R> future;
       if (afterAcquire != null) {
         future = afterAcquire.apply(pooled.conn)
@@ -168,14 +440,73 @@ public class SqlConnectionPool {
         future = pooled.schedule(context, cmd);
       }
       return future.onComplete(v -> {
+        if (leastLoaded) {
+          pooled.commandCompleted(System.nanoTime());
+        }
         pooled.expirationTimestamp = System.currentTimeMillis() + idleTimeout;
         lease.recycle();
+        pooled.released();
+        if (limiter != null) {
+          limiter.sample(acquired - begin, System.nanoTime() - acquired);
+          limiter.release();
+        }
       });
+    }, err -> {
+      if (limiter != null) {
+        limiter.release();
+      }
+      return Future.failedFuture(err);
     });
   }
 
+  private ConnectionPoolTooBusyException tooBusy() {
+    return new ConnectionPoolTooBusyException("Connection pool reached max wait queue size of " + maxWaitQueueSize);
+  }
+
   public void acquire(ContextInternal context, long timeout, Handler<AsyncResult<PooledConnection>> handler) {
+    if (limiter == null) {
+      doAcquire(context, timeout, handler);
+      return;
+    }
+    long begin = System.nanoTime();
+    Handler<AsyncResult<PooledConnection>> limitedHandler = ar -> {
+      if (ar.succeeded()) {
+        // The lease is released when the connection is recycled
+        limiter.sample(System.nanoTime() - begin, -1L);
+      } else {
+        limiter.release();
+      }
+      handler.handle(ar);
+    };
+    class LimitedRequest implements Runnable {
+      long timerID = -1L;
+      @Override
+      public void run() {
+        long remaining = 0L;
+        if (timeout > 0L) {
+          vertx.cancelTimer(timerID);
+          remaining = Math.max(1L, timeout - TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - begin));
+        }
+        doAcquire(context, remaining, limitedHandler);
+      }
+    }
+    LimitedRequest request = new LimitedRequest();
+    if (timeout > 0L) {
+      request.timerID = context.setTimer(timeout, id -> {
+        if (limiter.cancel(request)) {
+          handler.handle(Future.failedFuture("Timeout"));
+        }
+      });
+    }
+    if (!limiter.acquire(request)) {
+      vertx.cancelTimer(request.timerID);
+      handler.handle(Future.failedFuture(tooBusy()));
+    }
+  }
+
+  private void doAcquire(ContextInternal context, long timeout, Handler<AsyncResult<PooledConnection>> handler) {
     class PoolRequest implements PoolWaiter.Listener<PooledConnection>, Handler<AsyncResult<Lease<PooledConnection>>> {
+      private final long begin = metrics != null ? System.nanoTime() : 0L;
       private long timerID = -1L;
 
       @Override
@@ -185,6 +516,9 @@ public class SqlConnectionPool {
         }
         if (ar.succeeded()) {
           Lease<PooledConnection> lease = ar.result();
+          if (metrics != null) {
+            metrics.recordPoolWait(System.nanoTime() - begin);
+          }
           if (afterAcquire != null) {
             afterAcquire.apply(lease.get().conn).onComplete(ar2 -> {
               if (ar2.succeeded()) {
@@ -204,6 +538,7 @@ public class SqlConnectionPool {
 
       private void handle(Lease<PooledConnection> lease) {
         PooledConnection pooled = lease.get();
+        pooled.leased();
         pooled.lease = lease;
         handler.handle(Future.succeededFuture(pooled));
       }
@@ -235,6 +570,11 @@ public class SqlConnectionPool {
   }
 
   public Future<Void> close() {
+    closed = true;
+    SqlConnection successor;
+    while ((successor = successors.poll()) != null) {
+      successor.close();
+    }
     Promise<Void> promise = vertx.promise();
     pool.close(ar1 -> {
       if (ar1.succeeded()) {
@@ -260,15 +600,125 @@ public class SqlConnectionPool {
     private final ConnectionFactory factory;
     private final Connection conn;
     private final PoolConnector.Listener listener;
+    private final EventLoopContext context;
     private Holder holder;
     private Handler<AsyncResult<ConnectResult<PooledConnection>>> poolResultHandler;
     private Lease<PooledConnection> lease;
     public long expirationTimestamp;
-
-    PooledConnection(ConnectionFactory factory, Connection conn, PoolConnector.Listener listener) {
+    private final long lifetimeExpirationTimestamp;
+    // Leases not yet recycled, a retired connection is closed when they are all recycled
+    private int leases;
+    private boolean replacing;
+    private boolean retired;
+    private boolean closing;
+
+    // Start times of the commands in flight, in execution order, only tracked for the least loaded selection
+    private final long[] inflightStarts;
+    private int inflightHead;
+    private int inflightCount;
+    // Moving average of the response time
+    private long averageResponseTime;
+
+    PooledConnection(ConnectionFactory factory, Connection conn, PoolConnector.Listener listener, EventLoopContext context) {
       this.factory = factory;
       this.conn = conn;
       this.listener = listener;
+      this.context = context;
+      this.inflightStarts = leastLoaded ? new long[pipeliningLimit] : null;
+      if (maxLifetime > 0) {
+        // Jitter the lifetime so connections created together are not replaced together
+        long jitter = ThreadLocalRandom.current().nextLong(maxLifetime / 10 + 1);
+        this.lifetimeExpirationTimestamp = System.currentTimeMillis() + maxLifetime - jitter;
+      } else {
+        this.lifetimeExpirationTimestamp = Long.MAX_VALUE;
+      }
+      connections.add(this);
+    }
+
+    private synchronized int leases() {
+      return leases;
+    }
+
+    private synchronized boolean isIdle() {
+      return leases == 0 && !retired;
+    }
+
+    private synchronized void leased() {
+      leases++;
+    }
+
+    private void released() {
+      synchronized (this) {
+        leases--;
+      }
+      if (drained()) {
+        close(Promise.promise());
+      }
+    }
+
+    /**
+     * @return {@code true} once, when the connection is retired and has no lease
+     */
+    private synchronized boolean drained() {
+      if (retired && leases == 0 && !closing) {
+        closing = true;
+        return true;
+      }
+      return false;
+    }
+
+    private synchronized boolean startReplacement() {
+      if (replacing) {
+        return false;
+      }
+      replacing = true;
+      return true;
+    }
+
+    private synchronized void cancelReplacement() {
+      replacing = false;
+    }
+
+    /**
+     * Remove the connection from the pool, it is closed when its leases are recycled or by the next check
+     * when it has none.
+     */
+    private void retire() {
+      synchronized (this) {
+        retired = true;
+      }
+      listener.onRemove();
+    }
+
+    private synchronized void commandStarted(long now) {
+      if (inflightCount < inflightStarts.length) {
+        inflightStarts[(inflightHead + inflightCount++) % inflightStarts.length] = now;
+      }
+    }
+
+    private synchronized void commandCompleted(long now) {
+      if (inflightCount > 0) {
+        long responseTime = now - inflightStarts[inflightHead];
+        inflightHead = (inflightHead + 1) % inflightStarts.length;
+        inflightCount--;
+        if (averageResponseTime == 0L) {
+          averageResponseTime = responseTime;
+        } else {
+          // Same smoothing factor than the TCP round trip time estimation
+          averageResponseTime += (responseTime - averageResponseTime) >> 3;
+        }
+      }
+    }
+
+    /**
+     * @return the expected delay before a new command gets a response: the commands in flight at the average
+     *         response time, plus the time the oldest command has already been waiting for since it might be slow
+     */
+    private synchronized long expectedDelay(long now) {
+      if (inflightCount == 0) {
+        return 0L;
+      }
+      return inflightCount * averageResponseTime + (now - inflightStarts[inflightHead]);
     }
 
     public ConnectionFactory factory() {
@@ -352,11 +802,16 @@ public class SqlConnectionPool {
       this.lease = null;
       this.expirationTimestamp = System.currentTimeMillis() + idleTimeout;
       l.recycle();
+      released();
+      if (limiter != null) {
+        limiter.release();
+      }
       promise.complete();
     }
 
     @Override
     public void handleClosed() {
+      connections.remove(this);
       if (holder != null) {
         holder.handleClosed();
       }
@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2011-2022 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.sqlclient.metrics;
+
+import io.vertx.core.json.JsonObject;
+import io.vertx.sqlclient.impl.metrics.Histogram;
+
+/**
+ * A snapshot of a latency histogram, the values are in nanoseconds.
+ *
+ * <p> Percentiles are computed from buckets and are accurate within 6.25%.
+ */
+public class LatencySnapshot {
+
+  private final long[] counts;
+  private final long count;
+  private final long min;
+  private final long max;
+  private final long sum;
+
+  public LatencySnapshot(long[] counts, long count, long min, long max, long sum) {
+    this.counts = counts;
+    this.count = count;
+    this.min = min;
+    this.max = max;
+    this.sum = sum;
+  }
+
+  /**
+   * @return the number of recorded values
+   */
+  public long getCount() {
+    return count;
+  }
+
+  /**
+   * @return the lowest recorded value
+   */
+  public long getMin() {
+    return min;
+  }
+
+  /**
+   * @return the highest recorded value
+   */
+  public long getMax() {
+    return max;
+  }
+
+  /**
+   * @return the mean of the recorded values
+   */
+  public double getMean() {
+    return count == 0L ? 0D : (double) sum / count;
+  }
+
+  /**
+   * @param percentile the percentile, between {@code 0} and {@code 100}
+   * @return the value below which {@code percentile} percents of the recorded values fall
+   */
+  public long getValueAtPercentile(double percentile) {
+    if (count == 0L) {
+      return 0L;
+    }
+    long rank = (long) Math.ceil(Math.min(Math.max(percentile, 0D), 100D) / 100D * count);
+    if (rank == 0L) {
+      rank = 1L;
+    }
+    long seen = 0L;
+    for (int i = 0;i < counts.length;i++) {
+      seen += counts[i];
+      if (seen >= rank) {
+        return Math.max(min, Math.min(max, Histogram.highestValue(i)));
+      }
+    }
+    return max;
+  }
+
+  public JsonObject toJson() {
+    return new JsonObject()
+      .put("count", count)
+      .put("min", min)
+      .put("max", max)
+      .put("mean", getMean())
+      .put("p50", getValueAtPercentile(50))
+      .put("p90", getValueAtPercentile(90))
+      .put("p99", getValueAtPercentile(99))
+      .put("p999", getValueAtPercentile(99.9));
+  }
+}
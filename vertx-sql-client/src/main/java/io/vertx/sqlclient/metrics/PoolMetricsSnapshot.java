@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2011-2022 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.sqlclient.metrics;
+
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+
+import java.util.List;
+
+/**
+ * A snapshot of the metrics of a pool, see {@link io.vertx.sqlclient.Pool#metrics()}.
+ */
+public class PoolMetricsSnapshot {
+
+  private final int size;
+  private final int waiting;
+  private final List<Integer> inflight;
+  private final LatencySnapshot poolWait;
+  private final long preparedStatementCacheHits;
+  private final long preparedStatementCacheMisses;
+  private final long preparedStatementCacheEvictions;
+  private final List<StatementMetricsSnapshot> statements;
+
+  public PoolMetricsSnapshot(int size,
+                             int waiting,
+                             List<Integer> inflight,
+                             LatencySnapshot poolWait,
+                             long preparedStatementCacheHits,
+                             long preparedStatementCacheMisses,
+                             long preparedStatementCacheEvictions,
+                             List<StatementMetricsSnapshot> statements) {
+    this.size = size;
+    this.waiting = waiting;
+    this.inflight = inflight;
+    this.poolWait = poolWait;
+    this.preparedStatementCacheHits = preparedStatementCacheHits;
+    this.preparedStatementCacheMisses = preparedStatementCacheMisses;
+    this.preparedStatementCacheEvictions = preparedStatementCacheEvictions;
+    this.statements = statements;
+  }
+
+  /**
+   * @return the number of connections of the pool, including the connections being established
+   */
+  public int getSize() {
+    return size;
+  }
+
+  /**
+   * @return the number of requests waiting for a connection
+   */
+  public int getWaiting() {
+    return waiting;
+  }
+
+  /**
+   * @return for each pooled connection, the number of commands in flight or {@code 1} when the connection is borrowed
+   */
+  public List<Integer> getInflight() {
+    return inflight;
+  }
+
+  /**
+   * @return the time spent waiting for a pooled connection
+   */
+  public LatencySnapshot getPoolWait() {
+    return poolWait;
+  }
+
+  /**
+   * @return the prepared statement cache hits of the pooled connections
+   */
+  public long getPreparedStatementCacheHits() {
+    return preparedStatementCacheHits;
+  }
+
+  /**
+   * @return the prepared statement cache misses of the pooled connections
+   */
+  public long getPreparedStatementCacheMisses() {
+    return preparedStatementCacheMisses;
+  }
+
+  /**
+   * @return the number of statements evicted from the prepared statement caches of the pooled connections, including
+   *         the statements that were not admitted in the caches
+   */
+  public long getPreparedStatementCacheEvictions() {
+    return preparedStatementCacheEvictions;
+  }
+
+  /**
+   * @return the prepared statement cache hit ratio of the pooled connections, between {@code 0} and {@code 1}
+   */
+  public double getPreparedStatementCacheHitRatio() {
+    long total = preparedStatementCacheHits + preparedStatementCacheMisses;
+    return total == 0L ? 0D : (double) preparedStatementCacheHits / total;
+  }
+
+  /**
+   * @return the metrics of the statements executed by the pool
+   */
+  public List<StatementMetricsSnapshot> getStatements() {
+    return statements;
+  }
+
+  public JsonObject toJson() {
+    JsonArray array = new JsonArray();
+    for (StatementMetricsSnapshot statement : statements) {
+      array.add(statement.toJson());
+    }
+    return new JsonObject()
+      .put("size", size)
+      .put("waiting", waiting)
+      .put("inflight", new JsonArray(inflight))
+      .put("poolWait", poolWait.toJson())
+      .put("preparedStatementCacheHits", preparedStatementCacheHits)
+      .put("preparedStatementCacheMisses", preparedStatementCacheMisses)
+      .put("preparedStatementCacheEvictions", preparedStatementCacheEvictions)
+      .put("statements", array);
+  }
+}
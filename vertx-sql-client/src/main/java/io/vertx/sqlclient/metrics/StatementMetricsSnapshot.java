@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2011-2022 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.sqlclient.metrics;
+
+import io.vertx.core.json.JsonObject;
+
+/**
+ * A snapshot of the metrics of a statement, statements differing only by their literal values share their metrics.
+ */
+public class StatementMetricsSnapshot {
+
+  private final String sql;
+  private final long failures;
+  private final long rows;
+  private final LatencySnapshot queueTime;
+  private final LatencySnapshot serverTime;
+
+  public StatementMetricsSnapshot(String sql, long failures, long rows, LatencySnapshot queueTime, LatencySnapshot serverTime) {
+    this.sql = sql;
+    this.failures = failures;
+    this.rows = rows;
+    this.queueTime = queueTime;
+    this.serverTime = serverTime;
+  }
+
+  /**
+   * @return the normalized SQL, the literal values are replaced by {@code ?}
+   */
+  public String getSql() {
+    return sql;
+  }
+
+  /**
+   * @return the number of successful executions
+   */
+  public long getCount() {
+    return serverTime.getCount();
+  }
+
+  /**
+   * @return the number of failed executions
+   */
+  public long getFailures() {
+    return failures;
+  }
+
+  /**
+   * @return the number of rows returned by the successful executions
+   */
+  public long getRows() {
+    return rows;
+  }
+
+  /**
+   * @return the time between the execution request and the command being sent to the database, which includes the
+   *         time waiting for a pooled connection and the time queued behind the commands of the connection
+   */
+  public LatencySnapshot getQueueTime() {
+    return queueTime;
+  }
+
+  /**
+   * @return the time between the command being sent to the database and the response
+   */
+  public LatencySnapshot getServerTime() {
+    return serverTime;
+  }
+
+  public JsonObject toJson() {
+    return new JsonObject()
+      .put("sql", sql)
+      .put("count", getCount())
+      .put("failures", failures)
+      .put("rows", rows)
+      .put("queueTime", queueTime.toJson())
+      .put("serverTime", serverTime.toJson());
+  }
+}
@@ -5,7 +5,10 @@ import io.vertx.core.CompositeFuture;
 import io.vertx.core.Context;
 import io.vertx.core.Future;
 import io.vertx.core.Promise;
+import io.vertx.sqlclient.PoolOptions;
+import io.vertx.sqlclient.ServerTarget;
 import io.vertx.sqlclient.SqlConnection;
+import io.vertx.sqlclient.impl.HostSelector;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -46,6 +49,20 @@ public interface ConnectionFactory extends Closeable {
     }
   }
 
+  /**
+   * @return a connection factory that connects to the healthiest server matching the {@link PoolOptions#getServerTarget() target},
+   *         failing over to the other servers when a connection attempt fails
+   * @throws IllegalArgumentException when the target is not {@link ServerTarget#ANY} and a factory cannot determine
+   *         whether its server is read-only
+   */
+  static ConnectionFactory selector(List<ConnectionFactory> factories, PoolOptions options) {
+    if (factories.size() == 1 && options.getServerTarget() == ServerTarget.ANY) {
+      return factories.get(0);
+    } else {
+      return new HostSelector(factories, options);
+    }
+  }
+
   /**
    * Create a connection using the given {@code context}.
    *
@@ -54,4 +71,31 @@ public interface ConnectionFactory extends Closeable {
    */
   Future<SqlConnection> connect(Context context);
 
+  /**
+   * @return whether {@link #isReadOnly(SqlConnection)} is implemented by this factory
+   */
+  default boolean supportsReadOnly() {
+    return false;
+  }
+
+  /**
+   * Determine whether the server of a {@code connection} created by this factory only accepts read-only
+   * transactions, e.g. a replica.
+   *
+   * @param connection the connection
+   * @return the future result, failed when the driver cannot tell
+   */
+  default Future<Boolean> isReadOnly(SqlConnection connection) {
+    return Future.failedFuture(new UnsupportedOperationException("The driver cannot determine whether a server is read-only"));
+  }
+
+  /**
+   * Determine the replication lag of the server of a {@code connection} created by this factory.
+   *
+   * @param connection the connection
+   * @return the future lag in milliseconds, {@code 0} for a primary, failed when the driver cannot tell
+   */
+  default Future<Long> replicationLag(SqlConnection connection) {
+    return Future.failedFuture(new UnsupportedOperationException("The driver cannot determine the replication lag of a server"));
+  }
 }
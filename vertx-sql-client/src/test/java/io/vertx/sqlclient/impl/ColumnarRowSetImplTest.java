@@ -0,0 +1,116 @@
+package io.vertx.sqlclient.impl;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.vertx.sqlclient.ColumnarRowSet;
+import io.vertx.sqlclient.ColumnarRowSet.ColumnType;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class ColumnarRowSetImplTest {
+
+  private static final ColumnType[] TYPES = {
+    ColumnType.INT, ColumnType.LONG, ColumnType.DOUBLE, ColumnType.STRING, ColumnType.OBJECT
+  };
+
+  private static ColumnarRowSet create(int rows) {
+    ColumnarRowSetImpl set = (ColumnarRowSetImpl) ColumnarRowSetImpl.COLLECTOR.supplier().get();
+    set.init(Arrays.asList("i", "l", "d", "s", "o"), TYPES);
+    for (int row = 0;row < rows;row++) {
+      if (row % 3 == 0) {
+        for (int c = 0;c < TYPES.length;c++) {
+          set.addNull(c);
+        }
+      } else {
+        set.addInt(0, row);
+        set.addLong(1, row * 10_000_000_000L);
+        set.addDouble(2, row + 0.5D);
+        ByteBuf buf = Unpooled.copiedBuffer("élément-" + row, StandardCharsets.UTF_8);
+        set.addString(3, buf, buf.readerIndex(), buf.readableBytes());
+        set.addValue(4, "value-" + row);
+      }
+      set.endRow();
+    }
+    return ColumnarRowSetImpl.COLLECTOR.finisher().apply(set);
+  }
+
+  @Test
+  public void testColumns() {
+    int rows = 1000;
+    ColumnarRowSet set = create(rows);
+    assertEquals(rows, set.size());
+    assertEquals(Arrays.asList("i", "l", "d", "s", "o"), set.columnsNames());
+    assertEquals(3, set.columnIndex("s"));
+    assertEquals(-1, set.columnIndex("x"));
+    assertEquals(rows, set.intColumn(0).length);
+    assertEquals(rows, set.longColumn(1).length);
+    assertEquals(rows, set.doubleColumn(2).length);
+    for (int row = 0;row < rows;row++) {
+      if (row % 3 == 0) {
+        for (int c = 0;c < TYPES.length;c++) {
+          assertTrue(set.isNull(c, row));
+          assertNull(set.getValue(c, row));
+        }
+        assertEquals(0, set.getInt(0, row));
+        assertEquals(0L, set.longColumn(1)[row]);
+        assertNull(set.getString(3, row));
+      } else {
+        for (int c = 0;c < TYPES.length;c++) {
+          assertFalse(set.isNull(c, row));
+        }
+        assertEquals(row, set.intColumn(0)[row]);
+        assertEquals(row, set.getValue(0, row));
+        assertEquals(row * 10_000_000_000L, set.getLong(1, row));
+        assertEquals(row + 0.5D, set.getDouble(2, row), 0D);
+        assertEquals(row, set.getInt(2, row));
+        assertEquals((double) row, set.getDouble(0, row), 0D);
+        assertEquals("élément-" + row, set.getString(3, row));
+        assertEquals("élément-" + row, set.getValue(3, row));
+        assertEquals("value-" + row, set.getValue(4, row));
+        assertEquals(String.valueOf(row), set.getString(0, row));
+      }
+    }
+  }
+
+  @Test
+  public void testEmpty() {
+    ColumnarRowSet set = ColumnarRowSetImpl.COLLECTOR.finisher().apply(new ColumnarRowSetImpl());
+    assertEquals(0, set.size());
+    assertEquals(0, set.columnsNames().size());
+    set = create(0);
+    assertEquals(0, set.size());
+    assertArrayEquals(new int[0], set.intColumn(0));
+  }
+
+  @Test
+  public void testInvalidAccess() {
+    ColumnarRowSet set = create(4);
+    try {
+      set.longColumn(0);
+      fail();
+    } catch (IllegalArgumentException ignore) {
+      // Expected
+    }
+    try {
+      set.getInt(0, 4);
+      fail();
+    } catch (IndexOutOfBoundsException ignore) {
+      // Expected
+    }
+    try {
+      set.getInt(3, 1);
+      fail();
+    } catch (ClassCastException ignore) {
+      // Expected
+    }
+  }
+}
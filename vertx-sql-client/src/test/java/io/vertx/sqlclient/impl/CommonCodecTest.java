@@ -0,0 +1,121 @@
+package io.vertx.sqlclient.impl;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.sqlclient.Tuple;
+import io.vertx.sqlclient.impl.codec.CommonCodec;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.util.Locale;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class CommonCodecTest {
+
+  @Test
+  public void testDecodeDouble() {
+    String[] values = { "0", "-0", "1", "-1.5", "3.141592653589793", "0.1", "0.30000000000000004", "123456789.123456",
+      "9007199254740993", "1e+100", "1.5e-07", "NaN", "Infinity", "-Infinity", "0.0000000000000000000001" };
+    for (String value : values) {
+      assertEquals(value, Double.doubleToRawLongBits(Double.parseDouble(value)), Double.doubleToRawLongBits(decodeDouble(value)));
+    }
+    Random random = new Random(0);
+    for (int i = 0;i < 10000;i++) {
+      String value = String.format(Locale.ROOT, "%." + random.nextInt(10) + "f", (random.nextDouble() - 0.5) * Math.pow(10, random.nextInt(12)));
+      assertEquals(value, Double.parseDouble(value), decodeDouble(value), 0D);
+    }
+  }
+
+  @Test
+  public void testDecodeFloat() {
+    String[] values = { "0", "-0", "1", "-1.5", "3.1415927", "0.1", "16777217", "3.4028235e+38", "NaN", "-Infinity" };
+    for (String value : values) {
+      assertEquals(value, Float.floatToRawIntBits(Float.parseFloat(value)), Float.floatToRawIntBits(decodeFloat(value)));
+    }
+    Random random = new Random(0);
+    for (int i = 0;i < 10000;i++) {
+      String value = String.format(Locale.ROOT, "%." + random.nextInt(6) + "f", (random.nextFloat() - 0.5F) * Math.pow(10, random.nextInt(6)));
+      assertEquals(value, Float.parseFloat(value), decodeFloat(value), 0F);
+    }
+  }
+
+  @Test
+  public void testDecodeBigDecimal() {
+    String[] values = { "0", "0.00", "-0.00", "1", "-1.50", "123456789012345678", "1234567890123456789",
+      "12345678901234567890.123456789", "0.000000000000000001" };
+    for (String value : values) {
+      BigDecimal decoded = CommonCodec.decodeDecStringToBigDecimal(0, value.length(), buffer(value));
+      assertEquals(value, new BigDecimal(value), decoded);
+    }
+  }
+
+  @Test
+  public void testDecodeDateTime() {
+    assertEquals(LocalDate.of(2022, 3, 14), CommonCodec.decodeLocalDate(0, 10, buffer("2022-03-14")));
+    assertNull(CommonCodec.decodeLocalDate(0, 11, buffer("12022-03-14")));
+    assertNull(CommonCodec.decodeLocalDate(0, 8, buffer("infinity")));
+    assertEquals(LocalTime.of(23, 59, 1), CommonCodec.decodeLocalTime(0, 8, buffer("23:59:01")));
+    assertEquals(LocalTime.of(23, 59, 1, 500_000_000), CommonCodec.decodeLocalTime(0, 10, buffer("23:59:01.5")));
+    assertEquals(LocalTime.of(23, 59, 1, 123_456_000), CommonCodec.decodeLocalTime(0, 15, buffer("23:59:01.123456")));
+    assertNull(CommonCodec.decodeLocalTime(0, 9, buffer("23:59:01.")));
+    assertEquals(LocalDateTime.of(2022, 3, 14, 9, 26, 53, 589_000_000), CommonCodec.decodeLocalDateTime(0, 23, buffer("2022-03-14 09:26:53.589")));
+    assertEquals(LocalDateTime.of(2022, 3, 14, 9, 26, 53), CommonCodec.decodeLocalDateTime(0, 19, buffer("2022-03-14T09:26:53")));
+    assertNull(CommonCodec.decodeLocalDateTime(0, 22, buffer("2022-03-14 09:26:53 BC")));
+  }
+
+  @Test
+  public void testDecodeZoneOffset() {
+    assertEquals(ZoneOffset.ofHours(2), CommonCodec.decodeZoneOffset(0, 3, buffer("+02")));
+    assertEquals(ZoneOffset.ofHoursMinutes(-5, -30), CommonCodec.decodeZoneOffset(0, 6, buffer("-05:30")));
+    assertEquals(ZoneOffset.ofHoursMinutesSeconds(1, 2, 3), CommonCodec.decodeZoneOffset(0, 9, buffer("+01:02:03")));
+    assertNull(CommonCodec.decodeZoneOffset(0, 6, buffer("+00 BC")));
+    assertNull(CommonCodec.decodeZoneOffset(0, 0, buffer("")));
+  }
+
+  @Test
+  public void testDecodeJson() {
+    assertEquals(new JsonObject().put("a", new JsonArray().add(1).add("é")), decodeJson(" {\"a\":[1,\"é\"]}"));
+    assertEquals(new JsonArray().add(true), decodeJson("[true]"));
+    assertEquals("text", decodeJson("\"text\""));
+    assertEquals(12.5D, decodeJson("12.5"));
+    assertEquals(Tuple.JSON_NULL, decodeJson("null"));
+    assertNull(decodeJson("  "));
+  }
+
+  @Test
+  public void testEncodeJson() {
+    Object[] values = { new JsonObject().put("a", new JsonArray().add(1).add("é")), new JsonArray().add(true), "text", 12.5D, Tuple.JSON_NULL };
+    for (Object value : values) {
+      ByteBuf buff = Unpooled.buffer();
+      CommonCodec.encodeJson(value, buff);
+      assertEquals(value, CommonCodec.decodeJson(0, buff.readableBytes(), buff));
+    }
+  }
+
+  private static Object decodeJson(String value) {
+    ByteBuf buff = Unpooled.copiedBuffer(value, StandardCharsets.UTF_8);
+    return CommonCodec.decodeJson(0, buff.readableBytes(), buff);
+  }
+
+  private static double decodeDouble(String value) {
+    return CommonCodec.decodeDecStringToDouble(0, value.length(), buffer(value));
+  }
+
+  private static float decodeFloat(String value) {
+    return CommonCodec.decodeDecStringToFloat(0, value.length(), buffer(value));
+  }
+
+  private static ByteBuf buffer(String value) {
+    return Unpooled.copiedBuffer(value, StandardCharsets.US_ASCII);
+  }
+}
@@ -0,0 +1,190 @@
+package io.vertx.sqlclient.impl;
+
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.sqlclient.PoolOptions;
+import io.vertx.sqlclient.ServerTarget;
+import io.vertx.sqlclient.SqlConnection;
+import io.vertx.sqlclient.spi.ConnectionFactory;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.Arrays;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class HostSelectorTest {
+
+  private Vertx vertx;
+  private Context context;
+
+  @Before
+  public void setUp() {
+    vertx = Vertx.vertx();
+    context = vertx.getOrCreateContext();
+  }
+
+  @After
+  public void tearDown() {
+    vertx.close();
+  }
+
+  @Test
+  public void testFailover() {
+    FakeFactory down = new FakeFactory(false, false);
+    FakeFactory up = new FakeFactory(true, false);
+    HostSelector selector = new HostSelector(Arrays.asList(down, up), new PoolOptions());
+    for (int i = 0;i < 4;i++) {
+      Future<SqlConnection> fut = selector.connect(context);
+      assertTrue(fut.succeeded());
+      assertSame(up, factoryOf(fut.result()));
+    }
+    // The failed server is ejected
+    assertEquals(1, down.connects);
+    assertEquals(4, up.connects);
+  }
+
+  @Test
+  public void testAllServersEjected() {
+    FakeFactory f1 = new FakeFactory(false, false);
+    FakeFactory f2 = new FakeFactory(false, false);
+    HostSelector selector = new HostSelector(Arrays.asList(f1, f2), new PoolOptions());
+    assertTrue(selector.connect(context).failed());
+    assertTrue(selector.connect(context).failed());
+    assertEquals(2, f1.connects);
+    assertEquals(2, f2.connects);
+  }
+
+  @Test
+  public void testPrimaryTarget() {
+    FakeFactory replica = new FakeFactory(true, true);
+    FakeFactory primary = new FakeFactory(true, false);
+    HostSelector selector = new HostSelector(Arrays.asList(replica, primary), new PoolOptions().setServerTarget(ServerTarget.PRIMARY));
+    for (int i = 0;i < 4;i++) {
+      Future<SqlConnection> fut = selector.connect(context);
+      assertTrue(fut.succeeded());
+      assertSame(primary, factoryOf(fut.result()));
+    }
+    // The replica is known after the first connection
+    assertEquals(1, replica.connects);
+    assertEquals(1, replica.closed);
+    assertEquals(0, primary.closed);
+  }
+
+  @Test
+  public void testReplicaTarget() {
+    FakeFactory primary = new FakeFactory(true, false);
+    HostSelector selector = new HostSelector(Arrays.asList(primary), new PoolOptions().setServerTarget(ServerTarget.REPLICA));
+    assertTrue(selector.connect(context).failed());
+    assertEquals(1, primary.closed);
+  }
+
+  @Test
+  public void testPreferReplicaTarget() {
+    FakeFactory primary = new FakeFactory(true, false);
+    FakeFactory replica = new FakeFactory(true, true);
+    HostSelector selector = new HostSelector(Arrays.asList(primary, replica), new PoolOptions().setServerTarget(ServerTarget.PREFER_REPLICA));
+    Future<SqlConnection> fut = selector.connect(context);
+    assertTrue(fut.succeeded());
+    assertSame(replica, factoryOf(fut.result()));
+    selector = new HostSelector(Arrays.asList(primary, new FakeFactory(false, true)), new PoolOptions().setServerTarget(ServerTarget.PREFER_REPLICA));
+    fut = selector.connect(context);
+    assertTrue(fut.succeeded());
+    assertSame(primary, factoryOf(fut.result()));
+  }
+
+  @Test
+  public void testReadOnlyUnsupported() {
+    FakeFactory factory = new FakeFactory(true, false) {
+      @Override
+      public boolean supportsReadOnly() {
+        return false;
+      }
+    };
+    for (ServerTarget target : new ServerTarget[]{ ServerTarget.PRIMARY, ServerTarget.REPLICA, ServerTarget.PREFER_REPLICA }) {
+      try {
+        ConnectionFactory.selector(Arrays.asList(factory), new PoolOptions().setServerTarget(target));
+        fail();
+      } catch (IllegalArgumentException ignore) {
+      }
+    }
+    // Rejected when the selector is built, no connection is attempted
+    assertEquals(0, factory.connects);
+    assertSame(factory, ConnectionFactory.selector(Arrays.asList(factory), new PoolOptions()));
+  }
+
+  @Test
+  public void testSingleServer() {
+    FakeFactory factory = new FakeFactory(true, false);
+    assertSame(factory, ConnectionFactory.selector(Arrays.asList(factory), new PoolOptions()));
+    assertFalse(ConnectionFactory.selector(Arrays.asList(factory), new PoolOptions().setServerTarget(ServerTarget.PRIMARY)) == factory);
+  }
+
+  private static FakeFactory factoryOf(SqlConnection conn) {
+    return ((FakeConnection) Proxy.getInvocationHandler(conn)).factory;
+  }
+
+  private static class FakeFactory implements ConnectionFactory {
+
+    final boolean available;
+    final boolean readOnly;
+    int connects;
+    int closed;
+
+    FakeFactory(boolean available, boolean readOnly) {
+      this.available = available;
+      this.readOnly = readOnly;
+    }
+
+    @Override
+    public Future<SqlConnection> connect(Context context) {
+      connects++;
+      if (!available) {
+        return Future.failedFuture("Connection refused");
+      }
+      SqlConnection conn = (SqlConnection) Proxy.newProxyInstance(SqlConnection.class.getClassLoader(), new Class[]{SqlConnection.class}, new FakeConnection(this));
+      return Future.succeededFuture(conn);
+    }
+
+    @Override
+    public boolean supportsReadOnly() {
+      return true;
+    }
+
+    @Override
+    public Future<Boolean> isReadOnly(SqlConnection connection) {
+      return Future.succeededFuture(readOnly);
+    }
+
+    @Override
+    public void close(Promise<Void> completion) {
+      completion.complete();
+    }
+  }
+
+  private static class FakeConnection implements java.lang.reflect.InvocationHandler {
+
+    final FakeFactory factory;
+
+    FakeConnection(FakeFactory factory) {
+      this.factory = factory;
+    }
+
+    @Override
+    public Object invoke(Object proxy, java.lang.reflect.Method method, Object[] args) {
+      if (method.getName().equals("close") && method.getParameterCount() == 0) {
+        factory.closed++;
+        return Future.succeededFuture();
+      }
+      throw new UnsupportedOperationException(method.getName());
+    }
+  }
+}
@@ -0,0 +1,45 @@
+package io.vertx.sqlclient.impl;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+public class RowDescTest {
+
+  @Test
+  public void testColumnIndex() {
+    List<String> names = new ArrayList<>();
+    for (int i = 0;i < 64;i++) {
+      names.add("column_" + i);
+    }
+    RowDesc desc = new RowDesc(names);
+    for (int i = 0;i < names.size();i++) {
+      assertEquals(i, desc.columnIndex("column_" + i));
+    }
+    assertEquals(-1, desc.columnIndex("column_64"));
+    assertEquals(-1, desc.columnIndex("COLUMN_0"));
+  }
+
+  @Test
+  public void testDuplicateColumnName() {
+    RowDesc desc = new RowDesc(Arrays.asList("id", "name", "id"));
+    assertEquals(0, desc.columnIndex("id"));
+    assertEquals(1, desc.columnIndex("name"));
+  }
+
+  @Test
+  public void testEmpty() {
+    assertEquals(-1, RowDesc.EMPTY.columnIndex("id"));
+    assertEquals(-1, new RowDesc(Collections.emptyList()).columnIndex("id"));
+  }
+
+  @Test(expected = NullPointerException.class)
+  public void testNullColumnName() {
+    new RowDesc(Arrays.asList("id")).columnIndex(null);
+  }
+}
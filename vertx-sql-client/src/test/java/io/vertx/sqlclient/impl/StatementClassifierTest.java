@@ -0,0 +1,38 @@
+package io.vertx.sqlclient.impl;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class StatementClassifierTest {
+
+  @Test
+  public void testReadOnly() {
+    assertTrue(StatementClassifier.isReadOnly("SELECT * FROM t WHERE id = $1"));
+    assertTrue(StatementClassifier.isReadOnly("  select id from t;  "));
+    assertTrue(StatementClassifier.isReadOnly("(SELECT 1) UNION (SELECT 2)"));
+    assertTrue(StatementClassifier.isReadOnly("-- comment\nSELECT 1"));
+    assertTrue(StatementClassifier.isReadOnly("/* INSERT */ SELECT 'DELETE' AS \"update\""));
+    assertTrue(StatementClassifier.isReadOnly("WITH x AS (SELECT 1) SELECT * FROM x"));
+    assertTrue(StatementClassifier.isReadOnly("SHOW server_version"));
+    assertTrue(StatementClassifier.isReadOnly("SELECT `select` FROM t WHERE id = ?"));
+    assertTrue(StatementClassifier.isReadOnly("VALUES (1), (2)"));
+  }
+
+  @Test
+  public void testWrite() {
+    assertFalse(StatementClassifier.isReadOnly(""));
+    assertFalse(StatementClassifier.isReadOnly("INSERT INTO t VALUES (1)"));
+    assertFalse(StatementClassifier.isReadOnly("UPDATE t SET v = 1"));
+    assertFalse(StatementClassifier.isReadOnly("SELECT * FROM t FOR UPDATE"));
+    assertFalse(StatementClassifier.isReadOnly("SELECT * INTO t2 FROM t"));
+    assertFalse(StatementClassifier.isReadOnly("SELECT nextval('seq')"));
+    assertFalse(StatementClassifier.isReadOnly("SELECT * FROM t LOCK IN SHARE MODE"));
+    assertFalse(StatementClassifier.isReadOnly("SELECT GET_LOCK('job', 10)"));
+    assertFalse(StatementClassifier.isReadOnly("WITH x AS (DELETE FROM t RETURNING *) SELECT * FROM x"));
+    assertFalse(StatementClassifier.isReadOnly("SELECT 1; DELETE FROM t"));
+    assertFalse(StatementClassifier.isReadOnly("BEGIN"));
+    assertFalse(StatementClassifier.isReadOnly("EXPLAIN ANALYZE DELETE FROM t"));
+  }
+}
@@ -0,0 +1,83 @@
+package io.vertx.sqlclient.impl;
+
+import io.vertx.sqlclient.impl.cache.TinyLfuCache;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class TinyLfuCacheTest {
+
+  @Test
+  public void testScanResistance() {
+    int capacity = 100;
+    TinyLfuCache<String, String> cache = new TinyLfuCache<>(capacity);
+    for (int i = 0;i < 50;i++) {
+      lookupOrCache(cache, "hot-" + i);
+    }
+    for (int i = 0;i < 5;i++) {
+      for (int j = 0;j < 50;j++) {
+        lookupOrCache(cache, "hot-" + j);
+      }
+    }
+    for (int i = 0;i < 1000;i++) {
+      lookupOrCache(cache, "scan-" + i);
+    }
+    for (int i = 0;i < 50;i++) {
+      assertTrue(cache.containsKey("hot-" + i));
+    }
+    assertEquals(capacity, cache.size());
+  }
+
+  @Test
+  public void testRejectCandidate() {
+    int capacity = 100;
+    TinyLfuCache<String, String> cache = new TinyLfuCache<>(capacity);
+    for (int i = 0;i < capacity;i++) {
+      String key = "key-" + i;
+      for (int j = 0;j < 3;j++) {
+        cache.get(key);
+      }
+      assertEquals(0, cache.cache(key, "value-" + i).size());
+    }
+    // The candidate leaving the window is less frequent than the victim
+    cache.get("key-100");
+    assertEquals(Collections.singletonList("value-99"), cache.cache("key-100", "value-100"));
+    assertFalse(cache.containsKey("key-99"));
+    assertTrue(cache.containsKey("key-100"));
+    assertEquals(capacity, cache.size());
+  }
+
+  @Test
+  public void testReplace() {
+    TinyLfuCache<String, String> cache = new TinyLfuCache<>(10);
+    assertEquals(0, cache.cache("key", "value-1").size());
+    assertEquals(Collections.singletonList("value-1"), cache.cache("key", "value-2"));
+    assertEquals("value-2", cache.get("key"));
+    assertEquals(1, cache.size());
+    assertEquals("value-2", cache.remove("key"));
+    assertNull(cache.get("key"));
+    assertEquals(0, cache.size());
+  }
+
+  @Test
+  public void testCapacityOne() {
+    TinyLfuCache<String, String> cache = new TinyLfuCache<>(1);
+    assertEquals(0, cache.cache("key-1", "value-1").size());
+    List<String> evicted = cache.cache("key-2", "value-2");
+    assertEquals(Collections.singletonList("value-1"), evicted);
+    assertEquals("value-2", cache.get("key-2"));
+    assertEquals(1, cache.size());
+  }
+
+  private static void lookupOrCache(TinyLfuCache<String, String> cache, String key) {
+    if (cache.get(key) == null) {
+      cache.cache(key, key);
+    }
+  }
+}
@@ -717,6 +717,16 @@ public class TupleTest {
     testNullValue(LinkedHashSet.class, tuple -> tuple.addValue(NullValue.of(LinkedHashSet.class)), (i, tuple) -> tuple.getValue(i));
   }
 
+  @Test
+  public void testPrimitiveArrays() {
+    Tuple tuple = tuple().addInteger(1).addIntArray(new int[]{ 1, 2 }).addLongArray(new long[]{ 3 }).addDoubleArray(new double[]{ 4.5 });
+    assertArrayEquals(new Integer[]{ 1, 2 }, tuple.getArrayOfIntegers(1));
+    assertArrayEquals(new Long[]{ 3L }, tuple.getArrayOfLongs(2));
+    assertArrayEquals(new Double[]{ 4.5 }, tuple.getArrayOfDoubles(3));
+    assertEquals(ErrorMessageFactory.buildWhenPrimitiveArrayNotSupported(1, new int[0]), ErrorMessageFactory.checkNoPrimitiveArray(tuple));
+    assertNull(ErrorMessageFactory.checkNoPrimitiveArray(of(1, new Integer[]{ 1, 2 })));
+  }
+
   private void testNullValue(Class<?> c, Consumer<Tuple> addValue, BiFunction<Integer, Tuple, ?> getValue) {
     Tuple tuple = tuple();
     addValue.accept(tuple);
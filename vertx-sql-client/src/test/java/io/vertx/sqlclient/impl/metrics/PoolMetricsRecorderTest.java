@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2011-2022 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.sqlclient.impl.metrics;
+
+import io.vertx.sqlclient.metrics.LatencySnapshot;
+import io.vertx.sqlclient.metrics.PoolMetricsSnapshot;
+import io.vertx.sqlclient.metrics.StatementMetricsSnapshot;
+import org.junit.Test;
+
+import java.util.Collections;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class PoolMetricsRecorderTest {
+
+  @Test
+  public void testBuckets() {
+    long previous = -1L;
+    for (int i = 0;i < Histogram.BUCKET_COUNT;i++) {
+      long highest = Histogram.highestValue(i);
+      assertTrue(highest > previous);
+      assertEquals(i, Histogram.bucketIndex(previous + 1));
+      assertEquals(i, Histogram.bucketIndex(highest));
+      previous = highest;
+    }
+    assertEquals(Histogram.BUCKET_COUNT - 1, Histogram.bucketIndex(Long.MAX_VALUE));
+  }
+
+  @Test
+  public void testPercentiles() {
+    Histogram histogram = new Histogram();
+    for (int i = 1;i <= 1000;i++) {
+      histogram.record(i * 1000L);
+    }
+    LatencySnapshot snapshot = histogram.snapshot();
+    assertEquals(1000, snapshot.getCount());
+    assertEquals(1000L, snapshot.getMin());
+    assertEquals(1_000_000L, snapshot.getMax());
+    assertEquals(500_500D, snapshot.getMean(), 0.1D);
+    assertWithin(500_000L, snapshot.getValueAtPercentile(50));
+    assertWithin(990_000L, snapshot.getValueAtPercentile(99));
+    assertEquals(1_000_000L, snapshot.getValueAtPercentile(100));
+    assertEquals(0L, new Histogram().snapshot().getValueAtPercentile(99));
+  }
+
+  private static void assertWithin(long expected, long actual) {
+    assertTrue("Was expecting " + actual + " to be close to " + expected, Math.abs(actual - expected) <= expected / 16);
+  }
+
+  @Test
+  public void testNormalize() {
+    assertEquals("SELECT * FROM t WHERE id = ?", SqlNormalizer.normalize("SELECT * FROM t WHERE id = 42"));
+    assertEquals("SELECT * FROM t WHERE id = ?", SqlNormalizer.normalize("SELECT *  FROM t\n WHERE id = 3.14"));
+    assertEquals("SELECT * FROM t WHERE name = ?", SqlNormalizer.normalize("SELECT * FROM t WHERE name = 'it''s'"));
+    assertEquals("SELECT * FROM t1 WHERE id = $1", SqlNormalizer.normalize("SELECT * FROM t1 WHERE id = $1"));
+    assertEquals("SELECT * FROM t WHERE id = @p1", SqlNormalizer.normalize("SELECT * FROM t WHERE id = @p1"));
+    assertEquals("INSERT INTO t VALUES (?, ?)", SqlNormalizer.normalize(" INSERT INTO t VALUES (1, 'a') "));
+  }
+
+  @Test
+  public void testStatementMetrics() {
+    PoolMetricsRecorder recorder = new PoolMetricsRecorder(null);
+    for (int i = 0;i < 10;i++) {
+      Object metric = recorder.requestBegin("SELECT " + i, null);
+      recorder.requestEnd(metric);
+      recorder.responseBegin(metric, null);
+      recorder.responseEnd(metric);
+    }
+    recorder.requestReset(recorder.requestBegin("SELECT 10", null));
+    PoolMetricsSnapshot snapshot = recorder.snapshot(1, 0, Collections.singletonList(0), 3, 1, 0);
+    assertEquals(1, snapshot.getStatements().size());
+    StatementMetricsSnapshot statement = snapshot.getStatements().get(0);
+    assertEquals("SELECT ?", statement.getSql());
+    assertEquals(10, statement.getCount());
+    assertEquals(1, statement.getFailures());
+    assertEquals(10, statement.getQueueTime().getCount());
+    assertEquals(0.75D, snapshot.getPreparedStatementCacheHitRatio(), 0.001D);
+  }
+
+  @Test
+  public void testMaxStatements() {
+    PoolMetricsRecorder recorder = new PoolMetricsRecorder(null);
+    for (int i = 0;i < PoolMetricsRecorder.MAX_STATEMENTS + 10;i++) {
+      Object metric = recorder.requestBegin("SELECT * FROM t" + i, null);
+      recorder.requestEnd(metric);
+      recorder.responseEnd(metric);
+    }
+    PoolMetricsSnapshot snapshot = recorder.snapshot(0, 0, Collections.emptyList(), 0, 0, 0);
+    assertEquals(PoolMetricsRecorder.MAX_STATEMENTS + 1, snapshot.getStatements().size());
+    long others = snapshot
+      .getStatements()
+      .stream()
+      .filter(s -> s.getSql().equals(PoolMetricsRecorder.OTHER_STATEMENTS))
+      .mapToLong(StatementMetricsSnapshot::getCount)
+      .sum();
+    assertEquals(10, others);
+  }
+}
@@ -0,0 +1,84 @@
+package io.vertx.sqlclient.impl.pool;
+
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class ConcurrencyLimiterTest {
+
+  private static final long MS = TimeUnit.MILLISECONDS.toNanos(1);
+
+  @Test
+  public void testGrowWhenWaiting() {
+    ConcurrencyLimiter limiter = new ConcurrencyLimiter(1, 10, -1);
+    assertEquals(1, limiter.limit());
+    for (int i = 0;i < 10;i++) {
+      limiter.sample(5 * MS, MS);
+    }
+    assertEquals(2, limiter.limit());
+    for (int i = 0;i < 1000;i++) {
+      limiter.sample(5 * MS, MS);
+    }
+    assertEquals(10, limiter.limit());
+  }
+
+  @Test
+  public void testDoNotGrowWithoutWaiting() {
+    ConcurrencyLimiter limiter = new ConcurrencyLimiter(2, 10, -1);
+    for (int i = 0;i < 100;i++) {
+      limiter.sample(0L, MS);
+    }
+    assertEquals(2, limiter.limit());
+  }
+
+  @Test
+  public void testShrinkWhenResponseTimeGrows() {
+    ConcurrencyLimiter limiter = new ConcurrencyLimiter(1, 20, -1);
+    while (limiter.limit() < 20) {
+      limiter.sample(5 * MS, MS);
+    }
+    for (int i = 0;i < 20;i++) {
+      limiter.sample(5 * MS, 10 * MS);
+    }
+    assertEquals(18, limiter.limit());
+    for (int i = 0;i < 18;i++) {
+      limiter.sample(5 * MS, 10 * MS);
+    }
+    assertEquals(16, limiter.limit());
+  }
+
+  @Test
+  public void testQueue() {
+    ConcurrencyLimiter limiter = new ConcurrencyLimiter(1, 1, 1);
+    AtomicInteger runs = new AtomicInteger();
+    assertTrue(limiter.acquire(runs::incrementAndGet));
+    assertEquals(1, runs.get());
+    assertTrue(limiter.acquire(runs::incrementAndGet));
+    assertEquals(1, runs.get());
+    assertFalse(limiter.acquire(runs::incrementAndGet));
+    limiter.release();
+    assertEquals(2, runs.get());
+    limiter.release();
+    assertTrue(limiter.acquire(runs::incrementAndGet));
+    assertEquals(3, runs.get());
+  }
+
+  @Test
+  public void testCancel() {
+    ConcurrencyLimiter limiter = new ConcurrencyLimiter(1, 1, -1);
+    AtomicInteger runs = new AtomicInteger();
+    Runnable task = runs::incrementAndGet;
+    assertTrue(limiter.acquire(task));
+    Runnable waiter = runs::incrementAndGet;
+    assertTrue(limiter.acquire(waiter));
+    assertTrue(limiter.cancel(waiter));
+    assertFalse(limiter.cancel(waiter));
+    limiter.release();
+    assertEquals(1, runs.get());
+  }
+}